@@ -0,0 +1,122 @@
+package io.github.andreipunko.math.pde.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Function of x declared in a solve specification: either a constant ({@code 1.5}) or a table of nodes
+ * ({@code {"x": [0, 0.5, 1], "values": [1, 2, 1], "interpolation": "linear"}}).
+ * <p>
+ * With {@code "linear"} interpolation (the default) the values between nodes are interpolated linearly; with
+ * {@code "step"} the function is piecewise constant and takes the value of the nearest node at or to the left of x.
+ * Outside the nodes the value of the nearest end node is taken.
+ */
+final class Profile implements DoubleUnaryOperator {
+
+    private final double[] x;
+    private final double[] values;
+    private final boolean step;
+
+    private Profile(double[] x, double[] values, boolean step) {
+        this.x = x;
+        this.values = values;
+        this.step = step;
+    }
+
+    /**
+     * Creates a constant function.
+     *
+     * @param value value of the function
+     * @return constant profile
+     */
+    static Profile constant(double value) {
+        return new Profile(new double[]{0}, new double[]{value}, true);
+    }
+
+    /**
+     * Reads a profile from a parsed JSON value.
+     *
+     * @param name name of the coefficient, used in error messages
+     * @param spec number or object with {@code x}, {@code values} and optional {@code interpolation}
+     * @return profile
+     * @throws IllegalArgumentException if the specification is malformed, if a value is not finite, or if the nodes
+     *                                  are not strictly increasing
+     */
+    static Profile parse(String name, Object spec) {
+        if (spec instanceof Double value) {
+            checkFinite(name, value);
+            return constant(value);
+        }
+        if (!(spec instanceof Map<?, ?> map)) {
+            throw new IllegalArgumentException(name + " must be a number or an object with x and values");
+        }
+        for (var key : map.keySet()) {
+            if (!List.of("x", "values", "interpolation").contains(key)) {
+                throw new IllegalArgumentException(name + ": unknown key \"" + key + "\"");
+            }
+        }
+        var x = numbers(name + ".x", map.get("x"));
+        var values = numbers(name + ".values", map.get("values"));
+        if (x.length == 0 || x.length != values.length) {
+            throw new IllegalArgumentException(name + ": x and values must be non-empty arrays of the same length, got "
+                    + x.length + " and " + values.length);
+        }
+        for (int i = 1; i < x.length; i++) {
+            if (x[i] <= x[i - 1]) {
+                throw new IllegalArgumentException(name + ".x must be strictly increasing, got " + x[i - 1]
+                        + " before " + x[i]);
+            }
+        }
+        var interpolation = map.containsKey("interpolation") ? map.get("interpolation") : "linear";
+        if (!"linear".equals(interpolation) && !"step".equals(interpolation)) {
+            throw new IllegalArgumentException(name + ".interpolation must be \"linear\" or \"step\", got: "
+                    + interpolation);
+        }
+        return new Profile(x, values, "step".equals(interpolation));
+    }
+
+    @Override
+    public double applyAsDouble(double at) {
+        int last = x.length - 1;
+        if (at <= x[0]) {
+            return values[0];
+        }
+        if (at >= x[last]) {
+            return values[last];
+        }
+        int i = Arrays.binarySearch(x, at);
+        if (i >= 0) {
+            return values[i];
+        }
+        int right = -i - 1,
+                left = right - 1;
+        if (step) {
+            return values[left];
+        }
+        double w = (at - x[left]) / (x[right] - x[left]);
+        return values[left] + w * (values[right] - values[left]);
+    }
+
+    private static double[] numbers(String name, Object spec) {
+        if (!(spec instanceof List<?> list)) {
+            throw new IllegalArgumentException(name + " must be an array of numbers");
+        }
+        var result = new double[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            if (!(list.get(i) instanceof Double value)) {
+                throw new IllegalArgumentException(name + "[" + i + "] must be a number");
+            }
+            checkFinite(name + "[" + i + "]", value);
+            result[i] = value;
+        }
+        return result;
+    }
+
+    private static void checkFinite(String name, double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException(name + " must be finite, got: " + value);
+        }
+    }
+}
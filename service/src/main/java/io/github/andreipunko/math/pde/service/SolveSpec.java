@@ -0,0 +1,396 @@
+package io.github.andreipunko.math.pde.service;
+
+import io.github.andreipunko.math.pde.border.BorderCondition;
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.border.PeriodicBorderCondition;
+import io.github.andreipunko.math.pde.border.RobinBorderCondition;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.pde.solver.AbstractEquationSolver;
+import io.github.andreipunko.math.pde.solver.HyperbolicEquationSolver;
+import io.github.andreipunko.math.pde.solver.LayerRingBuffer;
+import io.github.andreipunko.math.pde.solver.ParabolicEquationSolver;
+import io.github.andreipunko.math.pde.solver.Solution;
+import io.github.andreipunko.math.space.Interval;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Declarative specification of a one-dimensional solve, read from JSON:
+ * <pre>{@code
+ * {
+ *   "type": "parabolic",                 // or "hyperbolic"
+ *   "x1": 0, "x2": 1, "t2": 0.5,
+ *   "h": 0.01, "tau": 0.001,
+ *   "every": 10,                         // stream every 10-th time layer (and the last one); default 1
+ *   "u0": {"x": [0, 0.5, 1], "values": [0, 1, 0]},
+ *   "k": {"x": [0, 0.5], "values": [1, 2], "interpolation": "step"},
+ *   "left": {"type": "dirichlet", "value": 0},
+ *   "right": {"type": "robin", "h": 2, "theta": 0.3}
+ * }
+ * }</pre>
+ * Coefficients are {@link Profile}s of x and do not depend on t and U. A parabolic equation takes {@code u0},
+ * {@code l}, {@code k}, {@code v} and {@code f}; a hyperbolic equation takes {@code u0}, {@code ut0} (initial
+ * velocity), {@code m}, {@code k}, {@code v} and {@code f}. Omitted coefficients keep the defaults of the equation.
+ * Border conditions are {@code dirichlet} (value), {@code neumann} (value of the derivative), {@code robin} (h and
+ * theta) and {@code periodic}; their parameters are constant in time.
+ */
+final class SolveSpec {
+
+    /**
+     * Kind of the equation to solve.
+     */
+    enum Type {
+        PARABOLIC, HYPERBOLIC
+    }
+
+    private static final Set<String> KEYS = Set.of("type", "x1", "x2", "t2", "h", "tau", "every", "left", "right");
+    private static final List<String> PARABOLIC_COEFFICIENTS = List.of("u0", "l", "k", "v", "f");
+    private static final List<String> HYPERBOLIC_COEFFICIENTS = List.of("u0", "ut0", "m", "k", "v", "f");
+    // Work arrays of the march (A, B, C, F, Thomas coefficients, current layers) in units of a layer
+    private static final int WORK_LAYERS = 12;
+
+    private final Type type;
+    private final double h;
+    private final double tau;
+    private final int every;
+    private final int xn;
+    private final int tn;
+    private final Equation equation;
+
+    private SolveSpec(Type type, double h, double tau, int every, int xn, int tn, Equation equation) {
+        this.type = type;
+        this.h = h;
+        this.tau = tau;
+        this.every = every;
+        this.xn = xn;
+        this.tn = tn;
+        this.equation = equation;
+    }
+
+    /**
+     * Reads and validates a specification.
+     *
+     * @param json JSON text of the specification
+     * @return specification with the equation built
+     * @throws IllegalArgumentException if the text is not valid JSON, if a key is unknown or missing, or if a value
+     *                                  is invalid
+     */
+    static SolveSpec parse(String json) {
+        if (!(Json.parse(json) instanceof Map<?, ?> spec)) {
+            throw new IllegalArgumentException("specification must be a JSON object");
+        }
+        var type = switch (String.valueOf(spec.get("type"))) {
+            case "parabolic" -> Type.PARABOLIC;
+            case "hyperbolic" -> Type.HYPERBOLIC;
+            default -> throw new IllegalArgumentException(
+                    "type must be \"parabolic\" or \"hyperbolic\", got: " + spec.get("type"));
+        };
+        var names = type == Type.PARABOLIC ? PARABOLIC_COEFFICIENTS : HYPERBOLIC_COEFFICIENTS;
+        var coefficients = new HashMap<String, Profile>();
+        for (var entry : spec.entrySet()) {
+            var key = String.valueOf(entry.getKey());
+            if (names.contains(key)) {
+                coefficients.put(key, Profile.parse(key, entry.getValue()));
+            } else if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("unknown key \"" + key + "\" for a " + spec.get("type")
+                        + " equation");
+            }
+        }
+
+        double x1 = number(spec, "x1"),
+                x2 = number(spec, "x2"),
+                t2 = number(spec, "t2"),
+                h = number(spec, "h"),
+                tau = number(spec, "tau");
+        var everyValue = spec.containsKey("every") ? number(spec, "every") : 1;
+        if (everyValue < 1 || everyValue != Math.rint(everyValue) || everyValue > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("every must be a positive integer, got: " + everyValue);
+        }
+        var left = borderCondition("left", spec.get("left"));
+        var right = borderCondition("right", spec.get("right"));
+
+        var equation = type == Type.PARABOLIC
+                ? parabolic(x1, x2, t2, left, right, coefficients)
+                : hyperbolic(x1, x2, t2, left, right, coefficients);
+        if (!(h > 0) || !(tau > 0)) {
+            throw new IllegalArgumentException("h and tau must be positive: h=" + h + ", tau=" + tau);
+        }
+        // The node counts must fit in int; Interval would saturate them silently
+        if ((x2 - x1) / h >= Integer.MAX_VALUE || t2 / tau >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("grid is too large: h=" + h + ", tau=" + tau);
+        }
+        var x = new Interval(x1, x2, h);
+        var t = new Interval(0, t2, tau);
+        // Checked here rather than by the solver, so that the client gets an error before the stream starts
+        boolean leftPeriodic = left instanceof PeriodicBorderCondition,
+                rightPeriodic = right instanceof PeriodicBorderCondition;
+        if (leftPeriodic != rightPeriodic) {
+            throw new IllegalArgumentException("periodic border condition must be set on both borders");
+        }
+        if (leftPeriodic) {
+            // The same grid as the solver builds: node N is node 0, so it must be at x2
+            double steps = (x2 - x1) / h,
+                    n = Math.rint(steps);
+            if (Math.abs(steps - n) > AbstractEquationSolver.PERIOD_TOLERANCE * steps) {
+                throw new IllegalArgumentException("h must divide the period x2 - x1 = " + (x2 - x1)
+                        + " with periodic border conditions, got: " + h);
+            }
+            x = new Interval(x1, x2, (int) n);
+        }
+        if (x.n() < (leftPeriodic ? 3 : 2)) {
+            throw new IllegalArgumentException("grid must have at least " + (leftPeriodic ? 3 : 2)
+                    + " spatial steps, got: " + x.n());
+        }
+        return new SolveSpec(type, h, tau, (int) everyValue, x.n(), t.n(), equation);
+    }
+
+    /**
+     * Returns the kind of the equation.
+     *
+     * @return type of the equation
+     */
+    Type type() {
+        return type;
+    }
+
+    /**
+     * Returns the built equation.
+     *
+     * @return equation of the specification
+     */
+    Equation equation() {
+        return equation;
+    }
+
+    /**
+     * Returns the number of values in a time layer.
+     *
+     * @return N+1 for a grid of N spatial steps
+     */
+    int layerSize() {
+        return xn + 1;
+    }
+
+    /**
+     * Returns the number of time steps.
+     *
+     * @return index of the last time layer
+     */
+    int timeSteps() {
+        return tn;
+    }
+
+    /**
+     * Returns whether a time layer is streamed back: every {@code every}-th layer and the last one.
+     *
+     * @param step time layer index
+     * @return true if the layer is sent to the client
+     */
+    boolean isStreamed(int step) {
+        return step % every == 0 || step == tn;
+    }
+
+    /**
+     * Estimates the heap taken by a streaming solve of this specification: the slots of the ring and the work
+     * arrays of the time march. The time layers are not kept, so the estimate does not depend on their number.
+     *
+     * @param ringCapacity number of slots of the ring the layers are streamed through
+     * @return estimated number of bytes, or {@link Long#MAX_VALUE} if it does not fit in a long
+     */
+    long estimateBytes(int ringCapacity) {
+        try {
+            return layerBytes(xn, WORK_LAYERS + (long) ringCapacity);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns the bytes of the given number of layers of xn + 1 doubles each.
+     *
+     * @throws ArithmeticException if the result overflows a long
+     */
+    private static long layerBytes(int xn, long layers) {
+        return Math.multiplyExact(Math.multiplyExact(layers, xn + 1L), Double.BYTES);
+    }
+
+    /**
+     * Solves the equation and publishes every time layer into the ring, which is closed afterwards.
+     *
+     * @param ring ring of {@link #layerSize()} values per slot
+     * @throws IllegalArgumentException if the solver rejects the equation
+     */
+    void solve(LayerRingBuffer ring) {
+        if (type == Type.PARABOLIC) {
+            new ParabolicEquationSolver().solveStreaming((ParabolicEquation) equation, h, tau, ring);
+        } else {
+            new HyperbolicEquationSolver().solveStreaming((HyperbolicEquation) equation, h, tau, ring);
+        }
+    }
+
+    /**
+     * Solves the equation and returns the whole solution.
+     *
+     * @return solution on the grid of the specification
+     * @throws IllegalArgumentException if the solver rejects the equation
+     */
+    Solution<? extends Equation> solve() {
+        if (type == Type.PARABOLIC) {
+            return new ParabolicEquationSolver().solve((ParabolicEquation) equation, h, tau);
+        }
+        return new HyperbolicEquationSolver().solve((HyperbolicEquation) equation, h, tau);
+    }
+
+    private static ParabolicEquation parabolic(double x1, double x2, double t2, BorderCondition left,
+                                               BorderCondition right, Map<String, Profile> c) {
+        var u0 = c.getOrDefault("u0", Profile.constant(0));
+        var l = c.getOrDefault("l", Profile.constant(1));
+        var k = c.getOrDefault("k", Profile.constant(1));
+        var v = c.getOrDefault("v", Profile.constant(0));
+        var f = c.getOrDefault("f", Profile.constant(0));
+        return new ParabolicEquation(x1, x2, t2, left, right) {
+            @Override
+            public double gU0(double x) {
+                return u0.applyAsDouble(x);
+            }
+
+            @Override
+            public double gL(double x, double t, double U) {
+                return l.applyAsDouble(x);
+            }
+
+            @Override
+            public double gK(double x, double t, double U) {
+                return k.applyAsDouble(x);
+            }
+
+            @Override
+            public double gV(double x, double t, double U) {
+                return v.applyAsDouble(x);
+            }
+
+            @Override
+            public double gF(double x, double t, double U) {
+                return f.applyAsDouble(x);
+            }
+        };
+    }
+
+    private static HyperbolicEquation hyperbolic(double x1, double x2, double t2, BorderCondition left,
+                                                 BorderCondition right, Map<String, Profile> c) {
+        var u0 = c.getOrDefault("u0", Profile.constant(0));
+        var ut0 = c.getOrDefault("ut0", Profile.constant(0));
+        var m = c.getOrDefault("m", Profile.constant(1));
+        var k = c.getOrDefault("k", Profile.constant(1));
+        var v = c.getOrDefault("v", Profile.constant(0));
+        var f = c.getOrDefault("f", Profile.constant(0));
+        return new HyperbolicEquation(x1, x2, t2, left, right) {
+            @Override
+            public double gU0(double x) {
+                return u0.applyAsDouble(x);
+            }
+
+            @Override
+            public double gdU_dt0(double x) {
+                return ut0.applyAsDouble(x);
+            }
+
+            @Override
+            public double gM(double x, double t, double U) {
+                return m.applyAsDouble(x);
+            }
+
+            @Override
+            public double gK(double x, double t, double U) {
+                return k.applyAsDouble(x);
+            }
+
+            @Override
+            public double gV(double x, double t, double U) {
+                return v.applyAsDouble(x);
+            }
+
+            @Override
+            public double gF(double x, double t, double U) {
+                return f.applyAsDouble(x);
+            }
+        };
+    }
+
+    private static BorderCondition borderCondition(String name, Object spec) {
+        if (!(spec instanceof Map<?, ?> map)) {
+            throw new IllegalArgumentException(name + " border condition must be an object with a type");
+        }
+        var type = String.valueOf(map.get("type"));
+        var keys = switch (type) {
+            case "dirichlet", "neumann" -> Set.of("type", "value");
+            case "robin" -> Set.of("type", "h", "theta");
+            case "periodic" -> Set.of("type");
+            default -> throw new IllegalArgumentException(name + ".type must be \"dirichlet\", \"neumann\", "
+                    + "\"robin\" or \"periodic\", got: " + map.get("type"));
+        };
+        for (var key : map.keySet()) {
+            if (!keys.contains(key)) {
+                throw new IllegalArgumentException(name + ": unknown key \"" + key + "\" for a " + type
+                        + " border condition");
+            }
+        }
+        return switch (type) {
+            case "dirichlet" -> {
+                var value = number(map, "value", name);
+                yield new DirichletBorderCondition() {
+                    @Override
+                    public double gU(double t) {
+                        return value;
+                    }
+                };
+            }
+            case "neumann" -> {
+                var value = number(map, "value", name);
+                yield new NeumannBorderCondition() {
+                    @Override
+                    public double gdU_dx(double t) {
+                        return value;
+                    }
+                };
+            }
+            case "robin" -> {
+                var h = number(map, "h", name);
+                var theta = number(map, "theta", name);
+                yield new RobinBorderCondition() {
+                    @Override
+                    public double gH() {
+                        return h;
+                    }
+
+                    @Override
+                    public double gTheta(double t) {
+                        return theta;
+                    }
+                };
+            }
+            default -> new PeriodicBorderCondition();
+        };
+    }
+
+    private static double number(Map<?, ?> map, String key) {
+        return number(map, key, null);
+    }
+
+    private static double number(Map<?, ?> map, String key, String owner) {
+        var name = owner == null ? key : owner + "." + key;
+        if (!(map.get(key) instanceof Double value)) {
+            throw new IllegalArgumentException(name + " must be a number");
+        }
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException(name + " must be finite, got: " + value);
+        }
+        return value;
+    }
+}
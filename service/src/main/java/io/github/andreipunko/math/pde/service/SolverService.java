@@ -0,0 +1,242 @@
+package io.github.andreipunko.math.pde.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.andreipunko.math.pde.solver.LayerRingBuffer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local HTTP service which solves one-dimensional equations declared in JSON (see {@link SolveSpec}) and streams
+ * the time layers back while the solve is running. It is built on the JDK HTTP server only; every exchange and every
+ * solve runs on its own virtual thread.
+ * <p>
+ * {@code POST /solve} with the specification in the body answers:
+ * <ul>
+ * <li>200 with an {@code application/octet-stream} body of big-endian values: the layer size (int), then for every
+ * streamed layer its index (int), time (double) and values (layer size doubles), then -1 (int) after a complete
+ * solve. A stream without the final -1 means the solve failed after the response had started.</li>
+ * <li>400 with a text message if the specification is invalid.</li>
+ * <li>413 if the estimated memory of the solve exceeds the whole memory budget.</li>
+ * <li>503 with {@code Retry-After} if the memory budget is taken by running solves.</li>
+ * </ul>
+ * Admission is bounded by memory rather than by the number of requests: a solve is admitted only while the estimated
+ * memory of all running solves fits into the budget, so many small solves run side by side while a large one waits
+ * for its share. Layers pass from the solver to the response through a {@link LayerRingBuffer}; if the client goes
+ * away, the ring is abandoned, so the solve stops at the next layer and its share of the budget is released.
+ */
+public class SolverService implements AutoCloseable {
+
+    /**
+     * Number of layers buffered between the solver and the response of a solve.
+     */
+    public static final int RING_CAPACITY = 16;
+
+    private static final int BACKLOG = 1024;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long memoryBudget;
+    private final AtomicLong memoryInUse = new AtomicLong();
+
+    /**
+     * Creates a service bound to the given address; call {@link #start()} to accept requests.
+     *
+     * @param address      address to listen on; port 0 picks a free port
+     * @param memoryBudget number of bytes that running solves may take together (must be positive)
+     * @throws IllegalArgumentException if address is null or memoryBudget &lt;= 0
+     * @throws IOException              if the address cannot be bound
+     */
+    public SolverService(InetSocketAddress address, long memoryBudget) throws IOException {
+        if (address == null) {
+            throw new IllegalArgumentException("address must not be null");
+        }
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("memoryBudget must be positive, got: " + memoryBudget);
+        }
+        this.memoryBudget = memoryBudget;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(address, BACKLOG);
+        server.setExecutor(executor);
+        server.createContext("/solve", this::handle);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Returns the port the service listens on.
+     *
+     * @return bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the memory budget of the service.
+     *
+     * @return number of bytes that running solves may take together
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Returns the estimated memory taken by the running solves.
+     *
+     * @return number of bytes in use
+     */
+    public long getMemoryInUse() {
+        return memoryInUse.get();
+    }
+
+    /**
+     * Stops accepting requests, closes open connections and waits for the running solves to end.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                reply(exchange, 405, "only POST is supported");
+                return;
+            }
+            SolveSpec spec;
+            try {
+                spec = SolveSpec.parse(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                reply(exchange, 400, e.getMessage());
+                return;
+            }
+            long bytes = spec.estimateBytes(RING_CAPACITY);
+            if (bytes > memoryBudget) {
+                reply(exchange, 413, "solve needs about " + bytes + " bytes, memory budget is " + memoryBudget);
+                return;
+            }
+            if (!admit(bytes)) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                reply(exchange, 503, "memory budget is in use, retry later");
+                return;
+            }
+            try {
+                stream(exchange, spec);
+            } finally {
+                memoryInUse.addAndGet(-bytes);
+            }
+        }
+    }
+
+    private boolean admit(long bytes) {
+        while (true) {
+            long inUse = memoryInUse.get();
+            if (inUse + bytes > memoryBudget) {
+                return false;
+            }
+            if (memoryInUse.compareAndSet(inUse, inUse + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    private void stream(HttpExchange exchange, SolveSpec spec) {
+        var ring = new LayerRingBuffer(RING_CAPACITY, spec.layerSize(), LayerRingBuffer.WaitStrategy.BLOCKING);
+        var solved = new CompletableFuture<Boolean>();
+        executor.execute(() -> {
+            boolean complete = false;
+            try {
+                spec.solve(ring);
+                complete = true;
+            } catch (RuntimeException e) {
+                // Reported to the client as a stream without the end marker
+            } finally {
+                // Also on an Error, which propagates further: the handler waits for the future
+                solved.complete(complete);
+                ring.close();
+            }
+        });
+
+        DataOutputStream out = null;
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+            exchange.sendResponseHeaders(200, 0);
+            out = new DataOutputStream(new BufferedOutputStream(exchange.getResponseBody(), BUFFER_SIZE));
+            out.writeInt(spec.layerSize());
+        } catch (IOException e) {
+            out = null;
+            ring.abandon();
+        }
+        // Until the client goes away: then the ring is abandoned and the solver stops instead of waiting for slots
+        for (long seq; out != null && (seq = ring.next()) >= 0; ring.release(seq)) {
+            int step = ring.step(seq);
+            if (!spec.isStreamed(step)) {
+                continue;
+            }
+            try {
+                out.writeInt(step);
+                out.writeDouble(ring.time(seq));
+                for (var value : ring.slot(seq)) {
+                    out.writeDouble(value);
+                }
+            } catch (IOException e) {
+                out = null;
+                ring.abandon();
+            }
+        }
+        boolean complete = solved.join();
+        if (out != null) {
+            try {
+                if (complete) {
+                    out.writeInt(-1);
+                }
+                out.flush();
+            } catch (IOException e) {
+                // Client went away after the last layer
+            }
+        }
+    }
+
+    private static void reply(HttpExchange exchange, int code, String message) throws IOException {
+        var body = message.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(code, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    /**
+     * Runs the service on the loopback interface until the process is stopped.
+     *
+     * @param args optional port (default 8080) and memory budget in megabytes (default half of the maximum heap)
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        long budget = args.length > 1
+                ? Long.parseLong(args[1]) << 20
+                : Runtime.getRuntime().maxMemory() / 2;
+        var service = new SolverService(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), budget);
+        Runtime.getRuntime().addShutdownHook(new Thread(service::close));
+        service.start();
+        System.out.println("Solver service listens on port " + service.getPort() + ", memory budget " + budget
+                + " bytes");
+    }
+}
@@ -0,0 +1,380 @@
+package io.github.andreipunko.math.pde.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator of a parameter sweep over several worker JVMs (see {@link SweepWorker}), so that many large solves
+ * run side by side in separate heaps instead of one.
+ * <p>
+ * The coordinator either attaches to running workers by their addresses or {@link #launch launches} worker
+ * processes on the local machine. {@link #run} splits the specifications into one contiguous part per worker and
+ * keeps {@code slots} jobs running on every worker, one per connection. A worker whose own part is done steals jobs
+ * from the end of the largest remaining part. If a connection fails, its job goes back to the queue and is retried
+ * on another connection, up to {@code maxAttempts} times; the connection and its worker slot are dropped. A worker
+ * which sends nothing for the read timeout, or whose result cannot be read, counts as a failed connection.
+ * Specifications rejected by a worker are not retried. The results come back as binary layers (see
+ * {@link SweepResult}).
+ */
+public class SweepCoordinator implements AutoCloseable {
+
+    /**
+     * Default number of attempts of a job before it is reported as failed.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    /**
+     * Default time a connection may wait for a result before the job is retried elsewhere; a worker sends the result
+     * of a job after its whole solve, so the timeout must exceed the longest solve.
+     */
+    public static final int DEFAULT_READ_TIMEOUT_MILLIS = 600_000;
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int EXIT_TIMEOUT_SECONDS = 10;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final List<InetSocketAddress> workers;
+    private final int slots;
+    private final int maxAttempts;
+    private final int readTimeoutMillis;
+    private final List<Process> processes;
+
+    /**
+     * Creates a coordinator attached to running workers, with the default read timeout.
+     *
+     * @param workers     addresses of the workers
+     * @param slots       number of jobs run at once on every worker (must be positive)
+     * @param maxAttempts number of attempts of a job before it is reported as failed (must be positive)
+     * @throws IllegalArgumentException if workers is null, empty or contains null, or if slots or maxAttempts
+     *                                  are not positive
+     */
+    public SweepCoordinator(List<InetSocketAddress> workers, int slots, int maxAttempts) {
+        this(workers, slots, maxAttempts, DEFAULT_READ_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Creates a coordinator attached to running workers.
+     *
+     * @param workers           addresses of the workers
+     * @param slots             number of jobs run at once on every worker (must be positive)
+     * @param maxAttempts       number of attempts of a job before it is reported as failed (must be positive)
+     * @param readTimeoutMillis time a connection may wait for data of a result (must be positive)
+     * @throws IllegalArgumentException if workers is null, empty or contains null, or if slots, maxAttempts or
+     *                                  readTimeoutMillis are not positive
+     */
+    public SweepCoordinator(List<InetSocketAddress> workers, int slots, int maxAttempts, int readTimeoutMillis) {
+        this(workers, slots, maxAttempts, readTimeoutMillis, List.of());
+    }
+
+    private SweepCoordinator(List<InetSocketAddress> workers, int slots, int maxAttempts, int readTimeoutMillis,
+                             List<Process> processes) {
+        if (workers == null || workers.isEmpty() || workers.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("workers must be a non-empty list without nulls");
+        }
+        if (slots <= 0) {
+            throw new IllegalArgumentException("slots must be positive, got: " + slots);
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive, got: " + maxAttempts);
+        }
+        if (readTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("readTimeoutMillis must be positive, got: " + readTimeoutMillis);
+        }
+        this.workers = List.copyOf(workers);
+        this.slots = slots;
+        this.maxAttempts = maxAttempts;
+        this.readTimeoutMillis = readTimeoutMillis;
+        this.processes = processes;
+    }
+
+    /**
+     * Launches worker JVMs on the loopback interface with the class path of this JVM and attaches to them; the
+     * workers are stopped by {@link #close()} or when this JVM exits.
+     *
+     * @param workers    number of worker processes (must be positive)
+     * @param slots      number of jobs run at once on every worker (must be positive)
+     * @param jvmOptions options of the worker JVMs, for example {@code -Xmx2g}
+     * @return coordinator attached to the started workers
+     * @throws IllegalArgumentException if workers or slots are not positive, or if jvmOptions is null or
+     *                                  contains null
+     * @throws IOException              if a worker process cannot be started
+     */
+    public static SweepCoordinator launch(int workers, int slots, List<String> jvmOptions) throws IOException {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("number of workers must be positive, got: " + workers);
+        }
+        if (slots <= 0) {
+            throw new IllegalArgumentException("slots must be positive, got: " + slots);
+        }
+        if (jvmOptions == null || jvmOptions.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("jvmOptions must not be null or contain null");
+        }
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), SweepWorker.class.getName(), "0",
+                "--exit-with-parent"));
+
+        var processes = new ArrayList<Process>();
+        var addresses = new ArrayList<InetSocketAddress>();
+        try {
+            for (int w = 0; w < workers; w++) {
+                processes.add(new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start());
+            }
+            for (var process : processes) {
+                var line = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))
+                        .readLine();
+                if (line == null || !line.startsWith(SweepWorker.READY)) {
+                    throw new IOException("worker process did not start, it printed: " + line);
+                }
+                var port = Integer.parseInt(line.substring(SweepWorker.READY.length()).trim());
+                addresses.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            }
+            return new SweepCoordinator(addresses, slots, DEFAULT_MAX_ATTEMPTS, DEFAULT_READ_TIMEOUT_MILLIS,
+                    List.copyOf(processes));
+        } catch (IOException | RuntimeException e) {
+            processes.forEach(Process::destroyForcibly);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the addresses of the workers.
+     *
+     * @return unmodifiable list of worker addresses
+     */
+    public List<InetSocketAddress> getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Returns the number of jobs run at once on every worker.
+     *
+     * @return number of connections per worker
+     */
+    public int getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns the number of attempts of a job before it is reported as failed.
+     *
+     * @return maximum number of attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the time a connection may wait for data of a result before its job is retried elsewhere.
+     *
+     * @return read timeout in milliseconds
+     */
+    public int getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    /**
+     * Solves all specifications on the workers.
+     *
+     * @param specs JSON texts of the specifications (see {@link SolveSpec})
+     * @return result of every specification, in the order of the specifications
+     * @throws IllegalArgumentException if specs is null or contains null, or if a specification is invalid
+     * @throws IllegalStateException    if all connections to the workers failed before the sweep was done
+     */
+    public List<SweepResult> run(List<String> specs) {
+        if (specs == null || specs.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("specs must not be null or contain null");
+        }
+        // Fail fast in the coordinator rather than on every worker
+        for (int i = 0; i < specs.size(); i++) {
+            try {
+                SolveSpec.parse(specs.get(i));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("spec " + i + ": " + e.getMessage(), e);
+            }
+        }
+        if (specs.isEmpty()) {
+            return List.of();
+        }
+
+        var sweep = new Sweep(specs.size(), workers.size(), maxAttempts);
+        var executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            var connections = new ArrayList<CompletableFuture<Void>>();
+            for (int w = 0; w < workers.size(); w++) {
+                int worker = w;
+                for (int s = 0; s < slots; s++) {
+                    connections.add(CompletableFuture.runAsync(() -> connect(sweep, worker, specs), executor));
+                }
+            }
+            CompletableFuture.allOf(connections.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.close();
+        }
+        return sweep.results();
+    }
+
+    /**
+     * Stops the launched worker processes: closes their standard input and waits for them to exit. Workers this
+     * coordinator was attached to keep running.
+     */
+    @Override
+    public void close() {
+        for (var process : processes) {
+            try {
+                process.getOutputStream().close();
+            } catch (IOException e) {
+                // Process is gone already
+            }
+        }
+        for (var process : processes) {
+            try {
+                if (!process.waitFor(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * Runs jobs over one connection to a worker until the sweep is done or the connection fails. Any failure of a
+     * job, also an unchecked exception or an Error such as OutOfMemoryError while reading a large result, puts the
+     * job back or fails it, so the other connections never wait for it forever.
+     */
+    private void connect(Sweep sweep, int worker, List<String> specs) {
+        try (var socket = new Socket()) {
+            socket.connect(workers.get(worker), CONNECT_TIMEOUT_MILLIS);
+            socket.setSoTimeout(readTimeoutMillis);
+            var in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+            for (int index; (index = sweep.take(worker)) >= 0; ) {
+                try {
+                    SweepWorker.writeJob(out, index, specs.get(index));
+                    sweep.complete(SweepWorker.readResult(in, index));
+                } catch (IOException | RuntimeException | Error e) {
+                    sweep.retry(index, e);
+                    return;
+                }
+            }
+        } catch (IOException | RuntimeException | Error e) {
+            sweep.lost(e);
+        }
+    }
+
+    /**
+     * State of a running sweep: the queue of every worker and the results, guarded by the monitor of the sweep.
+     */
+    private static final class Sweep {
+
+        private final ArrayDeque<Integer>[] queues;
+        private final int[] attempts;
+        private final SweepResult[] results;
+        private final int maxAttempts;
+        private int remaining;
+        private Throwable failure;
+
+        @SuppressWarnings("unchecked")
+        Sweep(int jobs, int workers, int maxAttempts) {
+            this.queues = new ArrayDeque[workers];
+            for (int w = 0; w < workers; w++) {
+                queues[w] = new ArrayDeque<>();
+            }
+            for (int i = 0; i < jobs; i++) {
+                queues[(int) ((long) i * workers / jobs)].addLast(i);
+            }
+            this.attempts = new int[jobs];
+            this.results = new SweepResult[jobs];
+            this.maxAttempts = maxAttempts;
+            this.remaining = jobs;
+        }
+
+        /**
+         * Returns the next job for a connection to the worker: the head of its own queue, else the tail of the
+         * largest queue; waits while all queues are empty but jobs are still running, as they may come back.
+         *
+         * @return index of the job, or -1 if the sweep is done
+         */
+        synchronized int take(int worker) {
+            while (remaining > 0) {
+                var job = queues[worker].pollFirst();
+                if (job != null) {
+                    return job;
+                }
+                var victim = queues[0];
+                for (var queue : queues) {
+                    if (queue.size() > victim.size()) {
+                        victim = queue;
+                    }
+                }
+                job = victim.pollLast();
+                if (job != null) {
+                    return job;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        synchronized void complete(SweepResult result) {
+            results[result.index()] = result;
+            remaining--;
+            notifyAll();
+        }
+
+        /**
+         * Puts back a job whose connection failed, or reports it as failed after the last attempt.
+         */
+        synchronized void retry(int index, Throwable e) {
+            failure = e;
+            if (++attempts[index] >= maxAttempts) {
+                complete(SweepResult.failed(index, "failed " + attempts[index] + " times, last error: " + e));
+                return;
+            }
+            var shortest = queues[0];
+            for (var queue : queues) {
+                if (queue.size() < shortest.size()) {
+                    shortest = queue;
+                }
+            }
+            shortest.addFirst(index);
+            notifyAll();
+        }
+
+        synchronized void lost(Throwable e) {
+            failure = e;
+        }
+
+        synchronized List<SweepResult> results() {
+            if (remaining > 0) {
+                throw new IllegalStateException("all connections to the workers failed, " + remaining + " of "
+                        + results.length + " jobs are not done", failure);
+            }
+            return List.of(results);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.andreipunko.math.pde.service;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+
+/**
+ * Result of one specification of a parameter sweep (see {@link SweepCoordinator#run}): the streamed time layers
+ * (see {@link SolveSpec}) of a successful solve, or the message of the failure.
+ *
+ * @param index  position of the specification in the sweep
+ * @param steps  time layer index of every row of {@code layers}, or null if the job failed
+ * @param times  time of every row of {@code layers}, or null if the job failed
+ * @param layers streamed time layers, one per row, or null if the job failed
+ * @param error  message of the failure, or null if the job succeeded
+ */
+public record SweepResult(
+        int index,
+        int[] steps,
+        double[] times,
+        Matrix2D layers,
+        String error
+) {
+    /**
+     * Validates record components before the instance is created.
+     *
+     * @throws IllegalArgumentException if index &lt; 0, or if neither the layers nor an error are given
+     */
+    public SweepResult {
+        if (index < 0) {
+            throw new IllegalArgumentException("index must not be negative, got: " + index);
+        }
+        if (error == null && (steps == null || times == null || layers == null || steps.length != times.length)) {
+            throw new IllegalArgumentException("successful result needs steps, times and layers of the same count");
+        }
+    }
+
+    /**
+     * Creates the result of a failed job.
+     *
+     * @param index   position of the specification in the sweep
+     * @param message message of the failure
+     * @return result without layers
+     */
+    static SweepResult failed(int index, String message) {
+        return new SweepResult(index, null, null, null, String.valueOf(message));
+    }
+
+    /**
+     * Returns whether the job succeeded.
+     *
+     * @return true if the layers are present
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,267 @@
+package io.github.andreipunko.math.pde.service;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Worker of a parameter sweep (see {@link SweepCoordinator}): solves specifications (see {@link SolveSpec}) received
+ * over TCP connections and sends back the streamed time layers in binary form.
+ * <p>
+ * Every connection carries a sequence of jobs, one at a time, as big-endian values:
+ * <ul>
+ * <li>job: index (int), length of the specification in bytes (int), the specification in UTF-8;</li>
+ * <li>result: the index of the job (int), then either 0 (byte), the layer size (int), the number of layers (int)
+ * and for every layer its index (int), time (double) and values (layer size doubles), or 1 (byte) and the message
+ * of the rejected specification (length and UTF-8 bytes as above).</li>
+ * </ul>
+ * Connections are served in parallel, each on its own virtual thread, so the coordinator decides how many jobs a
+ * worker runs at once by the number of connections it opens. The protocol has no authentication: bind workers to
+ * the loopback interface or to a trusted network only.
+ */
+public class SweepWorker implements AutoCloseable {
+
+    /**
+     * Start of the line a worker process prints to its standard output once it accepts connections; the line ends
+     * with the port.
+     */
+    static final String READY = "Sweep worker listens on port ";
+
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_ERROR = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ServerSocket server;
+    private final ExecutorService executor;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a worker bound to the given address; call {@link #start()} to accept connections.
+     *
+     * @param address address to listen on; port 0 picks a free port
+     * @throws IllegalArgumentException if address is null
+     * @throws IOException              if the address cannot be bound
+     */
+    public SweepWorker(InetSocketAddress address) throws IOException {
+        if (address == null) {
+            throw new IllegalArgumentException("address must not be null");
+        }
+        this.server = new ServerSocket();
+        server.bind(address);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Starts accepting connections.
+     */
+    public void start() {
+        executor.execute(this::accept);
+    }
+
+    /**
+     * Returns the port the worker listens on.
+     *
+     * @return bound port
+     */
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections, closes open connections and waits for the running solves to end.
+     */
+    @Override
+    public void close() {
+        try {
+            server.close();
+        } catch (IOException e) {
+            // Nothing to release
+        }
+        for (var socket : connections) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Already closed by the coordinator
+            }
+        }
+        executor.close();
+    }
+
+    private void accept() {
+        while (!server.isClosed()) {
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (IOException e) {
+                return;
+            }
+            connections.add(socket);
+            executor.execute(() -> serve(socket));
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            var in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+            while (true) {
+                int index;
+                try {
+                    index = in.readInt();
+                } catch (EOFException e) {
+                    return;
+                }
+                var text = readText(in);
+                out.writeInt(index);
+                try {
+                    writeLayers(out, SolveSpec.parse(text));
+                } catch (IllegalArgumentException e) {
+                    out.writeByte(STATUS_ERROR);
+                    writeText(out, String.valueOf(e.getMessage()));
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            // Coordinator went away; its jobs are retried elsewhere
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private static void writeLayers(DataOutputStream out, SolveSpec spec) throws IOException {
+        var solution = spec.solve();
+        int count = 0;
+        for (int step = 0; step <= spec.timeSteps(); step++) {
+            if (spec.isStreamed(step)) {
+                count++;
+            }
+        }
+        out.writeByte(STATUS_OK);
+        out.writeInt(spec.layerSize());
+        out.writeInt(count);
+        for (int step = 0; step <= spec.timeSteps(); step++) {
+            if (spec.isStreamed(step)) {
+                out.writeInt(step);
+                out.writeDouble(solution.area().tx(step));
+                var layer = solution.matrix().rowView(step);
+                for (int i = 0; i < layer.size(); i++) {
+                    out.writeDouble(layer.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends a job to a worker.
+     *
+     * @param out   output of the connection
+     * @param index index of the job in the sweep
+     * @param spec  JSON text of the specification
+     * @throws IOException if the connection fails
+     */
+    static void writeJob(DataOutputStream out, int index, String spec) throws IOException {
+        out.writeInt(index);
+        writeText(out, spec);
+        out.flush();
+    }
+
+    /**
+     * Receives the result of a job from a worker.
+     *
+     * @param in    input of the connection
+     * @param index index of the job that was sent
+     * @return result of the job
+     * @throws IOException if the connection fails or the worker does not follow the protocol
+     */
+    static SweepResult readResult(DataInputStream in, int index) throws IOException {
+        int received = in.readInt();
+        if (received != index) {
+            throw new IOException("worker answered job " + received + " instead of job " + index);
+        }
+        var status = in.readByte();
+        if (status == STATUS_ERROR) {
+            return SweepResult.failed(index, readText(in));
+        }
+        if (status != STATUS_OK) {
+            throw new IOException("unknown status " + status + " of job " + index);
+        }
+        int size = in.readInt(),
+                count = in.readInt();
+        if (size <= 0 || count <= 0) {
+            throw new IOException("invalid result of job " + index + ": " + count + " layers of " + size + " values");
+        }
+        var steps = new int[count];
+        var times = new double[count];
+        var layers = new Matrix2D(count, size);
+        var layer = new double[size];
+        for (int k = 0; k < count; k++) {
+            steps[k] = in.readInt();
+            times[k] = in.readDouble();
+            for (int i = 0; i < size; i++) {
+                layer[i] = in.readDouble();
+            }
+            layers.setRow(k, layer);
+        }
+        return new SweepResult(index, steps, times, layers, null);
+    }
+
+    private static void writeText(DataOutputStream out, String text) throws IOException {
+        var bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("invalid text length: " + length);
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs a worker on the loopback interface until the process is stopped.
+     *
+     * @param args optional port (default 0, a free port) and {@code --exit-with-parent} to stop the worker when its
+     *             standard input is closed, which is how {@link SweepCoordinator#launch} controls the worker processes
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = 0;
+        boolean exitWithParent = false;
+        for (var arg : args) {
+            if ("--exit-with-parent".equals(arg)) {
+                exitWithParent = true;
+            } else {
+                port = Integer.parseInt(arg);
+            }
+        }
+        var worker = new SweepWorker(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        worker.start();
+        System.out.println(READY + worker.getPort());
+        System.out.flush();
+        if (exitWithParent) {
+            while (System.in.read() >= 0) {
+                // Wait for the coordinator to close the pipe
+            }
+            worker.close();
+        } else {
+            Runtime.getRuntime().addShutdownHook(new Thread(worker::close));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.andreipunko.math.pde.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonTest {
+
+    @Test
+    void parsesNestedDocument() {
+        var value = Json.parse(
+                " {\"a\": [1, -2.5e1, true, false, null], \"b\": {\"c\": \"x\\\"\\u0041\\n\"}, \"d\": {}} ");
+
+        assertThat(value).isEqualTo(Map.of(
+                "a", Arrays.asList(1.0, -25.0, true, false, null),
+                "b", Map.of("c", "x\"A\n"),
+                "d", Map.of()));
+    }
+
+    @Test
+    void keepsKeyOrder() {
+        var value = (Map<?, ?>) Json.parse("{\"z\": 1, \"a\": 2, \"m\": []}");
+
+        assertThat(List.copyOf(value.keySet())).isEqualTo(List.of("z", "a", "m"));
+    }
+
+    @Test
+    void rejectsMalformedDocuments() {
+        for (var text : List.of("", "{", "[1,]", "{\"a\" 1}", "{\"a\": 1} x", "01", "1.", "\"abc", "tru",
+                "{\"a\": 1, \"a\": 2}", "[".repeat(100) + "]".repeat(100))) {
+            var e = assertThrows(IllegalArgumentException.class, () -> Json.parse(text));
+            assertThat(e.getMessage()).startsWith("invalid JSON at position");
+        }
+    }
+
+    @Test
+    void rejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> Json.parse(null));
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.andreipunko.math.pde.service;
+
+import io.github.andreipunko.math.pde.border.RobinBorderCondition;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.pde.solver.LayerRingBuffer;
+import io.github.andreipunko.math.pde.solver.ParabolicEquationSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SolveSpecTest {
+
+    private static final String PARABOLIC = """
+            {"type": "parabolic", "x1": 0, "x2": 1, "t2": 0.1, "h": 0.1, "tau": 0.01, "every": 4,
+             "u0": {"x": [0, 0.5, 1], "values": [0, 1, 0]},
+             "k": {"x": [0, 0.5], "values": [1, 2], "interpolation": "step"},
+             "f": 0.5,
+             "left": {"type": "dirichlet", "value": 0},
+             "right": {"type": "robin", "h": 2, "theta": 0.3}}
+            """;
+
+    private static final String PERIODIC = """
+            {"type": "parabolic", "x1": 0, "x2": 1, "t2": 0.1, "h": 0.1, "tau": 0.01,
+             "left": {"type": "periodic"}, "right": {"type": "periodic"}}
+            """;
+
+    @Test
+    void buildsParabolicEquation() {
+        var spec = SolveSpec.parse(PARABOLIC);
+
+        assertThat(spec.type()).isEqualTo(SolveSpec.Type.PARABOLIC);
+        assertThat(spec.layerSize()).isEqualTo(11);
+        assertThat(spec.timeSteps()).isEqualTo(10);
+        var eqn = (ParabolicEquation) spec.equation();
+        assertThat(eqn.gU0(0.25)).isCloseTo(0.5, within(1e-12));
+        assertThat(eqn.gU0(2)).isEqualTo(0.0);
+        assertThat(eqn.gK(0.49, 0, 0)).isEqualTo(1.0);
+        assertThat(eqn.gK(0.7, 0, 0)).isEqualTo(2.0);
+        assertThat(eqn.gL(0.3, 0, 0)).isEqualTo(1.0);
+        assertThat(eqn.gF(0.3, 0, 0)).isEqualTo(0.5);
+        var right = (RobinBorderCondition) eqn.getRightBorderCondition();
+        assertThat(right.gH()).isEqualTo(2.0);
+        assertThat(right.gTheta(1)).isEqualTo(0.3);
+    }
+
+    @Test
+    void buildsHyperbolicEquation() {
+        var spec = SolveSpec.parse("""
+                {"type": "hyperbolic", "x1": 0, "x2": 2, "t2": 1, "h": 0.5, "tau": 0.1,
+                 "ut0": 3, "m": {"x": [1], "values": [4]},
+                 "left": {"type": "periodic"}, "right": {"type": "periodic"}}
+                """);
+
+        assertThat(spec.layerSize()).isEqualTo(5);
+        var eqn = (HyperbolicEquation) spec.equation();
+        assertThat(eqn.gdU_dt0(0.3)).isEqualTo(3.0);
+        assertThat(eqn.gM(0, 0, 0)).isEqualTo(4.0);
+        assertThat(eqn.gK(0, 0, 0)).isEqualTo(1.0);
+    }
+
+    @Test
+    void periodicGridEndsAtX2() {
+        // 0.3 / 0.1 is slightly less than 3 in floating point, and the solver rounds N for periodic borders
+        var spec = SolveSpec.parse(PERIODIC.replace("\"x2\": 1", "\"x2\": 0.3"));
+
+        assertThat(spec.layerSize()).isEqualTo(4);
+    }
+
+    @Test
+    void streamsEveryNthAndLastLayer() {
+        var spec = SolveSpec.parse(PARABOLIC);
+
+        assertThat(List.of(0, 1, 4, 8, 9, 10).stream().filter(spec::isStreamed).toList())
+                .isEqualTo(List.of(0, 4, 8, 10));
+    }
+
+    @Test
+    void solvesIntoRingLikeTheSolver() {
+        var spec = SolveSpec.parse(PARABOLIC);
+        var ring = new LayerRingBuffer(16, spec.layerSize(), LayerRingBuffer.WaitStrategy.BLOCKING);
+
+        spec.solve(ring);
+
+        var expected = new ParabolicEquationSolver().solve((ParabolicEquation) spec.equation(), 0.1, 0.01);
+        int count = 0;
+        for (long seq; (seq = ring.next()) >= 0; ring.release(seq)) {
+            assertThat(ring.slot(seq)).isEqualTo(expected.matrix().getRow(ring.step(seq)));
+            count++;
+        }
+        assertThat(count).isEqualTo(11);
+    }
+
+    @Test
+    void estimatesMemoryOfRingAndWorkArrays() {
+        var spec = SolveSpec.parse(PARABOLIC);
+
+        assertThat(spec.estimateBytes(16)).isEqualTo(8L * (16 + 12) * 11);
+        // The time layers are not kept, so a longer solve needs no more memory
+        assertThat(SolveSpec.parse(PARABOLIC.replace("\"t2\": 0.1", "\"t2\": 1000")).estimateBytes(16))
+                .isEqualTo(spec.estimateBytes(16));
+    }
+
+    @Test
+    void rejectsInvalidSpecifications() {
+        var invalid = List.of(
+                "[]",
+                "{\"type\": \"elliptic\"}",
+                PARABOLIC.replace("\"every\": 4", "\"every\": 0.5"),
+                PARABOLIC.replace("\"every\": 4", "\"ut0\": 1"),
+                PARABOLIC.replace("\"every\": 4", "\"extra\": 1"),
+                PARABOLIC.replace("\"h\": 0.1", "\"h\": -0.1"),
+                PARABOLIC.replace("\"h\": 0.1", "\"h\": 0.6"),
+                PARABOLIC.replace("\"x2\": 1", "\"x2\": \"1\""),
+                PARABOLIC.replace("\"f\": 0.5", "\"f\": 1e999"),
+                PARABOLIC.replace("\"values\": [1, 2]", "\"values\": [1]"),
+                PARABOLIC.replace("[0, 0.5, 1]", "[0, 1, 0.5]"),
+                PARABOLIC.replace("\"step\"", "\"cubic\""),
+                PARABOLIC.replace("\"dirichlet\", \"value\": 0", "\"dirichlet\""),
+                PARABOLIC.replace("\"dirichlet\"", "\"periodic\""),
+                PARABOLIC.replace("\"theta\": 0.3", "\"theta\": 0.3, \"value\": 1"),
+                // Period 0.9 instead of 1
+                PERIODIC.replace("\"h\": 0.1", "\"h\": 0.3"),
+                // More than 2^31 spatial steps
+                PARABOLIC.replace("\"h\": 0.1", "\"h\": 1e-12"),
+                // More than 2^31 time steps
+                PARABOLIC.replace("\"tau\": 0.01", "\"tau\": 1e-11")
+        );
+        for (var json : invalid) {
+            assertThrows(IllegalArgumentException.class, () -> SolveSpec.parse(json), json);
+        }
+    }
+}
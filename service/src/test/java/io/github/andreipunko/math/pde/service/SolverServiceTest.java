@@ -0,0 +1,156 @@
+package io.github.andreipunko.math.pde.service;
+
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.solver.HyperbolicEquationSolver;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SolverServiceTest {
+
+    private static final String LOOPBACK = "127.0.0.1";
+
+    private static final String WAVE = """
+            {"type": "hyperbolic", "x1": 0, "x2": 1, "t2": 1, "h": 0.05, "tau": 0.01, "every": 25,
+             "u0": {"x": [0, 0.5, 1], "values": [0, 0.1, 0]},
+             "left": {"type": "dirichlet", "value": 0}, "right": {"type": "dirichlet", "value": 0}}
+            """;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void streamsRequestedLayers() throws Exception {
+        try (var service = startService(1 << 20)) {
+            var response = post(service, WAVE, HttpResponse.BodyHandlers.ofInputStream());
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue("Content-Type").orElse("")).isEqualTo("application/octet-stream");
+            var spec = SolveSpec.parse(WAVE);
+            var expected = new HyperbolicEquationSolver().solve((HyperbolicEquation) spec.equation(), 0.05, 0.01);
+            var steps = new ArrayList<Integer>();
+            try (var in = new DataInputStream(new BufferedInputStream(response.body()))) {
+                assertThat(in.readInt()).isEqualTo(21);
+                for (int step; (step = in.readInt()) >= 0; ) {
+                    steps.add(step);
+                    assertThat(in.readDouble()).isEqualTo(expected.area().tx(step));
+                    var layer = new double[21];
+                    for (int i = 0; i < layer.length; i++) {
+                        layer[i] = in.readDouble();
+                    }
+                    assertThat(layer).isEqualTo(expected.matrix().getRow(step));
+                }
+                assertThat(in.read()).isEqualTo(-1);
+            }
+            assertThat(steps).isEqualTo(List.of(0, 25, 50, 75, 100));
+            assertThat(service.getMemoryInUse()).isEqualTo(0L);
+        }
+    }
+
+    @Test
+    void rejectsInvalidSpecification() throws Exception {
+        try (var service = startService(1 << 20)) {
+            var response = post(service, WAVE.replace("\"h\": 0.05", "\"h\": 0"), HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(400);
+            assertThat(response.body()).contains("h and tau must be positive");
+        }
+    }
+
+    @Test
+    void rejectsOtherMethods() throws Exception {
+        try (var service = startService(1 << 20)) {
+            var request = HttpRequest.newBuilder(uri(service)).GET().build();
+            var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(405);
+            assertThat(response.headers().firstValue("Allow").orElse("")).isEqualTo("POST");
+        }
+    }
+
+    @Test
+    void rejectsSolveLargerThanMemoryBudget() throws Exception {
+        try (var service = startService(1000)) {
+            var response = post(service, WAVE, HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(413);
+        }
+    }
+
+    @Test
+    void rejectsSolveWhileMemoryBudgetIsInUse() throws Exception {
+        // About 16 MB of streamed layers: the unread stream holds the first solve until its input is closed
+        var big = WAVE.replace("\"h\": 0.05", "\"h\": 0.001").replace("\"tau\": 0.01", "\"tau\": 0.0005")
+                .replace("\"every\": 25", "\"every\": 1");
+        long bytes = SolveSpec.parse(big).estimateBytes(SolverService.RING_CAPACITY);
+        try (var service = startService(bytes + bytes / 2)) {
+            InputStream first = post(service, big, HttpResponse.BodyHandlers.ofInputStream()).body();
+            try {
+                assertThat(service.getMemoryInUse()).isEqualTo(bytes);
+
+                var second = post(service, big, HttpResponse.BodyHandlers.ofString());
+                assertThat(second.statusCode()).isEqualTo(503);
+                assertThat(second.headers().firstValue("Retry-After").orElse("")).isEqualTo("1");
+
+                var small = post(service, WAVE, HttpResponse.BodyHandlers.ofByteArray());
+                assertThat(small.statusCode()).isEqualTo(200);
+            } finally {
+                first.close();
+            }
+        }
+    }
+
+    @Test
+    void stopsSolveWhenClientGoesAway() throws Exception {
+        // 2 * 10^7 time steps: running to the end would take far longer than the test waits for
+        var endless = WAVE.replace("\"h\": 0.05", "\"h\": 0.001").replace("\"t2\": 1", "\"t2\": 200000")
+                .replace("\"every\": 25", "\"every\": 1");
+        try (var service = startService(1 << 20)) {
+            var in = new DataInputStream(post(service, endless, HttpResponse.BodyHandlers.ofInputStream()).body());
+            assertThat(in.readInt()).isEqualTo(1001);
+            assertThat(service.getMemoryInUse()).isPositive();
+            in.close();
+
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (service.getMemoryInUse() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(service.getMemoryInUse()).isEqualTo(0L);
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        var address = new InetSocketAddress(LOOPBACK, 0);
+        assertThrows(IllegalArgumentException.class, () -> new SolverService(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SolverService(address, 0));
+    }
+
+    private SolverService startService(long memoryBudget) throws IOException {
+        var service = new SolverService(new InetSocketAddress(LOOPBACK, 0), memoryBudget);
+        service.start();
+        return service;
+    }
+
+    private <T> HttpResponse<T> post(SolverService service, String body, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(uri(service)).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        return client.send(request, handler);
+    }
+
+    private static URI uri(SolverService service) {
+        return URI.create("http://" + LOOPBACK + ":" + service.getPort() + "/solve");
+    }
+}
@@ -0,0 +1,243 @@
+package io.github.andreipunko.math.pde.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SweepCoordinatorTest {
+
+    private static final String LOOPBACK = "127.0.0.1";
+
+    @Test
+    void resultsMatchLocalSolves() throws Exception {
+        var specs = sweep(12);
+        try (var first = startWorker(); var second = startWorker()) {
+            var results = new SweepCoordinator(List.of(address(first), address(second)), 2, 1).run(specs);
+
+            assertMatchLocalSolves(specs, results);
+        }
+    }
+
+    @Test
+    void jobsOfFailedWorkersAreRetried() throws Exception {
+        var specs = sweep(10);
+        var crashes = new AtomicInteger();
+        try (var worker = startWorker(); var crashing = crashingWorker(crashes)) {
+            // Nothing listens on the port of a closed socket
+            var dead = new ServerSocket(0);
+            dead.close();
+            var workers = List.of(new InetSocketAddress(LOOPBACK, dead.getLocalPort()),
+                    new InetSocketAddress(LOOPBACK, crashing.getLocalPort()), address(worker));
+
+            var results = new SweepCoordinator(workers, 2, 3).run(specs);
+
+            assertMatchLocalSolves(specs, results);
+            assertThat(crashes.get()).isGreaterThan(0);
+        }
+    }
+
+    @Test
+    void jobFailsAfterLastAttempt() throws Exception {
+        var crashes = new AtomicInteger();
+        try (var crashing = crashingWorker(crashes)) {
+            var coordinator = new SweepCoordinator(List.of(new InetSocketAddress(LOOPBACK, crashing.getLocalPort())),
+                    3, 2);
+
+            var results = coordinator.run(sweep(1));
+
+            assertThat(results.get(0).isSuccess()).isFalse();
+            assertThat(results.get(0).error()).startsWith("failed 2 times");
+            assertThat(crashes.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void hungWorkerCountsAsFailure() throws Exception {
+        var jobs = new AtomicInteger();
+        // Reads a job and then waits for the next one without answering
+        try (var hung = fakeWorker((in, out) -> {
+            readJob(in);
+            jobs.incrementAndGet();
+            in.readInt();
+        })) {
+            var coordinator = new SweepCoordinator(List.of(new InetSocketAddress(LOOPBACK, hung.getLocalPort())),
+                    2, 2, 200);
+
+            var results = coordinator.run(sweep(1));
+
+            assertThat(results.get(0).isSuccess()).isFalse();
+            assertThat(results.get(0).error()).startsWith("failed 2 times").contains("timed out");
+            assertThat(jobs.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void unreadableResultIsRetried() throws Exception {
+        var specs = sweep(6);
+        var corrupted = new AtomicInteger();
+        // 65535 layers of 65537 values: the size of the result matrix overflows int
+        try (var worker = startWorker(); var corrupt = fakeWorker((in, out) -> {
+            out.writeInt(readJob(in));
+            out.writeByte(SweepWorker.STATUS_OK);
+            out.writeInt(65537);
+            out.writeInt(65535);
+            out.flush();
+            corrupted.incrementAndGet();
+            in.readInt();
+        })) {
+            var workers = List.of(new InetSocketAddress(LOOPBACK, corrupt.getLocalPort()), address(worker));
+
+            var results = new SweepCoordinator(workers, 2, 3).run(specs);
+
+            assertMatchLocalSolves(specs, results);
+            assertThat(corrupted.get()).isGreaterThan(0);
+        }
+    }
+
+    @Test
+    void failsWhenNoWorkerIsReachable() throws Exception {
+        var dead = new ServerSocket(0);
+        dead.close();
+        var coordinator = new SweepCoordinator(List.of(new InetSocketAddress(LOOPBACK, dead.getLocalPort())), 1, 1);
+
+        var e = assertThrows(IllegalStateException.class, () -> coordinator.run(sweep(3)));
+        assertThat(e.getMessage()).contains("3 of 3 jobs");
+    }
+
+    @Test
+    void launchedWorkersSolveSweep() throws Exception {
+        var specs = sweep(6);
+        try (var coordinator = SweepCoordinator.launch(2, 2, List.of("-Xmx256m"))) {
+            assertThat(coordinator.getWorkers().size()).isEqualTo(2);
+
+            assertMatchLocalSolves(specs, coordinator.run(specs));
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() throws Exception {
+        var address = new InetSocketAddress(LOOPBACK, 1);
+        assertThrows(IllegalArgumentException.class, () -> new SweepCoordinator(null, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SweepCoordinator(List.of(), 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SweepCoordinator(List.of(address), 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SweepCoordinator(List.of(address), 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SweepCoordinator(List.of(address), 1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> SweepCoordinator.launch(0, 1, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> SweepCoordinator.launch(1, 1, null));
+
+        var coordinator = new SweepCoordinator(List.of(address), 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> coordinator.run(null));
+        var e = assertThrows(IllegalArgumentException.class,
+                () -> coordinator.run(List.of(sweep(1).get(0), "{\"type\": \"elliptic\"}")));
+        assertThat(e.getMessage()).startsWith("spec 1: ");
+        assertThat(coordinator.run(List.of())).isEqualTo(List.of());
+    }
+
+    /**
+     * Heat equations which differ in the conductivity and the left border value.
+     */
+    private static List<String> sweep(int size) {
+        var specs = new ArrayList<String>();
+        for (int i = 0; i < size; i++) {
+            specs.add("""
+                    {"type": "parabolic", "x1": 0, "x2": 1, "t2": 0.1, "h": 0.02, "tau": 0.001, "every": 20,
+                     "k": %s, "u0": {"x": [0, 1], "values": [1, 0]},
+                     "left": {"type": "dirichlet", "value": %s}, "right": {"type": "neumann", "value": 0}}
+                    """.formatted(0.5 + 0.1 * i, i % 3));
+        }
+        return specs;
+    }
+
+    private static void assertMatchLocalSolves(List<String> specs, List<SweepResult> results) {
+        assertThat(results.size()).isEqualTo(specs.size());
+        for (int i = 0; i < specs.size(); i++) {
+            var result = results.get(i);
+            var spec = SolveSpec.parse(specs.get(i));
+            var expected = spec.solve();
+            assertThat(result.isSuccess()).as("spec " + i + ": " + result.error()).isTrue();
+            assertThat(result.index()).isEqualTo(i);
+            assertThat(result.steps()).isEqualTo(new int[]{0, 20, 40, 60, 80, 100});
+            for (int k = 0; k < result.steps().length; k++) {
+                assertThat(result.times()[k]).isEqualTo(expected.area().tx(result.steps()[k]));
+                assertThat(result.layers().getRow(k)).isEqualTo(expected.matrix().getRow(result.steps()[k]));
+            }
+        }
+    }
+
+    private static SweepWorker startWorker() throws IOException {
+        var worker = new SweepWorker(new InetSocketAddress(LOOPBACK, 0));
+        worker.start();
+        return worker;
+    }
+
+    private static InetSocketAddress address(SweepWorker worker) {
+        return new InetSocketAddress(LOOPBACK, worker.getPort());
+    }
+
+    /**
+     * Worker which reads a job and drops the connection, like a worker JVM that dies during a solve.
+     */
+    private static ServerSocket crashingWorker(AtomicInteger crashes) throws IOException {
+        return fakeWorker((in, out) -> {
+            readJob(in);
+            crashes.incrementAndGet();
+        });
+    }
+
+    /**
+     * Server which serves every connection by the handler and then closes it. Connections are served concurrently
+     * like by {@link SweepWorker}: an idle connection must not hold up the jobs of the others.
+     */
+    private static ServerSocket fakeWorker(Handler handler) throws IOException {
+        var server = new ServerSocket(0);
+        var thread = new Thread(() -> {
+            while (!server.isClosed()) {
+                try {
+                    var socket = server.accept();
+                    var connection = new Thread(() -> serve(socket, handler));
+                    connection.setDaemon(true);
+                    connection.start();
+                } catch (IOException e) {
+                    // Server closed by the test
+                }
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return server;
+    }
+
+    private static void serve(Socket socket, Handler handler) {
+        try (socket) {
+            handler.serve(new DataInputStream(socket.getInputStream()), new DataOutputStream(socket.getOutputStream()));
+        } catch (IOException e) {
+            // The coordinator gave up the connection
+        }
+    }
+
+    /**
+     * Reads a job sent by {@link SweepWorker#writeJob} and returns its index.
+     */
+    private static int readJob(DataInputStream in) throws IOException {
+        int index = in.readInt();
+        in.readNBytes(in.readInt());
+        return index;
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        void serve(DataInputStream in, DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.andreipunko.math.pde.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SweepWorkerTest {
+
+    private static final String LOOPBACK = "127.0.0.1";
+
+    private static final String HEAT = """
+            {"type": "parabolic", "x1": 0, "x2": 1, "t2": 0.01, "h": 0.1, "tau": 0.001, "every": 5,
+             "u0": 1, "left": {"type": "dirichlet", "value": 0}, "right": {"type": "dirichlet", "value": 0}}
+            """;
+
+    @Test
+    void solvesJobsOfOneConnectionInOrder() throws Exception {
+        try (var worker = startWorker(); var socket = new Socket(LOOPBACK, worker.getPort())) {
+            var in = new DataInputStream(socket.getInputStream());
+            var out = new DataOutputStream(socket.getOutputStream());
+
+            SweepWorker.writeJob(out, 7, HEAT);
+            var first = SweepWorker.readResult(in, 7);
+            SweepWorker.writeJob(out, 3, "{\"type\": \"parabolic\"}");
+            var second = SweepWorker.readResult(in, 3);
+            SweepWorker.writeJob(out, 8, HEAT);
+            var third = SweepWorker.readResult(in, 8);
+
+            var expected = SolveSpec.parse(HEAT).solve();
+            assertThat(first.isSuccess()).isTrue();
+            assertThat(first.steps()).isEqualTo(new int[]{0, 5, 10});
+            assertThat(first.layers().getRow(2)).isEqualTo(expected.matrix().getRow(10));
+            assertThat(second.isSuccess()).isFalse();
+            assertThat(second.error()).contains("x1 must be a number");
+            assertThat(third.layers().getRow(1)).isEqualTo(first.layers().getRow(1));
+        }
+    }
+
+    @Test
+    void rejectsAnswerToOtherJob() throws Exception {
+        try (var worker = startWorker(); var socket = new Socket(LOOPBACK, worker.getPort())) {
+            var in = new DataInputStream(socket.getInputStream());
+            SweepWorker.writeJob(new DataOutputStream(socket.getOutputStream()), 1, HEAT);
+
+            assertThrows(IOException.class, () -> SweepWorker.readResult(in, 2));
+        }
+    }
+
+    @Test
+    void closeStopsAcceptingConnections() throws Exception {
+        var worker = startWorker();
+        int port = worker.getPort();
+        worker.close();
+
+        assertThrows(IOException.class, () -> new Socket(LOOPBACK, port).close());
+        assertThrows(IllegalArgumentException.class, () -> new SweepWorker(null));
+    }
+
+    private static SweepWorker startWorker() throws IOException {
+        var worker = new SweepWorker(new InetSocketAddress(LOOPBACK, 0));
+        worker.start();
+        return worker;
+    }
+}
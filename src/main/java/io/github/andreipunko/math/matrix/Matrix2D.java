@@ -13,30 +13,83 @@ import java.util.Arrays;
  * <p>
  * The matrix is stored internally as a single-dimensional array in row-major order,
  * where the element at position (i,j) is stored at index i*n + j in the data array.
+ * <p>
+ * With {@link Storage#FLOAT} the elements are stored as 4-byte floats: values are rounded to single precision when
+ * they are set and widened back to double when they are read, so all methods keep taking and returning doubles.
+ * This halves the memory of large matrices, for example of solutions which are only plotted or exported.
  */
 public class Matrix2D {
 
+    /**
+     * Precision of the stored elements.
+     */
+    public enum Storage {
+        /**
+         * 8-byte doubles (default).
+         */
+        DOUBLE(Double.BYTES),
+        /**
+         * 4-byte floats: values are rounded to single precision when stored.
+         */
+        FLOAT(Float.BYTES);
+
+        private final int bytes;
+
+        Storage(int bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * Returns the size of a stored element.
+         *
+         * @return number of bytes per element
+         */
+        public int getBytes() {
+            return bytes;
+        }
+    }
+
     @Getter
     private final int m;  // number of rows in the matrix
     @Getter
     private final int n;  // number of columns in the matrix
-    private final double[] data;  // underlying array storing matrix elements in row-major order
+    @Getter
+    private final Storage storage;  // precision of the stored elements
+    private final double[] data;  // elements in row-major order with DOUBLE storage, null otherwise
+    private final float[] floats;  // elements in row-major order with FLOAT storage, null otherwise
 
     /**
-     * Creates a new matrix with specified dimensions, initialized with zeros.
+     * Creates a new matrix of doubles with specified dimensions, initialized with zeros.
      *
      * @param m number of rows (must be positive)
      * @param n number of columns (must be positive)
      * @throws IllegalArgumentException if m &lt;= 0 or n &lt;= 0
      */
     public Matrix2D(int m, int n) {
+        this(m, n, Storage.DOUBLE);
+    }
+
+    /**
+     * Creates a new matrix with specified dimensions and storage precision, initialized with zeros.
+     *
+     * @param m       number of rows (must be positive)
+     * @param n       number of columns (must be positive)
+     * @param storage precision of the stored elements
+     * @throws IllegalArgumentException if m &lt;= 0 or n &lt;= 0, or if storage is null
+     */
+    public Matrix2D(int m, int n, Storage storage) {
         if (m <= 0 || n <= 0) {
             throw new IllegalArgumentException("m and n must be positive, got m=" + m + ", n=" + n);
         }
+        if (storage == null) {
+            throw new IllegalArgumentException("storage must not be null");
+        }
 
         this.m = m;
         this.n = n;
-        data = new double[m * n];
+        this.storage = storage;
+        data = storage == Storage.DOUBLE ? new double[m * n] : null;
+        floats = storage == Storage.FLOAT ? new float[m * n] : null;
     }
 
     /**
@@ -52,11 +105,16 @@ public class Matrix2D {
             throw new IllegalArgumentException(
                     "indices (i,j) out of bounds: (" + i + "," + j + "), matrix size " + m + "x" + n);
         }
-        data[i * n + j] = value;
+        if (data != null) {
+            data[i * n + j] = value;
+        } else {
+            floats[i * n + j] = (float) value;
+        }
     }
 
     /**
-     * Sets an entire row of the matrix using the provided array.
+     * Sets an entire row of the matrix using the provided array; with {@link Storage#FLOAT} the values are rounded
+     * to single precision.
      *
      * @param i   row index (0 &lt;= i &lt; m)
      * @param arr array of n values to set in the row
@@ -69,7 +127,13 @@ public class Matrix2D {
         if (arr == null || arr.length != n) {
             throw new IllegalArgumentException("row array length must be " + n + ", got " + (arr == null ? "null" : arr.length));
         }
-        System.arraycopy(arr, 0, data, i * n, arr.length);
+        if (data != null) {
+            System.arraycopy(arr, 0, data, i * n, arr.length);
+        } else {
+            for (int j = 0, k = i * n; j < n; j++, k++) {
+                floats[k] = (float) arr[j];
+            }
+        }
     }
 
     /**
@@ -83,7 +147,66 @@ public class Matrix2D {
         if (i < 0 || i >= m) {
             throw new IllegalArgumentException("row index i out of bounds: " + i + ", valid [0, " + (m - 1) + "]");
         }
-        return Arrays.copyOfRange(data, i * n, (i + 1) * n);
+        if (data != null) {
+            return Arrays.copyOfRange(data, i * n, (i + 1) * n);
+        }
+        var row = new double[n];
+        for (int j = 0, k = i * n; j < n; j++, k++) {
+            row[j] = floats[k];
+        }
+        return row;
+    }
+
+    /**
+     * Returns a read-only view of the specified row without copying it.
+     *
+     * @param i row index (0 &lt;= i &lt; m)
+     * @return view of the n row elements
+     * @throws IllegalArgumentException if i &lt; 0 or i &gt;= m
+     */
+    public VectorView rowView(int i) {
+        if (i < 0 || i >= m) {
+            throw new IllegalArgumentException("row index i out of bounds: " + i + ", valid [0, " + (m - 1) + "]");
+        }
+        return data != null ? VectorView.of(data, i * n, 1, n) : VectorView.of(floats, i * n, 1, n);
+    }
+
+    /**
+     * Returns a read-only view of the specified column without copying it: elements are read with stride n.
+     *
+     * @param j column index (0 &lt;= j &lt; n)
+     * @return view of the m column elements
+     * @throws IllegalArgumentException if j &lt; 0 or j &gt;= n
+     */
+    public VectorView columnView(int j) {
+        if (j < 0 || j >= n) {
+            throw new IllegalArgumentException("column index j out of bounds: " + j + ", valid [0, " + (n - 1) + "]");
+        }
+        return data != null ? VectorView.of(data, j, n, m) : VectorView.of(floats, j, n, m);
+    }
+
+    /**
+     * Returns a copy of this matrix with more rows: the existing rows are copied, the new rows are filled with zeros.
+     * The copy has the storage of this matrix. This matrix is not modified.
+     *
+     * @param rows number of rows of the new matrix (rows &gt;= m)
+     * @return new matrix of size rows&times;n
+     * @throws IllegalArgumentException if rows &lt; m or the new size exceeds the maximum array length
+     */
+    public Matrix2D copyWithRows(int rows) {
+        if (rows < m) {
+            throw new IllegalArgumentException("rows must be at least " + m + ", got " + rows);
+        }
+        if ((long) rows * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("matrix size too large: " + rows + "x" + n);
+        }
+        var result = new Matrix2D(rows, n, storage);
+        if (data != null) {
+            System.arraycopy(data, 0, result.data, 0, data.length);
+        } else {
+            System.arraycopy(floats, 0, result.floats, 0, floats.length);
+        }
+        return result;
     }
 
     /**
@@ -99,7 +222,7 @@ public class Matrix2D {
             throw new IllegalArgumentException(
                     "indices (i,j) out of bounds: (" + i + "," + j + "), matrix size " + m + "x" + n);
         }
-        return data[i * n + j];
+        return data != null ? data[i * n + j] : floats[i * n + j];
     }
 
     /**
@@ -108,7 +231,14 @@ public class Matrix2D {
      * @return minimum value
      */
     public double min() {
-        return Arrays.stream(data).min().getAsDouble();
+        if (data != null) {
+            return Arrays.stream(data).min().getAsDouble();
+        }
+        float min = floats[0];
+        for (var value : floats) {
+            min = Math.min(min, value);
+        }
+        return min;
     }
 
     /**
@@ -117,7 +247,14 @@ public class Matrix2D {
      * @return maximum value
      */
     public double max() {
-        return Arrays.stream(data).max().getAsDouble();
+        if (data != null) {
+            return Arrays.stream(data).max().getAsDouble();
+        }
+        float max = floats[0];
+        for (var value : floats) {
+            max = Math.max(max, value);
+        }
+        return max;
     }
 
     /**
@@ -126,7 +263,11 @@ public class Matrix2D {
      * @param d value to fill the matrix with
      */
     public void fill(double d) {
-        Arrays.fill(data, d);
+        if (data != null) {
+            Arrays.fill(data, d);
+        } else {
+            Arrays.fill(floats, (float) d);
+        }
     }
 
     /**
@@ -145,10 +286,11 @@ public class Matrix2D {
             throw new IllegalArgumentException("row indices must differ, both are " + m1);
         }
 
-        var buff = new double[n];
-        System.arraycopy(data, m1 * n, buff, 0, n);
-        System.arraycopy(data, m2 * n, data, m1 * n, n);
-        System.arraycopy(buff, 0, data, m2 * n, n);
+        Object array = data != null ? data : floats;
+        Object buff = data != null ? new double[n] : new float[n];
+        System.arraycopy(array, m1 * n, buff, 0, n);
+        System.arraycopy(array, m2 * n, array, m1 * n, n);
+        System.arraycopy(buff, 0, array, m2 * n, n);
     }
 
     /**
@@ -168,9 +310,15 @@ public class Matrix2D {
         }
 
         for (int i = 0; i < m; i++) {
-            var tmp = data[i * n + n1];
-            data[i * n + n1] = data[i * n + n2];
-            data[i * n + n2] = tmp;
+            if (data != null) {
+                var tmp = data[i * n + n1];
+                data[i * n + n1] = data[i * n + n2];
+                data[i * n + n2] = tmp;
+            } else {
+                var tmp = floats[i * n + n1];
+                floats[i * n + n1] = floats[i * n + n2];
+                floats[i * n + n2] = tmp;
+            }
         }
     }
 }
@@ -0,0 +1,131 @@
+package io.github.andreipunko.math.matrix;
+
+import lombok.Getter;
+
+/**
+ * Represents a three-dimensional array of real numbers with fixed dimensions, organized as {@code l} layers of
+ * {@code m}&times;{@code n} matrices. Like {@link Matrix2D}, it stores the data in a single-dimensional array:
+ * the element (k,i,j) is stored at index (k*m + i)*n + j, so every layer is a contiguous row-major block.
+ *
+ * @see Matrix2D
+ */
+public class Matrix3D {
+
+    @Getter
+    private final int l;  // number of layers
+    @Getter
+    private final int m;  // number of rows in each layer
+    @Getter
+    private final int n;  // number of columns in each layer
+    private final double[] data;  // underlying array storing elements layer by layer in row-major order
+
+    /**
+     * Creates a new three-dimensional array with specified dimensions, initialized with zeros.
+     *
+     * @param l number of layers (must be positive)
+     * @param m number of rows in each layer (must be positive)
+     * @param n number of columns in each layer (must be positive)
+     * @throws IllegalArgumentException if l &lt;= 0, m &lt;= 0, n &lt;= 0, or the total size exceeds the maximum
+     *                                  array length
+     */
+    public Matrix3D(int l, int m, int n) {
+        if (l <= 0 || m <= 0 || n <= 0) {
+            throw new IllegalArgumentException("l, m and n must be positive, got l=" + l + ", m=" + m + ", n=" + n);
+        }
+        if ((long) l * m * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("total size too large: " + l + "x" + m + "x" + n);
+        }
+
+        this.l = l;
+        this.m = m;
+        this.n = n;
+        data = new double[l * m * n];
+    }
+
+    /**
+     * Sets a value at the specified position (k,i,j).
+     *
+     * @param k     layer index (0 &lt;= k &lt; l)
+     * @param i     row index (0 &lt;= i &lt; m)
+     * @param j     column index (0 &lt;= j &lt; n)
+     * @param value value to set
+     * @throws IllegalArgumentException if any index is out of bounds
+     */
+    public void set(int k, int i, int j, double value) {
+        checkIndices(k, i, j);
+        data[(k * m + i) * n + j] = value;
+    }
+
+    /**
+     * Returns the value at the specified position (k,i,j).
+     *
+     * @param k layer index (0 &lt;= k &lt; l)
+     * @param i row index (0 &lt;= i &lt; m)
+     * @param j column index (0 &lt;= j &lt; n)
+     * @return value at position (k,i,j)
+     * @throws IllegalArgumentException if any index is out of bounds
+     */
+    public double get(int k, int i, int j) {
+        checkIndices(k, i, j);
+        return data[(k * m + i) * n + j];
+    }
+
+    /**
+     * Sets an entire layer from the provided array in row-major order.
+     *
+     * @param k   layer index (0 &lt;= k &lt; l)
+     * @param arr array of m*n values
+     * @throws IllegalArgumentException if k is out of bounds or arr.length != m*n
+     */
+    public void setLayer(int k, double[] arr) {
+        checkLayer(k);
+        if (arr == null || arr.length != m * n) {
+            throw new IllegalArgumentException("layer array length must be " + m * n + ", got " + (arr == null ? "null" : arr.length));
+        }
+        System.arraycopy(arr, 0, data, k * m * n, arr.length);
+    }
+
+    /**
+     * Sets all elements from the provided array in storage order (layer by layer, each layer in row-major order).
+     *
+     * @param arr array of l*m*n values
+     * @throws IllegalArgumentException if arr.length != l*m*n
+     */
+    public void setAll(double[] arr) {
+        if (arr == null || arr.length != data.length) {
+            throw new IllegalArgumentException("array length must be " + data.length + ", got " + (arr == null ? "null" : arr.length));
+        }
+        System.arraycopy(arr, 0, data, 0, arr.length);
+    }
+
+    /**
+     * Returns a copy of the specified layer as a matrix.
+     *
+     * @param k layer index (0 &lt;= k &lt; l)
+     * @return m&times;n matrix with the layer elements
+     * @throws IllegalArgumentException if k is out of bounds
+     */
+    public Matrix2D getLayer(int k) {
+        checkLayer(k);
+        var layer = new Matrix2D(m, n);
+        var row = new double[n];
+        for (int i = 0; i < m; i++) {
+            System.arraycopy(data, (k * m + i) * n, row, 0, n);
+            layer.setRow(i, row);
+        }
+        return layer;
+    }
+
+    private void checkLayer(int k) {
+        if (k < 0 || k >= l) {
+            throw new IllegalArgumentException("layer index k out of bounds: " + k + ", valid [0, " + (l - 1) + "]");
+        }
+    }
+
+    private void checkIndices(int k, int i, int j) {
+        if (k < 0 || k >= l || i < 0 || i >= m || j < 0 || j >= n) {
+            throw new IllegalArgumentException(
+                    "indices (k,i,j) out of bounds: (" + k + "," + i + "," + j + "), size " + l + "x" + m + "x" + n);
+        }
+    }
+}
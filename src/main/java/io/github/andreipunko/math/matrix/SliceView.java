@@ -0,0 +1,70 @@
+package io.github.andreipunko.math.matrix;
+
+/**
+ * Read-only (x,y) pairs given by two views of the same size: the counterpart of {@link MatrixXY} which does not
+ * copy its coordinates and values.
+ *
+ * @param x view of the x-coordinates
+ * @param y view of the y-coordinates
+ * @see VectorView
+ * @see MatrixXY
+ */
+public record SliceView(VectorView x, VectorView y) {
+
+    /**
+     * Validates record components before the instance is created.
+     *
+     * @throws IllegalArgumentException if x or y is null, or if their sizes differ
+     */
+    public SliceView {
+        if (x == null || y == null) {
+            throw new IllegalArgumentException("x and y must not be null");
+        }
+        if (x.size() != y.size()) {
+            throw new IllegalArgumentException("x and y must have the same size, got " + x.size() + " and " + y.size());
+        }
+    }
+
+    /**
+     * Returns the number of coordinate pairs.
+     *
+     * @return size of the slice
+     */
+    public int size() {
+        return x.size();
+    }
+
+    /**
+     * Returns the x-coordinate at the specified index.
+     *
+     * @param i index of the coordinate pair (0 &lt;= i &lt; size)
+     * @return x-coordinate value
+     * @throws IllegalArgumentException if i &lt; 0 or i &gt;= size
+     */
+    public double x(int i) {
+        return x.get(i);
+    }
+
+    /**
+     * Returns the y-coordinate at the specified index.
+     *
+     * @param i index of the coordinate pair (0 &lt;= i &lt; size)
+     * @return y-coordinate value
+     * @throws IllegalArgumentException if i &lt; 0 or i &gt;= size
+     */
+    public double y(int i) {
+        return y.get(i);
+    }
+
+    /**
+     * Returns a copy of the slice as a matrix.
+     *
+     * @return new MatrixXY with the coordinate pairs
+     */
+    public MatrixXY toMatrixXY() {
+        var result = new MatrixXY(size());
+        result.setRow(0, x.toArray());
+        result.setRow(1, y.toArray());
+        return result;
+    }
+}
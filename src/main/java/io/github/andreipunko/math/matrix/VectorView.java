@@ -0,0 +1,156 @@
+package io.github.andreipunko.math.matrix;
+
+import java.util.Arrays;
+
+/**
+ * Read-only view of a sequence of real numbers stored in an array of another object, for example a row or a column
+ * of a {@link Matrix2D}: element k is read from index {@code offset + k * stride} of the backing array, without
+ * copying. Elements of a float backing array are widened to double on read.
+ * <p>
+ * A view reflects later changes of the backing array; it is meant for reading results which are no longer modified,
+ * such as plotting or reducing a slice of a solution. Copy it with {@link #toArray()} to keep the values.
+ *
+ * @see Matrix2D#rowView(int)
+ * @see Matrix2D#columnView(int)
+ */
+public final class VectorView {
+
+    private final double[] doubles;  // backing array, or null with a float backing array
+    private final float[] floats;  // backing array, or null with a double backing array
+    private final int offset;
+    private final int stride;
+    private final int size;
+
+    private VectorView(double[] doubles, float[] floats, int offset, int stride, int size) {
+        this.doubles = doubles;
+        this.floats = floats;
+        this.offset = offset;
+        this.stride = stride;
+        this.size = size;
+    }
+
+    /**
+     * Creates a view of a whole array. The array is not copied, so it must not be modified while the view is used.
+     *
+     * @param values backing array (must not be empty)
+     * @return view of the array
+     * @throws IllegalArgumentException if values is null or empty
+     */
+    public static VectorView of(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("values must not be null or empty");
+        }
+        return new VectorView(values, null, 0, 1, values.length);
+    }
+
+    /**
+     * Creates a strided view of a double array; bounds are checked by the caller.
+     */
+    static VectorView of(double[] values, int offset, int stride, int size) {
+        return new VectorView(values, null, offset, stride, size);
+    }
+
+    /**
+     * Creates a strided view of a float array; bounds are checked by the caller.
+     */
+    static VectorView of(float[] values, int offset, int stride, int size) {
+        return new VectorView(null, values, offset, stride, size);
+    }
+
+    /**
+     * Returns the number of elements in the view.
+     *
+     * @return size of the view
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the distance between consecutive elements in the backing array: 1 for a row, the number of columns
+     * for a column of a matrix.
+     *
+     * @return stride of the view
+     */
+    public int stride() {
+        return stride;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param k index of the element (0 &lt;= k &lt; size)
+     * @return value of the element
+     * @throws IllegalArgumentException if k &lt; 0 or k &gt;= size
+     */
+    public double get(int k) {
+        if (k < 0 || k >= size) {
+            throw new IllegalArgumentException("index k out of bounds: " + k + ", valid [0, " + (size - 1) + "]");
+        }
+        return doubles != null ? doubles[offset + k * stride] : floats[offset + k * stride];
+    }
+
+    /**
+     * Returns the minimum element.
+     *
+     * @return minimum value
+     */
+    public double min() {
+        double min = Double.POSITIVE_INFINITY;
+        for (int k = 0, i = offset; k < size; k++, i += stride) {
+            min = Math.min(min, doubles != null ? doubles[i] : floats[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the maximum element.
+     *
+     * @return maximum value
+     */
+    public double max() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int k = 0, i = offset; k < size; k++, i += stride) {
+            max = Math.max(max, doubles != null ? doubles[i] : floats[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Copies the elements into an array.
+     *
+     * @param dest   destination array
+     * @param offset index in dest of the first element
+     * @throws IllegalArgumentException if dest is null or the elements do not fit into it from offset
+     */
+    public void copyTo(double[] dest, int offset) {
+        if (dest == null) {
+            throw new IllegalArgumentException("dest must not be null");
+        }
+        if (offset < 0 || offset > dest.length - size) {
+            throw new IllegalArgumentException(
+                    "offset out of bounds: " + offset + ", valid [0, " + (dest.length - size) + "]");
+        }
+        if (doubles != null && stride == 1) {
+            System.arraycopy(doubles, this.offset, dest, offset, size);
+            return;
+        }
+        for (int k = 0, i = this.offset; k < size; k++, i += stride) {
+            dest[offset + k] = doubles != null ? doubles[i] : floats[i];
+        }
+    }
+
+    /**
+     * Returns a copy of the elements.
+     *
+     * @return new array of size elements
+     */
+    public double[] toArray() {
+        if (doubles != null && stride == 1) {
+            return Arrays.copyOfRange(doubles, offset, offset + size);
+        }
+        var result = new double[size];
+        copyTo(result, 0);
+        return result;
+    }
+}
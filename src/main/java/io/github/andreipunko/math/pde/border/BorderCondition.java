@@ -7,16 +7,18 @@ import io.github.andreipunko.math.pde.equation.Equation;
  * Defines the contract for different types of boundary conditions that can be
  * applied to the spatial boundaries of the solution domain.
  * <p>
- * Three types of boundary conditions are supported:
+ * Four types of boundary conditions are supported:
  * <ul>
  *   <li>Dirichlet boundary condition (prescribed function value)</li>
  *   <li>Neumann boundary condition (prescribed derivative value)</li>
  *   <li>Robin boundary condition (mixed condition)</li>
+ *   <li>Periodic boundary condition (both ends joined into a ring)</li>
  * </ul>
  *
  * @see DirichletBorderCondition
  * @see NeumannBorderCondition
  * @see RobinBorderCondition
+ * @see PeriodicBorderCondition
  * @see Equation
  */
 public interface BorderCondition {
@@ -0,0 +1,22 @@
+package io.github.andreipunko.math.pde.border;
+
+/**
+ * Represents a periodic boundary condition for partial differential equations:
+ * <p>
+ * U(x₁,t) = U(x₂,t), ∂U/∂x(x₁,t) = ∂U/∂x(x₂,t)
+ * <p>
+ * The domain is closed into a ring (for example, a ring-shaped rod or a closed pipe), so the condition has no
+ * parameters. It describes both ends at once and must be set on the left and the right boundary together. The period
+ * is the length of the spatial grid {@code N*h}, so the spatial step should divide {@code x2 - x1}; coefficients of
+ * the equation are expected to be periodic too.
+ *
+ * @see BorderCondition
+ */
+public class PeriodicBorderCondition implements BorderCondition {
+
+    /**
+     * Creates a periodic boundary condition; use it for both the left and the right boundary of an equation.
+     */
+    public PeriodicBorderCondition() {
+    }
+}
@@ -147,4 +147,17 @@ public abstract class Equation {
     public double gF(double x, double t, double U) {
         return 0;
     }
+
+    /**
+     * Returns a stable key of the equation content, which lets
+     * {@link io.github.andreipunko.math.pde.solver.CachingEquationSolver} reuse solutions of equal equations.
+     * Two equations with equal keys must have equal solutions, so the key has to cover the domain, every parameter
+     * of the coefficient functions and of the border conditions, and must not depend on object identity.
+     * The default implementation returns null, which means the equation is not cached.
+     *
+     * @return content key, or null if solutions of the equation must not be cached
+     */
+    public String contentKey() {
+        return null;
+    }
 }
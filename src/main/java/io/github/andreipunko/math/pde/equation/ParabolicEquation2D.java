@@ -0,0 +1,165 @@
+package io.github.andreipunko.math.pde.equation;
+
+import io.github.andreipunko.math.pde.border.BorderCondition;
+import io.github.andreipunko.math.pde.solver.ParabolicEquation2DSolver;
+import lombok.Getter;
+
+/**
+ * Represents a parabolic partial differential equation with two spatial dimensions:
+ * <p>
+ * L(x,y,t,U)*∂U/∂t = ∂( K(x,y,t,U)*∂U/∂x )/∂x + ∂( K(x,y,t,U)*∂U/∂y )/∂y
+ * + Vx(x,y,t,U)*∂U/∂x + Vy(x,y,t,U)*∂U/∂y + F(x,y,t,U)
+ * <p>
+ * where U = U(x,y,t) is the unknown function (temperature of a plate, concentration, etc).
+ * <p>
+ * The equation is defined on the domain [x1,x2]&times;[y1,y2]&times;[0,t2] with a boundary condition on each edge
+ * of the rectangle. Boundary conditions depend on time only, so the prescribed value (derivative, ambient value) is
+ * the same along the whole edge. Coefficient functions have default implementations which can be overridden
+ * in the same way as in {@link Equation}.
+ *
+ * @see BorderCondition
+ * @see ParabolicEquation2DSolver
+ */
+@Getter
+public class ParabolicEquation2D {
+
+    private final double x1;
+    private final double x2;
+    private final double y1;
+    private final double y2;
+    private final double t2;
+    private final BorderCondition leftBorderCondition;
+    private final BorderCondition rightBorderCondition;
+    private final BorderCondition bottomBorderCondition;
+    private final BorderCondition topBorderCondition;
+
+    /**
+     * Creates a new two-dimensional parabolic equation with specified domain and boundary conditions.
+     *
+     * @param x1                    left boundary of the domain along x
+     * @param x2                    right boundary of the domain along x
+     * @param y1                    bottom boundary of the domain along y
+     * @param y2                    top boundary of the domain along y
+     * @param t2                    right boundary of the temporal domain
+     * @param leftBorderCondition   boundary condition at x = x1
+     * @param rightBorderCondition  boundary condition at x = x2
+     * @param bottomBorderCondition boundary condition at y = y1
+     * @param topBorderCondition    boundary condition at y = y2
+     * @throws IllegalArgumentException if a bound is not finite, if x1 &gt;= x2 or y1 &gt;= y2, if t2 &lt;= 0,
+     *                                  or if a border condition is null
+     */
+    public ParabolicEquation2D(double x1, double x2, double y1, double y2, double t2,
+                               BorderCondition leftBorderCondition,
+                               BorderCondition rightBorderCondition,
+                               BorderCondition bottomBorderCondition,
+                               BorderCondition topBorderCondition) {
+        if (leftBorderCondition == null || rightBorderCondition == null
+                || bottomBorderCondition == null || topBorderCondition == null) {
+            throw new IllegalArgumentException("border conditions must not be null");
+        }
+        if (!Double.isFinite(x1) || !Double.isFinite(x2) || !Double.isFinite(y1) || !Double.isFinite(y2)
+                || !Double.isFinite(t2)) {
+            throw new IllegalArgumentException("x1, x2, y1, y2 and t2 must be finite: x1=" + x1 + ", x2=" + x2
+                    + ", y1=" + y1 + ", y2=" + y2 + ", t2=" + t2);
+        }
+        if (x1 >= x2) {
+            throw new IllegalArgumentException("x1 must be < x2: x1=" + x1 + ", x2=" + x2);
+        }
+        if (y1 >= y2) {
+            throw new IllegalArgumentException("y1 must be < y2: y1=" + y1 + ", y2=" + y2);
+        }
+        if (t2 <= 0) {
+            throw new IllegalArgumentException("t2 must be positive, got: " + t2);
+        }
+        this.x1 = x1;
+        this.x2 = x2;
+        this.y1 = y1;
+        this.y2 = y2;
+        this.t2 = t2;
+        this.leftBorderCondition = leftBorderCondition;
+        this.rightBorderCondition = rightBorderCondition;
+        this.bottomBorderCondition = bottomBorderCondition;
+        this.topBorderCondition = topBorderCondition;
+    }
+
+    /**
+     * Returns the initial condition U(x,y) at time t = 0.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @return initial value U(x,y,0)
+     */
+    public double gU0(double x, double y) {
+        return 0;
+    }
+
+    /**
+     * Returns the coefficient L(x,y,t,U) of the time derivative term.
+     * The default implementation returns 1.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,t)
+     * @return coefficient L(x,y,t,U)
+     */
+    public double gL(double x, double y, double t, double U) {
+        return 1;
+    }
+
+    /**
+     * Returns the coefficient K(x,y,t,U) of the second-order space derivative terms.
+     * The default implementation returns 1.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,t)
+     * @return coefficient K(x,y,t,U)
+     */
+    public double gK(double x, double y, double t, double U) {
+        return 1;
+    }
+
+    /**
+     * Returns the coefficient Vx(x,y,t,U) of the first-order derivative term along x.
+     * The default implementation returns 0.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,t)
+     * @return coefficient Vx(x,y,t,U)
+     */
+    public double gVx(double x, double y, double t, double U) {
+        return 0;
+    }
+
+    /**
+     * Returns the coefficient Vy(x,y,t,U) of the first-order derivative term along y.
+     * The default implementation returns 0.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,t)
+     * @return coefficient Vy(x,y,t,U)
+     */
+    public double gVy(double x, double y, double t, double U) {
+        return 0;
+    }
+
+    /**
+     * Returns the source term F(x,y,t,U) of the equation.
+     * The default implementation returns 0.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,t)
+     * @return source term F(x,y,t,U)
+     */
+    public double gF(double x, double y, double t, double U) {
+        return 0;
+    }
+}
@@ -0,0 +1,201 @@
+package io.github.andreipunko.math.pde.equation;
+
+import io.github.andreipunko.math.pde.border.BorderCondition;
+import io.github.andreipunko.math.pde.solver.ParabolicEquation3DSolver;
+import lombok.Getter;
+
+/**
+ * Represents a parabolic partial differential equation with three spatial dimensions:
+ * <p>
+ * L*∂U/∂t = ∂( K*∂U/∂x )/∂x + ∂( K*∂U/∂y )/∂y + ∂( K*∂U/∂z )/∂z + Vx*∂U/∂x + Vy*∂U/∂y + Vz*∂U/∂z + F
+ * <p>
+ * where U = U(x,y,z,t) is the unknown function and all coefficients are functions of (x,y,z,t,U).
+ * <p>
+ * The equation is defined on the domain [x1,x2]&times;[y1,y2]&times;[z1,z2]&times;[0,t2] with a boundary condition
+ * on each face of the box. As in {@link ParabolicEquation2D}, boundary conditions depend on time only.
+ *
+ * @see BorderCondition
+ * @see ParabolicEquation3DSolver
+ */
+@Getter
+public class ParabolicEquation3D {
+
+    private final double x1;
+    private final double x2;
+    private final double y1;
+    private final double y2;
+    private final double z1;
+    private final double z2;
+    private final double t2;
+    private final BorderCondition leftBorderCondition;
+    private final BorderCondition rightBorderCondition;
+    private final BorderCondition bottomBorderCondition;
+    private final BorderCondition topBorderCondition;
+    private final BorderCondition frontBorderCondition;
+    private final BorderCondition backBorderCondition;
+
+    /**
+     * Creates a new three-dimensional parabolic equation with specified domain and boundary conditions.
+     *
+     * @param x1                    left boundary of the domain along x
+     * @param x2                    right boundary of the domain along x
+     * @param y1                    bottom boundary of the domain along y
+     * @param y2                    top boundary of the domain along y
+     * @param z1                    front boundary of the domain along z
+     * @param z2                    back boundary of the domain along z
+     * @param t2                    right boundary of the temporal domain
+     * @param leftBorderCondition   boundary condition at x = x1
+     * @param rightBorderCondition  boundary condition at x = x2
+     * @param bottomBorderCondition boundary condition at y = y1
+     * @param topBorderCondition    boundary condition at y = y2
+     * @param frontBorderCondition  boundary condition at z = z1
+     * @param backBorderCondition   boundary condition at z = z2
+     * @throws IllegalArgumentException if a bound is not finite, if x1 &gt;= x2, y1 &gt;= y2 or z1 &gt;= z2,
+     *                                  if t2 &lt;= 0, or if a border condition is null
+     */
+    public ParabolicEquation3D(double x1, double x2, double y1, double y2, double z1, double z2, double t2,
+                               BorderCondition leftBorderCondition,
+                               BorderCondition rightBorderCondition,
+                               BorderCondition bottomBorderCondition,
+                               BorderCondition topBorderCondition,
+                               BorderCondition frontBorderCondition,
+                               BorderCondition backBorderCondition) {
+        if (leftBorderCondition == null || rightBorderCondition == null
+                || bottomBorderCondition == null || topBorderCondition == null
+                || frontBorderCondition == null || backBorderCondition == null) {
+            throw new IllegalArgumentException("border conditions must not be null");
+        }
+        if (!Double.isFinite(x1) || !Double.isFinite(x2) || !Double.isFinite(y1) || !Double.isFinite(y2)
+                || !Double.isFinite(z1) || !Double.isFinite(z2) || !Double.isFinite(t2)) {
+            throw new IllegalArgumentException("x1, x2, y1, y2, z1, z2 and t2 must be finite: x1=" + x1 + ", x2=" + x2
+                    + ", y1=" + y1 + ", y2=" + y2 + ", z1=" + z1 + ", z2=" + z2 + ", t2=" + t2);
+        }
+        if (x1 >= x2) {
+            throw new IllegalArgumentException("x1 must be < x2: x1=" + x1 + ", x2=" + x2);
+        }
+        if (y1 >= y2) {
+            throw new IllegalArgumentException("y1 must be < y2: y1=" + y1 + ", y2=" + y2);
+        }
+        if (z1 >= z2) {
+            throw new IllegalArgumentException("z1 must be < z2: z1=" + z1 + ", z2=" + z2);
+        }
+        if (t2 <= 0) {
+            throw new IllegalArgumentException("t2 must be positive, got: " + t2);
+        }
+        this.x1 = x1;
+        this.x2 = x2;
+        this.y1 = y1;
+        this.y2 = y2;
+        this.z1 = z1;
+        this.z2 = z2;
+        this.t2 = t2;
+        this.leftBorderCondition = leftBorderCondition;
+        this.rightBorderCondition = rightBorderCondition;
+        this.bottomBorderCondition = bottomBorderCondition;
+        this.topBorderCondition = topBorderCondition;
+        this.frontBorderCondition = frontBorderCondition;
+        this.backBorderCondition = backBorderCondition;
+    }
+
+    /**
+     * Returns the initial condition U(x,y,z) at time t = 0.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param z spatial coordinate z
+     * @return initial value U(x,y,z,0)
+     */
+    public double gU0(double x, double y, double z) {
+        return 0;
+    }
+
+    /**
+     * Returns the coefficient L(x,y,z,t,U) of the time derivative term.
+     * The default implementation returns 1.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param z spatial coordinate z
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,z,t)
+     * @return coefficient L(x,y,z,t,U)
+     */
+    public double gL(double x, double y, double z, double t, double U) {
+        return 1;
+    }
+
+    /**
+     * Returns the coefficient K(x,y,z,t,U) of the second-order space derivative terms.
+     * The default implementation returns 1.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param z spatial coordinate z
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,z,t)
+     * @return coefficient K(x,y,z,t,U)
+     */
+    public double gK(double x, double y, double z, double t, double U) {
+        return 1;
+    }
+
+    /**
+     * Returns the coefficient Vx(x,y,z,t,U) of the first-order derivative term along x.
+     * The default implementation returns 0.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param z spatial coordinate z
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,z,t)
+     * @return coefficient Vx(x,y,z,t,U)
+     */
+    public double gVx(double x, double y, double z, double t, double U) {
+        return 0;
+    }
+
+    /**
+     * Returns the coefficient Vy(x,y,z,t,U) of the first-order derivative term along y.
+     * The default implementation returns 0.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param z spatial coordinate z
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,z,t)
+     * @return coefficient Vy(x,y,z,t,U)
+     */
+    public double gVy(double x, double y, double z, double t, double U) {
+        return 0;
+    }
+
+    /**
+     * Returns the coefficient Vz(x,y,z,t,U) of the first-order derivative term along z.
+     * The default implementation returns 0.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param z spatial coordinate z
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,z,t)
+     * @return coefficient Vz(x,y,z,t,U)
+     */
+    public double gVz(double x, double y, double z, double t, double U) {
+        return 0;
+    }
+
+    /**
+     * Returns the source term F(x,y,z,t,U) of the equation.
+     * The default implementation returns 0.
+     *
+     * @param x spatial coordinate x
+     * @param y spatial coordinate y
+     * @param z spatial coordinate z
+     * @param t time coordinate
+     * @param U value of the solution at (x,y,z,t)
+     * @return source term F(x,y,z,t,U)
+     */
+    public double gF(double x, double y, double z, double t, double U) {
+        return 0;
+    }
+}
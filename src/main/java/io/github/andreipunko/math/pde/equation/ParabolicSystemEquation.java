@@ -0,0 +1,149 @@
+package io.github.andreipunko.math.pde.equation;
+
+import io.github.andreipunko.math.pde.border.BorderCondition;
+import io.github.andreipunko.math.pde.solver.ParabolicSystemEquationSolver;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a system of {@code m} coupled one-dimensional parabolic equations:
+ * <p>
+ * L(x,t,U)*∂U/∂t = ∂( K(x,t,U)*∂U/∂x )/∂x + V(x,t,U)*∂U/∂x + F(x,t,U)
+ * <p>
+ * where U = U(x,t) is the vector of m unknown functions (for example, temperature and moisture content),
+ * L, K and V are m&times;m matrices and F is a vector of size m. Off-diagonal elements of the matrices couple
+ * the components; with diagonal matrices the system falls apart into m independent {@link ParabolicEquation}s.
+ * <p>
+ * The system is defined on the domain [x1,x2]&times;[0,t2]; every component has its own boundary conditions on the
+ * left and right boundaries. Coefficient methods fill a caller-provided array instead of returning a new one, so the
+ * solver can evaluate them on every node without allocations. Matrices are filled row-major: element (r,c) goes to
+ * index {@code r*m + c}. Every method must set all the elements of the array.
+ *
+ * @see BorderCondition
+ * @see ParabolicSystemEquationSolver
+ */
+@Getter
+public class ParabolicSystemEquation {
+
+    private final int m;
+    private final double x1;
+    private final double x2;
+    private final double t2;
+    private final List<BorderCondition> leftBorderConditions;
+    private final List<BorderCondition> rightBorderConditions;
+
+    /**
+     * Creates a new system of parabolic equations with specified domain and boundary conditions.
+     * The number of components is the number of border conditions on each side.
+     *
+     * @param x1                    left boundary of the spatial domain
+     * @param x2                    right boundary of the spatial domain
+     * @param t2                    right boundary of the temporal domain
+     * @param leftBorderConditions  boundary conditions of every component at x = x1
+     * @param rightBorderConditions boundary conditions of every component at x = x2
+     * @throws IllegalArgumentException if x1, x2 or t2 are not finite, if x1 &gt;= x2, if t2 &lt;= 0, if a list of
+     *                                  border conditions is null, empty or contains null, or if the lists have
+     *                                  different sizes
+     */
+    public ParabolicSystemEquation(double x1, double x2, double t2,
+                                   List<BorderCondition> leftBorderConditions,
+                                   List<BorderCondition> rightBorderConditions) {
+        if (leftBorderConditions == null || rightBorderConditions == null
+                || leftBorderConditions.stream().anyMatch(Objects::isNull)
+                || rightBorderConditions.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("border conditions must not be null");
+        }
+        if (leftBorderConditions.isEmpty() || leftBorderConditions.size() != rightBorderConditions.size()) {
+            throw new IllegalArgumentException("left and right border conditions must be non-empty and of the same size, got "
+                    + leftBorderConditions.size() + " and " + rightBorderConditions.size());
+        }
+        if (!Double.isFinite(x1) || !Double.isFinite(x2) || !Double.isFinite(t2)) {
+            throw new IllegalArgumentException("x1, x2 and t2 must be finite: x1=" + x1 + ", x2=" + x2 + ", t2=" + t2);
+        }
+        if (x1 >= x2) {
+            throw new IllegalArgumentException("x1 must be < x2: x1=" + x1 + ", x2=" + x2);
+        }
+        if (t2 <= 0) {
+            throw new IllegalArgumentException("t2 must be positive, got: " + t2);
+        }
+        this.m = leftBorderConditions.size();
+        this.x1 = x1;
+        this.x2 = x2;
+        this.t2 = t2;
+        this.leftBorderConditions = List.copyOf(leftBorderConditions);
+        this.rightBorderConditions = List.copyOf(rightBorderConditions);
+    }
+
+    /**
+     * Returns the initial condition of component {@code c} at time t = 0.
+     *
+     * @param x spatial coordinate
+     * @param c component index (0 &lt;= c &lt; m)
+     * @return initial value U_c(x,0)
+     */
+    public double gU0(double x, int c) {
+        return 0;
+    }
+
+    /**
+     * Fills the matrix L(x,t,U) of the time derivative term.
+     * The default implementation fills the identity matrix.
+     *
+     * @param x spatial coordinate
+     * @param t time coordinate
+     * @param U values of the components at (x,t) (m elements)
+     * @param L array of m*m elements which receives the matrix
+     */
+    public void gL(double x, double t, double[] U, double[] L) {
+        fillIdentity(L);
+    }
+
+    /**
+     * Fills the matrix K(x,t,U) of the second-order space derivative term.
+     * The default implementation fills the identity matrix.
+     *
+     * @param x spatial coordinate
+     * @param t time coordinate
+     * @param U values of the components at (x,t) (m elements)
+     * @param K array of m*m elements which receives the matrix
+     */
+    public void gK(double x, double t, double[] U, double[] K) {
+        fillIdentity(K);
+    }
+
+    /**
+     * Fills the matrix V(x,t,U) of the first-order space derivative term.
+     * The default implementation fills zeros.
+     *
+     * @param x spatial coordinate
+     * @param t time coordinate
+     * @param U values of the components at (x,t) (m elements)
+     * @param V array of m*m elements which receives the matrix
+     */
+    public void gV(double x, double t, double[] U, double[] V) {
+        Arrays.fill(V, 0, m * m, 0);
+    }
+
+    /**
+     * Fills the source term F(x,t,U).
+     * The default implementation fills zeros.
+     *
+     * @param x spatial coordinate
+     * @param t time coordinate
+     * @param U values of the components at (x,t) (m elements)
+     * @param F array of m elements which receives the source term
+     */
+    public void gF(double x, double t, double[] U, double[] F) {
+        Arrays.fill(F, 0, m, 0);
+    }
+
+    private void fillIdentity(double[] matrix) {
+        Arrays.fill(matrix, 0, m * m, 0);
+        for (int r = 0; r < m; r++) {
+            matrix[r * m + r] = 1;
+        }
+    }
+}
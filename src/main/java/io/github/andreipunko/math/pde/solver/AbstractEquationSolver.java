@@ -4,6 +4,7 @@ import io.github.andreipunko.math.matrix.Matrix2D;
 import io.github.andreipunko.math.pde.border.BorderCondition;
 import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
 import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.border.PeriodicBorderCondition;
 import io.github.andreipunko.math.pde.border.RobinBorderCondition;
 import io.github.andreipunko.math.pde.equation.Equation;
 import io.github.andreipunko.math.space.Area;
@@ -23,6 +24,11 @@ import io.github.andreipunko.math.space.Interval;
  */
 public abstract class AbstractEquationSolver<E extends Equation> implements EquationSolver<E> {
 
+    /**
+     * Relative tolerance of the check that the spatial step divides the period with periodic border conditions.
+     */
+    public static final double PERIOD_TOLERANCE = 1e-9;
+
     /**
      * Constructor for use by concrete solver subclasses.
      */
@@ -32,12 +38,17 @@ public abstract class AbstractEquationSolver<E extends Equation> implements Equa
     /**
      * Builds a space-time computational domain for the equation solution.
      * Creates a grid with specified spatial and temporal step sizes.
+     * <p>
+     * With periodic border conditions node N is joined to node 0, so the grid must end exactly at x2: otherwise the
+     * period would silently become N*h instead of x2 - x1. The step must divide the length (up to
+     * {@value #PERIOD_TOLERANCE} relative to the number of steps), and N is rounded rather than truncated.
      *
      * @param eqn the equation to solve
      * @param h   spatial step size (must be positive)
      * @param tau temporal step size (must be positive)
      * @return the computational domain with defined grid points
-     * @throws IllegalArgumentException if eqn is null, or if h or tau are not finite or not positive
+     * @throws IllegalArgumentException if eqn is null, if h or tau are not finite or not positive, or if the border
+     *                                  conditions are periodic and h does not divide x2 - x1
      */
     protected Area buildArea(Equation eqn, double h, double tau) {
         if (eqn == null) {
@@ -49,12 +60,83 @@ public abstract class AbstractEquationSolver<E extends Equation> implements Equa
         if (!Double.isFinite(tau) || tau <= 0) {
             throw new IllegalArgumentException("time step tau must be finite and positive, got: " + tau);
         }
+        var x = new Interval(eqn.getX1(), eqn.getX2(), h);
+        if (isPeriodic(eqn)) {
+            double steps = (eqn.getX2() - eqn.getX1()) / h,
+                    n = Math.rint(steps);
+            if (Math.abs(steps - n) > PERIOD_TOLERANCE * steps) {
+                throw new IllegalArgumentException("spatial step h must divide the period x2 - x1 = "
+                        + (eqn.getX2() - eqn.getX1()) + " with periodic border conditions, got: " + h);
+            }
+            x = new Interval(eqn.getX1(), eqn.getX2(), (int) n);
+        }
         return new Area(
-                new Interval(eqn.getX1(), eqn.getX2(), h),
+                x,
                 new Interval(0, eqn.getT2(), tau)
         );
     }
 
+    /**
+     * Builds the computational domain of a solution continued to a later end time: the spatial grid and the time step
+     * stay the same, the time axis is extended to {@code t2}.
+     *
+     * @param solution solution to continue
+     * @param t2       new right boundary of the temporal domain
+     * @return the extended computational domain; its first time layers coincide with the layers of the solution
+     * @throws IllegalArgumentException if solution is null, or if t2 is not finite or does not add a time layer
+     */
+    protected Area extendArea(Solution<? extends Equation> solution, double t2) {
+        if (solution == null) {
+            throw new IllegalArgumentException("solution must not be null");
+        }
+        var area = solution.area();
+        var last = area.tx(area.tn());
+        if (!Double.isFinite(t2) || t2 <= last) {
+            throw new IllegalArgumentException("t2 must be finite and greater than " + last + ", got: " + t2);
+        }
+        var t = new Interval(area.tLeft(), t2, area.t().h());
+        if (t.n() <= area.tn()) {
+            throw new IllegalArgumentException(
+                    "t2 must extend the time grid by at least one step of " + area.t().h() + ", got: " + t2);
+        }
+        return new Area(area.x(), t);
+    }
+
+    /**
+     * Checks that the layers of the area fit into the slots of the ring.
+     *
+     * @param ring ring the solver publishes the layers into
+     * @param area the computational domain
+     * @throws IllegalArgumentException if the layer size of the ring is not N+1
+     */
+    protected void checkLayerSize(LayerRingBuffer ring, Area area) {
+        if (ring.getLayerSize() != area.xn() + 1) {
+            throw new IllegalArgumentException(
+                    "ring layer size must be " + (area.xn() + 1) + " (N+1), got: " + ring.getLayerSize());
+        }
+    }
+
+    /**
+     * Builds the solution which ends at time layer {@code last}, when the time march stopped before the end of the
+     * area (on a steady state or on request of a {@link LayerObserver}). Returns null if the march did not store the
+     * layers (matrix is null).
+     */
+    static <T extends Equation> Solution<T> truncate(T eqn, Area area, Matrix2D matrix, int last,
+                                                     double steadyStateTime) {
+        if (matrix == null) {
+            return null;
+        }
+        if (last == area.tn()) {
+            return new Solution<>(eqn, area, matrix, steadyStateTime);
+        }
+        var truncated = new Matrix2D(last + 1, matrix.getN(), matrix.getStorage());
+        for (int j = 0; j <= last; j++) {
+            truncated.setRow(j, matrix.getRow(j));
+        }
+        var truncatedArea = new Area(area.x(), new Interval(area.tLeft(), area.tx(last), last));
+        return new Solution<>(eqn, truncatedArea, truncated, steadyStateTime);
+    }
+
     /**
      * Builds the grid {@link Matrix2D} filled with the initial condition on the first time row.
      * The same instance is updated during the time march and passed into {@link Solution#matrix()}.
@@ -64,13 +146,38 @@ public abstract class AbstractEquationSolver<E extends Equation> implements Equa
      * @return working grid matrix (becomes {@link Solution#matrix()} in the returned {@link Solution})
      */
     protected Matrix2D prepare(Equation eqn, Area area) {
-        // Create space for equation solution
-        var matrix = new Matrix2D(area.tn() + 1, area.xn() + 1);
-        // Set initial value
+        return prepare(area, initialLayer(eqn, area), Matrix2D.Storage.DOUBLE);
+    }
+
+    /**
+     * Builds the grid {@link Matrix2D} with given storage precision and the initial layer on the first time row.
+     * Solvers keep computing in double precision: with {@link Matrix2D.Storage#FLOAT} the layers are rounded only
+     * when they are stored, so the time march must not read its previous layers back from the matrix.
+     *
+     * @param area    the computational domain where the solution will be computed
+     * @param u0      initial layer of N+1 values (see {@link #initialLayer})
+     * @param storage precision of the stored layers
+     * @return working grid matrix (becomes {@link Solution#matrix()} in the returned {@link Solution})
+     */
+    protected Matrix2D prepare(Area area, double[] u0, Matrix2D.Storage storage) {
+        var matrix = new Matrix2D(area.tn() + 1, area.xn() + 1, storage);
+        matrix.setRow(0, u0);
+        return matrix;
+    }
+
+    /**
+     * Evaluates the initial condition at the nodes of the spatial grid.
+     *
+     * @param eqn  the equation to solve
+     * @param area the computational domain
+     * @return initial layer of N+1 values
+     */
+    protected double[] initialLayer(Equation eqn, Area area) {
+        var u0 = new double[area.xn() + 1];
         for (var i = 0; i <= area.xn(); i++) {
-            matrix.set(0, i, eqn.gU0(area.xx(i)));
+            u0[i] = eqn.gU0(area.xx(i));
         }
-        return matrix;
+        return u0;
     }
 
     /**
@@ -139,6 +246,76 @@ public abstract class AbstractEquationSolver<E extends Equation> implements Equa
         return Y;
     }
 
+    /**
+     * Solves a cyclic tridiagonal system of linear algebraic equations, which arises from periodic boundary
+     * conditions. The system has the form: A[i]*y[i-1] - C[i]*y[i] + B[i]*y[i+1] = -F[i], 0&lt;=i&lt;N,
+     * where indices are taken modulo N (y[-1] = y[N-1], y[N] = y[0]), so row 0 is an equation too.
+     * <p>
+     * The corner elements A[0] and B[N-1] make the matrix a rank-one update of a tridiagonal one, which is solved by the
+     * Sherman-Morrison formula: the tridiagonal matrix is factored once and the Thomas back substitution is run for two
+     * right-hand sides, so the cost is about twice that of {@link #solve3DiagonalEquationsSystem}.
+     *
+     * @param A coefficients for y[i-1] terms
+     * @param B coefficients for y[i+1] terms
+     * @param C coefficients for y[i] terms
+     * @param F right-hand side terms
+     * @return solution vector Y[i] of N+1 elements; Y[N] repeats Y[0] so that it can be stored as a grid row
+     * @throws IllegalArgumentException if arrays are null or have different lengths, if N &lt; 3, or if a denominator
+     *                                  of the elimination is zero or numerically too small
+     */
+    public static double[] solveCyclic3DiagonalEquationsSystem(double[] A, double[] B, double[] C, double[] F) {
+        if (A == null || B == null || C == null || F == null) {
+            throw new IllegalArgumentException("coefficient arrays A, B, C, F must not be null");
+        }
+        int N = A.length;
+        if (N != B.length || N != C.length || N != F.length) {
+            throw new IllegalArgumentException(
+                    "A, B, C, F must have the same length; got " + N + ", " + B.length + ", " + C.length + ", " + F.length);
+        }
+        if (N < 3) {
+            throw new IllegalArgumentException("cyclic system size must be at least 3, got: " + N);
+        }
+        // In the form a[i]*y[i-1] + b[i]*y[i] + c[i]*y[i+1] = r[i] the corners are beta = a[0] (top right) and
+        // alpha = c[N-1] (bottom left). The matrix is T + u*v' with u = (gamma, 0, ..., 0, alpha),
+        // v = (1, 0, ..., 0, beta/gamma) and T tridiagonal with b[0] and b[N-1] corrected.
+        double
+                beta = A[0],
+                alpha = B[N - 1],
+                gamma = C[0];       // -b[0]: keeps the corrected diagonal of T away from zero
+        var cp = new double[N];
+        var x = new double[N];
+        var z = new double[N];
+
+        // Forward phase for both right-hand sides r = -F and u
+        double m = divideThomas(1, -C[0] - gamma, "cyclic forward sweep, row index 0");
+        cp[0] = B[0] * m;
+        x[0] = -F[0] * m;
+        z[0] = gamma * m;
+        for (int i = 1; i < N; i++) {
+            double b = i == N - 1 ? -C[i] - alpha * beta / gamma : -C[i];
+            m = divideThomas(1, b - A[i] * cp[i - 1], "cyclic forward sweep, row index " + i);
+            cp[i] = B[i] * m;
+            x[i] = (-F[i] - A[i] * x[i - 1]) * m;
+            z[i] = ((i == N - 1 ? alpha : 0) - A[i] * z[i - 1]) * m;
+        }
+
+        // Backward phase for both right-hand sides
+        for (int i = N - 2; i >= 0; i--) {
+            x[i] -= cp[i] * x[i + 1];
+            z[i] -= cp[i] * z[i + 1];
+        }
+
+        // Sherman-Morrison correction: y = x - (v'x)/(1 + v'z)*z
+        double factor = divideThomas(x[0] + beta * x[N - 1] / gamma, 1 + z[0] + beta * z[N - 1] / gamma,
+                "cyclic correction");
+        var Y = new double[N + 1];
+        for (int i = 0; i < N; i++) {
+            Y[i] = x[i] - factor * z[i];
+        }
+        Y[N] = Y[0];
+        return Y;
+    }
+
     /**
      * Divides {@code numerator} by {@code denominator} for the Thomas algorithm, rejecting non-finite values and
      * near-zero denominators relative to the magnitude of the operands.
@@ -161,6 +338,22 @@ public abstract class AbstractEquationSolver<E extends Equation> implements Equa
         return q;
     }
 
+    /**
+     * Checks whether the equation has periodic boundary conditions, which must be set on both boundaries together.
+     *
+     * @param eqn the equation to check
+     * @return true if both border conditions are {@link PeriodicBorderCondition}
+     * @throws IllegalArgumentException if only one of the border conditions is periodic
+     */
+    protected boolean isPeriodic(Equation eqn) {
+        boolean left = eqn.getLeftBorderCondition() instanceof PeriodicBorderCondition,
+                right = eqn.getRightBorderCondition() instanceof PeriodicBorderCondition;
+        if (left != right) {
+            throw new IllegalArgumentException("periodic border condition must be set on both boundaries");
+        }
+        return left;
+    }
+
     /**
      * Calculates Kappa and Nu parameters for the tridiagonal algorithm based on boundary conditions.
      * These parameters are used to incorporate different types of boundary conditions into the solution.
@@ -169,10 +362,18 @@ public abstract class AbstractEquationSolver<E extends Equation> implements Equa
      * @param h               spatial step size
      * @param time            current time point
      * @return KappaNu record containing calculated parameters
-     * @throws IllegalArgumentException if borderCondition is null
+     * @throws IllegalArgumentException if borderCondition is null or periodic (see {@link #isPeriodic})
      * @throws IllegalStateException if an unsupported boundary condition type is encountered
      */
     protected KappaNu calcKappaNu(BorderCondition borderCondition, double h, double time) {
+        return kappaNu(borderCondition, h, time);
+    }
+
+    /**
+     * Implementation of {@link #calcKappaNu}; package-private so that solvers which do not handle a single
+     * {@link Equation} (multidimensional ones) can share the boundary handling.
+     */
+    static KappaNu kappaNu(BorderCondition borderCondition, double h, double time) {
         if (borderCondition == null) {
             throw new IllegalArgumentException("borderCondition must not be null");
         }
@@ -187,6 +388,10 @@ public abstract class AbstractEquationSolver<E extends Equation> implements Equa
                 yield new KappaNu(kappa, h * lh * kappa * condition.gTheta(time));
             }
 
+            case PeriodicBorderCondition condition -> throw new IllegalArgumentException(
+                    "periodic border conditions are handled as a pair by the cyclic tridiagonal solver and are not "
+                            + "supported here");
+
             default -> throw new IllegalStateException("Unexpected border condition type: " + borderCondition);
         };
     }
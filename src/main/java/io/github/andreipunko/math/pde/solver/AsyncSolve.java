@@ -0,0 +1,78 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.equation.Equation;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Runs a time march on an executor and applies {@link SolveControl} to it through {@link LayerObserver}.
+ *
+ * @param <E> the type of equation being solved
+ */
+class AsyncSolve<E extends Equation> implements LayerObserver {
+
+    private final SolveControl control;
+    private final CompletableFuture<Solution<E>> future = new CompletableFuture<>();
+    private boolean deadlineExceeded;
+
+    private AsyncSolve(SolveControl control) {
+        this.control = control;
+    }
+
+    /**
+     * Submits the march to the executor.
+     *
+     * @param control  settings of the solve
+     * @param executor executor to run the march on
+     * @param march    time march which reports every layer to the given observer
+     * @return future of the solution
+     */
+    static <E extends Equation> CompletableFuture<Solution<E>> submit(SolveControl control, Executor executor,
+                                                                      Function<LayerObserver, Solution<E>> march) {
+        if (control == null || executor == null) {
+            throw new IllegalArgumentException("control and executor must not be null");
+        }
+        var solve = new AsyncSolve<E>(control);
+        executor.execute(() -> solve.run(march));
+        return solve.future;
+    }
+
+    private void run(Function<LayerObserver, Solution<E>> march) {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            var solution = march.apply(this);
+            if (deadlineExceeded && control.deadlinePolicy() == SolveControl.DeadlinePolicy.FAIL) {
+                future.completeExceptionally(new TimeoutException("deadline " + control.deadline()
+                        + " exceeded at time " + solution.area().tRight()));
+            } else {
+                future.complete(solution);
+            }
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public boolean onLayer(int step, int total, double time, double[] layer) {
+        if (step % control.checkInterval() != 0 && step != total) {
+            return true;
+        }
+        if (control.progressListener() != null) {
+            control.progressListener().onProgress(step, total);
+        }
+        if (future.isCancelled()) {
+            return false;
+        }
+        if (step < total && control.deadline() != null && !Instant.now().isBefore(control.deadline())) {
+            deadlineExceeded = true;
+            return false;
+        }
+        return true;
+    }
+}
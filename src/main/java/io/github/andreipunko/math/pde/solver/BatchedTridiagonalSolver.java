@@ -0,0 +1,253 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.solver.AbstractEquationSolver.KappaNu;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static io.github.andreipunko.math.pde.solver.AbstractEquationSolver.divideThomas;
+
+/**
+ * Thomas algorithm for a batch of independent tridiagonal systems of the same size, each of the form of
+ * {@link AbstractEquationSolver#solve3DiagonalEquationsSystem}:
+ * <p>
+ * A[i]*y[i-1] - C[i]*y[i] + B[i]*y[i+1] = -F[i], 0&lt;i&lt;N
+ * <p>
+ * with its own border conditions y[0] = kappa*y[1] + nu and y[N] = kappa*y[N-1] + nu.
+ * <p>
+ * All arrays hold N+1 rows of every system; element (row i, system s) is stored at index
+ * {@code i*rowStride + s*systemStride} (see {@link Layout}). Rows 0 and N of A, B, C and F are not used.
+ * The systems are eliminated in lock-step: every loop over a row runs over all systems, so with the
+ * {@link Layout#interleaved interleaved} layout (systems fastest) the inner loops are contiguous and vectorized by
+ * the JIT compiler. The results are identical to solving the systems one by one.
+ * <p>
+ * With an executor the batch is split into chunks of systems which are solved in parallel. An instance keeps its
+ * work arrays between calls, so instances are not thread-safe.
+ */
+public class BatchedTridiagonalSolver {
+
+    private static final double RELATIVE_TOLERANCE = 1e-14;
+
+    /**
+     * Storage of a batch: element (row i, system s) is stored at index {@code i*rowStride + s*systemStride}.
+     *
+     * @param rowStride    distance between consecutive rows of a system (must be positive)
+     * @param systemStride distance between the same rows of consecutive systems (must be positive)
+     */
+    public record Layout(int rowStride, int systemStride) {
+
+        /**
+         * Validates record components before the instance is created.
+         *
+         * @throws IllegalArgumentException if a stride is not positive
+         */
+        public Layout {
+            if (rowStride <= 0 || systemStride <= 0) {
+                throw new IllegalArgumentException(
+                        "strides must be positive, got rowStride=" + rowStride + ", systemStride=" + systemStride);
+            }
+        }
+
+        /**
+         * Returns the layout where the values of all systems at a row are contiguous (systems fastest); this is the
+         * fast layout.
+         *
+         * @param systems number of systems in the batch
+         * @return layout with {@code rowStride = systems} and {@code systemStride = 1}
+         * @throws IllegalArgumentException if systems &lt;= 0
+         */
+        public static Layout interleaved(int systems) {
+            return new Layout(systems, 1);
+        }
+
+        /**
+         * Returns the layout where every system is stored contiguously, one after another.
+         *
+         * @param N number of steps of a system (a system has N+1 rows)
+         * @return layout with {@code rowStride = 1} and {@code systemStride = N+1}
+         * @throws IllegalArgumentException if N &lt; 0
+         */
+        public static Layout sequential(int N) {
+            return new Layout(1, N + 1);
+        }
+    }
+
+    private final int systems;
+    private final int N;
+    private final Executor executor;
+    private final int chunkSize;
+    private final double[] alpha;   // Alpha of every system, interleaved
+    private final double[] beta;    // Beta of every system, interleaved
+    private final double[] den;     // denominators of the current row
+
+    /**
+     * Creates a solver which solves the whole batch in the calling thread.
+     *
+     * @param systems number of systems in the batch (must be positive)
+     * @param N       number of steps of every system (must be positive)
+     * @throws IllegalArgumentException if systems &lt;= 0 or N &lt; 1
+     */
+    public BatchedTridiagonalSolver(int systems, int N) {
+        this(systems, N, null, systems);
+    }
+
+    /**
+     * Creates a solver which splits the batch into chunks of systems solved in parallel on the executor.
+     *
+     * @param systems   number of systems in the batch (must be positive)
+     * @param N         number of steps of every system (must be positive)
+     * @param executor  executor running the chunks, or null to solve the batch in the calling thread
+     * @param chunkSize number of systems in a chunk (must be positive)
+     * @throws IllegalArgumentException if systems &lt;= 0, N &lt; 1 or chunkSize &lt;= 0
+     */
+    public BatchedTridiagonalSolver(int systems, int N, Executor executor, int chunkSize) {
+        if (systems <= 0) {
+            throw new IllegalArgumentException("number of systems must be positive, got: " + systems);
+        }
+        if (N < 1) {
+            throw new IllegalArgumentException("number of steps N must be at least 1, got: " + N);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive, got: " + chunkSize);
+        }
+        if ((long) (N + 1) * systems > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("batch too large: " + systems + " systems of " + (N + 1) + " rows");
+        }
+        this.systems = systems;
+        this.N = N;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        alpha = new double[(N + 1) * systems];
+        beta = new double[(N + 1) * systems];
+        den = new double[systems];
+    }
+
+    /**
+     * Returns the number of systems in the batch.
+     *
+     * @return number of systems
+     */
+    public int getSystems() {
+        return systems;
+    }
+
+    /**
+     * Returns the number of steps of every system.
+     *
+     * @return N (a system has N+1 rows)
+     */
+    public int getN() {
+        return N;
+    }
+
+    /**
+     * Solves the batch.
+     *
+     * @param A      coefficients for y[i-1] terms
+     * @param B      coefficients for y[i+1] terms
+     * @param C      coefficients for y[i] terms
+     * @param F      right-hand side terms
+     * @param left   left border condition parameters of every system
+     * @param right  right border condition parameters of every system
+     * @param Y      array which receives the solutions
+     * @param layout storage of all the arrays
+     * @throws IllegalArgumentException if an argument is null, if an array is too short for the layout, if the
+     *                                  layout maps different elements to the same index, or if a denominator of
+     *                                  the elimination of a system is zero or numerically too small
+     */
+    public void solve(double[] A, double[] B, double[] C, double[] F, KappaNu[] left, KappaNu[] right, double[] Y,
+                      Layout layout) {
+        if (A == null || B == null || C == null || F == null || Y == null || layout == null) {
+            throw new IllegalArgumentException("arrays A, B, C, F, Y and layout must not be null");
+        }
+        if (left == null || right == null || left.length != systems || right.length != systems) {
+            throw new IllegalArgumentException("border condition parameters must have " + systems + " elements");
+        }
+        int R = layout.rowStride(),
+                S = layout.systemStride();
+        if (systems > 1 && R < (long) systems * S && S < (long) (N + 1) * R) {
+            throw new IllegalArgumentException("layout " + layout + " overlaps rows of " + systems
+                    + " systems of " + (N + 1) + " rows");
+        }
+        long size = (long) N * R + (long) (systems - 1) * S + 1;
+        for (var array : new double[][]{A, B, C, F, Y}) {
+            if (array.length < size) {
+                throw new IllegalArgumentException(
+                        "arrays must have at least " + size + " elements for layout " + layout + ", got "
+                                + array.length);
+            }
+        }
+
+        if (executor == null || systems <= chunkSize) {
+            solve(A, B, C, F, left, right, Y, R, S, 0, systems);
+            return;
+        }
+        var chunks = new ArrayList<CompletableFuture<Void>>();
+        for (int from = 0; from < systems; from += chunkSize) {
+            int s0 = from,
+                    s1 = Math.min(systems, from + chunkSize);
+            chunks.add(CompletableFuture.runAsync(() -> solve(A, B, C, F, left, right, Y, R, S, s0, s1), executor));
+        }
+        try {
+            CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Solves systems {@code s0 <= s < s1}; the work arrays are indexed by system, so chunks do not share elements.
+     */
+    private void solve(double[] A, double[] B, double[] C, double[] F, KappaNu[] left, KappaNu[] right, double[] Y,
+                       int R, int S, int s0, int s1) {
+        int M = systems;
+
+        // Forward phase
+        for (int s = s0; s < s1; s++) {
+            alpha[M + s] = left[s].kappa();
+            beta[M + s] = left[s].nu();
+        }
+        for (int i = 1; i < N; i++) {
+            int w = i * M,
+                    g = i * R;
+            for (int s = s0; s < s1; s++) {
+                int k = g + s * S;
+                den[s] = C[k] - A[k] * alpha[w + s];
+            }
+            for (int s = s0; s < s1; s++) {
+                double d = den[s],
+                        b = B[g + s * S];
+                if (!(Math.abs(d) > RELATIVE_TOLERANCE * Math.max(1.0, Math.abs(b) + Math.abs(d)))) {
+                    divideThomas(b, d, "system " + s + ", forward sweep (Alpha), row index " + i);
+                }
+            }
+            for (int s = s0; s < s1; s++) {
+                int k = g + s * S;
+                alpha[w + M + s] = B[k] / den[s];
+                beta[w + M + s] = (A[k] * beta[w + s] + F[k]) / den[s];
+            }
+        }
+
+        // Backward phase
+        int w = N * M,
+                g = N * R;
+        for (int s = s0; s < s1; s++) {
+            double kappa = right[s].kappa();
+            Y[g + s * S] = divideThomas(right[s].nu() + kappa * beta[w + s], 1 - kappa * alpha[w + s],
+                    "system " + s + ", right boundary (Y[N])");
+        }
+        for (int i = N - 1; i >= 0; i--) {
+            w = (i + 1) * M;
+            g = i * R;
+            for (int s = s0; s < s1; s++) {
+                int k = g + s * S;
+                Y[k] = alpha[w + s] * Y[k + R] + beta[w + s];
+            }
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.solver.AbstractEquationSolver.KappaNu;
+
+/**
+ * Block Thomas algorithm: the extension of {@link AbstractEquationSolver#solve3DiagonalEquationsSystem} to vector
+ * unknowns of size {@code m}. The system has the form
+ * <p>
+ * A[i]*Y[i-1] - C[i]*Y[i] + B[i]*Y[i+1] = -F[i], 0&lt;i&lt;N
+ * <p>
+ * where A[i], B[i], C[i] are m&times;m blocks and Y[i], F[i] are vectors of size m. Every component has its own
+ * border conditions Y[0][c] = kappa*Y[1][c] + nu and Y[N][c] = kappa*Y[N-1][c] + nu.
+ * <p>
+ * Blocks are stored row-major one after another in flat arrays: the block of row {@code i} starts at index
+ * {@code i*m*m}, the vector of row {@code i} at index {@code i*m}. Elements of row 0 are not used.
+ * <p>
+ * The dense blocks are inverted with explicit formulas for m &lt;= 3, by 2&times;2 block partitioning for m = 4
+ * and by Gauss-Jordan elimination with partial pivoting for larger blocks. An instance keeps its work arrays
+ * between calls, so repeated solves of systems of the same size do not allocate memory. Instances are therefore
+ * not thread-safe.
+ */
+public class BlockTridiagonalSolver {
+
+    private static final double RELATIVE_TOLERANCE = 1e-14;
+
+    private final int m;
+    private final int mm;
+    private double[] alpha = new double[0];
+    private double[] beta = new double[0];
+    private final double[] block;
+    private final double[] inverse;
+    private final double[] vector;
+    private final double[] work;
+
+    /**
+     * Creates a solver for blocks of size m&times;m.
+     *
+     * @param m number of unknowns per node (must be positive)
+     * @throws IllegalArgumentException if m &lt;= 0
+     */
+    public BlockTridiagonalSolver(int m) {
+        if (m <= 0) {
+            throw new IllegalArgumentException("block size m must be positive, got: " + m);
+        }
+        this.m = m;
+        this.mm = m * m;
+        block = new double[mm];
+        inverse = new double[mm];
+        vector = new double[m];
+        work = new double[2 * mm];
+    }
+
+    /**
+     * Returns the number of unknowns per node.
+     *
+     * @return block size m
+     */
+    public int getM() {
+        return m;
+    }
+
+    /**
+     * Solves the block tridiagonal system.
+     *
+     * @param A     blocks for Y[i-1] terms (N blocks)
+     * @param B     blocks for Y[i+1] terms (N blocks)
+     * @param C     blocks for Y[i] terms (N blocks)
+     * @param F     right-hand side vectors (N vectors)
+     * @param left  left border condition parameters of every component (m elements)
+     * @param right right border condition parameters of every component (m elements)
+     * @param Y     array of (N+1)*m elements which receives the solution
+     * @throws IllegalArgumentException if array sizes are inconsistent, or if a block to invert is singular or
+     *                                  numerically too close to singular
+     */
+    public void solve(double[] A, double[] B, double[] C, double[] F, KappaNu[] left, KappaNu[] right, double[] Y) {
+        if (A == null || B == null || C == null || F == null || Y == null) {
+            throw new IllegalArgumentException("arrays A, B, C, F, Y must not be null");
+        }
+        if (left == null || right == null || left.length != m || right.length != m) {
+            throw new IllegalArgumentException("border condition parameters must have " + m + " elements");
+        }
+        int N = F.length / m;
+        if (N < 1 || F.length != N * m || A.length != N * mm || B.length != N * mm || C.length != N * mm
+                || Y.length != (N + 1) * m) {
+            throw new IllegalArgumentException("inconsistent array sizes for block size " + m + ": A=" + A.length
+                    + ", B=" + B.length + ", C=" + C.length + ", F=" + F.length + ", Y=" + Y.length);
+        }
+        if (alpha.length < (N + 1) * mm) {
+            alpha = new double[(N + 1) * mm];
+            beta = new double[(N + 1) * m];
+        }
+
+        // Forward phase: Alpha[1] = diag(kappa), Beta[1] = nu from the left border conditions
+        for (int r = 0; r < m; r++) {
+            for (int c = 0; c < m; c++) {
+                alpha[mm + r * m + c] = r == c ? left[r].kappa() : 0;
+            }
+            beta[m + r] = left[r].nu();
+        }
+        for (int i = 1; i < N; i++) {
+            int b = i * mm,
+                    v = i * m;
+            // block = C[i] - A[i]*Alpha[i], vector = A[i]*Beta[i] + F[i]
+            for (int r = 0; r < m; r++) {
+                double s = F[v + r];
+                for (int k = 0; k < m; k++) {
+                    s += A[b + r * m + k] * beta[v + k];
+                }
+                vector[r] = s;
+                for (int c = 0; c < m; c++) {
+                    double d = C[b + r * m + c];
+                    for (int k = 0; k < m; k++) {
+                        d -= A[b + r * m + k] * alpha[b + k * m + c];
+                    }
+                    block[r * m + c] = d;
+                }
+            }
+            invert(block, inverse, "forward sweep, row index " + i);
+            // Alpha[i+1] = block^-1 * B[i], Beta[i+1] = block^-1 * vector
+            int nb = b + mm,
+                    nv = v + m;
+            for (int r = 0; r < m; r++) {
+                double s = 0;
+                for (int k = 0; k < m; k++) {
+                    s += inverse[r * m + k] * vector[k];
+                }
+                beta[nv + r] = s;
+                for (int c = 0; c < m; c++) {
+                    double d = 0;
+                    for (int k = 0; k < m; k++) {
+                        d += inverse[r * m + k] * B[b + k * m + c];
+                    }
+                    alpha[nb + r * m + c] = d;
+                }
+            }
+        }
+
+        // Backward phase: Y[N] = (I - kappa*Alpha[N])^-1 * (nu + kappa*Beta[N])
+        int b = N * mm,
+                v = N * m;
+        for (int r = 0; r < m; r++) {
+            double kappa = right[r].kappa();
+            vector[r] = right[r].nu() + kappa * beta[v + r];
+            for (int c = 0; c < m; c++) {
+                block[r * m + c] = (r == c ? 1 : 0) - kappa * alpha[b + r * m + c];
+            }
+        }
+        invert(block, inverse, "right boundary");
+        for (int r = 0; r < m; r++) {
+            double s = 0;
+            for (int k = 0; k < m; k++) {
+                s += inverse[r * m + k] * vector[k];
+            }
+            Y[v + r] = s;
+        }
+        for (int i = N - 1; i >= 0; i--) {
+            int nb = (i + 1) * mm,
+                    nv = (i + 1) * m;
+            for (int r = 0; r < m; r++) {
+                double s = beta[nv + r];
+                for (int k = 0; k < m; k++) {
+                    s += alpha[nb + r * m + k] * Y[nv + k];
+                }
+                Y[i * m + r] = s;
+            }
+        }
+    }
+
+    /**
+     * Inverts the m&times;m block {@code a} into {@code inv}.
+     */
+    private void invert(double[] a, double[] inv, String stage) {
+        switch (m) {
+            case 1 -> inv[0] = 1 / checkPivot(a[0], Math.abs(a[0]), stage);
+            case 2 -> invert2(a, 0, 2, inv, 0, 2, stage);
+            case 3 -> invert3(a, inv, stage);
+            case 4 -> invert4(a, inv, stage);
+            default -> invertGaussJordan(a, inv, stage);
+        }
+    }
+
+    private static double checkPivot(double pivot, double scale, String stage) {
+        if (!Double.isFinite(pivot) || Math.abs(pivot) <= RELATIVE_TOLERANCE * Math.max(scale, Double.MIN_NORMAL)) {
+            throw new IllegalArgumentException(
+                    "Block tridiagonal solver (" + stage + "): block is singular or ill-conditioned, pivot " + pivot);
+        }
+        return pivot;
+    }
+
+    /**
+     * Inverts the 2&times;2 block at offset {@code ao} with row stride {@code as} into {@code inv}.
+     */
+    private static void invert2(double[] a, int ao, int as, double[] inv, int io, int is, String stage) {
+        double
+                a00 = a[ao], a01 = a[ao + 1],
+                a10 = a[ao + as], a11 = a[ao + as + 1],
+                det = checkPivot(a00 * a11 - a01 * a10, Math.abs(a00 * a11) + Math.abs(a01 * a10), stage);
+        inv[io] = a11 / det;
+        inv[io + 1] = -a01 / det;
+        inv[io + is] = -a10 / det;
+        inv[io + is + 1] = a00 / det;
+    }
+
+    private static void invert3(double[] a, double[] inv, String stage) {
+        double
+                c00 = a[4] * a[8] - a[5] * a[7],
+                c01 = a[5] * a[6] - a[3] * a[8],
+                c02 = a[3] * a[7] - a[4] * a[6],
+                scale = Math.abs(a[0] * c00) + Math.abs(a[1] * c01) + Math.abs(a[2] * c02),
+                det = checkPivot(a[0] * c00 + a[1] * c01 + a[2] * c02, scale, stage);
+        inv[0] = c00 / det;
+        inv[1] = (a[2] * a[7] - a[1] * a[8]) / det;
+        inv[2] = (a[1] * a[5] - a[2] * a[4]) / det;
+        inv[3] = c01 / det;
+        inv[4] = (a[0] * a[8] - a[2] * a[6]) / det;
+        inv[5] = (a[2] * a[3] - a[0] * a[5]) / det;
+        inv[6] = c02 / det;
+        inv[7] = (a[1] * a[6] - a[0] * a[7]) / det;
+        inv[8] = (a[0] * a[4] - a[1] * a[3]) / det;
+    }
+
+    /**
+     * Inverts the 4&times;4 block [[P, Q], [R, S]] by the Schur complement of P: with W = P^-1,
+     * T = (S - R*W*Q)^-1 the inverse is [[W + W*Q*T*R*W, -W*Q*T], [-T*R*W, T]]. Falls back to Gauss-Jordan
+     * elimination when P is singular.
+     */
+    private void invert4(double[] a, double[] inv, String stage) {
+        double
+                p00 = a[0], p01 = a[1], p10 = a[4], p11 = a[5],
+                detP = p00 * p11 - p01 * p10;
+        if (!(Math.abs(detP) > RELATIVE_TOLERANCE * (Math.abs(p00 * p11) + Math.abs(p01 * p10)))) {
+            invertGaussJordan(a, inv, stage);
+            return;
+        }
+        double
+                w00 = p11 / detP, w01 = -p01 / detP, w10 = -p10 / detP, w11 = p00 / detP,
+                q00 = a[2], q01 = a[3], q10 = a[6], q11 = a[7],
+                r00 = a[8], r01 = a[9], r10 = a[12], r11 = a[13],
+                // WQ = W*Q, RW = R*W
+                wq00 = w00 * q00 + w01 * q10, wq01 = w00 * q01 + w01 * q11,
+                wq10 = w10 * q00 + w11 * q10, wq11 = w10 * q01 + w11 * q11,
+                rw00 = r00 * w00 + r01 * w10, rw01 = r00 * w01 + r01 * w11,
+                rw10 = r10 * w00 + r11 * w10, rw11 = r10 * w01 + r11 * w11;
+        // Schur complement S - R*W*Q into work, its inverse T into work[4..7]
+        work[0] = a[10] - (rw00 * q00 + rw01 * q10);
+        work[1] = a[11] - (rw00 * q01 + rw01 * q11);
+        work[2] = a[14] - (rw10 * q00 + rw11 * q10);
+        work[3] = a[15] - (rw10 * q01 + rw11 * q11);
+        invert2(work, 0, 2, work, 4, 2, stage);
+        double
+                t00 = work[4], t01 = work[5], t10 = work[6], t11 = work[7],
+                // WQT = W*Q*T, TRW = T*R*W
+                wqt00 = wq00 * t00 + wq01 * t10, wqt01 = wq00 * t01 + wq01 * t11,
+                wqt10 = wq10 * t00 + wq11 * t10, wqt11 = wq10 * t01 + wq11 * t11,
+                trw00 = t00 * rw00 + t01 * rw10, trw01 = t00 * rw01 + t01 * rw11,
+                trw10 = t10 * rw00 + t11 * rw10, trw11 = t10 * rw01 + t11 * rw11;
+        inv[0] = w00 + wqt00 * rw00 + wqt01 * rw10;
+        inv[1] = w01 + wqt00 * rw01 + wqt01 * rw11;
+        inv[4] = w10 + wqt10 * rw00 + wqt11 * rw10;
+        inv[5] = w11 + wqt10 * rw01 + wqt11 * rw11;
+        inv[2] = -wqt00;
+        inv[3] = -wqt01;
+        inv[6] = -wqt10;
+        inv[7] = -wqt11;
+        inv[8] = -trw00;
+        inv[9] = -trw01;
+        inv[12] = -trw10;
+        inv[13] = -trw11;
+        inv[10] = t00;
+        inv[11] = t01;
+        inv[14] = t10;
+        inv[15] = t11;
+    }
+
+    /**
+     * Gauss-Jordan elimination with partial pivoting on the augmented matrix [a | I] kept in {@code work}.
+     */
+    private void invertGaussJordan(double[] a, double[] inv, String stage) {
+        int w = 2 * m;
+        double[] g = work.length >= m * w ? work : new double[m * w];
+        double scale = 0;
+        for (int r = 0; r < m; r++) {
+            for (int c = 0; c < m; c++) {
+                g[r * w + c] = a[r * m + c];
+                g[r * w + m + c] = r == c ? 1 : 0;
+                scale = Math.max(scale, Math.abs(a[r * m + c]));
+            }
+        }
+        for (int col = 0; col < m; col++) {
+            int pivotRow = col;
+            for (int r = col + 1; r < m; r++) {
+                if (Math.abs(g[r * w + col]) > Math.abs(g[pivotRow * w + col])) {
+                    pivotRow = r;
+                }
+            }
+            if (pivotRow != col) {
+                for (int c = 0; c < w; c++) {
+                    double tmp = g[col * w + c];
+                    g[col * w + c] = g[pivotRow * w + c];
+                    g[pivotRow * w + c] = tmp;
+                }
+            }
+            double pivot = checkPivot(g[col * w + col], scale, stage);
+            for (int c = 0; c < w; c++) {
+                g[col * w + c] /= pivot;
+            }
+            for (int r = 0; r < m; r++) {
+                double factor = g[r * w + col];
+                if (r != col && factor != 0) {
+                    for (int c = 0; c < w; c++) {
+                        g[r * w + c] -= factor * g[col * w + c];
+                    }
+                }
+            }
+        }
+        for (int r = 0; r < m; r++) {
+            System.arraycopy(g, r * w + m, inv, r * m, m);
+        }
+    }
+}
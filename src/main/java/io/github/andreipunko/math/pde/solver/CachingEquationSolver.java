@@ -0,0 +1,436 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.space.Area;
+import io.github.andreipunko.math.space.Interval;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Solver which reuses solutions of equal equations. Equations opt in by returning a {@link Equation#contentKey()};
+ * solutions of other equations are always computed by the wrapped solver.
+ * <p>
+ * A solution is looked up by the solver key, the content key and the exact values of {@code h} and {@code tau} in
+ * two tiers:
+ * <ul>
+ * <li>memory: {@link Solution}s in least-recently-used order, evicted when their matrices exceed the memory size;</li>
+ * <li>disk (optional): one binary file of the grid per solution in a directory, evicted in least-recently-used
+ * order when the files exceed the disk size. Files survive a restart; a file which cannot be read is a miss.</li>
+ * </ul>
+ * Concurrent solves of the same key are collapsed: one thread computes the solution, the others wait for it.
+ * <p>
+ * Cached matrices are shared between all callers which receive them, so the returned solutions must not be modified.
+ *
+ * @param <E> the type of equation being solved
+ */
+public class CachingEquationSolver<E extends Equation> implements EquationSolver<E> {
+
+    private static final int MAGIC = 0x50444552;    // "PDER"
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".sol";
+    private static final long ENTRY_OVERHEAD = 256;
+
+    private final EquationSolver<E> solver;
+    private final String solverKey;
+    private final long memorySize;
+    private final Path directory;
+    private final long diskSize;
+
+    private final LinkedHashMap<String, Solution<E>> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryUsed;
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskUsed;
+    private final ConcurrentHashMap<String, CompletableFuture<Solution<E>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache which keeps solutions in memory only.
+     *
+     * @param solver     solver which computes missing solutions
+     * @param solverKey  key of the solver configuration (for example the scheme and its weight)
+     * @param memorySize number of bytes the cached matrices may take in memory (must be positive)
+     * @throws IllegalArgumentException if solver or solverKey is null, or if memorySize &lt;= 0
+     */
+    public CachingEquationSolver(EquationSolver<E> solver, String solverKey, long memorySize) {
+        this(solver, solverKey, memorySize, null, 0);
+    }
+
+    /**
+     * Creates a cache which keeps solutions in memory and in files of a directory. Solver keys tell apart the
+     * solutions of different solver configurations sharing one directory.
+     *
+     * @param solver     solver which computes missing solutions
+     * @param solverKey  key of the solver configuration (for example the scheme and its weight)
+     * @param memorySize number of bytes the cached matrices may take in memory (must be positive)
+     * @param directory  directory of the disk tier (created if missing), or null for no disk tier
+     * @param diskSize   number of bytes the files of the disk tier may take (must be positive with a directory)
+     * @throws IllegalArgumentException if solver or solverKey is null, if memorySize &lt;= 0, if diskSize &lt;= 0
+     *                                  with a directory, or if the directory cannot be created or listed
+     */
+    public CachingEquationSolver(EquationSolver<E> solver, String solverKey, long memorySize, Path directory,
+                                 long diskSize) {
+        if (solver == null || solverKey == null) {
+            throw new IllegalArgumentException("solver and solverKey must not be null");
+        }
+        if (memorySize <= 0) {
+            throw new IllegalArgumentException("memorySize must be positive, got: " + memorySize);
+        }
+        if (directory != null && diskSize <= 0) {
+            throw new IllegalArgumentException("diskSize must be positive, got: " + diskSize);
+        }
+        this.solver = solver;
+        this.solverKey = solverKey;
+        this.memorySize = memorySize;
+        this.directory = directory;
+        this.diskSize = diskSize;
+        if (directory != null) {
+            loadDiskIndex();
+        }
+    }
+
+    /**
+     * Returns the cached solution of the equation or solves it with the wrapped solver and caches the result.
+     *
+     * @param eqn the partial differential equation to solve (must not be null)
+     * @param h   spatial step size (must be finite and positive)
+     * @param tau temporal step size (must be finite and positive)
+     * @return {@link Solution} of the equation; its matrix may be shared with other callers
+     * @throws IllegalArgumentException see {@link EquationSolver#solve}
+     */
+    @Override
+    public Solution<E> solve(E eqn, double h, double tau) {
+        if (eqn == null) {
+            throw new IllegalArgumentException("eqn must not be null");
+        }
+        var content = eqn.contentKey();
+        if (content == null) {
+            return solver.solve(eqn, h, tau);
+        }
+        var key = solverKey + '\n' + content + '\n' + Double.toHexString(h) + '\n' + Double.toHexString(tau);
+        var cached = fromMemory(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return rebind(cached, eqn);
+        }
+
+        var future = new CompletableFuture<Solution<E>>();
+        var running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            try {
+                return rebind(running.join(), eqn);
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            var solution = compute(key, eqn, h, tau);
+            future.complete(solution);
+            return solution;
+        } catch (Throwable e) {
+            // Errors as well: the callers waiting for the future would block forever otherwise
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    /**
+     * Returns the number of solutions found in memory.
+     *
+     * @return number of memory hits
+     */
+    public long getMemoryHits() {
+        return memoryHits.sum();
+    }
+
+    /**
+     * Returns the number of solutions read from the disk tier.
+     *
+     * @return number of disk hits
+     */
+    public long getDiskHits() {
+        return diskHits.sum();
+    }
+
+    /**
+     * Returns the number of solutions computed by the wrapped solver for cacheable equations.
+     *
+     * @return number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of bytes taken by the cached matrices in memory.
+     *
+     * @return memory used
+     */
+    public long getMemoryUsed() {
+        synchronized (memory) {
+            return memoryUsed;
+        }
+    }
+
+    /**
+     * Returns the number of bytes taken by the files of the disk tier.
+     *
+     * @return disk space used, 0 without a disk tier
+     */
+    public long getDiskUsed() {
+        synchronized (disk) {
+            return diskUsed;
+        }
+    }
+
+    private Solution<E> compute(String key, E eqn, double h, double tau) {
+        // Another thread may have finished the same key between the lookup and the registration
+        var solution = fromMemory(key);
+        if (solution != null) {
+            memoryHits.increment();
+            return rebind(solution, eqn);
+        }
+        solution = directory == null ? null : fromDisk(key, eqn);
+        if (solution != null) {
+            diskHits.increment();
+        } else {
+            misses.increment();
+            solution = solver.solve(eqn, h, tau);
+            if (directory != null) {
+                toDisk(key, solution);
+            }
+        }
+        toMemory(key, solution);
+        return solution;
+    }
+
+    private Solution<E> rebind(Solution<E> solution, E eqn) {
+        return new Solution<>(eqn, solution.area(), solution.matrix(), solution.steadyStateTime());
+    }
+
+    private Solution<E> fromMemory(String key) {
+        synchronized (memory) {
+            return memory.get(key);
+        }
+    }
+
+    private void toMemory(String key, Solution<E> solution) {
+        long size = size(solution.matrix());
+        if (size > memorySize) {
+            return;
+        }
+        synchronized (memory) {
+            var previous = memory.put(key, solution);
+            memoryUsed += size - (previous == null ? 0 : size(previous.matrix()));
+            var it = memory.values().iterator();
+            while (memoryUsed > memorySize) {
+                memoryUsed -= size(it.next().matrix());
+                it.remove();
+            }
+        }
+    }
+
+    private static long size(Matrix2D matrix) {
+        return (long) matrix.getStorage().getBytes() * matrix.getM() * matrix.getN() + ENTRY_OVERHEAD;
+    }
+
+    private void loadDiskIndex() {
+        try {
+            Files.createDirectories(directory);
+            var files = new ArrayList<Path>();
+            try (var list = Files.list(directory)) {
+                list.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).forEach(files::add);
+            }
+            var modified = new LinkedHashMap<Path, FileTime>();
+            for (var file : files) {
+                modified.put(file, Files.getLastModifiedTime(file));
+            }
+            files.sort(Comparator.comparing(modified::get));
+            synchronized (disk) {
+                for (var file : files) {
+                    long size = Files.size(file);
+                    disk.put(file.getFileName().toString(), size);
+                    diskUsed += size;
+                }
+                evictDisk();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("cannot use cache directory " + directory, e);
+        }
+    }
+
+    private Solution<E> fromDisk(String key, E eqn) {
+        var name = fileName(key);
+        synchronized (disk) {
+            if (disk.get(name) == null) {
+                return null;
+            }
+        }
+        var file = directory.resolve(name);
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("not a cached solution: " + file);
+            }
+            var stored = new byte[in.readInt()];
+            in.readFully(stored);
+            if (!key.equals(new String(stored, StandardCharsets.UTF_8))) {
+                return null;
+            }
+            var x = readInterval(in);
+            var t = readInterval(in);
+            double steadyStateTime = in.readDouble();
+            var matrix = new Matrix2D(t.n() + 1, x.n() + 1);
+            var row = new double[x.n() + 1];
+            for (int j = 0; j <= t.n(); j++) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = in.readDouble();
+                }
+                matrix.setRow(j, row);
+            }
+            touch(file);
+            return new Solution<>(eqn, new Area(x, t), matrix, steadyStateTime);
+        } catch (IOException | IllegalArgumentException e) {
+            // A damaged or concurrently evicted file is a miss; the solution will be written again
+            removeFromDisk(name);
+            return null;
+        }
+    }
+
+    private void toDisk(String key, Solution<E> solution) {
+        var name = fileName(key);
+        var file = directory.resolve(name);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, name, ".tmp");
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                var stored = key.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(stored.length);
+                out.write(stored);
+                writeInterval(out, solution.area().x());
+                writeInterval(out, solution.area().t());
+                out.writeDouble(solution.steadyStateTime());
+                var matrix = solution.matrix();
+                for (int j = 0; j < matrix.getM(); j++) {
+                    for (var value : matrix.getRow(j)) {
+                        out.writeDouble(value);
+                    }
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            long size = Files.size(file);
+            synchronized (disk) {
+                var previous = disk.put(name, size);
+                diskUsed += size - (previous == null ? 0 : previous);
+                evictDisk();
+            }
+        } catch (IOException e) {
+            // The disk tier is best effort: the solution is still returned and cached in memory
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Nothing else to clean up
+                }
+            }
+        }
+    }
+
+    private void evictDisk() {
+        var it = disk.entrySet().iterator();
+        while (diskUsed > diskSize && it.hasNext()) {
+            var entry = it.next();
+            it.remove();
+            diskUsed -= entry.getValue();
+            try {
+                Files.deleteIfExists(directory.resolve(entry.getKey()));
+            } catch (IOException ignored) {
+                // The file is no longer indexed; it will be listed again after a restart
+            }
+        }
+    }
+
+    private void removeFromDisk(String name) {
+        synchronized (disk) {
+            var size = disk.remove(name);
+            if (size != null) {
+                diskUsed -= size;
+            }
+        }
+        try {
+            Files.deleteIfExists(directory.resolve(name));
+        } catch (IOException ignored) {
+            // Tried our best
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // Only the eviction order after a restart depends on it
+        }
+    }
+
+    private static void writeInterval(DataOutputStream out, Interval interval) throws IOException {
+        out.writeDouble(interval.left());
+        out.writeDouble(interval.right());
+        out.writeDouble(interval.h());
+        out.writeInt(interval.n());
+    }
+
+    private static Interval readInterval(DataInputStream in) throws IOException {
+        double left = in.readDouble(),
+                right = in.readDouble(),
+                h = in.readDouble();
+        int n = in.readInt();
+        // Intervals are built either from the step or from the number of steps; rebuild them the same way
+        var interval = new Interval(left, right, h);
+        return interval.n() == n ? interval : new Interval(left, right, n);
+    }
+
+    private static String fileName(String key) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest) + SUFFIX;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.space.Area;
+import io.github.andreipunko.math.space.Interval;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BiFunction;
+
+/**
+ * Solver state saved by {@link Checkpointing}: the scheme and its parameters, the grid steps and the last time
+ * layers needed to continue the march.
+ * <p>
+ * Binary layout (big-endian, {@link DataOutputStream}): magic, format version, scheme name, sigma, x1, x2, t2, h,
+ * tau, step index, number of layers, number of nodes, then the layers. {@code layers[layers.length - 1]} is the
+ * time layer {@code step}, the previous elements are the layers before it.
+ *
+ * @param scheme name of the scheme which wrote the checkpoint
+ * @param sigma  weight of the scheme
+ * @param x1     left boundary of the equation domain
+ * @param x2     right boundary of the equation domain
+ * @param t2     right boundary of the temporal domain
+ * @param h      spatial step size
+ * @param tau    time step size
+ * @param step   index of the last saved time layer
+ * @param layers last time layers, the latest one last
+ */
+record Checkpoint(String scheme, double sigma, double x1, double x2, double t2, double h, double tau, int step,
+                  double[][] layers) {
+
+    private static final int MAGIC = 0x50444543;    // "PDEC"
+    private static final int VERSION = 1;
+
+    /**
+     * Saves the last layers of the march up to {@code step} as a checkpoint. The layers are passed in double precision
+     * rather than read from the matrix, which may store them as floats.
+     *
+     * @throws UncheckedIOException if the checkpoint cannot be written
+     */
+    static void save(Checkpointing checkpointing, String scheme, double sigma, Equation eqn, double h, double tau,
+                     int step, double[]... layers) {
+        var checkpoint = new Checkpoint(scheme, sigma, eqn.getX1(), eqn.getX2(), eqn.getT2(), h, tau, step, layers);
+        try {
+            checkpoint.write(checkpointing);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot write checkpoint " + checkpointing.file(), e);
+        }
+    }
+
+    /**
+     * Writes the checkpoint to a temporary file, forces it to the storage device and renames it over the checkpoint
+     * file, so a crash leaves either the previous or the new checkpoint, never a torn one.
+     */
+    private void write(Checkpointing checkpointing) throws IOException {
+        var file = checkpointing.file().toAbsolutePath();
+        var temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(scheme);
+            out.writeDouble(sigma);
+            out.writeDouble(x1);
+            out.writeDouble(x2);
+            out.writeDouble(t2);
+            out.writeDouble(h);
+            out.writeDouble(tau);
+            out.writeInt(step);
+            out.writeInt(layers.length);
+            out.writeInt(layers[0].length);
+            for (var layer : layers) {
+                for (var value : layer) {
+                    out.writeDouble(value);
+                }
+            }
+            out.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.getParent());
+    }
+
+    /**
+     * Forces the directory entry of the renamed file to the storage device. Platforms which cannot open a directory
+     * as a channel (Windows) skip it.
+     */
+    private static void forceDirectory(Path directory) {
+        try (var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported for directories on this platform
+        }
+    }
+
+    /**
+     * Reads the checkpoint and checks that it was written by the same scheme for the same equation domain. The
+     * number and the size of the layers are checked against the grid of the equation before the layers are
+     * allocated, so that a truncated or foreign file fails with an exception rather than exhausting the heap.
+     *
+     * @param count number of layers the scheme saves
+     * @param grid  builds the grid of the equation from the steps h and tau of the checkpoint
+     * @throws IOException              if the file cannot be read, is not a checkpoint or is corrupted
+     * @throws IllegalArgumentException if the checkpoint does not match the scheme or the equation
+     */
+    static Checkpoint read(Checkpointing checkpointing, String scheme, double sigma, Equation eqn, int count,
+                           BiFunction<Double, Double, Area> grid) throws IOException {
+        var file = checkpointing.file();
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("not a checkpoint file: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("unsupported checkpoint version " + version + ": " + file);
+            }
+            var name = in.readUTF();
+            double
+                    s = in.readDouble(),
+                    x1 = in.readDouble(),
+                    x2 = in.readDouble(),
+                    t2 = in.readDouble(),
+                    h = in.readDouble(),
+                    tau = in.readDouble();
+            int step = in.readInt(),
+                    layerCount = in.readInt(),
+                    n = in.readInt();
+
+            if (!name.equals(scheme) || Double.compare(s, sigma) != 0) {
+                throw new IllegalArgumentException("checkpoint was written by " + name + " scheme with sigma=" + s
+                        + ", resumed by " + scheme + " scheme with sigma=" + sigma);
+            }
+            if (x1 != eqn.getX1() || x2 != eqn.getX2() || t2 != eqn.getT2()) {
+                throw new IllegalArgumentException("checkpoint domain [" + x1 + ", " + x2 + "]x[0, " + t2
+                        + "] does not match the equation");
+            }
+            Area area;
+            try {
+                area = grid.apply(h, tau);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("corrupted checkpoint file: " + file + ", invalid steps h=" + h + ", tau="
+                        + tau, e);
+            }
+            if (layerCount != count || n != area.xn() + 1 || step < count - 1 || step > area.tn()) {
+                throw new IOException("corrupted checkpoint file: " + file + ", " + layerCount + " layers of " + n
+                        + " nodes up to step " + step + " do not fit the grid of " + (area.xn() + 1) + " nodes and "
+                        + area.tn() + " steps");
+            }
+            var layers = new double[count][n];
+            for (var layer : layers) {
+                for (int i = 0; i < n; i++) {
+                    layer[i] = in.readDouble();
+                }
+            }
+            return new Checkpoint(name, s, x1, x2, t2, h, tau, step, layers);
+        }
+    }
+
+    /**
+     * Copies the saved layers into the matrix of the solution being resumed.
+     *
+     * @throws IllegalArgumentException if the layers do not fit the matrix
+     */
+    void restore(Matrix2D matrix) {
+        if (step >= matrix.getM() || layers[0].length != matrix.getN()) {
+            throw new IllegalArgumentException("checkpoint layers do not match the grid " + matrix.getM() + "x"
+                    + matrix.getN() + ": step " + step + ", " + layers[0].length + " nodes");
+        }
+        for (int i = 0; i < layers.length; i++) {
+            matrix.setRow(step - layers.length + 1 + i, layers[i]);
+        }
+    }
+
+    /**
+     * Returns the part of the resumed solution which starts at the first restored layer.
+     */
+    <E extends Equation> Solution<E> tail(Solution<E> solution) {
+        int first = step - layers.length + 1;
+        var area = solution.area();
+        var matrix = solution.matrix();
+        var tail = new Matrix2D(matrix.getM() - first, matrix.getN(), matrix.getStorage());
+        for (int j = first; j < matrix.getM(); j++) {
+            tail.setRow(j - first, matrix.getRow(j));
+        }
+        var t = new Interval(area.tx(first), area.tx(area.tn()), matrix.getM() - 1 - first);
+        return new Solution<>(solution.equation(), new Area(area.x(), t), tail, solution.steadyStateTime());
+    }
+}
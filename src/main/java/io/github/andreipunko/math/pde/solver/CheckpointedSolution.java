@@ -0,0 +1,335 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.MatrixXY;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.space.Area;
+import io.github.andreipunko.math.space.Interval;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Numerical PDE solution which keeps only every {@link #interval()}-th time layer (checkpoints) instead of the whole
+ * grid. A layer between checkpoints is recomputed on demand by the time march of the solver which found the
+ * solution, starting from the nearest checkpoint before it; the march is deterministic, so recomputed layers are
+ * identical to the layers of {@link EquationSolver#solve}. The layers of the last {@link #cachedSegments()} recomputed
+ * segments (a checkpoint and the layers up to the next one) are cached.
+ * <p>
+ * With the interval about sqrt(M) for M time layers the memory is O(sqrt(M)*N) instead of O(M*N), and reading a
+ * layer outside the cache costs at most one interval of time steps. Reading a time slice ({@link #gUx(int)}) visits
+ * every segment, so it costs a whole solve.
+ * <p>
+ * Instances are created by {@code solveCheckpointed} of {@link ParabolicEquationSolver} and
+ * {@link HyperbolicEquationSolver}; they are thread-safe.
+ *
+ * @param <E> the type of equation that was solved
+ * @see Solution
+ */
+public final class CheckpointedSolution<E extends Equation> {
+
+    /**
+     * Number of recomputed segments cached by default.
+     */
+    public static final int DEFAULT_CACHED_SEGMENTS = 4;
+
+    private final E equation;
+    private final Area area;
+    private final int interval;
+    private final int cachedSegments;
+    private final double[][][] checkpoints;     // First layers of every segment
+    private final SegmentMarcher marcher;
+    private final Map<Integer, double[][]> cache;
+    private int recomputations;
+
+    /**
+     * Continues the time march of a solver from the first layers of a segment.
+     */
+    @FunctionalInterface
+    interface SegmentMarcher {
+
+        /**
+         * Marches from time layer {@code first}, given with the layers after it which the scheme needs, and passes
+         * the new layers to the observer until it stops the march.
+         */
+        void march(int first, double[][] layers, LayerObserver observer);
+    }
+
+    private CheckpointedSolution(E equation, Area area, int interval, int cachedSegments, double[][][] checkpoints,
+                                 SegmentMarcher marcher) {
+        this.equation = equation;
+        this.area = area;
+        this.interval = interval;
+        this.cachedSegments = cachedSegments;
+        this.checkpoints = checkpoints;
+        this.marcher = marcher;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, double[][]> eldest) {
+                return size() > cachedSegments;
+            }
+        };
+    }
+
+    /**
+     * Returns the default checkpoint interval for an area: sqrt(M) for M time layers.
+     *
+     * @param area the space-time domain of the solve
+     * @return number of time layers between checkpoints
+     */
+    static int defaultInterval(Area area) {
+        return Math.max(1, (int) Math.ceil(Math.sqrt(area.tn() + 1)));
+    }
+
+    /**
+     * Returns the partial differential equation that was solved.
+     *
+     * @return the equation
+     */
+    public E equation() {
+        return equation;
+    }
+
+    /**
+     * Returns the space-time domain of the solution; with a steady state it ends at the last computed layer.
+     *
+     * @return the area
+     */
+    public Area area() {
+        return area;
+    }
+
+    /**
+     * Returns the number of time layers between checkpoints.
+     *
+     * @return checkpoint interval
+     */
+    public int interval() {
+        return interval;
+    }
+
+    /**
+     * Returns the maximum number of recomputed segments kept in the cache.
+     *
+     * @return cache size in segments
+     */
+    public int cachedSegments() {
+        return cachedSegments;
+    }
+
+    /**
+     * Returns the number of time layers kept as checkpoints.
+     *
+     * @return number of stored layers
+     */
+    public int storedLayers() {
+        int layers = 0;
+        for (var checkpoint : checkpoints) {
+            layers += checkpoint.length;
+        }
+        return layers;
+    }
+
+    /**
+     * Returns how many segments were recomputed so far.
+     *
+     * @return number of recomputed segments
+     */
+    public synchronized int recomputations() {
+        return recomputations;
+    }
+
+    /**
+     * Returns a time layer, recomputing it if it is neither a checkpoint nor cached.
+     *
+     * @param it time layer index (0 &lt;= it &lt;= {@code area().tn()})
+     * @return copy of the layer values
+     * @throws IllegalArgumentException if the index is out of bounds
+     */
+    public double[] getRow(int it) {
+        if (it < 0 || it > area.tn()) {
+            throw new IllegalArgumentException(
+                    "time layer index it out of bounds: " + it + ", valid [0, " + area.tn() + "]");
+        }
+        return layer(it).clone();
+    }
+
+    /**
+     * Returns a value of the solution on the grid.
+     *
+     * @param it time layer index (0 &lt;= it &lt;= {@code area().tn()})
+     * @param ix spatial node index (0 &lt;= ix &lt;= {@code area().xn()})
+     * @return value of the solution
+     * @throws IllegalArgumentException if an index is out of bounds
+     */
+    public double get(int it, int ix) {
+        if (ix < 0 || ix > area.xn()) {
+            throw new IllegalArgumentException(
+                    "spatial column index ix out of bounds: " + ix + ", valid [0, " + area.xn() + "]");
+        }
+        if (it < 0 || it > area.tn()) {
+            throw new IllegalArgumentException(
+                    "time layer index it out of bounds: " + it + ", valid [0, " + area.tn() + "]");
+        }
+        return layer(it)[ix];
+    }
+
+    /**
+     * Retrieves a spatial slice of the solution at a specified time moment, like {@link Solution#gUt(double)}.
+     *
+     * @param t time moment to get the slice for
+     * @return MatrixXY containing the spatial slice of the solution
+     * @throws IllegalArgumentException if the time moment is outside the solution domain
+     */
+    public MatrixXY gUt(double t) {
+        return gUt(area.ti(t));
+    }
+
+    /**
+     * Retrieves a spatial slice of the solution at a specified time layer index, like {@link Solution#gUt(int)}.
+     *
+     * @param it time layer index (0 &lt;= it &lt;= {@code area().tn()})
+     * @return MatrixXY containing the spatial slice of the solution
+     * @throws IllegalArgumentException if the time layer index is out of bounds
+     */
+    public MatrixXY gUt(int it) {
+        var row = getRow(it);
+        var slice = new MatrixXY(row.length);
+        for (int i = 0; i < row.length; i++) {
+            slice.setX(i, area.xx(i));
+            slice.setY(i, row[i]);
+        }
+        return slice;
+    }
+
+    /**
+     * Retrieves a temporal slice of the solution at a specified spatial coordinate, like {@link Solution#gUx(double)}.
+     *
+     * @param x spatial coordinate to get the slice for
+     * @return MatrixXY containing the temporal slice of the solution
+     * @throws IllegalArgumentException if the spatial coordinate is outside the solution domain
+     */
+    public MatrixXY gUx(double x) {
+        return gUx(area.xi(x));
+    }
+
+    /**
+     * Retrieves a temporal slice of the solution at a specified spatial column index, like {@link Solution#gUx(int)}.
+     * Every segment is read once, so segments outside the cache are recomputed.
+     *
+     * @param ix spatial node index (0 &lt;= ix &lt;= {@code area().xn()})
+     * @return MatrixXY containing the temporal slice of the solution
+     * @throws IllegalArgumentException if the spatial column index is out of bounds
+     */
+    public MatrixXY gUx(int ix) {
+        if (ix < 0 || ix > area.xn()) {
+            throw new IllegalArgumentException(
+                    "spatial column index ix out of bounds: " + ix + ", valid [0, " + area.xn() + "]");
+        }
+        int M = area.tn() + 1;
+        var slice = new MatrixXY(M);
+        for (int c = 0; c < checkpoints.length; c++) {
+            var rows = segment(c);
+            for (int r = 0; r < rows.length; r++) {
+                int it = c * interval + r;
+                slice.setX(it, area.tx(it));
+                slice.setY(it, rows[r][ix]);
+            }
+        }
+        return slice;
+    }
+
+    /**
+     * Returns time layer {@code it}: a checkpoint without recomputing its segment, or a layer of the segment.
+     */
+    private double[] layer(int it) {
+        var checkpoint = checkpoints[it / interval];
+        return it % interval < checkpoint.length ? checkpoint[it % interval] : segment(it / interval)[it % interval];
+    }
+
+    /**
+     * Returns the layers of segment {@code c}: from the cache, or recomputed from its checkpoint.
+     */
+    private synchronized double[][] segment(int c) {
+        var rows = cache.get(c);
+        if (rows != null) {
+            return rows;
+        }
+        var checkpoint = checkpoints[c];
+        int first = c * interval,
+                last = Math.min(first + interval - 1, area.tn());
+        if (last - first + 1 <= checkpoint.length) {
+            return checkpoint;
+        }
+
+        var segment = new double[last - first + 1][];
+        System.arraycopy(checkpoint, 0, segment, 0, checkpoint.length);
+        marcher.march(first, checkpoint, (step, total, time, layer) -> {
+            segment[step - first] = layer.clone();
+            return step < last;
+        });
+        recomputations++;
+        cache.put(c, segment);
+        return segment;
+    }
+
+    /**
+     * Observer of the initial time march which keeps the first layers of every segment.
+     */
+    static final class Recorder implements LayerObserver {
+
+        private final Area area;
+        private final int interval;
+        private final int layersPerCheckpoint;
+        private final int cachedSegments;
+        private final List<List<double[]>> checkpoints = new ArrayList<>();
+        private int last = -1;
+
+        /**
+         * @param area                the space-time domain of the solve
+         * @param interval            number of time layers between checkpoints
+         * @param layersPerCheckpoint number of layers the scheme needs to continue the march
+         * @param cachedSegments      number of recomputed segments to cache
+         * @throws IllegalArgumentException if interval or cachedSegments is not positive
+         */
+        Recorder(Area area, int interval, int layersPerCheckpoint, int cachedSegments) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("interval must be positive, got: " + interval);
+            }
+            if (cachedSegments <= 0) {
+                throw new IllegalArgumentException("cachedSegments must be positive, got: " + cachedSegments);
+            }
+            this.area = area;
+            this.interval = interval;
+            this.layersPerCheckpoint = layersPerCheckpoint;
+            this.cachedSegments = cachedSegments;
+        }
+
+        @Override
+        public boolean onLayer(int step, int total, double time, double[] layer) {
+            if (step % interval == 0) {
+                checkpoints.add(new ArrayList<>());
+            }
+            if (step % interval < layersPerCheckpoint) {
+                checkpoints.get(checkpoints.size() - 1).add(layer.clone());
+            }
+            last = step;
+            return true;
+        }
+
+        /**
+         * Builds the solution from the recorded checkpoints; the marcher continues the march of the solve.
+         */
+        <E extends Equation> CheckpointedSolution<E> build(E equation, SegmentMarcher marcher) {
+            var recorded = new double[checkpoints.size()][][];
+            for (int c = 0; c < recorded.length; c++) {
+                recorded[c] = checkpoints.get(c).toArray(double[][]::new);
+            }
+            var computed = last == area.tn()
+                    ? area
+                    : new Area(area.x(), new Interval(area.tLeft(), area.tx(last), last));
+            return new CheckpointedSolution<>(equation, computed, interval, cachedSegments, recorded, marcher);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.andreipunko.math.pde.solver;
+
+import java.nio.file.Path;
+
+/**
+ * Checkpointing settings of a long-running solve: the solver state is written to {@code file} every
+ * {@code interval} time steps, so that the solve can be continued after a crash with the {@code resume} method of
+ * the solver ({@link ParabolicEquationSolver#resume}, {@link HyperbolicEquationSolver#resume}).
+ * <p>
+ * Every checkpoint is written to a temporary file in the same directory and then moved over {@code file}, so the
+ * file always holds a complete checkpoint. A larger interval makes checkpointing cheaper at the cost of more steps
+ * to recompute after a crash.
+ *
+ * @param file     checkpoint file
+ * @param interval number of time steps between checkpoints (must be positive)
+ */
+public record Checkpointing(Path file, int interval) {
+
+    /**
+     * Validates record components before the instance is created.
+     *
+     * @throws IllegalArgumentException if file is null or interval &lt;= 0
+     */
+    public Checkpointing {
+        if (file == null) {
+            throw new IllegalArgumentException("file must not be null");
+        }
+        if (interval <= 0) {
+            throw new IllegalArgumentException("interval must be positive, got: " + interval);
+        }
+    }
+}
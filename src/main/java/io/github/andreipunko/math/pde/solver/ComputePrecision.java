@@ -0,0 +1,31 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+
+/**
+ * Arithmetic precision of the time march of a parabolic solve, selected per solve with
+ * {@link ParabolicEquationSolver#solveWithPrecision(ParabolicEquation, double, double, ComputePrecision)}.
+ *
+ * @see PrecisionDiagnostics
+ */
+public enum ComputePrecision {
+
+    /**
+     * Assembly and tridiagonal sweep in double precision (default).
+     */
+    DOUBLE,
+
+    /**
+     * Assembly, tridiagonal sweep and the previous layer in single precision: the fastest mode, with errors of the
+     * order of the float epsilon times the condition of the time steps, accumulated over the march. Meant for
+     * screening runs.
+     */
+    FLOAT,
+
+    /**
+     * Assembly in double precision, tridiagonal sweep in single precision followed by one step of iterative
+     * refinement: the residual of the double system is computed in double precision and the correction is solved
+     * with the single-precision factorization. The layers are usually close to the double ones.
+     */
+    FLOAT_REFINED
+}
@@ -0,0 +1,47 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+import io.github.andreipunko.math.space.Area;
+
+/**
+ * Statistics of an ensemble solve ({@link ParabolicEnsembleSolver#solveStatistics}): the mean and the sample variance
+ * over the members at every grid node. Both matrices have the layout of {@link Solution#matrix()}: rows are time
+ * layers, columns are spatial nodes.
+ *
+ * @param members  number of members of the ensemble
+ * @param area     the space-time domain of the ensemble
+ * @param mean     mean over the members
+ * @param variance sample variance over the members (divided by members - 1; zero for a single member)
+ */
+public record EnsembleStatistics(
+        int members,
+        Area area,
+        Matrix2D mean,
+        Matrix2D variance
+) {
+    /**
+     * Validates record components before the instance is created.
+     *
+     * @throws IllegalArgumentException if members &lt;= 0 or any other component is null
+     */
+    public EnsembleStatistics {
+        if (members <= 0) {
+            throw new IllegalArgumentException("members must be positive, got: " + members);
+        }
+        if (area == null || mean == null || variance == null) {
+            throw new IllegalArgumentException("area, mean and variance must not be null");
+        }
+    }
+
+    /**
+     * Returns the standard deviation over the members at a grid node.
+     *
+     * @param it time layer index
+     * @param ix spatial node index
+     * @return square root of the variance
+     * @throws IllegalArgumentException if an index is out of bounds
+     */
+    public double standardDeviation(int it, int ix) {
+        return Math.sqrt(variance.get(it, ix));
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.space.Area;
+
+import java.util.stream.IntStream;
+
+import static io.github.andreipunko.math.pde.solver.ExplicitParabolicEquationSolver.PARALLEL_THRESHOLD;
+
+/**
+ * Solver for hyperbolic partial differential equations using the explicit three-layer (leapfrog, "cross") scheme:
+ * <p>
+ * M*(U^{j+1} - 2*U^j + U^{j-1})/tau² + L*(U^{j+1} - U^{j-1})/(2*tau) = Λ(U^j) + F
+ * <p>
+ * Every new value depends only on the two previous time layers, so no tridiagonal system is solved and the nodes
+ * of a layer are updated independently (in parallel on large grids). The first layer is found from the initial
+ * conditions in the same way as in {@link HyperbolicEquationSolver}.
+ * <p>
+ * The scheme is stable only under the Courant condition {@code tau <= h/c}, {@code c² = K/M}, at every interior
+ * node. The limit is evaluated from the coefficients on the initial layer; a time step above it is rejected or split
+ * into substeps according to the {@link StabilityPolicy}. The number of substeps stays the same during the march
+ * (the scheme needs a uniform step), so if the limit drops below the substep later (coefficients depending on U or t)
+ * the solver throws {@link IllegalArgumentException}.
+ *
+ * @see HyperbolicEquation
+ * @see StabilityPolicy
+ */
+public class ExplicitHyperbolicEquationSolver extends AbstractEquationSolver<HyperbolicEquation> {
+
+    private final StabilityPolicy stabilityPolicy;
+
+    /**
+     * Creates a solver which rejects time steps above the stability limit.
+     */
+    public ExplicitHyperbolicEquationSolver() {
+        this(StabilityPolicy.REJECT);
+    }
+
+    /**
+     * Creates a solver with given reaction on time steps above the stability limit.
+     *
+     * @param stabilityPolicy what to do when the time step exceeds the stability limit
+     * @throws IllegalArgumentException if stabilityPolicy is null
+     */
+    public ExplicitHyperbolicEquationSolver(StabilityPolicy stabilityPolicy) {
+        if (stabilityPolicy == null) {
+            throw new IllegalArgumentException("stabilityPolicy must not be null");
+        }
+        this.stabilityPolicy = stabilityPolicy;
+    }
+
+    /**
+     * Returns the reaction on time steps above the stability limit.
+     *
+     * @return stability policy
+     */
+    public StabilityPolicy getStabilityPolicy() {
+        return stabilityPolicy;
+    }
+
+    /**
+     * Returns the largest stable time step for the initial layer of the equation.
+     *
+     * @param eqn hyperbolic equation
+     * @param h   spatial step size (must be positive)
+     * @return stability limit of the time step ({@link Double#POSITIVE_INFINITY} if K is zero everywhere)
+     * @throws IllegalArgumentException if eqn is null, if h is invalid, or if M is not positive at some node
+     */
+    public double maxTimeStep(HyperbolicEquation eqn, double h) {
+        var area = buildArea(eqn, h, eqn == null ? 1 : eqn.getT2());
+        var u = prepare(eqn, area).getRow(0);
+        return evaluate(eqn, area, h, u, 0, new double[u.length], new double[u.length], new double[u.length]);
+    }
+
+    /**
+     * Solves hyperbolic partial differential equation using the explicit three-layer scheme.
+     *
+     * @param eqn hyperbolic partial differential equation to solve
+     * @param h   spatial step size (must be positive)
+     * @param tau temporal step size (must be positive)
+     * @return {@link Solution} with function values on the grid in {@link Solution#matrix()}
+     * @throws IllegalArgumentException if parameters h or tau are invalid, if M is not positive at some node, or if
+     *                                  tau exceeds the stability limit and the policy is {@link StabilityPolicy#REJECT}
+     */
+    @Override
+    public Solution<HyperbolicEquation> solve(HyperbolicEquation eqn, double h, double tau) {
+        var area = buildArea(eqn, h, tau);
+        var matrix = prepare(eqn, area);
+
+        int N = area.xn();
+        var prev = matrix.getRow(0);
+        var cur = new double[N + 1];
+        var next = new double[N + 1];
+        var op = new double[N + 1];
+        var M = new double[N + 1];
+        var L = new double[N + 1];
+
+        int m = stabilityPolicy.substeps(tau, evaluate(eqn, area, h, prev, 0, op, M, L));
+        double dt = tau / m;
+        if (area.tn() == 0) {
+            return new Solution<>(eqn, area, matrix);
+        }
+
+        // First fine layer from the initial conditions (op and M hold the values on the initial layer)
+        for (int i = 1; i < N; i++) {
+            cur[i] = prev[i] + dt * (eqn.gdU_dt0(area.xx(i)) + dt / 2. * op[i] / M[i]);
+        }
+        applyBorderConditions(eqn, h, dt, cur);
+
+        for (int s = 1; s < m * area.tn(); s++) {
+            if (s % m == 0) {
+                matrix.setRow(s / m, cur);
+            }
+            var t = s * dt;
+            var tauMax = evaluate(eqn, area, h, cur, t, op, M, L);
+            if (dt > tauMax) {
+                throw new IllegalArgumentException("time step " + dt + " exceeds the stability limit " + tauMax
+                        + " of the explicit scheme at t=" + t);
+            }
+            for (int i = 1; i < N; i++) {
+                double
+                        Md = M[i] / (dt * dt),
+                        Ld = L[i] / (2 * dt);
+                next[i] = (2 * Md * cur[i] - (Md - Ld) * prev[i] + op[i]) / (Md + Ld);
+            }
+            applyBorderConditions(eqn, h, t + dt, next);
+
+            var tmp = prev;
+            prev = cur;
+            cur = next;
+            next = tmp;
+        }
+        matrix.setRow(area.tn(), cur);
+        return new Solution<>(eqn, area, matrix);
+    }
+
+    private void applyBorderConditions(HyperbolicEquation eqn, double h, double time, double[] u) {
+        int N = u.length - 1;
+        var left = calcKappaNu(eqn.getLeftBorderCondition(), h, time);
+        var right = calcKappaNu(eqn.getRightBorderCondition(), h, time);
+        u[0] = left.kappa() * u[1] + left.nu();
+        u[N] = right.kappa() * u[N - 1] + right.nu();
+    }
+
+    /**
+     * Fills {@code op} with Λ(U) + F and {@code M}, {@code L} with the coefficients at the interior nodes and
+     * returns the stability limit of the time step for this layer.
+     */
+    private double evaluate(HyperbolicEquation eqn, Area area, double h, double[] u, double t,
+                            double[] op, double[] M, double[] L) {
+        int N = area.xn();
+        double h2 = h * h,
+                h_2 = h / 2.;
+        var nodes = IntStream.range(1, N);
+        if (N >= PARALLEL_THRESHOLD) {
+            nodes = nodes.parallel();
+        }
+        return nodes.mapToDouble(i -> {
+            double
+                    uc = u[i],
+                    x = area.xx(i),
+                    K = eqn.gK(x, t, uc),
+                    V = eqn.gV(x, t, uc),
+                    Alpha = K - V * h_2,
+                    Beta = K + V * h_2;
+
+            M[i] = eqn.gM(x, t, uc);
+            L[i] = eqn.gL(x, t, uc);
+            if (!(M[i] > 0)) {
+                throw new IllegalArgumentException("explicit scheme requires positive M, got " + M[i] + " at x=" + x);
+            }
+            op[i] = (Alpha * u[i - 1] - (Alpha + Beta) * uc + Beta * u[i + 1]) / h2 + eqn.gF(x, t, uc);
+            return K > 0 ? h * Math.sqrt(M[i] / K) : Double.POSITIVE_INFINITY;
+        }).min().orElse(Double.POSITIVE_INFINITY);
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.space.Area;
+
+import java.util.stream.IntStream;
+
+/**
+ * Solver for parabolic partial differential equations using the explicit (forward Euler) scheme:
+ * <p>
+ * L*(U^{j+1} - U^j)/tau = Λ(U^j) + F
+ * <p>
+ * Every new value depends only on the previous time layer, so no tridiagonal system is solved and the nodes of a
+ * layer are updated independently (in parallel on large grids). The result is the same as of
+ * {@link ParabolicEquationSolver} with {@code sigma = 0}.
+ * <p>
+ * The scheme is stable only for {@code tau <= h²*L/(Alpha + Beta)} at every interior node, where
+ * {@code Alpha + Beta ≈ 2K} are the coefficients of the space operator (the diffusion-number limit
+ * {@code K*tau/(L*h²) <= 1/2}). The limit is evaluated from the coefficients on the previous layer at every time
+ * step; a time step above it is rejected or split into substeps according to the {@link StabilityPolicy}.
+ *
+ * @see ParabolicEquation
+ * @see StabilityPolicy
+ */
+public class ExplicitParabolicEquationSolver extends AbstractEquationSolver<ParabolicEquation> {
+
+    /**
+     * Minimal number of spatial steps for which a layer is updated in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 8192;
+
+    private final StabilityPolicy stabilityPolicy;
+
+    /**
+     * Creates a solver which rejects time steps above the stability limit.
+     */
+    public ExplicitParabolicEquationSolver() {
+        this(StabilityPolicy.REJECT);
+    }
+
+    /**
+     * Creates a solver with given reaction on time steps above the stability limit.
+     *
+     * @param stabilityPolicy what to do when the time step exceeds the stability limit
+     * @throws IllegalArgumentException if stabilityPolicy is null
+     */
+    public ExplicitParabolicEquationSolver(StabilityPolicy stabilityPolicy) {
+        if (stabilityPolicy == null) {
+            throw new IllegalArgumentException("stabilityPolicy must not be null");
+        }
+        this.stabilityPolicy = stabilityPolicy;
+    }
+
+    /**
+     * Returns the reaction on time steps above the stability limit.
+     *
+     * @return stability policy
+     */
+    public StabilityPolicy getStabilityPolicy() {
+        return stabilityPolicy;
+    }
+
+    /**
+     * Returns the largest stable time step for the initial layer of the equation.
+     *
+     * @param eqn parabolic equation
+     * @param h   spatial step size (must be positive)
+     * @return stability limit of the time step ({@link Double#POSITIVE_INFINITY} if there is no diffusion)
+     * @throws IllegalArgumentException if eqn is null, if h is invalid, or if L is not positive at some node
+     */
+    public double maxTimeStep(ParabolicEquation eqn, double h) {
+        var area = buildArea(eqn, h, eqn == null ? 1 : eqn.getT2());
+        var u = prepare(eqn, area).getRow(0);
+        return evaluate(eqn, area, h, u, 0, new double[u.length]);
+    }
+
+    /**
+     * Solves parabolic partial differential equation using the explicit scheme.
+     *
+     * @param eqn parabolic partial differential equation to solve
+     * @param h   spatial step size (must be positive)
+     * @param tau time step size (must be positive)
+     * @return {@link Solution} with function values on the grid in {@link Solution#matrix()}
+     * @throws IllegalArgumentException if parameters h or tau are invalid, if L is not positive at some node, or if
+     *                                  tau exceeds the stability limit and the policy is {@link StabilityPolicy#REJECT}
+     */
+    @Override
+    public Solution<ParabolicEquation> solve(ParabolicEquation eqn, double h, double tau) {
+        var area = buildArea(eqn, h, tau);
+        var matrix = prepare(eqn, area);
+
+        int N = area.xn();
+        var u = matrix.getRow(0);
+        var rate = new double[N + 1];
+
+        for (int j = 0; j < area.tn(); j++) {
+            var t = area.tx(j);
+            var tauMax = evaluate(eqn, area, h, u, t, rate);
+            int m = stabilityPolicy.substeps(tau, tauMax);
+            double dt = tau / m;
+
+            for (int s = 0; s < m; s++) {
+                if (s > 0) {
+                    evaluate(eqn, area, h, u, t + s * dt, rate);
+                }
+                for (int i = 1; i < N; i++) {
+                    u[i] += dt * rate[i];
+                }
+                var time = s + 1 < m ? t + (s + 1) * dt : area.tx(j + 1);
+                var left = calcKappaNu(eqn.getLeftBorderCondition(), h, time);
+                var right = calcKappaNu(eqn.getRightBorderCondition(), h, time);
+                u[0] = left.kappa() * u[1] + left.nu();
+                u[N] = right.kappa() * u[N - 1] + right.nu();
+            }
+            matrix.setRow(j + 1, u);
+        }
+        return new Solution<>(eqn, area, matrix);
+    }
+
+    /**
+     * Fills {@code rate} with dU/dt = (Λ(U) + F)/L at the interior nodes and returns the stability limit of the
+     * time step for this layer.
+     */
+    private double evaluate(ParabolicEquation eqn, Area area, double h,
+                            double[] u, double t, double[] rate) {
+        int N = area.xn();
+        double h2 = h * h;
+        var nodes = IntStream.range(1, N);
+        if (N >= PARALLEL_THRESHOLD) {
+            nodes = nodes.parallel();
+        }
+        return nodes.mapToDouble(i -> {
+            double
+                    _u = u[i - 1],
+                    uc = u[i],
+                    u_ = u[i + 1],
+                    x = area.xx(i),
+                    K = eqn.gK(x, t, uc),
+                    L = eqn.gL(x, t, uc),
+                    Alpha = (K + eqn.gK(area.xx(i + 1), t, u_) + eqn.gV(x, t, uc) * h) / 2.,
+                    Beta = (K + eqn.gK(area.xx(i - 1), t, _u) - eqn.gV(x, t, uc) * h) / 2.;
+
+            if (!(L > 0)) {
+                throw new IllegalArgumentException("explicit scheme requires positive L, got " + L + " at x=" + x);
+            }
+            rate[i] = ((Alpha * (u_ - uc) - Beta * (uc - _u)) / h2 + eqn.gF(x, t, uc)) / L;
+            return Alpha + Beta > 0 ? h2 * L / (Alpha + Beta) : Double.POSITIVE_INFINITY;
+        }).min().orElse(Double.POSITIVE_INFINITY);
+    }
+}
@@ -1,12 +1,35 @@
 package io.github.andreipunko.math.pde.solver;
 
+import io.github.andreipunko.math.matrix.Matrix2D;
 import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.space.Area;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Solver for hyperbolic partial differential equations.
  * Implements numerical method for solving hyperbolic equations using
  * an implicit finite difference scheme. The algorithm is based on
  * the three-layer scheme with weights for time discretization.
+ * <p>
+ * The space operator is taken with weights {@code sigma, 1 - 2*sigma, sigma} on the new, middle and old
+ * time layers:
+ * <p>
+ * Λ(sigma*U^{j+2} + (1 - 2*sigma)*U^{j+1} + sigma*U^j)
+ * <p>
+ * {@code sigma = 0.5} is the default, schemes with {@code sigma >= 0.25} are unconditionally stable,
+ * {@code sigma = 0} is the explicit ("cross") scheme, stable only for {@code tau <= h/c}, where {@code c² = K/M}.
+ * For constant coefficients {@code sigma = (1 - h²/(c²*tau²)) / 12} (valid when {@code tau > h/c}) makes
+ * the scheme fourth-order accurate.
+ * <p>
+ * With {@link io.github.andreipunko.math.pde.border.PeriodicBorderCondition} on both ends every time step is a cyclic
+ * tridiagonal system ({@link AbstractEquationSolver#solveCyclic3DiagonalEquationsSystem}).
+ * <p>
+ * With {@link Matrix2D.Storage#FLOAT} storage the layers are computed in double precision as usual and rounded to
+ * floats only when they are stored in {@link Solution#matrix()}, which halves its memory.
  *
  * @see HyperbolicEquation
  * @see AbstractEquationSolver
@@ -14,9 +37,67 @@ import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
 public class HyperbolicEquationSolver extends AbstractEquationSolver<HyperbolicEquation> {
 
     /**
-     * Creates a solver for hyperbolic equations using the implicit three-layer scheme.
+     * Default weight of the scheme.
+     */
+    public static final double DEFAULT_SIGMA = 0.5;
+
+    private static final String SCHEME = "hyperbolic";
+
+    private final double sigma;
+    private final Matrix2D.Storage storage;
+
+    /**
+     * Creates a solver for hyperbolic equations using the implicit three-layer scheme with {@code sigma = 0.5}.
      */
     public HyperbolicEquationSolver() {
+        this(DEFAULT_SIGMA);
+    }
+
+    /**
+     * Creates a solver for hyperbolic equations using the three-layer scheme with given weight.
+     *
+     * @param sigma weight of the new and the old time layers (0 &lt;= sigma &lt;= 1)
+     * @throws IllegalArgumentException if sigma is not finite or outside [0, 1]
+     */
+    public HyperbolicEquationSolver(double sigma) {
+        this(sigma, Matrix2D.Storage.DOUBLE);
+    }
+
+    /**
+     * Creates a solver for hyperbolic equations using the three-layer scheme with given weight, which stores the
+     * solution with given precision.
+     *
+     * @param sigma   weight of the new and the old time layers (0 &lt;= sigma &lt;= 1)
+     * @param storage precision of the stored time layers
+     * @throws IllegalArgumentException if sigma is not finite or outside [0, 1], or if storage is null
+     */
+    public HyperbolicEquationSolver(double sigma, Matrix2D.Storage storage) {
+        if (!Double.isFinite(sigma) || sigma < 0 || sigma > 1) {
+            throw new IllegalArgumentException("sigma must be in [0, 1], got: " + sigma);
+        }
+        if (storage == null) {
+            throw new IllegalArgumentException("storage must not be null");
+        }
+        this.sigma = sigma;
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the weight of the new and the old time layers used by this solver.
+     *
+     * @return scheme weight sigma
+     */
+    public double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * Returns the precision of the stored time layers.
+     *
+     * @return storage of {@link Solution#matrix()}
+     */
+    public Matrix2D.Storage getStorage() {
+        return storage;
     }
 
     /**
@@ -38,45 +119,328 @@ public class HyperbolicEquationSolver extends AbstractEquationSolver<HyperbolicE
     @Override
     public Solution<HyperbolicEquation> solve(HyperbolicEquation eqn, double h, double tau) {
         var area = buildArea(eqn, h, tau);
-        var matrix = prepare(eqn, area);
+        return start(eqn, area, h, tau, null, null);
+    }
+
+    /**
+     * Solves hyperbolic partial differential equation like {@link #solve(HyperbolicEquation, double, double)} and
+     * saves the two last time layers every {@link Checkpointing#interval()} steps, so that the solve can be continued
+     * by {@link #resume} after a crash.
+     *
+     * @param eqn           hyperbolic partial differential equation to solve
+     * @param h             spatial step size (must be positive)
+     * @param tau           temporal step size (must be positive)
+     * @param checkpointing checkpoint file and interval
+     * @return {@link Solution} with function values on the grid in {@link Solution#matrix()}
+     * @throws IllegalArgumentException if checkpointing is null, or see {@link #solve(HyperbolicEquation, double, double)}
+     * @throws java.io.UncheckedIOException if a checkpoint cannot be written
+     */
+    public Solution<HyperbolicEquation> solve(HyperbolicEquation eqn, double h, double tau,
+                                              Checkpointing checkpointing) {
+        if (checkpointing == null) {
+            throw new IllegalArgumentException("checkpointing must not be null");
+        }
+        var area = buildArea(eqn, h, tau);
+        return start(eqn, area, h, tau, checkpointing, null);
+    }
+
+    /**
+     * Solves hyperbolic partial differential equation like {@link #solve(HyperbolicEquation, double, double)} and
+     * reduces every time layer right after it is computed, so no second pass over {@link Solution#matrix()} is needed.
+     *
+     * @param eqn        hyperbolic partial differential equation to solve
+     * @param h          spatial step size (must be positive)
+     * @param tau        temporal step size (must be positive)
+     * @param reductions reductions to compute
+     * @return {@link Solution} with the time series of the reductions in {@link Solution#statistics()}
+     * @throws IllegalArgumentException if reductions is null, empty or contains null, or see
+     *                                  {@link #solve(HyperbolicEquation, double, double)}
+     */
+    public Solution<HyperbolicEquation> solveWithStatistics(HyperbolicEquation eqn, double h, double tau,
+                                                            Set<LayerStatistics.Reduction> reductions) {
+        var area = buildArea(eqn, h, tau);
+        var collector = new LayerStatistics.Collector(reductions, area, 0);
+        var u0 = initialLayer(eqn, area);
+        var u1 = calcFirstLayer(eqn, area, u0, h, tau);
+        collector.onLayer(0, area.tn(), area.tx(0), u0);
+        collector.onLayer(1, area.tn(), area.tx(1), u1);
+        var matrix = prepare(area, u0, storage);
+        matrix.setRow(1, u1);
+        var solution = march(eqn, area, matrix, u0, u1, h, tau, 0, null, collector);
+        return solution.withStatistics(collector.statistics());
+    }
+
+    /**
+     * Computes the reductions of the time layers of the solution without storing the layers: the time march keeps
+     * only the two last layers, so the memory does not grow with the number of time steps.
+     *
+     * @param eqn        hyperbolic partial differential equation to solve
+     * @param h          spatial step size (must be positive)
+     * @param tau        temporal step size (must be positive)
+     * @param reductions reductions to compute
+     * @return time series of the reductions of all time layers
+     * @throws IllegalArgumentException if reductions is null, empty or contains null, or see
+     *                                  {@link #solve(HyperbolicEquation, double, double)}
+     */
+    public LayerStatistics statistics(HyperbolicEquation eqn, double h, double tau,
+                                      Set<LayerStatistics.Reduction> reductions) {
+        var area = buildArea(eqn, h, tau);
+        var collector = new LayerStatistics.Collector(reductions, area, 0);
+        var u0 = initialLayer(eqn, area);
+        var u1 = calcFirstLayer(eqn, area, u0, h, tau);
+        collector.onLayer(0, area.tn(), area.tx(0), u0);
+        collector.onLayer(1, area.tn(), area.tx(1), u1);
+        march(eqn, area, null, u0, u1, h, tau, 0, null, collector);
+        return collector.statistics();
+    }
+
+    /**
+     * Solves hyperbolic partial differential equation like {@link #solve(HyperbolicEquation, double, double)} but keeps
+     * only every k-th time layer, with k about sqrt(M) for M time layers; other layers are recomputed from them on
+     * demand (see {@link CheckpointedSolution}).
+     *
+     * @param eqn hyperbolic partial differential equation to solve
+     * @param h   spatial step size (must be positive)
+     * @param tau temporal step size (must be positive)
+     * @return {@link CheckpointedSolution} which caches {@link CheckpointedSolution#DEFAULT_CACHED_SEGMENTS}
+     * recomputed segments
+     * @throws IllegalArgumentException see {@link #solve(HyperbolicEquation, double, double)}
+     */
+    public CheckpointedSolution<HyperbolicEquation> solveCheckpointed(HyperbolicEquation eqn, double h, double tau) {
+        var area = buildArea(eqn, h, tau);
+        return solveCheckpointed(eqn, area, h, tau, new CheckpointedSolution.Recorder(area,
+                CheckpointedSolution.defaultInterval(area), 2, CheckpointedSolution.DEFAULT_CACHED_SEGMENTS));
+    }
+
+    /**
+     * Solves hyperbolic partial differential equation like {@link #solve(HyperbolicEquation, double, double)} but keeps
+     * only every {@code interval}-th time layer; other layers are recomputed from them on demand (see
+     * {@link CheckpointedSolution}).
+     *
+     * @param eqn            hyperbolic partial differential equation to solve
+     * @param h              spatial step size (must be positive)
+     * @param tau            temporal step size (must be positive)
+     * @param interval       number of time layers between checkpoints (must be positive)
+     * @param cachedSegments number of recomputed segments to cache (must be positive)
+     * @return {@link CheckpointedSolution} of the equation
+     * @throws IllegalArgumentException if interval or cachedSegments is not positive, or see
+     *                                  {@link #solve(HyperbolicEquation, double, double)}
+     */
+    public CheckpointedSolution<HyperbolicEquation> solveCheckpointed(HyperbolicEquation eqn, double h, double tau,
+                                                                      int interval, int cachedSegments) {
+        var area = buildArea(eqn, h, tau);
+        return solveCheckpointed(eqn, area, h, tau,
+                new CheckpointedSolution.Recorder(area, interval, 2, cachedSegments));
+    }
+
+    /**
+     * Solves hyperbolic partial differential equation like {@link #solve(HyperbolicEquation, double, double)} and
+     * publishes every time layer, starting from the initial one, into the ring, so that another thread can consume
+     * the layers while the solve is running. The layers are not kept: the time march holds only the last two
+     * layers, so the memory does not grow with the number of time steps. The ring is closed when the solve ends,
+     * also on failure. If the consumer {@link LayerRingBuffer#abandon()}s the ring, the solve stops at the next
+     * layer.
+     *
+     * @param eqn  hyperbolic partial differential equation to solve
+     * @param h    spatial step size (must be positive)
+     * @param tau  temporal step size (must be positive)
+     * @param ring ring to publish the layers into; its layer size must be N+1
+     * @throws IllegalArgumentException if ring is null or its layer size does not match the grid, or see
+     *                                  {@link #solve(HyperbolicEquation, double, double)}
+     */
+    public void solveStreaming(HyperbolicEquation eqn, double h, double tau, LayerRingBuffer ring) {
+        if (ring == null) {
+            throw new IllegalArgumentException("ring must not be null");
+        }
+        try {
+            var area = buildArea(eqn, h, tau);
+            checkLayerSize(ring, area);
+            var u0 = initialLayer(eqn, area);
+            var u1 = calcFirstLayer(eqn, area, u0, h, tau);
+            ring.offer(0, area.tx(0), u0);
+            ring.offer(1, area.tx(1), u1);
+            march(eqn, area, null, u0, u1, h, tau, 0, null, (step, total, time, layer) -> {
+                ring.offer(step, time, layer);
+                return !ring.isAbandoned();
+            });
+        } finally {
+            ring.close();
+        }
+    }
+
+    /**
+     * Solves hyperbolic partial differential equation like {@link #solve(HyperbolicEquation, double, double)} on the
+     * given executor (a virtual-thread-per-task executor works as well). Every {@link SolveControl#checkInterval()}
+     * steps the progress is reported, cancellation of the returned future stops the solve, and the deadline is
+     * checked.
+     *
+     * @param eqn      hyperbolic partial differential equation to solve
+     * @param h        spatial step size (must be positive)
+     * @param tau      temporal step size (must be positive)
+     * @param control  progress listener, deadline and check interval
+     * @param executor executor to run the solve on
+     * @return future of the {@link Solution}; a partial one if the deadline stopped the solve with
+     * {@link SolveControl.DeadlinePolicy#PARTIAL}
+     * @throws IllegalArgumentException if control or executor is null, or if eqn, h or tau are invalid
+     */
+    public CompletableFuture<Solution<HyperbolicEquation>> solveAsync(HyperbolicEquation eqn, double h, double tau,
+                                                                      SolveControl control, Executor executor) {
+        var area = buildArea(eqn, h, tau);
+        return AsyncSolve.submit(control, executor, observer -> start(eqn, area, h, tau, null, observer));
+    }
+
+    /**
+     * Continues an interrupted solve from the last checkpoint and keeps writing checkpoints.
+     * Layers from the checkpoint on are identical to the layers of an uninterrupted solve; the returned
+     * {@link Solution} starts at the first of the two checkpoint layers (earlier layers are not saved in the
+     * checkpoint).
+     *
+     * @param eqn           the same equation which was being solved
+     * @param checkpointing checkpoint file and interval
+     * @return {@link Solution} with the time layers from the checkpoint to the end
+     * @throws IllegalArgumentException if an argument is null, or if the checkpoint was written by another scheme,
+     *                                  another sigma or for another equation domain
+     * @throws IOException              if the checkpoint cannot be read or is corrupted
+     */
+    public Solution<HyperbolicEquation> resume(HyperbolicEquation eqn, Checkpointing checkpointing)
+            throws IOException {
+        if (eqn == null || checkpointing == null) {
+            throw new IllegalArgumentException("eqn and checkpointing must not be null");
+        }
+        var checkpoint = Checkpoint.read(checkpointing, SCHEME, sigma, eqn, 2, (h, tau) -> buildArea(eqn, h, tau));
+        var area = buildArea(eqn, checkpoint.h(), checkpoint.tau());
+        var matrix = new Matrix2D(area.tn() + 1, area.xn() + 1, storage);
+        checkpoint.restore(matrix);
+        var layers = checkpoint.layers();
+        var solution = march(eqn, area, matrix, layers[0], layers[1], checkpoint.h(), checkpoint.tau(),
+                checkpoint.step() - 1, checkpointing, null);
+        return checkpoint.tail(solution);
+    }
+
+    /**
+     * Continues the solution to a later end time without recomputing its layers: the three-layer march goes on from
+     * the two last layers with the same steps {@code h} and {@code tau}. The equation coefficients and border
+     * conditions are evaluated beyond the {@code t2} of the equation. The march starts from the two stored last
+     * layers, so a solution stored as floats is continued from the rounded values. The given solution is not
+     * modified.
+     *
+     * @param solution solution found by this solver (or another solver of the same equation) with at least 2 layers
+     * @param t2       new end time (must add at least one time step)
+     * @return {@link Solution} on the extended time axis; its first layers are copied from the given solution
+     * @throws IllegalArgumentException if solution is null or has only one layer, if t2 does not extend the time
+     *                                  axis, or if a time-step tridiagonal system is degenerate
+     */
+    public Solution<HyperbolicEquation> extend(Solution<HyperbolicEquation> solution, double t2) {
+        var area = extendArea(solution, t2);
+        var old = solution.area();
+        if (old.tn() < 1) {
+            throw new IllegalArgumentException("three-layer scheme needs at least 2 time layers to continue");
+        }
+        var matrix = solution.matrix().copyWithRows(area.tn() + 1);
+        return march(solution.equation(), area, matrix, matrix.getRow(old.tn() - 1), matrix.getRow(old.tn()),
+                old.x().h(), old.t().h(), old.tn() - 1, null, null);
+    }
+
+    /**
+     * Computes the layers 0 and 1 and marches from them to the end of the area.
+     */
+    private Solution<HyperbolicEquation> start(HyperbolicEquation eqn, Area area, double h, double tau,
+                                               Checkpointing checkpointing, LayerObserver observer) {
+        var u0 = initialLayer(eqn, area);
+        var u1 = calcFirstLayer(eqn, area, u0, h, tau);
+        var matrix = prepare(area, u0, storage);
+        matrix.setRow(1, u1);
+        return march(eqn, area, matrix, u0, u1, h, tau, 0, checkpointing, observer);
+    }
 
+    /**
+     * Marches the whole area, passing the layers to the recorder of checkpoints; every checkpoint holds two layers
+     * to continue the three-layer scheme.
+     */
+    private CheckpointedSolution<HyperbolicEquation> solveCheckpointed(HyperbolicEquation eqn, Area area, double h,
+                                                                       double tau,
+                                                                       CheckpointedSolution.Recorder recorder) {
+        var u0 = initialLayer(eqn, area);
+        var u1 = calcFirstLayer(eqn, area, u0, h, tau);
+        recorder.onLayer(0, area.tn(), area.tx(0), u0);
+        recorder.onLayer(1, area.tn(), area.tx(1), u1);
+        march(eqn, area, null, u0, u1, h, tau, 0, null, recorder);
+        return recorder.build(eqn, (first, layers, observer) ->
+                march(eqn, area, null, layers[0], layers[1], h, tau, first, null, observer));
+    }
+
+    /**
+     * Calculates U values on layer 1 which are needed to start the three-layer scheme.
+     */
+    private double[] calcFirstLayer(HyperbolicEquation eqn, Area area, double[] u0, double h, double tau) {
         int N = area.xn();
-        var A = new double[N];
-        var B = new double[N];
-        var C = new double[N];
-        var F = new double[N];
-        double _2h = 2 * h,           // To speed-up calculations & readability
+        var u1 = new double[N + 1];
+        double _2h = 2 * h,
                 h2 = h * h,
-                t_2 = tau / 2.,
-                h_2 = h / 2.,
-                h2_tau = h2 / tau,
-                _2h2_tau2 = 2 * Math.pow(h / tau, 2);
+                t_2 = tau / 2.;
 
-        // Set border conditions on layer 1
-        matrix.set(1, 0, calcFirstLayerValue(eqn, tau, matrix.get(0, 0), area.xLeft()));
-        matrix.set(1, N, calcFirstLayerValue(eqn, tau, matrix.get(0, N), area.xRight()));
+        boolean periodic = isPeriodic(eqn);
+        if (!periodic) {
+            // Set border conditions on layer 1
+            u1[0] = calcFirstLayerValue(eqn, tau, u0[0], area.xLeft());
+            u1[N] = calcFirstLayerValue(eqn, tau, u0[N], area.xRight());
+        }
 
-        // Calculate U value on layer 1 which needed to start finite-difference algorithm
-        //
-        for (int i = 1; i < N; i++) {
+        for (int i = periodic ? 0 : 1; i < N; i++) {
             double
-                    _u = matrix.get(0, i - 1),
-                    u = matrix.get(0, i),
-                    u_ = matrix.get(0, i + 1),
+                    _u = u0[i == 0 ? N - 1 : i - 1],
+                    u = u0[i],
+                    u_ = u0[periodic && i == N - 1 ? 0 : i + 1],
                     x = area.xx(i);
 
-            matrix.set(1, i, u + tau * (eqn.gdU_dt0(x) + t_2 / eqn.gM(x, 0, u) * (
-                    eqn.gK(x, 0, u) / h2 * (_u - 2 * u + u_) + eqn.gV(x, 0, u) / _2h * (u_ - _u) + eqn.gF(x, 0, u))));
+            u1[i] = u + tau * (eqn.gdU_dt0(x) + t_2 / eqn.gM(x, 0, u) * (
+                    eqn.gK(x, 0, u) / h2 * (_u - 2 * u + u_) + eqn.gV(x, 0, u) / _2h * (u_ - _u) + eqn.gF(x, 0, u)));
         }
+        if (periodic) {
+            u1[N] = u1[0];
+        }
+        return u1;
+    }
+
+    /**
+     * Marches from time layers {@code first} and {@code first + 1}, given in double precision as {@code layer} and
+     * {@code nextLayer}, to the end of the area and stores the new layers in the matrix; without matrix the layers
+     * are only passed to the observer and null is returned.
+     */
+    private Solution<HyperbolicEquation> march(HyperbolicEquation eqn, Area area, Matrix2D matrix, double[] layer,
+                                               double[] nextLayer, double h, double tau, int first,
+                                               Checkpointing checkpointing, LayerObserver observer) {
+        int N = area.xn();
+        var A = new double[N];
+        var B = new double[N];
+        var C = new double[N];
+        var F = new double[N];
+        double h2 = h * h,            // To speed-up calculations & readability
+                h_2 = h / 2.,
+                h2_tau = h2 / tau,
+                _2h2_tau2 = 2 * Math.pow(h / tau, 2),
+                _2s = 2 * sigma,
+                _2s_ = 2 * (1 - 2 * sigma);
+
+        // With periodic border conditions node N is node 0: node 0 gets an equation with neighbour N-1 and node N-1
+        // takes node 0 as its right neighbour
+        boolean periodic = isPeriodic(eqn);
+        var prev = layer;
+        var cur = nextLayer;
 
         // Finite-difference algorithm implementation
         //
-        for (int j = 0; j <= area.tn() - 2; j++) {
-            for (int i = 1; i < N; i++) {
+        for (int j = first; j <= area.tn() - 2; j++) {
+            for (int i = periodic ? 0 : 1; i < N; i++) {
+                int il = i == 0 ? N - 1 : i - 1,
+                        ir = periodic && i == N - 1 ? 0 : i + 1;
                 double
-                        _u = matrix.get(j, i - 1),
-                        u = matrix.get(j, i),
-                        u_ = matrix.get(j, i + 1),
+                        _u = prev[il],
+                        u = prev[i],
+                        u_ = prev[ir],
+                        _w = cur[il],
+                        w = cur[i],
+                        w_ = cur[ir],
 
                         x = area.xx(i),
                         t = area.tx(j),
@@ -86,21 +450,34 @@ public class HyperbolicEquationSolver extends AbstractEquationSolver<HyperbolicE
                         Gamma = h2_tau * eqn.gL(x, t, u),
                         Delta = _2h2_tau2 * eqn.gM(x, t, u);
 
-                A[i] = Alpha;
-                B[i] = Beta;
-                C[i] = Alpha + Beta - Gamma + Delta;
-                F[i] = _u * Alpha + u_ * Beta - u * (Alpha + Beta + Gamma + Delta)
-                        + 2 * (matrix.get(j + 1, i) * Delta + eqn.gF(x, t, u) * h2);
+                A[i] = _2s * Alpha;
+                B[i] = _2s * Beta;
+                C[i] = _2s * (Alpha + Beta) - Gamma + Delta;
+                F[i] = _2s * (_u * Alpha + u_ * Beta) - u * (_2s * (Alpha + Beta) + Gamma + Delta)
+                        + 2 * (w * Delta + eqn.gF(x, t, u) * h2)
+                        + _2s_ * (_w * Alpha + w_ * Beta - w * (Alpha + Beta));
             }
 
             int nj = j + 2;
-            var time = area.tx(nj);
-            var kappaNuLeft = calcKappaNu(eqn.getLeftBorderCondition(), h, time);
-            var kappaNuRight = calcKappaNu(eqn.getRightBorderCondition(), h, time);
-            var U = solve3DiagonalEquationsSystem(A, B, C, F, kappaNuLeft, kappaNuRight);
-            matrix.setRow(nj, U);
+            var U = periodic
+                    ? solveCyclic3DiagonalEquationsSystem(A, B, C, F)
+                    : solve3DiagonalEquationsSystem(A, B, C, F,
+                    calcKappaNu(eqn.getLeftBorderCondition(), h, area.tx(nj)),
+                    calcKappaNu(eqn.getRightBorderCondition(), h, area.tx(nj)));
+            if (matrix != null) {
+                matrix.setRow(nj, U);
+            }
+            if (observer != null && !observer.onLayer(nj, area.tn(), area.tx(nj), U)) {
+                return truncate(eqn, area, matrix, nj, Double.NaN);
+            }
+
+            if (checkpointing != null && nj % checkpointing.interval() == 0 && nj < area.tn()) {
+                Checkpoint.save(checkpointing, SCHEME, sigma, eqn, h, tau, nj, cur, U);
+            }
+            prev = cur;
+            cur = U;
         }
-        return new Solution<>(eqn, area, matrix);
+        return truncate(eqn, area, matrix, area.tn(), Double.NaN);
     }
 
     /**
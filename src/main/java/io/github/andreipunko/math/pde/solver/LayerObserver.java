@@ -0,0 +1,21 @@
+package io.github.andreipunko.math.pde.solver;
+
+/**
+ * Callback of the time march of {@link ParabolicEquationSolver} and {@link HyperbolicEquationSolver}, invoked after
+ * every computed time layer. Package-private: the public faces are {@link LayerRingBuffer} and
+ * {@link SolveControl}.
+ */
+@FunctionalInterface
+interface LayerObserver {
+
+    /**
+     * Receives a computed time layer.
+     *
+     * @param step  time layer index
+     * @param total index of the last time layer of the solve
+     * @param time  time of the layer
+     * @param layer values of the layer; must not be modified or kept
+     * @return true to continue the time march, false to stop it and return the layers computed so far
+     */
+    boolean onLayer(int step, int total, double time, double[] layer);
+}
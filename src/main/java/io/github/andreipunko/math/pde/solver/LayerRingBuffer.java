@@ -0,0 +1,343 @@
+package io.github.andreipunko.math.pde.solver;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded lock-free ring of preallocated time layers for handing layers of a running solve from the solver thread
+ * (the single producer) to another thread (the single consumer), for example for plotting or live monitoring.
+ * <p>
+ * Slots are {@code double[layerSize]} arrays allocated once, so the hand-off itself does not allocate memory.
+ * Layers are numbered by increasing sequences starting from 0. The producer {@link #claim()}s a sequence, fills
+ * {@link #slot(long)} and {@link #publish}es it; the consumer takes the {@link #next()} sequence, reads the slot and
+ * {@link #release(long)}s it. Publication and release are ordered by two sequence counters with release/acquire
+ * semantics, no locks are taken. More than one producer or consumer thread is not supported.
+ * <p>
+ * The {@link WaitStrategy} defines what happens when the producer finds the ring full or the consumer finds it empty.
+ * The producer {@link #close()}s the ring after the last layer; {@link #next()} then returns -1 once the published
+ * layers are consumed. A consumer which is no longer interested in the layers {@link #abandon()}s the ring: the
+ * producer then stops waiting for free slots, and the solvers stop the solve at the next layer.
+ *
+ * @see ParabolicEquationSolver#solveStreaming(io.github.andreipunko.math.pde.equation.ParabolicEquation, double,
+ * double, LayerRingBuffer)
+ * @see HyperbolicEquationSolver#solveStreaming(io.github.andreipunko.math.pde.equation.HyperbolicEquation, double,
+ * double, LayerRingBuffer)
+ */
+public class LayerRingBuffer {
+
+    /**
+     * Behavior of a thread which cannot proceed because the ring is full (producer) or empty (consumer).
+     */
+    public enum WaitStrategy {
+        /**
+         * Park the thread until the other side makes progress; lowest CPU usage.
+         */
+        BLOCKING,
+        /**
+         * Busy-spin with {@link Thread#onSpinWait()}, yielding the core after a number of idle spins; lowest latency
+         * at the cost of a busy core.
+         */
+        SPINNING,
+        /**
+         * The producer drops the layer instead of waiting for a slow consumer (see {@link #dropped()}), so the
+         * solve is never slowed down; the consumer parks like with {@link #BLOCKING}.
+         */
+        DROPPING
+    }
+
+    private static final long PARK_NANOS = 50_000;
+    private static final int SPINS_BEFORE_YIELD = 1000;
+
+    private final double[][] slots;
+    private final int[] steps;
+    private final double[] times;
+    private final int mask;
+    private final int layerSize;
+    private final WaitStrategy waitStrategy;
+
+    private final AtomicLong published = new AtomicLong(-1);    // last published sequence
+    private final AtomicLong released = new AtomicLong(-1);     // last released sequence
+    private long claimed = -1;                                  // producer-local
+    private long nextRead;                                      // consumer-local
+    private volatile long dropped;
+    private volatile boolean closed;
+    private volatile boolean abandoned;
+    private volatile Thread parkedProducer;
+    private volatile Thread parkedConsumer;
+
+    /**
+     * Creates a ring with preallocated slots.
+     *
+     * @param capacity     number of slots (must be a positive power of two)
+     * @param layerSize    number of values in a layer, N+1 for a grid of N spatial steps (must be positive)
+     * @param waitStrategy behavior of a thread which cannot proceed
+     * @throws IllegalArgumentException if capacity is not a positive power of two, if layerSize &lt;= 0, or if
+     *                                  waitStrategy is null
+     */
+    public LayerRingBuffer(int capacity, int layerSize, WaitStrategy waitStrategy) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a positive power of two, got: " + capacity);
+        }
+        if (layerSize <= 0) {
+            throw new IllegalArgumentException("layerSize must be positive, got: " + layerSize);
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("waitStrategy must not be null");
+        }
+        this.slots = new double[capacity][layerSize];
+        this.steps = new int[capacity];
+        this.times = new double[capacity];
+        this.mask = capacity - 1;
+        this.layerSize = layerSize;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return capacity of the ring
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the number of values in a layer.
+     *
+     * @return layer size
+     */
+    public int getLayerSize() {
+        return layerSize;
+    }
+
+    /**
+     * Returns the wait strategy of the ring.
+     *
+     * @return wait strategy
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Claims the next slot for writing (producer side). Waits according to the {@link WaitStrategy} while the ring
+     * is full; with {@link WaitStrategy#DROPPING} returns -1 instead. Returns -1 without waiting once the consumer
+     * has {@link #abandon()}ed the ring.
+     *
+     * @return claimed sequence, or -1 if the layer is dropped or the ring is abandoned
+     * @throws IllegalStateException if the ring is closed
+     */
+    public long claim() {
+        if (closed) {
+            throw new IllegalStateException("ring is closed");
+        }
+        if (abandoned) {
+            return -1;
+        }
+        long seq = claimed + 1,
+                wrap = seq - slots.length;
+        if (released.get() < wrap) {
+            if (waitStrategy == WaitStrategy.DROPPING) {
+                dropped = dropped + 1;
+                return -1;
+            }
+            parkedProducer = Thread.currentThread();
+            for (int idle = 0; released.get() < wrap; idle++) {
+                if (abandoned) {
+                    parkedProducer = null;
+                    return -1;
+                }
+                await(idle);
+            }
+            parkedProducer = null;
+        }
+        claimed = seq;
+        return seq;
+    }
+
+    /**
+     * Returns the slot of a sequence. The producer writes the slot between {@link #claim()} and {@link #publish};
+     * the consumer reads it between {@link #next()} and {@link #release(long)}.
+     *
+     * @param seq claimed or received sequence
+     * @return slot array of {@link #getLayerSize()} values
+     */
+    public double[] slot(long seq) {
+        return slots[(int) seq & mask];
+    }
+
+    /**
+     * Makes a claimed slot visible to the consumer (producer side).
+     *
+     * @param seq  sequence returned by {@link #claim()}
+     * @param step time layer index of the layer in the slot
+     * @param time time of the layer in the slot
+     * @throws IllegalArgumentException if seq is not the last claimed sequence
+     */
+    public void publish(long seq, int step, double time) {
+        if (seq != claimed || seq <= published.get()) {
+            throw new IllegalArgumentException("sequence " + seq + " is not claimed");
+        }
+        int idx = (int) seq & mask;
+        steps[idx] = step;
+        times[idx] = time;
+        published.lazySet(seq);
+        wake(parkedConsumer);
+    }
+
+    /**
+     * Copies a layer into the next slot and publishes it (producer side). Waits or drops the layer according to the
+     * {@link WaitStrategy} while the ring is full.
+     *
+     * @param step  time layer index
+     * @param time  time of the layer
+     * @param layer values of the layer ({@link #getLayerSize()} elements)
+     * @return true if the layer was published, false if it was dropped or the ring is abandoned
+     * @throws IllegalArgumentException if the layer size does not match
+     * @throws IllegalStateException    if the ring is closed
+     */
+    public boolean offer(int step, double time, double[] layer) {
+        if (layer == null || layer.length != layerSize) {
+            throw new IllegalArgumentException("layer must have " + layerSize + " elements, got "
+                    + (layer == null ? "null" : layer.length));
+        }
+        long seq = claim();
+        if (seq < 0) {
+            return false;
+        }
+        System.arraycopy(layer, 0, slot(seq), 0, layerSize);
+        publish(seq, step, time);
+        return true;
+    }
+
+    /**
+     * Marks the end of the stream (producer side). Layers published before are still delivered to the consumer.
+     */
+    public void close() {
+        closed = true;
+        wake(parkedConsumer);
+    }
+
+    /**
+     * Returns whether the producer closed the ring.
+     *
+     * @return true if the ring is closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Tells the producer that the remaining layers are not wanted (consumer side), for example because the client
+     * they were meant for went away. Further layers are not published and a producer waiting for a free slot returns;
+     * layers published before may still be received.
+     */
+    public void abandon() {
+        abandoned = true;
+        wake(parkedProducer);
+    }
+
+    /**
+     * Returns whether the consumer abandoned the ring.
+     *
+     * @return true if the remaining layers are not wanted
+     */
+    public boolean isAbandoned() {
+        return abandoned;
+    }
+
+    /**
+     * Returns the number of layers dropped by the producer with {@link WaitStrategy#DROPPING}.
+     *
+     * @return number of dropped layers
+     */
+    public long dropped() {
+        return dropped;
+    }
+
+    /**
+     * Waits for the next published layer (consumer side) according to the {@link WaitStrategy}.
+     *
+     * @return sequence of the next layer, or -1 if the ring is closed and all published layers were received
+     */
+    public long next() {
+        long seq = nextRead;
+        if (published.get() < seq) {
+            parkedConsumer = Thread.currentThread();
+            for (int idle = 0; published.get() < seq; idle++) {
+                if (closed && published.get() < seq) {
+                    parkedConsumer = null;
+                    return -1;
+                }
+                await(idle);
+            }
+            parkedConsumer = null;
+        }
+        nextRead = seq + 1;
+        return seq;
+    }
+
+    /**
+     * Returns the next published layer without waiting (consumer side).
+     *
+     * @return sequence of the next layer, or -1 if no layer is published yet
+     */
+    public long poll() {
+        long seq = nextRead;
+        if (published.get() < seq) {
+            return -1;
+        }
+        nextRead = seq + 1;
+        return seq;
+    }
+
+    /**
+     * Returns the time layer index of a received layer.
+     *
+     * @param seq received sequence
+     * @return time layer index
+     */
+    public int step(long seq) {
+        return steps[(int) seq & mask];
+    }
+
+    /**
+     * Returns the time of a received layer.
+     *
+     * @param seq received sequence
+     * @return time of the layer
+     */
+    public double time(long seq) {
+        return times[(int) seq & mask];
+    }
+
+    /**
+     * Returns the slot of a received layer (and all the earlier ones) to the producer (consumer side).
+     *
+     * @param seq received sequence
+     */
+    public void release(long seq) {
+        released.lazySet(seq);
+        wake(parkedProducer);
+    }
+
+    private void await(int idle) {
+        if (waitStrategy == WaitStrategy.SPINNING) {
+            if (idle < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                // The other side may need this core (more threads than cores)
+                Thread.yield();
+            }
+        } else {
+            // Bounded park: a wake-up missed between the check and the park costs at most PARK_NANOS
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+    }
+
+    private void wake(Thread thread) {
+        if (thread != null && waitStrategy != WaitStrategy.SPINNING) {
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.space.Area;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Time series of reductions of the time layers of a solve: one value of every selected {@link Reduction} per layer.
+ * The parabolic and hyperbolic solvers compute them during the time march, while each new layer is still in cache
+ * ({@code solveWithStatistics(eqn, h, tau, reductions)}), or instead of storing the layers at all
+ * ({@code statistics(eqn, h, tau, reductions)}). The series start at time layer {@link #firstStep()} and cover
+ * consecutive layers.
+ */
+public final class LayerStatistics {
+
+    /**
+     * Reduction of a time layer U(x) on the nodes x_0..x_N with step h. Integrals use the trapezoidal rule.
+     */
+    public enum Reduction {
+        /**
+         * Minimum value.
+         */
+        MIN,
+        /**
+         * Maximum value.
+         */
+        MAX,
+        /**
+         * Integral of |U| over the interval.
+         */
+        L1_NORM,
+        /**
+         * Square root of the integral of U^2 over the interval.
+         */
+        L2_NORM,
+        /**
+         * Integral of U over the interval (the total mass of a diffusion problem).
+         */
+        INTEGRAL,
+        /**
+         * dU/dx at the left end, by the one-sided difference of second order (of first order if N = 1).
+         */
+        LEFT_GRADIENT,
+        /**
+         * dU/dx at the right end, by the one-sided difference of second order (of first order if N = 1).
+         */
+        RIGHT_GRADIENT
+    }
+
+    private static final Reduction[] REDUCTIONS = Reduction.values();
+
+    private final Set<Reduction> reductions;
+    private final int firstStep;
+    private final double[] times;
+    private final double[][] values;        // Indexed by Reduction.ordinal(), null if not selected
+
+    private LayerStatistics(Set<Reduction> reductions, int firstStep, double[] times, double[][] values) {
+        this.reductions = reductions;
+        this.firstStep = firstStep;
+        this.times = times;
+        this.values = values;
+    }
+
+    /**
+     * Computes the reductions of all time layers of a solution.
+     *
+     * @param solution   solution to reduce
+     * @param reductions reductions to compute
+     * @return time series of the reductions
+     * @throws IllegalArgumentException if solution is null, or if reductions is null, empty or contains null
+     */
+    public static LayerStatistics of(Solution<? extends Equation> solution, Set<Reduction> reductions) {
+        if (solution == null) {
+            throw new IllegalArgumentException("solution must not be null");
+        }
+        var area = solution.area();
+        var collector = new Collector(reductions, area, 0);
+        for (int j = 0; j <= area.tn(); j++) {
+            collector.onLayer(j, area.tn(), area.tx(j), solution.matrix().getRow(j));
+        }
+        return collector.statistics();
+    }
+
+    /**
+     * Returns the computed reductions.
+     *
+     * @return unmodifiable set of the reductions
+     */
+    public Set<Reduction> reductions() {
+        return reductions;
+    }
+
+    /**
+     * Returns the time layer index of the first value of the series.
+     *
+     * @return index of the first reduced layer
+     */
+    public int firstStep() {
+        return firstStep;
+    }
+
+    /**
+     * Returns the number of reduced time layers.
+     *
+     * @return length of every series
+     */
+    public int size() {
+        return times.length;
+    }
+
+    /**
+     * Returns the times of the reduced layers.
+     *
+     * @return copy of the times
+     */
+    public double[] times() {
+        return times.clone();
+    }
+
+    /**
+     * Returns the time series of a reduction.
+     *
+     * @param reduction computed reduction
+     * @return copy of the values, one per reduced layer
+     * @throws IllegalArgumentException if the reduction was not computed
+     */
+    public double[] get(Reduction reduction) {
+        if (reduction == null || !reductions.contains(reduction)) {
+            throw new IllegalArgumentException("reduction was not computed: " + reduction);
+        }
+        return values[reduction.ordinal()].clone();
+    }
+
+    /**
+     * Returns the value of a reduction on a time layer.
+     *
+     * @param reduction computed reduction
+     * @param step      time layer index
+     * @return value of the reduction on the layer
+     * @throws IllegalArgumentException if the reduction was not computed or the layer was not reduced
+     */
+    public double get(Reduction reduction, int step) {
+        if (reduction == null || !reductions.contains(reduction)) {
+            throw new IllegalArgumentException("reduction was not computed: " + reduction);
+        }
+        if (step < firstStep || step >= firstStep + times.length) {
+            throw new IllegalArgumentException("step out of bounds: " + step + ", valid [" + firstStep + ", "
+                    + (firstStep + times.length - 1) + "]");
+        }
+        return values[reduction.ordinal()][step - firstStep];
+    }
+
+    /**
+     * Observer of the time march which reduces every layer it receives. Layers must come in order, without gaps.
+     */
+    static final class Collector implements LayerObserver {
+
+        private final Set<Reduction> reductions;
+        private final double h;
+        private final int firstStep;
+        private final double[] times;
+        private final double[][] values;
+        private int size;
+
+        /**
+         * @param reductions reductions to compute
+         * @param area       the space-time domain of the solve
+         * @param firstStep  index of the first layer to receive
+         * @throws IllegalArgumentException if reductions is null, empty or contains null
+         */
+        Collector(Set<Reduction> reductions, Area area, int firstStep) {
+            if (reductions == null || reductions.isEmpty()) {
+                throw new IllegalArgumentException("reductions must not be null or empty");
+            }
+            for (var reduction : reductions) {
+                if (reduction == null) {
+                    throw new IllegalArgumentException("reductions must not contain null");
+                }
+            }
+            this.reductions = Collections.unmodifiableSet(EnumSet.copyOf(reductions));
+            this.h = area.x().h();
+            this.firstStep = firstStep;
+            int capacity = area.tn() + 1 - firstStep;
+            this.times = new double[capacity];
+            this.values = new double[REDUCTIONS.length][];
+            for (var reduction : this.reductions) {
+                values[reduction.ordinal()] = new double[capacity];
+            }
+        }
+
+        @Override
+        public boolean onLayer(int step, int total, double time, double[] layer) {
+            if (step != firstStep + size) {
+                throw new IllegalStateException("expected layer " + (firstStep + size) + ", got: " + step);
+            }
+            int N = layer.length - 1;
+            double min = layer[0],
+                    max = layer[0],
+                    abs = (Math.abs(layer[0]) + Math.abs(layer[N])) / 2,
+                    squares = (layer[0] * layer[0] + layer[N] * layer[N]) / 2,
+                    sum = (layer[0] + layer[N]) / 2;
+            // Single pass over the layer; the ends get weight 1/2 of the trapezoidal rule
+            for (int i = 1; i <= N; i++) {
+                double u = layer[i];
+                min = Math.min(min, u);
+                max = Math.max(max, u);
+                if (i < N) {
+                    abs += Math.abs(u);
+                    squares += u * u;
+                    sum += u;
+                }
+            }
+
+            put(Reduction.MIN, min);
+            put(Reduction.MAX, max);
+            put(Reduction.L1_NORM, abs * h);
+            put(Reduction.L2_NORM, Math.sqrt(squares * h));
+            put(Reduction.INTEGRAL, sum * h);
+            if (N == 1) {
+                put(Reduction.LEFT_GRADIENT, (layer[1] - layer[0]) / h);
+                put(Reduction.RIGHT_GRADIENT, (layer[1] - layer[0]) / h);
+            } else {
+                put(Reduction.LEFT_GRADIENT, (-3 * layer[0] + 4 * layer[1] - layer[2]) / (2 * h));
+                put(Reduction.RIGHT_GRADIENT, (3 * layer[N] - 4 * layer[N - 1] + layer[N - 2]) / (2 * h));
+            }
+            times[size++] = time;
+            return true;
+        }
+
+        private void put(Reduction reduction, double value) {
+            var series = values[reduction.ordinal()];
+            if (series != null) {
+                series[size] = value;
+            }
+        }
+
+        /**
+         * Returns the series of the layers received so far.
+         */
+        LayerStatistics statistics() {
+            var trimmed = new double[REDUCTIONS.length][];
+            for (var reduction : reductions) {
+                trimmed[reduction.ordinal()] = Arrays.copyOf(values[reduction.ordinal()], size);
+            }
+            return new LayerStatistics(reductions, firstStep, Arrays.copyOf(times, size), trimmed);
+        }
+    }
+}
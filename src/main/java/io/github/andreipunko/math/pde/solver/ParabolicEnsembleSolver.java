@@ -0,0 +1,279 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.space.Area;
+import io.github.andreipunko.math.space.Interval;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static io.github.andreipunko.math.pde.solver.AbstractEquationSolver.divideThomas;
+import static io.github.andreipunko.math.pde.solver.AbstractEquationSolver.kappaNu;
+
+/**
+ * Solver for an ensemble of linear parabolic equations which share one operator and differ in the initial condition,
+ * the source term and the border values, for example realizations of an uncertainty study.
+ * <p>
+ * All members are advanced together by the scheme of {@link ParabolicEquationSolver} with weight {@code sigma}.
+ * The operator (coefficients L, K and V, domain and border condition types) is taken from the first member and is
+ * assembled, together with the forward sweep of the Thomas algorithm, once per time step for the whole ensemble.
+ * L, K and V are evaluated with U = 0, so they must not depend on U. Every member supplies its own
+ * {@link ParabolicEquation#gU0}, {@link ParabolicEquation#gF} and border values.
+ * <p>
+ * The layers of the ensemble are stored by node: the values of all members at node i are contiguous, so the right-hand
+ * sides and the back substitution are simple loops over the members which the JIT compiler vectorizes.
+ * <p>
+ * The results are either one {@link Solution} per member ({@link #solve}) or the mean and the variance over the
+ * members at every node ({@link #solveStatistics}), which are accumulated layer by layer without storing the
+ * members.
+ *
+ * @see ParabolicEquationSolver
+ */
+public class ParabolicEnsembleSolver {
+
+    private final double sigma;
+
+    /**
+     * Creates an ensemble solver using the Crank-Nicolson scheme ({@code sigma = 0.5}).
+     */
+    public ParabolicEnsembleSolver() {
+        this(ParabolicEquationSolver.CRANK_NICOLSON);
+    }
+
+    /**
+     * Creates an ensemble solver using the scheme with given weight of the new time layer.
+     *
+     * @param sigma weight of the new time layer (0 &lt;= sigma &lt;= 1)
+     * @throws IllegalArgumentException if sigma is not finite or outside [0, 1]
+     */
+    public ParabolicEnsembleSolver(double sigma) {
+        if (!Double.isFinite(sigma) || sigma < 0 || sigma > 1) {
+            throw new IllegalArgumentException("sigma must be in [0, 1], got: " + sigma);
+        }
+        this.sigma = sigma;
+    }
+
+    /**
+     * Returns the weight of the new time layer used by this solver.
+     *
+     * @return scheme weight sigma
+     */
+    public double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * Solves all members and returns their solutions.
+     *
+     * @param members equations of the ensemble (the first one defines the operator)
+     * @param h       spatial step size (must be finite and positive)
+     * @param tau     time step size (must be finite and positive)
+     * @return solution of every member, in the order of the members
+     * @throws IllegalArgumentException if members is null, empty or contains null, if the members do not share the
+     *                                  domain or the border condition types, if a border condition is periodic, if
+     *                                  h or tau are invalid, or if a tridiagonal system is degenerate
+     */
+    public List<Solution<ParabolicEquation>> solve(List<? extends ParabolicEquation> members, double h, double tau) {
+        var area = buildArea(members, h, tau);
+        int M = members.size();
+        int n = area.xn() + 1;
+        var matrices = new Matrix2D[M];
+        for (int m = 0; m < M; m++) {
+            matrices[m] = new Matrix2D(area.tn() + 1, n);
+        }
+        var row = new double[n];
+        march(members, area, h, tau, (j, u) -> {
+            for (int m = 0; m < M; m++) {
+                for (int i = 0; i < n; i++) {
+                    row[i] = u[i * M + m];
+                }
+                matrices[m].setRow(j, row);
+            }
+        });
+
+        var solutions = new ArrayList<Solution<ParabolicEquation>>(M);
+        for (int m = 0; m < M; m++) {
+            solutions.add(new Solution<>(members.get(m), area, matrices[m]));
+        }
+        return solutions;
+    }
+
+    /**
+     * Solves all members and returns the mean and the sample variance over the members at every grid node.
+     *
+     * @param members equations of the ensemble (the first one defines the operator)
+     * @param h       spatial step size (must be finite and positive)
+     * @param tau     time step size (must be finite and positive)
+     * @return mean and variance on the grid
+     * @throws IllegalArgumentException see {@link #solve}
+     */
+    public EnsembleStatistics solveStatistics(List<? extends ParabolicEquation> members, double h, double tau) {
+        var area = buildArea(members, h, tau);
+        int M = members.size();
+        int n = area.xn() + 1;
+        var mean = new Matrix2D(area.tn() + 1, n);
+        var variance = new Matrix2D(area.tn() + 1, n);
+        var meanRow = new double[n];
+        var varianceRow = new double[n];
+        march(members, area, h, tau, (j, u) -> {
+            for (int i = 0; i < n; i++) {
+                double sum = 0;
+                for (int m = i * M; m < (i + 1) * M; m++) {
+                    sum += u[m];
+                }
+                double avg = sum / M,
+                        sq = 0;
+                for (int m = i * M; m < (i + 1) * M; m++) {
+                    double d = u[m] - avg;
+                    sq += d * d;
+                }
+                meanRow[i] = avg;
+                varianceRow[i] = M > 1 ? sq / (M - 1) : 0;
+            }
+            mean.setRow(j, meanRow);
+            variance.setRow(j, varianceRow);
+        });
+        return new EnsembleStatistics(members.size(), area, mean, variance);
+    }
+
+    /**
+     * Receiver of the ensemble layers: {@code u[i*M + m]} is the value of member m at node i.
+     */
+    private interface EnsembleLayerConsumer {
+        void accept(int step, double[] u);
+    }
+
+    private void march(List<? extends ParabolicEquation> members, Area area, double h, double tau,
+                       EnsembleLayerConsumer consumer) {
+        var eqns = members.toArray(new ParabolicEquation[0]);
+        var operator = eqns[0];
+        int M = eqns.length;
+        int N = area.xn();
+        var u = new double[(N + 1) * M];
+        for (int m = 0; m < M; m++) {
+            for (int i = 0; i <= N; i++) {
+                u[i * M + m] = eqns[m].gU0(area.xx(i));
+            }
+        }
+        consumer.accept(0, u);
+
+        var next = new double[(N + 1) * M];
+        var F = new double[N * M];
+        var Beta = new double[(N + 1) * M];     // forward sweep of every member
+        var nuLeft = new double[M];
+        var nuRight = new double[M];
+        var A = new double[N];
+        var B = new double[N];
+        var C = new double[N];
+        var Alpha = new double[N + 1];          // forward sweep of the shared operator
+        var inv = new double[N];                // 1 / (C[i] - A[i]*Alpha[i])
+        double
+                _2h2 = 2 * h * h,
+                _2h2_tau = _2h2 / tau,
+                _2s = 2 * sigma,
+                _2s_ = 2 * (1 - sigma);
+
+        for (int j = 0; j < area.tn(); j++) {
+            double t = area.tx(j),
+                    time = area.tx(j + 1);
+
+            // Shared operator and the explicit part of the right-hand side of every member
+            for (int i = 1; i < N; i++) {
+                double
+                        _x = area.xx(i - 1),
+                        x = area.xx(i),
+                        x_ = area.xx(i + 1),
+                        k = operator.gK(x, t, 0),
+                        a = (k + operator.gK(x_, t, 0) + operator.gV(x, t, 0) * h) / 2.,
+                        b = (k + operator.gK(_x, t, 0) - operator.gV(x, t, 0) * h) / 2.,
+                        Gamma = _2h2_tau * operator.gL(x, t, 0),
+                        diag = _2s_ * (a + b) - Gamma;
+
+                A[i] = _2s * b;
+                B[i] = _2s * a;
+                C[i] = _2s * (a + b) + Gamma;
+                int row = i * M;
+                for (int m = 0; m < M; m++) {
+                    F[row + m] = _2s_ * (u[row + M + m] * a + u[row - M + m] * b) - u[row + m] * diag;
+                }
+                for (int m = 0; m < M; m++) {
+                    F[row + m] += _2h2 * eqns[m].gF(x, t, u[row + m]);
+                }
+            }
+
+            // Border conditions: the types (kappa) are shared, the values (nu) belong to the members
+            double kappaLeft = 0,
+                    kappaRight = 0;
+            for (int m = 0; m < M; m++) {
+                var left = kappaNu(eqns[m].getLeftBorderCondition(), h, time);
+                var right = kappaNu(eqns[m].getRightBorderCondition(), h, time);
+                if (m == 0) {
+                    kappaLeft = left.kappa();
+                    kappaRight = right.kappa();
+                } else if (left.kappa() != kappaLeft || right.kappa() != kappaRight) {
+                    throw new IllegalArgumentException("member " + m + " has other border conditions than member 0");
+                }
+                nuLeft[m] = left.nu();
+                nuRight[m] = right.nu();
+            }
+
+            // Forward sweep: Alpha once for the ensemble, Beta for every member
+            Alpha[1] = kappaLeft;
+            System.arraycopy(nuLeft, 0, Beta, M, M);
+            for (int i = 1; i < N; i++) {
+                inv[i] = divideThomas(1, C[i] - A[i] * Alpha[i], "forward sweep, row index " + i);
+                Alpha[i + 1] = B[i] * inv[i];
+                double Ai = A[i],
+                        invi = inv[i];
+                int row = i * M;
+                for (int m = 0; m < M; m++) {
+                    Beta[row + M + m] = (Ai * Beta[row + m] + F[row + m]) * invi;
+                }
+            }
+
+            // Back substitution
+            double invRight = divideThomas(1, 1 - kappaRight * Alpha[N], "right boundary (Y[N])");
+            for (int m = 0; m < M; m++) {
+                next[N * M + m] = (nuRight[m] + kappaRight * Beta[N * M + m]) * invRight;
+            }
+            for (int i = N - 1; i >= 0; i--) {
+                double a = Alpha[i + 1];
+                int row = i * M;
+                for (int m = 0; m < M; m++) {
+                    next[row + m] = a * next[row + M + m] + Beta[row + M + m];
+                }
+            }
+
+            var swap = u;
+            u = next;
+            next = swap;
+            consumer.accept(j + 1, u);
+        }
+    }
+
+    private static Area buildArea(List<? extends ParabolicEquation> members, double h, double tau) {
+        if (members == null || members.isEmpty() || members.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("members must be a non-empty list without nulls");
+        }
+        if (!Double.isFinite(h) || h <= 0) {
+            throw new IllegalArgumentException("spatial step h must be finite and positive, got: " + h);
+        }
+        if (!Double.isFinite(tau) || tau <= 0) {
+            throw new IllegalArgumentException("time step tau must be finite and positive, got: " + tau);
+        }
+        var first = members.get(0);
+        for (int m = 1; m < members.size(); m++) {
+            var eqn = members.get(m);
+            if (eqn.getX1() != first.getX1() || eqn.getX2() != first.getX2() || eqn.getT2() != first.getT2()) {
+                throw new IllegalArgumentException("member " + m + " domain [" + eqn.getX1() + ", " + eqn.getX2()
+                        + "]x[0, " + eqn.getT2() + "] differs from the domain of member 0");
+            }
+        }
+        return new Area(
+                new Interval(first.getX1(), first.getX2(), h),
+                new Interval(0, first.getT2(), tau)
+        );
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix3D;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation2D;
+import io.github.andreipunko.math.space.Area2D;
+import io.github.andreipunko.math.space.Interval;
+
+import java.util.stream.IntStream;
+
+import static io.github.andreipunko.math.pde.solver.AbstractEquationSolver.kappaNu;
+import static io.github.andreipunko.math.pde.solver.AbstractEquationSolver.solve3DiagonalEquationsSystem;
+
+/**
+ * Solver for two-dimensional parabolic equations using the alternating-direction implicit (ADI) scheme of Douglas:
+ * <p>
+ * L*(U* - U^n)/tau = Λx(U* + U^n)/2 + Λy(U^n) + F
+ * <p>
+ * L*(U^{n+1} - U*)/tau = Λy(U^{n+1} - U^n)/2
+ * <p>
+ * where Λx and Λy are the finite-difference space operators along x and y. Each half of the step is a set of
+ * independent tridiagonal systems: one per grid row for the x sweep and one per grid column for the y sweep.
+ * They are solved with the Thomas algorithm ({@link AbstractEquationSolver#solve3DiagonalEquationsSystem})
+ * in parallel on the common fork-join pool. The scheme is unconditionally stable and of second order in space and
+ * time for constant coefficients; coefficients are evaluated on the previous time layer.
+ * <p>
+ * Boundary conditions of each edge are applied in the sweep perpendicular to it; the corner nodes follow the
+ * conditions of the x edges. Only the last {@code timeWindow} time layers are stored (see {@link Solution2D}).
+ *
+ * @see ParabolicEquation2D
+ * @see Solution2D
+ */
+public class ParabolicEquation2DSolver {
+
+    private final int timeWindow;
+
+    /**
+     * Creates a solver which keeps all time layers.
+     */
+    public ParabolicEquation2DSolver() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a solver which keeps only the last {@code timeWindow} time layers.
+     *
+     * @param timeWindow number of time layers to keep (must be positive)
+     * @throws IllegalArgumentException if timeWindow &lt;= 0
+     */
+    public ParabolicEquation2DSolver(int timeWindow) {
+        if (timeWindow <= 0) {
+            throw new IllegalArgumentException("timeWindow must be positive, got: " + timeWindow);
+        }
+        this.timeWindow = timeWindow;
+    }
+
+    /**
+     * Solves the two-dimensional parabolic equation.
+     *
+     * @param eqn equation to solve
+     * @param hx  spatial step size along x (must be finite and positive)
+     * @param hy  spatial step size along y (must be finite and positive)
+     * @param tau time step size (must be finite and positive)
+     * @return {@link Solution2D} with the last time layers
+     * @throws IllegalArgumentException if eqn is null, if a step is not finite or not positive, if the grid has less
+     *                                  than two steps along x or y, or if a tridiagonal system is degenerate
+     */
+    public Solution2D solve(ParabolicEquation2D eqn, double hx, double hy, double tau) {
+        var area = buildArea(eqn, hx, hy, tau);
+        int nx = area.xn();
+        int ny = area.yn();
+        int ny1 = ny + 1;
+        int size = (nx + 1) * ny1;
+        var layers = new Matrix3D(Math.min(timeWindow, area.tn() + 1), nx + 1, ny1);
+
+        var u = new double[size];
+        for (int i = 0; i <= nx; i++) {
+            for (int j = 0; j <= ny; j++) {
+                u[i * ny1 + j] = eqn.gU0(area.xx(i), area.yy(j));
+            }
+        }
+        layers.setLayer(0, u);
+
+        var u1 = new double[size];
+        var next = new double[size];
+        var K = new double[size];
+        var L = new double[size];
+        var Vx = new double[size];
+        var Vy = new double[size];
+        var F = new double[size];
+        double _2hx2 = 2 * hx * hx,
+                _2hy2 = 2 * hy * hy;
+
+        for (int n = 0; n < area.tn(); n++) {
+            var t = area.tx(n);
+            var cur = u;
+            IntStream.rangeClosed(0, nx).parallel().forEach(i -> {
+                var x = area.xx(i);
+                for (int j = 0; j <= ny; j++) {
+                    var y = area.yy(j);
+                    var idx = i * ny1 + j;
+                    var U = cur[idx];
+                    K[idx] = eqn.gK(x, y, t, U);
+                    L[idx] = eqn.gL(x, y, t, U);
+                    Vx[idx] = eqn.gVx(x, y, t, U);
+                    Vy[idx] = eqn.gVy(x, y, t, U);
+                    F[idx] = eqn.gF(x, y, t, U);
+                }
+            });
+
+            var time = area.tx(n + 1);
+            var left = kappaNu(eqn.getLeftBorderCondition(), hx, time);
+            var right = kappaNu(eqn.getRightBorderCondition(), hx, time);
+            var bottom = kappaNu(eqn.getBottomBorderCondition(), hy, time);
+            var top = kappaNu(eqn.getTopBorderCondition(), hy, time);
+
+            // Sweep along x: one tridiagonal system per interior row j
+            IntStream.range(1, ny).parallel().forEach(j -> {
+                var A = new double[nx];
+                var B = new double[nx];
+                var C = new double[nx];
+                var D = new double[nx];
+                for (int i = 1; i < nx; i++) {
+                    int idx = i * ny1 + j;
+                    double
+                            k = K[idx],
+                            _u = cur[idx - ny1],
+                            uc = cur[idx],
+                            u_ = cur[idx + ny1],
+                            AlphaX = (k + K[idx + ny1] + Vx[idx] * hx) / 2.,
+                            BetaX = (k + K[idx - ny1] - Vx[idx] * hx) / 2.,
+                            AlphaY = (k + K[idx + 1] + Vy[idx] * hy) / 2.,
+                            BetaY = (k + K[idx - 1] - Vy[idx] * hy) / 2.,
+                            LambdaY = (AlphaY * (cur[idx + 1] - uc) - BetaY * (uc - cur[idx - 1])) / (hy * hy),
+                            Gamma = _2hx2 * L[idx] / tau;
+
+                    A[i] = BetaX;
+                    B[i] = AlphaX;
+                    C[i] = AlphaX + BetaX + Gamma;
+                    D[i] = Gamma * uc + AlphaX * (u_ - uc) - BetaX * (uc - _u) + _2hx2 * (LambdaY + F[idx]);
+                }
+                var Y = solve3DiagonalEquationsSystem(A, B, C, D, left, right);
+                for (int i = 0; i <= nx; i++) {
+                    u1[i * ny1 + j] = Y[i];
+                }
+            });
+
+            // Sweep along y: one tridiagonal system per interior column i
+            var dest = next;
+            IntStream.range(1, nx).parallel().forEach(i -> {
+                var A = new double[ny];
+                var B = new double[ny];
+                var C = new double[ny];
+                var D = new double[ny];
+                for (int j = 1; j < ny; j++) {
+                    int idx = i * ny1 + j;
+                    double
+                            k = K[idx],
+                            uc = cur[idx],
+                            AlphaY = (k + K[idx + 1] + Vy[idx] * hy) / 2.,
+                            BetaY = (k + K[idx - 1] - Vy[idx] * hy) / 2.,
+                            Gamma = _2hy2 * L[idx] / tau;
+
+                    A[j] = BetaY;
+                    B[j] = AlphaY;
+                    C[j] = AlphaY + BetaY + Gamma;
+                    D[j] = Gamma * u1[idx] - (AlphaY * (cur[idx + 1] - uc) - BetaY * (uc - cur[idx - 1]));
+                }
+                var Y = solve3DiagonalEquationsSystem(A, B, C, D, bottom, top);
+                System.arraycopy(Y, 0, dest, i * ny1, ny1);
+            });
+
+            // Edges x = x1 and x = x2 (including corners)
+            for (int j = 0; j <= ny; j++) {
+                next[j] = left.kappa() * next[ny1 + j] + left.nu();
+                next[nx * ny1 + j] = right.kappa() * next[(nx - 1) * ny1 + j] + right.nu();
+            }
+
+            next = u;
+            u = dest;
+            layers.setLayer((n + 1) % layers.getL(), u);
+        }
+        return new Solution2D(eqn, area, layers);
+    }
+
+    private Area2D buildArea(ParabolicEquation2D eqn, double hx, double hy, double tau) {
+        if (eqn == null) {
+            throw new IllegalArgumentException("eqn must not be null");
+        }
+        if (!Double.isFinite(hx) || hx <= 0) {
+            throw new IllegalArgumentException("spatial step hx must be finite and positive, got: " + hx);
+        }
+        if (!Double.isFinite(hy) || hy <= 0) {
+            throw new IllegalArgumentException("spatial step hy must be finite and positive, got: " + hy);
+        }
+        if (!Double.isFinite(tau) || tau <= 0) {
+            throw new IllegalArgumentException("time step tau must be finite and positive, got: " + tau);
+        }
+        var area = new Area2D(
+                new Interval(eqn.getX1(), eqn.getX2(), hx),
+                new Interval(eqn.getY1(), eqn.getY2(), hy),
+                new Interval(0, eqn.getT2(), tau)
+        );
+        if (area.xn() < 2 || area.yn() < 2) {
+            throw new IllegalArgumentException(
+                    "grid must have at least 2 steps along x and y, got " + area.xn() + "x" + area.yn());
+        }
+        return area;
+    }
+}
@@ -0,0 +1,294 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix3D;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation3D;
+import io.github.andreipunko.math.space.Area3D;
+import io.github.andreipunko.math.space.Interval;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static io.github.andreipunko.math.pde.solver.AbstractEquationSolver.kappaNu;
+import static io.github.andreipunko.math.pde.solver.AbstractEquationSolver.solve3DiagonalEquationsSystem;
+
+/**
+ * Solver for three-dimensional parabolic equations using the Douglas-Gunn alternating-direction implicit scheme:
+ * <p>
+ * L*(U* - U^n)/tau = Λx(U* + U^n)/2 + Λy(U^n) + Λz(U^n) + F
+ * <p>
+ * L*(U** - U*)/tau = Λy(U** - U^n)/2
+ * <p>
+ * L*(U^{n+1} - U**)/tau = Λz(U^{n+1} - U^n)/2
+ * <p>
+ * where Λx, Λy and Λz are the finite-difference space operators along x, y and z. Every sub-step is a set of
+ * independent tridiagonal systems, one per grid line of the sweep direction, solved with the Thomas algorithm
+ * ({@link AbstractEquationSolver#solve3DiagonalEquationsSystem}) in parallel on the common fork-join pool.
+ * <p>
+ * Grid values are stored with the z index innermost. Lines along x and y are strided, so a task takes a whole
+ * plane of lines (fixed y for the x sweep, fixed x for the y sweep) and gathers them into scratch arrays walking
+ * the contiguous z index in the inner loop; the solutions are scattered back the same way. Lines along z are
+ * contiguous and are solved in place.
+ * <p>
+ * Boundary conditions of each face are applied in the sweep perpendicular to it; the y faces are then filled from
+ * the z sweep result and the x faces (including edges and corners) last. Coefficients are evaluated on the previous
+ * time layer. Only the last {@code timeWindow} time layers are stored (see {@link Solution3D}).
+ *
+ * @see ParabolicEquation3D
+ * @see Solution3D
+ */
+public class ParabolicEquation3DSolver {
+
+    private final int timeWindow;
+
+    /**
+     * Creates a solver which keeps only the last time layer.
+     */
+    public ParabolicEquation3DSolver() {
+        this(1);
+    }
+
+    /**
+     * Creates a solver which keeps only the last {@code timeWindow} time layers.
+     *
+     * @param timeWindow number of time layers to keep (must be positive)
+     * @throws IllegalArgumentException if timeWindow &lt;= 0
+     */
+    public ParabolicEquation3DSolver(int timeWindow) {
+        if (timeWindow <= 0) {
+            throw new IllegalArgumentException("timeWindow must be positive, got: " + timeWindow);
+        }
+        this.timeWindow = timeWindow;
+    }
+
+    /**
+     * Solves the three-dimensional parabolic equation.
+     *
+     * @param eqn equation to solve
+     * @param hx  spatial step size along x (must be finite and positive)
+     * @param hy  spatial step size along y (must be finite and positive)
+     * @param hz  spatial step size along z (must be finite and positive)
+     * @param tau time step size (must be finite and positive)
+     * @return {@link Solution3D} with the last time layers
+     * @throws IllegalArgumentException if eqn is null, if a step is not finite or not positive, if the grid has less
+     *                                  than two steps along any axis, or if a tridiagonal system is degenerate
+     */
+    public Solution3D solve(ParabolicEquation3D eqn, double hx, double hy, double hz, double tau) {
+        var area = buildArea(eqn, hx, hy, hz, tau);
+        int nx = area.xn();
+        int ny = area.yn();
+        int nz = area.zn();
+        int nz1 = nz + 1;
+        int sx = (ny + 1) * nz1;   // stride between neighbours along x
+        int size = (nx + 1) * sx;
+
+        var layers = new ArrayList<Matrix3D>();
+        for (int s = 0; s < Math.min(timeWindow, area.tn() + 1); s++) {
+            layers.add(new Matrix3D(nx + 1, ny + 1, nz1));
+        }
+
+        var u = new double[size];
+        for (int i = 0; i <= nx; i++) {
+            for (int j = 0; j <= ny; j++) {
+                for (int k = 0; k <= nz; k++) {
+                    u[i * sx + j * nz1 + k] = eqn.gU0(area.xx(i), area.yy(j), area.zz(k));
+                }
+            }
+        }
+        layers.get(0).setAll(u);
+
+        var u1 = new double[size];
+        var u2 = new double[size];
+        var next = new double[size];
+        var K = new double[size];
+        var L = new double[size];
+        var Vx = new double[size];
+        var Vy = new double[size];
+        var Vz = new double[size];
+        var F = new double[size];
+        double _2hx2 = 2 * hx * hx,
+                _2hy2 = 2 * hy * hy,
+                _2hz2 = 2 * hz * hz;
+
+        for (int n = 0; n < area.tn(); n++) {
+            var t = area.tx(n);
+            var cur = u;
+            IntStream.rangeClosed(0, nx).parallel().forEach(i -> {
+                var x = area.xx(i);
+                for (int j = 0; j <= ny; j++) {
+                    var y = area.yy(j);
+                    for (int k = 0; k <= nz; k++) {
+                        var z = area.zz(k);
+                        var idx = i * sx + j * nz1 + k;
+                        var U = cur[idx];
+                        K[idx] = eqn.gK(x, y, z, t, U);
+                        L[idx] = eqn.gL(x, y, z, t, U);
+                        Vx[idx] = eqn.gVx(x, y, z, t, U);
+                        Vy[idx] = eqn.gVy(x, y, z, t, U);
+                        Vz[idx] = eqn.gVz(x, y, z, t, U);
+                        F[idx] = eqn.gF(x, y, z, t, U);
+                    }
+                }
+            });
+
+            var time = area.tx(n + 1);
+            var left = kappaNu(eqn.getLeftBorderCondition(), hx, time);
+            var right = kappaNu(eqn.getRightBorderCondition(), hx, time);
+            var bottom = kappaNu(eqn.getBottomBorderCondition(), hy, time);
+            var top = kappaNu(eqn.getTopBorderCondition(), hy, time);
+            var front = kappaNu(eqn.getFrontBorderCondition(), hz, time);
+            var back = kappaNu(eqn.getBackBorderCondition(), hz, time);
+
+            // Sweep along x: lines with fixed (j,k), one task per interior plane j
+            IntStream.range(1, ny).parallel().forEach(j -> {
+                var A = new double[nz1][nx];
+                var B = new double[nz1][nx];
+                var C = new double[nz1][nx];
+                var D = new double[nz1][nx];
+                for (int i = 1; i < nx; i++) {
+                    int base = i * sx + j * nz1;
+                    for (int k = 1; k < nz; k++) {
+                        int idx = base + k;
+                        double
+                                kc = K[idx],
+                                uc = cur[idx],
+                                AlphaX = (kc + K[idx + sx] + Vx[idx] * hx) / 2.,
+                                BetaX = (kc + K[idx - sx] - Vx[idx] * hx) / 2.,
+                                AlphaY = (kc + K[idx + nz1] + Vy[idx] * hy) / 2.,
+                                BetaY = (kc + K[idx - nz1] - Vy[idx] * hy) / 2.,
+                                AlphaZ = (kc + K[idx + 1] + Vz[idx] * hz) / 2.,
+                                BetaZ = (kc + K[idx - 1] - Vz[idx] * hz) / 2.,
+                                LambdaY = (AlphaY * (cur[idx + nz1] - uc) - BetaY * (uc - cur[idx - nz1])) / (hy * hy),
+                                LambdaZ = (AlphaZ * (cur[idx + 1] - uc) - BetaZ * (uc - cur[idx - 1])) / (hz * hz),
+                                Gamma = _2hx2 * L[idx] / tau;
+
+                        A[k][i] = BetaX;
+                        B[k][i] = AlphaX;
+                        C[k][i] = AlphaX + BetaX + Gamma;
+                        D[k][i] = Gamma * uc + AlphaX * (cur[idx + sx] - uc) - BetaX * (uc - cur[idx - sx])
+                                + _2hx2 * (LambdaY + LambdaZ + F[idx]);
+                    }
+                }
+                var Y = new double[nz1][];
+                for (int k = 1; k < nz; k++) {
+                    Y[k] = solve3DiagonalEquationsSystem(A[k], B[k], C[k], D[k], left, right);
+                }
+                for (int i = 0; i <= nx; i++) {
+                    int base = i * sx + j * nz1;
+                    for (int k = 1; k < nz; k++) {
+                        u1[base + k] = Y[k][i];
+                    }
+                }
+            });
+
+            // Sweep along y: lines with fixed (i,k), one task per interior plane i
+            IntStream.range(1, nx).parallel().forEach(i -> {
+                var A = new double[nz1][ny];
+                var B = new double[nz1][ny];
+                var C = new double[nz1][ny];
+                var D = new double[nz1][ny];
+                for (int j = 1; j < ny; j++) {
+                    int base = i * sx + j * nz1;
+                    for (int k = 1; k < nz; k++) {
+                        int idx = base + k;
+                        double
+                                kc = K[idx],
+                                uc = cur[idx],
+                                AlphaY = (kc + K[idx + nz1] + Vy[idx] * hy) / 2.,
+                                BetaY = (kc + K[idx - nz1] - Vy[idx] * hy) / 2.,
+                                Gamma = _2hy2 * L[idx] / tau;
+
+                        A[k][j] = BetaY;
+                        B[k][j] = AlphaY;
+                        C[k][j] = AlphaY + BetaY + Gamma;
+                        D[k][j] = Gamma * u1[idx] - (AlphaY * (cur[idx + nz1] - uc) - BetaY * (uc - cur[idx - nz1]));
+                    }
+                }
+                var Y = new double[nz1][];
+                for (int k = 1; k < nz; k++) {
+                    Y[k] = solve3DiagonalEquationsSystem(A[k], B[k], C[k], D[k], bottom, top);
+                }
+                for (int j = 0; j <= ny; j++) {
+                    int base = i * sx + j * nz1;
+                    for (int k = 1; k < nz; k++) {
+                        u2[base + k] = Y[k][j];
+                    }
+                }
+            });
+
+            // Sweep along z: contiguous lines with fixed (i,j), one task per interior plane i
+            var dest = next;
+            IntStream.range(1, nx).parallel().forEach(i -> {
+                var A = new double[nz];
+                var B = new double[nz];
+                var C = new double[nz];
+                var D = new double[nz];
+                for (int j = 1; j < ny; j++) {
+                    int base = i * sx + j * nz1;
+                    for (int k = 1; k < nz; k++) {
+                        int idx = base + k;
+                        double
+                                kc = K[idx],
+                                uc = cur[idx],
+                                AlphaZ = (kc + K[idx + 1] + Vz[idx] * hz) / 2.,
+                                BetaZ = (kc + K[idx - 1] - Vz[idx] * hz) / 2.,
+                                Gamma = _2hz2 * L[idx] / tau;
+
+                        A[k] = BetaZ;
+                        B[k] = AlphaZ;
+                        C[k] = AlphaZ + BetaZ + Gamma;
+                        D[k] = Gamma * u2[idx] - (AlphaZ * (cur[idx + 1] - uc) - BetaZ * (uc - cur[idx - 1]));
+                    }
+                    var Y = solve3DiagonalEquationsSystem(A, B, C, D, front, back);
+                    System.arraycopy(Y, 0, dest, base, nz1);
+                }
+
+                // Faces y = y1 and y = y2 of this plane
+                for (int k = 0; k <= nz; k++) {
+                    int base = i * sx + k;
+                    dest[base] = bottom.kappa() * dest[base + nz1] + bottom.nu();
+                    dest[base + ny * nz1] = top.kappa() * dest[base + (ny - 1) * nz1] + top.nu();
+                }
+            });
+
+            // Faces x = x1 and x = x2 (including edges and corners)
+            for (int jk = 0; jk < sx; jk++) {
+                next[jk] = left.kappa() * next[sx + jk] + left.nu();
+                next[nx * sx + jk] = right.kappa() * next[(nx - 1) * sx + jk] + right.nu();
+            }
+
+            next = u;
+            u = dest;
+            layers.get((n + 1) % layers.size()).setAll(u);
+        }
+        return new Solution3D(eqn, area, layers);
+    }
+
+    private Area3D buildArea(ParabolicEquation3D eqn, double hx, double hy, double hz, double tau) {
+        if (eqn == null) {
+            throw new IllegalArgumentException("eqn must not be null");
+        }
+        if (!Double.isFinite(hx) || hx <= 0) {
+            throw new IllegalArgumentException("spatial step hx must be finite and positive, got: " + hx);
+        }
+        if (!Double.isFinite(hy) || hy <= 0) {
+            throw new IllegalArgumentException("spatial step hy must be finite and positive, got: " + hy);
+        }
+        if (!Double.isFinite(hz) || hz <= 0) {
+            throw new IllegalArgumentException("spatial step hz must be finite and positive, got: " + hz);
+        }
+        if (!Double.isFinite(tau) || tau <= 0) {
+            throw new IllegalArgumentException("time step tau must be finite and positive, got: " + tau);
+        }
+        var area = new Area3D(
+                new Interval(eqn.getX1(), eqn.getX2(), hx),
+                new Interval(eqn.getY1(), eqn.getY2(), hy),
+                new Interval(eqn.getZ1(), eqn.getZ2(), hz),
+                new Interval(0, eqn.getT2(), tau)
+        );
+        if (area.xn() < 2 || area.yn() < 2 || area.zn() < 2) {
+            throw new IllegalArgumentException("grid must have at least 2 steps along x, y and z, got "
+                    + area.xn() + "x" + area.yn() + "x" + area.zn());
+        }
+        return area;
+    }
+}
@@ -1,12 +1,39 @@
 package io.github.andreipunko.math.pde.solver;
 
+import io.github.andreipunko.math.matrix.Matrix2D;
 import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.space.Area;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Solver for parabolic partial differential equations.
  * Implements numerical method for solving parabolic equations using
  * implicit finite difference scheme. The algorithm is based on the Thomas algorithm
  * for solving tridiagonal systems of linear equations.
+ * <p>
+ * The scheme uses weight {@code sigma} of the new time layer in the space operator:
+ * <p>
+ * L*(U^{j+1} - U^j)/tau = sigma*Λ(U^{j+1}) + (1 - sigma)*Λ(U^j) + F
+ * <p>
+ * {@code sigma = 0.5} (default) is the Crank-Nicolson scheme (second order in time), {@code sigma = 1} is the fully
+ * implicit scheme (first order in time, strongly damps stiff modes), {@code sigma = 0} is the explicit scheme
+ * (stable only for small {@code tau}).
+ * <p>
+ * With a {@link SteadyStateCriterion} the time march stops as soon as the solution stops changing; the returned
+ * {@link Solution} then covers only the computed layers and records {@link Solution#steadyStateTime()}.
+ * <p>
+ * With {@link io.github.andreipunko.math.pde.border.PeriodicBorderCondition} on both ends every time step is a cyclic
+ * tridiagonal system ({@link AbstractEquationSolver#solveCyclic3DiagonalEquationsSystem}).
+ * <p>
+ * With {@link Matrix2D.Storage#FLOAT} storage the layers are computed in double precision as usual and rounded to
+ * floats only when they are stored in {@link Solution#matrix()}, which halves its memory.
+ * <p>
+ * Reductions of the layers ({@link LayerStatistics}) can be computed during the time march, also without storing
+ * the layers ({@link #statistics}).
  *
  * @see ParabolicEquation
  * @see AbstractEquationSolver
@@ -14,67 +41,602 @@ import io.github.andreipunko.math.pde.equation.ParabolicEquation;
 public class ParabolicEquationSolver extends AbstractEquationSolver<ParabolicEquation> {
 
     /**
-     * Creates a solver for parabolic equations using the implicit finite-difference scheme.
+     * Weight of the Crank-Nicolson scheme.
+     */
+    public static final double CRANK_NICOLSON = 0.5;
+    /**
+     * Weight of the fully implicit scheme.
+     */
+    public static final double FULLY_IMPLICIT = 1.0;
+
+    private static final String SCHEME = "parabolic";
+
+    private final double sigma;
+    private final SteadyStateCriterion steadyStateCriterion;
+    private final Matrix2D.Storage storage;
+
+    /**
+     * Creates a solver for parabolic equations using the Crank-Nicolson scheme ({@code sigma = 0.5}).
      */
     public ParabolicEquationSolver() {
+        this(CRANK_NICOLSON);
+    }
+
+    /**
+     * Creates a solver for parabolic equations using the scheme with given weight of the new time layer.
+     *
+     * @param sigma weight of the new time layer (0 &lt;= sigma &lt;= 1)
+     * @throws IllegalArgumentException if sigma is not finite or outside [0, 1]
+     */
+    public ParabolicEquationSolver(double sigma) {
+        this.sigma = checkSigma(sigma);
+        this.steadyStateCriterion = null;
+        this.storage = Matrix2D.Storage.DOUBLE;
+    }
+
+    /**
+     * Creates a solver for parabolic equations which stops the time march when a steady state is reached.
+     *
+     * @param sigma                weight of the new time layer (0 &lt;= sigma &lt;= 1)
+     * @param steadyStateCriterion criterion of the steady state
+     * @throws IllegalArgumentException if sigma is not finite or outside [0, 1], or if steadyStateCriterion is null
+     */
+    public ParabolicEquationSolver(double sigma, SteadyStateCriterion steadyStateCriterion) {
+        if (steadyStateCriterion == null) {
+            throw new IllegalArgumentException("steadyStateCriterion must not be null");
+        }
+        this.sigma = checkSigma(sigma);
+        this.steadyStateCriterion = steadyStateCriterion;
+        this.storage = Matrix2D.Storage.DOUBLE;
+    }
+
+    /**
+     * Creates a solver for parabolic equations which stores the solution with given precision.
+     *
+     * @param sigma                weight of the new time layer (0 &lt;= sigma &lt;= 1)
+     * @param steadyStateCriterion criterion of the steady state, or null to always march to t2
+     * @param storage              precision of the stored time layers
+     * @throws IllegalArgumentException if sigma is not finite or outside [0, 1], or if storage is null
+     */
+    public ParabolicEquationSolver(double sigma, SteadyStateCriterion steadyStateCriterion,
+                                   Matrix2D.Storage storage) {
+        if (storage == null) {
+            throw new IllegalArgumentException("storage must not be null");
+        }
+        this.sigma = checkSigma(sigma);
+        this.steadyStateCriterion = steadyStateCriterion;
+        this.storage = storage;
+    }
+
+    private static double checkSigma(double sigma) {
+        if (!Double.isFinite(sigma) || sigma < 0 || sigma > 1) {
+            throw new IllegalArgumentException("sigma must be in [0, 1], got: " + sigma);
+        }
+        return sigma;
+    }
+
+    /**
+     * Returns the weight of the new time layer used by this solver.
+     *
+     * @return scheme weight sigma
+     */
+    public double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * Returns the criterion used to stop the time march early.
+     *
+     * @return steady state criterion, or null if the solver always marches to t2
+     */
+    public SteadyStateCriterion getSteadyStateCriterion() {
+        return steadyStateCriterion;
+    }
+
+    /**
+     * Returns the precision of the stored time layers.
+     *
+     * @return storage of {@link Solution#matrix()}
+     */
+    public Matrix2D.Storage getStorage() {
+        return storage;
     }
 
     /**
      * Solves parabolic partial differential equation using numerical method.
-     * Uses implicit finite difference scheme with weights for derivative approximation.
+     * Uses finite difference scheme with weight {@link #getSigma()} for derivative approximation.
      * Solution is found using the Thomas algorithm on each time step.
      *
      * @param eqn parabolic partial differential equation to solve
      * @param h   spatial step size (must be positive)
      * @param tau time step size (must be positive)
-     * @return {@link Solution} with function values on the grid in {@link Solution#matrix()}
+     * @return {@link Solution} with function values on the grid in {@link Solution#matrix()}; truncated to the computed
+     * layers if a steady state was reached
      * @throws IllegalArgumentException if parameters h or tau are invalid, or if a time-step tridiagonal system is
      *                                  degenerate (see {@link AbstractEquationSolver#solve3DiagonalEquationsSystem})
      */
     @Override
     public Solution<ParabolicEquation> solve(ParabolicEquation eqn, double h, double tau) {
         var area = buildArea(eqn, h, tau);
-        var matrix = prepare(eqn, area);
+        var u0 = initialLayer(eqn, area);
+        return march(eqn, area, prepare(area, u0, storage), u0, h, tau, 0, null, null);
+    }
+
+    /**
+     * Solves parabolic partial differential equation like {@link #solve(ParabolicEquation, double, double)} and saves
+     * the current time layer every {@link Checkpointing#interval()} steps, so that the solve can be continued by
+     * {@link #resume} after a crash.
+     *
+     * @param eqn           parabolic partial differential equation to solve
+     * @param h             spatial step size (must be positive)
+     * @param tau           time step size (must be positive)
+     * @param checkpointing checkpoint file and interval
+     * @return {@link Solution} with function values on the grid in {@link Solution#matrix()}
+     * @throws IllegalArgumentException if checkpointing is null, or see {@link #solve(ParabolicEquation, double, double)}
+     * @throws java.io.UncheckedIOException if a checkpoint cannot be written
+     */
+    public Solution<ParabolicEquation> solve(ParabolicEquation eqn, double h, double tau, Checkpointing checkpointing) {
+        if (checkpointing == null) {
+            throw new IllegalArgumentException("checkpointing must not be null");
+        }
+        var area = buildArea(eqn, h, tau);
+        var u0 = initialLayer(eqn, area);
+        return march(eqn, area, prepare(area, u0, storage), u0, h, tau, 0, checkpointing, null);
+    }
+
+    /**
+     * Solves parabolic partial differential equation like {@link #solve(ParabolicEquation, double, double)} with the
+     * time march in given arithmetic precision. Single-precision modes keep the work arrays as floats, which halves
+     * the memory traffic of the assembly and of the Thomas sweep; use {@link #diagnose} to check their error for an
+     * equation.
+     *
+     * @param eqn       parabolic partial differential equation to solve
+     * @param h         spatial step size (must be positive)
+     * @param tau       time step size (must be positive)
+     * @param precision precision of the assembly and of the tridiagonal sweep
+     * @return {@link Solution} with function values on the grid in {@link Solution#matrix()}
+     * @throws IllegalArgumentException if precision is null, if a single-precision mode is requested for periodic
+     *                                  border conditions, or see {@link #solve(ParabolicEquation, double, double)}
+     */
+    public Solution<ParabolicEquation> solveWithPrecision(ParabolicEquation eqn, double h, double tau,
+                                                          ComputePrecision precision) {
+        if (precision == null) {
+            throw new IllegalArgumentException("precision must not be null");
+        }
+        if (precision == ComputePrecision.DOUBLE) {
+            return solve(eqn, h, tau);
+        }
+        var area = buildArea(eqn, h, tau);
+        if (isPeriodic(eqn)) {
+            throw new IllegalArgumentException("Compute precision " + precision
+                    + " is not supported with periodic border conditions");
+        }
+        var u0 = initialLayer(eqn, area);
+        var matrix = prepare(area, u0, storage);
+        return precision == ComputePrecision.FLOAT
+                ? marchFloat(eqn, area, matrix, u0, h, tau)
+                : marchRefined(eqn, area, matrix, u0, h, tau);
+    }
+
+    /**
+     * Solves the equation in double precision and in given precision and compares the solutions.
+     *
+     * @param eqn       parabolic partial differential equation to solve
+     * @param h         spatial step size (must be positive)
+     * @param tau       time step size (must be positive)
+     * @param precision precision to compare with the double one
+     * @return errors and timings of the solve in given precision
+     * @throws IllegalArgumentException see {@link #solveWithPrecision}
+     */
+    public PrecisionDiagnostics diagnose(ParabolicEquation eqn, double h, double tau, ComputePrecision precision) {
+        if (precision == null) {
+            throw new IllegalArgumentException("precision must not be null");
+        }
+        long start = System.nanoTime();
+        var reference = solve(eqn, h, tau);
+        long referenceNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        var solution = solveWithPrecision(eqn, h, tau, precision);
+        long nanos = System.nanoTime() - start;
+
+        // Layers of both solves; a steady state may be detected on different steps
+        int tn = Math.min(reference.area().tn(), solution.area().tn());
+        double maxError = 0, maxMagnitude = 0, sumSquares = 0;
+        int worstStep = 0, worstNode = 0;
+        for (int j = 0; j <= tn; j++) {
+            for (int i = 0; i <= reference.area().xn(); i++) {
+                double expected = reference.matrix().get(j, i),
+                        error = Math.abs(solution.matrix().get(j, i) - expected);
+                maxMagnitude = Math.max(maxMagnitude, Math.abs(expected));
+                sumSquares += error * error;
+                if (error > maxError) {
+                    maxError = error;
+                    worstStep = j;
+                    worstNode = i;
+                }
+            }
+        }
+        double rmsError = Math.sqrt(sumSquares / ((tn + 1) * (reference.area().xn() + 1)));
+        return new PrecisionDiagnostics(precision, maxError, rmsError, maxMagnitude, worstStep, worstNode,
+                referenceNanos, nanos);
+    }
+
+    /**
+     * Solves parabolic partial differential equation like {@link #solve(ParabolicEquation, double, double)} and
+     * reduces every time layer right after it is computed, so no second pass over {@link Solution#matrix()} is needed.
+     *
+     * @param eqn        parabolic partial differential equation to solve
+     * @param h          spatial step size (must be positive)
+     * @param tau        time step size (must be positive)
+     * @param reductions reductions to compute
+     * @return {@link Solution} with the time series of the reductions in {@link Solution#statistics()}
+     * @throws IllegalArgumentException if reductions is null, empty or contains null, or see
+     *                                  {@link #solve(ParabolicEquation, double, double)}
+     */
+    public Solution<ParabolicEquation> solveWithStatistics(ParabolicEquation eqn, double h, double tau,
+                                                           Set<LayerStatistics.Reduction> reductions) {
+        var area = buildArea(eqn, h, tau);
+        var collector = new LayerStatistics.Collector(reductions, area, 0);
+        var u0 = initialLayer(eqn, area);
+        collector.onLayer(0, area.tn(), area.tx(0), u0);
+        var solution = march(eqn, area, prepare(area, u0, storage), u0, h, tau, 0, null, collector);
+        return solution.withStatistics(collector.statistics());
+    }
+
+    /**
+     * Computes the reductions of the time layers of the solution without storing the layers: the time march keeps
+     * only the last layer, so the memory does not grow with the number of time steps. With a
+     * {@link SteadyStateCriterion} the series end at the layer of the steady state.
+     *
+     * @param eqn        parabolic partial differential equation to solve
+     * @param h          spatial step size (must be positive)
+     * @param tau        time step size (must be positive)
+     * @param reductions reductions to compute
+     * @return time series of the reductions of all computed time layers
+     * @throws IllegalArgumentException if reductions is null, empty or contains null, or see
+     *                                  {@link #solve(ParabolicEquation, double, double)}
+     */
+    public LayerStatistics statistics(ParabolicEquation eqn, double h, double tau,
+                                      Set<LayerStatistics.Reduction> reductions) {
+        var area = buildArea(eqn, h, tau);
+        var collector = new LayerStatistics.Collector(reductions, area, 0);
+        var u0 = initialLayer(eqn, area);
+        collector.onLayer(0, area.tn(), area.tx(0), u0);
+        march(eqn, area, null, u0, h, tau, 0, null, collector);
+        return collector.statistics();
+    }
+
+    /**
+     * Solves parabolic partial differential equation like {@link #solve(ParabolicEquation, double, double)} but keeps
+     * only every k-th time layer, with k about sqrt(M) for M time layers; other layers are recomputed from them on
+     * demand (see {@link CheckpointedSolution}).
+     *
+     * @param eqn parabolic partial differential equation to solve
+     * @param h   spatial step size (must be positive)
+     * @param tau time step size (must be positive)
+     * @return {@link CheckpointedSolution} which caches {@link CheckpointedSolution#DEFAULT_CACHED_SEGMENTS}
+     * recomputed segments
+     * @throws IllegalArgumentException see {@link #solve(ParabolicEquation, double, double)}
+     */
+    public CheckpointedSolution<ParabolicEquation> solveCheckpointed(ParabolicEquation eqn, double h, double tau) {
+        var area = buildArea(eqn, h, tau);
+        return solveCheckpointed(eqn, area, h, tau, new CheckpointedSolution.Recorder(area,
+                CheckpointedSolution.defaultInterval(area), 1, CheckpointedSolution.DEFAULT_CACHED_SEGMENTS));
+    }
+
+    /**
+     * Solves parabolic partial differential equation like {@link #solve(ParabolicEquation, double, double)} but keeps
+     * only every {@code interval}-th time layer; other layers are recomputed from them on demand (see
+     * {@link CheckpointedSolution}).
+     *
+     * @param eqn            parabolic partial differential equation to solve
+     * @param h              spatial step size (must be positive)
+     * @param tau            time step size (must be positive)
+     * @param interval       number of time layers between checkpoints (must be positive)
+     * @param cachedSegments number of recomputed segments to cache (must be positive)
+     * @return {@link CheckpointedSolution} of the equation
+     * @throws IllegalArgumentException if interval or cachedSegments is not positive, or see
+     *                                  {@link #solve(ParabolicEquation, double, double)}
+     */
+    public CheckpointedSolution<ParabolicEquation> solveCheckpointed(ParabolicEquation eqn, double h, double tau,
+                                                                     int interval, int cachedSegments) {
+        var area = buildArea(eqn, h, tau);
+        return solveCheckpointed(eqn, area, h, tau,
+                new CheckpointedSolution.Recorder(area, interval, 1, cachedSegments));
+    }
 
+    /**
+     * Solves parabolic partial differential equation like {@link #solve(ParabolicEquation, double, double)} and
+     * publishes every time layer, starting from the initial one, into the ring, so that another thread can consume
+     * the layers while the solve is running. The layers are not kept: the time march holds only the last layer, so
+     * the memory does not grow with the number of time steps. The ring is closed when the solve ends, also on
+     * failure. If the consumer {@link LayerRingBuffer#abandon()}s the ring, the solve stops at the next layer.
+     *
+     * @param eqn  parabolic partial differential equation to solve
+     * @param h    spatial step size (must be positive)
+     * @param tau  time step size (must be positive)
+     * @param ring ring to publish the layers into; its layer size must be N+1
+     * @throws IllegalArgumentException if ring is null or its layer size does not match the grid, or see
+     *                                  {@link #solve(ParabolicEquation, double, double)}
+     */
+    public void solveStreaming(ParabolicEquation eqn, double h, double tau, LayerRingBuffer ring) {
+        if (ring == null) {
+            throw new IllegalArgumentException("ring must not be null");
+        }
+        try {
+            var area = buildArea(eqn, h, tau);
+            checkLayerSize(ring, area);
+            var u0 = initialLayer(eqn, area);
+            ring.offer(0, area.tx(0), u0);
+            march(eqn, area, null, u0, h, tau, 0, null, (step, total, time, layer) -> {
+                ring.offer(step, time, layer);
+                return !ring.isAbandoned();
+            });
+        } finally {
+            ring.close();
+        }
+    }
+
+    /**
+     * Solves parabolic partial differential equation like {@link #solve(ParabolicEquation, double, double)} on the
+     * given executor (a virtual-thread-per-task executor works as well). Every {@link SolveControl#checkInterval()}
+     * steps the progress is reported, cancellation of the returned future stops the solve, and the deadline is
+     * checked.
+     *
+     * @param eqn      parabolic partial differential equation to solve
+     * @param h        spatial step size (must be positive)
+     * @param tau      time step size (must be positive)
+     * @param control  progress listener, deadline and check interval
+     * @param executor executor to run the solve on
+     * @return future of the {@link Solution}; a partial one if the deadline stopped the solve with
+     * {@link SolveControl.DeadlinePolicy#PARTIAL}
+     * @throws IllegalArgumentException if control or executor is null, or if eqn, h or tau are invalid
+     */
+    public CompletableFuture<Solution<ParabolicEquation>> solveAsync(ParabolicEquation eqn, double h, double tau,
+                                                                     SolveControl control, Executor executor) {
+        var area = buildArea(eqn, h, tau);
+        return AsyncSolve.submit(control, executor, observer -> {
+            var u0 = initialLayer(eqn, area);
+            return march(eqn, area, prepare(area, u0, storage), u0, h, tau, 0, null, observer);
+        });
+    }
+
+    /**
+     * Continues an interrupted solve from the last checkpoint and keeps writing checkpoints.
+     * Layers from the checkpoint on are identical to the layers of an uninterrupted solve; the returned
+     * {@link Solution} starts at the checkpoint layer (earlier layers are not saved in the checkpoint).
+     *
+     * @param eqn           the same equation which was being solved
+     * @param checkpointing checkpoint file and interval
+     * @return {@link Solution} with the time layers from the checkpoint to the end
+     * @throws IllegalArgumentException if an argument is null, or if the checkpoint was written by another scheme,
+     *                                  another sigma or for another equation domain
+     * @throws IOException              if the checkpoint cannot be read or is corrupted
+     */
+    public Solution<ParabolicEquation> resume(ParabolicEquation eqn, Checkpointing checkpointing) throws IOException {
+        if (eqn == null || checkpointing == null) {
+            throw new IllegalArgumentException("eqn and checkpointing must not be null");
+        }
+        var checkpoint = Checkpoint.read(checkpointing, SCHEME, sigma, eqn, 1, (h, tau) -> buildArea(eqn, h, tau));
+        var area = buildArea(eqn, checkpoint.h(), checkpoint.tau());
+        var matrix = new Matrix2D(area.tn() + 1, area.xn() + 1, storage);
+        checkpoint.restore(matrix);
+        var solution = march(eqn, area, matrix, checkpoint.layers()[0], checkpoint.h(), checkpoint.tau(),
+                checkpoint.step(), checkpointing, null);
+        return checkpoint.tail(solution);
+    }
+
+    /**
+     * Continues the solution to a later end time without recomputing its layers: the time march goes on from the last
+     * layer with the same steps {@code h} and {@code tau}. The equation coefficients and border conditions are
+     * evaluated beyond the {@code t2} of the equation. The march starts from the stored last layer, so a solution
+     * stored as floats is continued from the rounded values. The given solution is not modified.
+     *
+     * @param solution solution found by this solver (or another solver of the same equation)
+     * @param t2       new end time (must add at least one time step)
+     * @return {@link Solution} on the extended time axis; its first layers are copied from the given solution
+     * @throws IllegalArgumentException if solution is null, if t2 does not extend the time axis, or if a time-step
+     *                                  tridiagonal system is degenerate
+     */
+    public Solution<ParabolicEquation> extend(Solution<ParabolicEquation> solution, double t2) {
+        var area = extendArea(solution, t2);
+        var old = solution.area();
+        var matrix = solution.matrix().copyWithRows(area.tn() + 1);
+        return march(solution.equation(), area, matrix, matrix.getRow(old.tn()), old.x().h(), old.t().h(), old.tn(),
+                null, null);
+    }
+
+    /**
+     * Marches the whole area, passing the layers to the recorder of checkpoints.
+     */
+    private CheckpointedSolution<ParabolicEquation> solveCheckpointed(ParabolicEquation eqn, Area area, double h,
+                                                                      double tau,
+                                                                      CheckpointedSolution.Recorder recorder) {
+        var u0 = initialLayer(eqn, area);
+        recorder.onLayer(0, area.tn(), area.tx(0), u0);
+        march(eqn, area, null, u0, h, tau, 0, null, recorder);
+        return recorder.build(eqn,
+                (first, layers, observer) -> march(eqn, area, null, layers[0], h, tau, first, null, observer));
+    }
+
+    /**
+     * Marches from time layer {@code first}, given in double precision as {@code layer}, to the end of the area and
+     * stores the new layers in the matrix; without matrix the layers are only passed to the observer and null is
+     * returned.
+     */
+    private Solution<ParabolicEquation> march(ParabolicEquation eqn, Area area, Matrix2D matrix, double[] layer,
+                                              double h, double tau, int first, Checkpointing checkpointing,
+                                              LayerObserver observer) {
         int N = area.xn();
         var A = new double[N];
         var B = new double[N];
         var C = new double[N];
         var F = new double[N];
-        double                      // To speed-up calculations & readability
-                _2h2 = 2 * h * h,
-                _2h2_tau = _2h2 / tau;
+
+        // With periodic border conditions node N is node 0: node 0 gets an equation with neighbour N-1 and node N-1
+        // takes node 0 as its right neighbour
+        boolean periodic = isPeriodic(eqn);
+        var prev = layer;
 
         // Finite-difference algorithm implementation
         //
+        for (int j = first; j < area.tn(); j++) {
+            assemble(eqn, area, prev, j, periodic, h, tau, A, B, C, F);
+
+            int nj = j + 1;
+            var U = periodic
+                    ? solveCyclic3DiagonalEquationsSystem(A, B, C, F)
+                    : solve3DiagonalEquationsSystem(A, B, C, F,
+                    calcKappaNu(eqn.getLeftBorderCondition(), h, area.tx(nj)),
+                    calcKappaNu(eqn.getRightBorderCondition(), h, area.tx(nj)));
+            if (matrix != null) {
+                matrix.setRow(nj, U);
+            }
+            if (observer != null && !observer.onLayer(nj, area.tn(), area.tx(nj), U)) {
+                return truncate(eqn, area, matrix, nj, Double.NaN);
+            }
+
+            if (steadyStateCriterion != null && nj % steadyStateCriterion.checkInterval() == 0
+                    && steadyStateCriterion.isMet(prev, U, tau)) {
+                return truncate(eqn, area, matrix, nj, area.tx(nj));
+            }
+            if (checkpointing != null && nj % checkpointing.interval() == 0 && nj < area.tn()) {
+                Checkpoint.save(checkpointing, SCHEME, sigma, eqn, h, tau, nj, U);
+            }
+            prev = U;
+        }
+        return truncate(eqn, area, matrix, area.tn(), Double.NaN);
+    }
+
+    /**
+     * Fills the tridiagonal system of the step from time layer {@code j} to the next one.
+     */
+    private void assemble(ParabolicEquation eqn, Area area, double[] prev, int j, boolean periodic, double h,
+                          double tau, double[] A, double[] B, double[] C, double[] F) {
+        int N = area.xn();
+        double                      // To speed-up calculations & readability
+                _2h2 = 2 * h * h,
+                _2h2_tau = _2h2 / tau,
+                _2s = 2 * sigma,
+                _2s_ = 2 * (1 - sigma);
+
+        for (int i = periodic ? 0 : 1; i < N; i++) {
+            int il = i == 0 ? N - 1 : i - 1,
+                    ir = periodic && i == N - 1 ? 0 : i + 1;
+            double
+                    _u = prev[il],
+                    u = prev[i],
+                    u_ = prev[ir],
+
+                    _x = area.xx(il),
+                    x = area.xx(i),
+                    x_ = area.xx(ir),
+                    t = area.tx(j),
+
+                    Alpha = (eqn.gK(x, t, u) + eqn.gK(x_, t, u_) + eqn.gV(x, t, u) * h) / 2.,
+                    Beta = (eqn.gK(x, t, u) + eqn.gK(_x, t, _u) - eqn.gV(x, t, u) * h) / 2.,
+                    Gamma = _2h2_tau * eqn.gL(x, t, u);
+
+            A[i] = _2s * Beta;
+            B[i] = _2s * Alpha;
+            C[i] = _2s * (Alpha + Beta) + Gamma;
+            F[i] = _2s_ * (u_ * Alpha + _u * Beta) - u * (_2s_ * (Alpha + Beta) - Gamma) + _2h2 * eqn.gF(x, t, u);
+        }
+    }
+
+    /**
+     * Marches with the assembly in double precision and the single-precision sweep refined in double precision
+     * ({@link ComputePrecision#FLOAT_REFINED}).
+     */
+    private Solution<ParabolicEquation> marchRefined(ParabolicEquation eqn, Area area, Matrix2D matrix,
+                                                     double[] layer, double h, double tau) {
+        int N = area.xn();
+        var A = new double[N];
+        var B = new double[N];
+        var C = new double[N];
+        var F = new double[N];
+        var thomas = new SinglePrecisionThomas(N);
+        var prev = layer;
+
+        for (int j = 0; j < area.tn(); j++) {
+            assemble(eqn, area, prev, j, false, h, tau, A, B, C, F);
+
+            int nj = j + 1;
+            var U = thomas.solve(A, B, C, F,
+                    calcKappaNu(eqn.getLeftBorderCondition(), h, area.tx(nj)),
+                    calcKappaNu(eqn.getRightBorderCondition(), h, area.tx(nj)), true);
+            matrix.setRow(nj, U);
+            if (steadyStateCriterion != null && nj % steadyStateCriterion.checkInterval() == 0
+                    && steadyStateCriterion.isMet(prev, U, tau)) {
+                return truncate(eqn, area, matrix, nj, area.tx(nj));
+            }
+            prev = U;
+        }
+        return new Solution<>(eqn, area, matrix);
+    }
+
+    /**
+     * Marches with the previous layer, the assembly and the sweep in single precision
+     * ({@link ComputePrecision#FLOAT}); only the values of the equation coefficients are computed in double precision.
+     */
+    private Solution<ParabolicEquation> marchFloat(ParabolicEquation eqn, Area area, Matrix2D matrix,
+                                                   double[] layer, double h, double tau) {
+        int N = area.xn();
+        var A = new float[N];
+        var B = new float[N];
+        var C = new float[N];
+        var F = new float[N];
+        var thomas = new SinglePrecisionThomas(N);
+        var prev = new float[N + 1];
+        var x = new float[N + 1];
+        for (int i = 0; i <= N; i++) {
+            prev[i] = (float) layer[i];
+            x[i] = (float) area.xx(i);
+        }
+        var U = new double[N + 1];
+        var prevU = layer.clone();
+        float                       // To speed-up calculations & readability
+                fh = (float) h,
+                _2h2 = 2 * fh * fh,
+                _2h2_tau = _2h2 / (float) tau,
+                _2s = 2 * (float) sigma,
+                _2s_ = 2 * (1 - (float) sigma);
+
         for (int j = 0; j < area.tn(); j++) {
+            float t = (float) area.tx(j);
             for (int i = 1; i < N; i++) {
-                double
-                        _u = matrix.get(j, i - 1),
-                        u = matrix.get(j, i),
-                        u_ = matrix.get(j, i + 1),
-
-                        _x = area.xx(i - 1),
-                        x = area.xx(i),
-                        x_ = area.xx(i + 1),
-                        t = area.tx(j),
-
-                        Alpha = (eqn.gK(x, t, u) + eqn.gK(x_, t, u_) + eqn.gV(x, t, u) * h) / 2.,
-                        Beta = (eqn.gK(x, t, u) + eqn.gK(_x, t, _u) - eqn.gV(x, t, u) * h) / 2.,
-                        Gamma = _2h2_tau * eqn.gL(x, t, u);
-
-                A[i] = Beta;
-                B[i] = Alpha;
-                C[i] = Alpha + Beta + Gamma;
-                F[i] = u_ * Alpha + _u * Beta - u * (Alpha + Beta - Gamma) + _2h2 * eqn.gF(x, t, u);
+                float
+                        _u = prev[i - 1],
+                        u = prev[i],
+                        u_ = prev[i + 1],
+
+                        K = (float) eqn.gK(x[i], t, u),
+                        V = (float) eqn.gV(x[i], t, u),
+                        Alpha = (K + (float) eqn.gK(x[i + 1], t, u_) + V * fh) / 2f,
+                        Beta = (K + (float) eqn.gK(x[i - 1], t, _u) - V * fh) / 2f,
+                        Gamma = _2h2_tau * (float) eqn.gL(x[i], t, u);
+
+                A[i] = _2s * Beta;
+                B[i] = _2s * Alpha;
+                C[i] = _2s * (Alpha + Beta) + Gamma;
+                F[i] = _2s_ * (u_ * Alpha + _u * Beta) - u * (_2s_ * (Alpha + Beta) - Gamma)
+                        + _2h2 * (float) eqn.gF(x[i], t, u);
             }
 
             int nj = j + 1;
-            var time = area.tx(nj);
-            var kappaNuLeft = calcKappaNu(eqn.getLeftBorderCondition(), h, time);
-            var kappaNuRight = calcKappaNu(eqn.getRightBorderCondition(), h, time);
-            var U = solve3DiagonalEquationsSystem(A, B, C, F, kappaNuLeft, kappaNuRight);
+            var left = calcKappaNu(eqn.getLeftBorderCondition(), h, area.tx(nj));
+            var right = calcKappaNu(eqn.getRightBorderCondition(), h, area.tx(nj));
+            prev = thomas.solve(A, B, C, F, (float) left.kappa(), (float) left.nu(), (float) right.kappa(),
+                    (float) right.nu());
+            for (int i = 0; i <= N; i++) {
+                U[i] = prev[i];
+            }
             matrix.setRow(nj, U);
+            if (steadyStateCriterion != null && nj % steadyStateCriterion.checkInterval() == 0
+                    && steadyStateCriterion.isMet(prevU, U, tau)) {
+                return truncate(eqn, area, matrix, nj, area.tx(nj));
+            }
+            System.arraycopy(U, 0, prevU, 0, N + 1);
         }
         return new Solution<>(eqn, area, matrix);
     }
@@ -0,0 +1,177 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix3D;
+import io.github.andreipunko.math.pde.equation.ParabolicSystemEquation;
+import io.github.andreipunko.math.pde.solver.AbstractEquationSolver.KappaNu;
+import io.github.andreipunko.math.space.Area;
+import io.github.andreipunko.math.space.Interval;
+
+import static io.github.andreipunko.math.pde.solver.AbstractEquationSolver.kappaNu;
+
+/**
+ * Solver for systems of coupled parabolic equations. Uses the same weighted finite-difference scheme as
+ * {@link ParabolicEquationSolver}, with matrix coefficients:
+ * <p>
+ * L*(U^{j+1} - U^j)/tau = sigma*Λ(U^{j+1}) + (1 - sigma)*Λ(U^j) + F
+ * <p>
+ * All components are advanced together, so the coupling terms are implicit and the time step is not limited by the
+ * coupling as it is when the components are split into separate scalar solves. Every time step is a block
+ * tridiagonal system with m&times;m blocks, solved by {@link BlockTridiagonalSolver}. Coefficients are evaluated on
+ * the previous time layer.
+ *
+ * @see ParabolicSystemEquation
+ * @see SystemSolution
+ */
+public class ParabolicSystemEquationSolver {
+
+    private final double sigma;
+
+    /**
+     * Creates a solver using the Crank-Nicolson scheme ({@code sigma = 0.5}).
+     */
+    public ParabolicSystemEquationSolver() {
+        this(ParabolicEquationSolver.CRANK_NICOLSON);
+    }
+
+    /**
+     * Creates a solver using the scheme with given weight of the new time layer.
+     *
+     * @param sigma weight of the new time layer (0 &lt;= sigma &lt;= 1)
+     * @throws IllegalArgumentException if sigma is not finite or outside [0, 1]
+     */
+    public ParabolicSystemEquationSolver(double sigma) {
+        if (!Double.isFinite(sigma) || sigma < 0 || sigma > 1) {
+            throw new IllegalArgumentException("sigma must be in [0, 1], got: " + sigma);
+        }
+        this.sigma = sigma;
+    }
+
+    /**
+     * Returns the weight of the new time layer used by this solver.
+     *
+     * @return scheme weight sigma
+     */
+    public double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * Solves the system of parabolic equations.
+     *
+     * @param eqn system to solve
+     * @param h   spatial step size (must be finite and positive)
+     * @param tau time step size (must be finite and positive)
+     * @return {@link SystemSolution} with the values of all components on the grid
+     * @throws IllegalArgumentException if eqn is null, if h or tau are invalid, or if a block of a time-step system is
+     *                                  singular
+     */
+    public SystemSolution solve(ParabolicSystemEquation eqn, double h, double tau) {
+        var area = buildArea(eqn, h, tau);
+        int m = eqn.getM(),
+                mm = m * m,
+                N = area.xn();
+        var components = new Matrix3D(m, area.tn() + 1, N + 1);
+
+        // Current layer, node-major: component c of node i is at i*m + c
+        var u = new double[(N + 1) * m];
+        for (int i = 0; i <= N; i++) {
+            for (int c = 0; c < m; c++) {
+                u[i * m + c] = eqn.gU0(area.xx(i), c);
+                components.set(c, 0, i, u[i * m + c]);
+            }
+        }
+
+        var blockSolver = new BlockTridiagonalSolver(m);
+        var next = new double[(N + 1) * m];
+        var K = new double[(N + 1) * mm];
+        var k = new double[mm];
+        var V = new double[mm];
+        var L = new double[mm];
+        var f = new double[m];
+        var node = new double[m];
+        var A = new double[N * mm];
+        var B = new double[N * mm];
+        var C = new double[N * mm];
+        var F = new double[N * m];
+        var left = new KappaNu[m];
+        var right = new KappaNu[m];
+        double                      // To speed-up calculations & readability
+                _2h2 = 2 * h * h,
+                _2h2_tau = _2h2 / tau,
+                s_ = 1 - sigma;
+
+        for (int j = 0; j < area.tn(); j++) {
+            var t = area.tx(j);
+            for (int i = 0; i <= N; i++) {
+                System.arraycopy(u, i * m, node, 0, m);
+                eqn.gK(area.xx(i), t, node, k);
+                System.arraycopy(k, 0, K, i * mm, mm);
+            }
+            for (int i = 1; i < N; i++) {
+                var x = area.xx(i);
+                System.arraycopy(u, i * m, node, 0, m);
+                eqn.gV(x, t, node, V);
+                eqn.gL(x, t, node, L);
+                eqn.gF(x, t, node, f);
+                int b = i * mm,
+                        v = i * m;
+                for (int r = 0; r < m; r++) {
+                    double rhs = _2h2 * f[r];
+                    for (int c = 0; c < m; c++) {
+                        int rc = r * m + c;
+                        double
+                                Alpha = K[b + rc] + K[b + mm + rc] + V[rc] * h,     // couples U[i+1]
+                                Beta = K[b + rc] + K[b - mm + rc] - V[rc] * h,      // couples U[i-1]
+                                Gamma = _2h2_tau * L[rc],
+                                _u = u[v - m + c],
+                                uc = u[v + c],
+                                u_ = u[v + m + c];
+
+                        A[b + rc] = sigma * Beta;
+                        B[b + rc] = sigma * Alpha;
+                        C[b + rc] = sigma * (Alpha + Beta) + Gamma;
+                        rhs += s_ * (Alpha * u_ + Beta * _u) - (s_ * (Alpha + Beta) - Gamma) * uc;
+                    }
+                    F[v + r] = rhs;
+                }
+            }
+
+            var time = area.tx(j + 1);
+            for (int c = 0; c < m; c++) {
+                left[c] = kappaNu(eqn.getLeftBorderConditions().get(c), h, time);
+                right[c] = kappaNu(eqn.getRightBorderConditions().get(c), h, time);
+            }
+            blockSolver.solve(A, B, C, F, left, right, next);
+
+            var tmp = u;
+            u = next;
+            next = tmp;
+            for (int i = 0; i <= N; i++) {
+                for (int c = 0; c < m; c++) {
+                    components.set(c, j + 1, i, u[i * m + c]);
+                }
+            }
+        }
+        return new SystemSolution(eqn, area, components);
+    }
+
+    private static Area buildArea(ParabolicSystemEquation eqn, double h, double tau) {
+        if (eqn == null) {
+            throw new IllegalArgumentException("eqn must not be null");
+        }
+        if (!Double.isFinite(h) || h <= 0) {
+            throw new IllegalArgumentException("spatial step h must be finite and positive, got: " + h);
+        }
+        if (!Double.isFinite(tau) || tau <= 0) {
+            throw new IllegalArgumentException("time step tau must be finite and positive, got: " + tau);
+        }
+        var area = new Area(
+                new Interval(eqn.getX1(), eqn.getX2(), h),
+                new Interval(0, eqn.getT2(), tau)
+        );
+        if (area.xn() < 2) {
+            throw new IllegalArgumentException("grid must have at least 2 spatial steps, got " + area.xn());
+        }
+        return area;
+    }
+}
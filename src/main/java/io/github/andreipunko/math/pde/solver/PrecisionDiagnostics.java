@@ -0,0 +1,63 @@
+package io.github.andreipunko.math.pde.solver;
+
+/**
+ * Comparison of a solve with reduced {@link ComputePrecision} against the double-precision solve of the same
+ * equation on the same grid ({@link ParabolicEquationSolver#diagnose}). Errors are taken over all nodes of the time
+ * layers both solves computed.
+ *
+ * @param precision      precision of the compared solve
+ * @param maxError       maximum absolute difference from the double solve
+ * @param rmsError       root mean square of the differences
+ * @param maxMagnitude   maximum absolute value of the double solve
+ * @param worstStep      time layer index of the maximum difference
+ * @param worstNode      spatial node index of the maximum difference
+ * @param referenceNanos wall-clock time of the double solve, in nanoseconds
+ * @param nanos          wall-clock time of the compared solve, in nanoseconds
+ */
+public record PrecisionDiagnostics(
+        ComputePrecision precision,
+        double maxError,
+        double rmsError,
+        double maxMagnitude,
+        int worstStep,
+        int worstNode,
+        long referenceNanos,
+        long nanos
+) {
+    /**
+     * Validates record components before the instance is created.
+     *
+     * @throws IllegalArgumentException if precision is null, if an error or the magnitude is negative or NaN, or if
+     *                                  an index or a time is negative
+     */
+    public PrecisionDiagnostics {
+        if (precision == null) {
+            throw new IllegalArgumentException("precision must not be null");
+        }
+        if (!(maxError >= 0) || !(rmsError >= 0) || !(maxMagnitude >= 0)) {
+            throw new IllegalArgumentException("errors and magnitude must be non-negative, got maxError=" + maxError
+                    + ", rmsError=" + rmsError + ", maxMagnitude=" + maxMagnitude);
+        }
+        if (worstStep < 0 || worstNode < 0 || referenceNanos < 0 || nanos < 0) {
+            throw new IllegalArgumentException("indices and times must be non-negative");
+        }
+    }
+
+    /**
+     * Returns the maximum difference relative to the magnitude of the solution.
+     *
+     * @return maxError / maxMagnitude, or maxError if the solution is zero
+     */
+    public double relativeError() {
+        return maxMagnitude > 0 ? maxError / maxMagnitude : maxError;
+    }
+
+    /**
+     * Returns how many times the compared solve was faster than the double one.
+     *
+     * @return referenceNanos / nanos
+     */
+    public double speedup() {
+        return (double) referenceNanos / Math.max(1, nanos);
+    }
+}
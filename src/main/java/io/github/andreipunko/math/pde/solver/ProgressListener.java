@@ -0,0 +1,17 @@
+package io.github.andreipunko.math.pde.solver;
+
+/**
+ * Receives the progress of an asynchronous solve (see {@link SolveControl}). It is called on the thread which runs
+ * the solve, so it should return quickly.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * Called when time layer {@code step} of {@code total} is computed.
+     *
+     * @param step  index of the last computed time layer
+     * @param total index of the last time layer of the solve
+     */
+    void onProgress(int step, int total);
+}
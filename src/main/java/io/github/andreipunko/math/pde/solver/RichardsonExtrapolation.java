@@ -0,0 +1,158 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+import io.github.andreipunko.math.pde.equation.Equation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Richardson extrapolation driver on top of an {@link EquationSolver}.
+ * Solves the same equation on a coarse grid {@code (h, tau)} and on a refined grid {@code (h/2, tau/k)}
+ * concurrently, then combines both solutions on the coarse grid:
+ * <p>
+ * U* = U_fine + (U_fine - U_coarse) / 3
+ * <p>
+ * The refined grid must reduce the leading error term by a factor of 4, so {@code k} depends on the time order of
+ * the underlying scheme (see {@link TimeRefinement}). The spatial discretization of the solvers in this package is
+ * second-order, so halving {@code h} always fits.
+ * <p>
+ * The maximum of {@code |U_fine - U_coarse| / 3} over the coarse grid is returned as an error estimate of the fine
+ * solution; the extrapolated values are usually considerably more accurate than that.
+ *
+ * @param <E> the type of equation handled by the wrapped solver
+ * @see EquationSolver
+ */
+public class RichardsonExtrapolation<E extends Equation> {
+
+    private final EquationSolver<E> solver;
+    private final TimeRefinement timeRefinement;
+    private final Executor executor;
+
+    /**
+     * Creates an extrapolation driver which runs both solves on {@link ForkJoinPool#commonPool()}.
+     *
+     * @param solver         solver used for the coarse and the fine solve
+     * @param timeRefinement how the time step is refined on the fine grid
+     * @throws IllegalArgumentException if solver or timeRefinement is null
+     */
+    public RichardsonExtrapolation(EquationSolver<E> solver, TimeRefinement timeRefinement) {
+        this(solver, timeRefinement, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an extrapolation driver which runs both solves on the given executor.
+     *
+     * @param solver         solver used for the coarse and the fine solve
+     * @param timeRefinement how the time step is refined on the fine grid
+     * @param executor       executor running the coarse and the fine solve
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public RichardsonExtrapolation(EquationSolver<E> solver, TimeRefinement timeRefinement, Executor executor) {
+        if (solver == null) {
+            throw new IllegalArgumentException("solver must not be null");
+        }
+        if (timeRefinement == null) {
+            throw new IllegalArgumentException("timeRefinement must not be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        this.solver = solver;
+        this.timeRefinement = timeRefinement;
+        this.executor = executor;
+    }
+
+    /**
+     * Solves the equation on the coarse grid {@code (h, tau)} and the fine grid {@code (h/2, tau/k)} in parallel
+     * and combines the results on the coarse grid.
+     *
+     * @param eqn the equation to solve
+     * @param h   coarse spatial step size (must be finite and positive)
+     * @param tau coarse time step size (must be finite and positive)
+     * @return extrapolated solution on the coarse grid together with the error estimate
+     * @throws IllegalArgumentException if the wrapped solver rejects the parameters, or if the fine grid does not
+     *                                  contain the coarse grid nodes
+     */
+    public Result<E> solve(E eqn, double h, double tau) {
+        var k = timeRefinement.factor();
+        var coarseFuture = CompletableFuture.supplyAsync(() -> solver.solve(eqn, h, tau), executor);
+        var fineFuture = CompletableFuture.supplyAsync(() -> solver.solve(eqn, h / 2, tau / k), executor);
+
+        Solution<E> coarse;
+        Solution<E> fine;
+        try {
+            coarse = coarseFuture.join();
+            fine = fineFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        var coarseMatrix = coarse.matrix();
+        var fineMatrix = fine.matrix();
+        int M = coarseMatrix.getM();
+        int N = coarseMatrix.getN();
+        if (fineMatrix.getM() < (M - 1) * k + 1 || fineMatrix.getN() < (N - 1) * 2 + 1) {
+            throw new IllegalArgumentException("fine grid " + fineMatrix.getM() + "x" + fineMatrix.getN()
+                    + " does not contain coarse grid " + M + "x" + N);
+        }
+
+        var matrix = new Matrix2D(M, N);
+        var maxDiff = 0d;
+        for (int j = 0; j < M; j++) {
+            for (int i = 0; i < N; i++) {
+                var uc = coarseMatrix.get(j, i);
+                var uf = fineMatrix.get(j * k, i * 2);
+                var diff = (uf - uc) / 3.;
+                matrix.set(j, i, uf + diff);
+                maxDiff = Math.max(maxDiff, Math.abs(diff));
+            }
+        }
+        return new Result<>(new Solution<>(eqn, coarse.area(), matrix), maxDiff);
+    }
+
+    /**
+     * Refinement of the time step on the fine grid, chosen by the time order of the wrapped scheme so that the
+     * leading error term shrinks by the same factor of 4 as the second-order spatial term.
+     */
+    public enum TimeRefinement {
+        /**
+         * {@code tau/2} on the fine grid; for schemes of second order in time (Crank-Nicolson, three-layer scheme).
+         */
+        HALF(2),
+        /**
+         * {@code tau/4} on the fine grid; for schemes of first order in time (fully implicit).
+         */
+        QUARTER(4);
+
+        private final int factor;
+
+        TimeRefinement(int factor) {
+            this.factor = factor;
+        }
+
+        /**
+         * Returns the divisor applied to the coarse time step.
+         *
+         * @return time step divisor (2 or 4)
+         */
+        public int factor() {
+            return factor;
+        }
+    }
+
+    /**
+     * Result of Richardson extrapolation.
+     *
+     * @param solution      extrapolated solution on the coarse grid
+     * @param errorEstimate max-norm estimate of the fine-grid solution error, {@code max|U_fine - U_coarse| / 3}
+     * @param <E>           the type of equation that was solved
+     */
+    public record Result<E extends Equation>(Solution<E> solution, double errorEstimate) {
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.solver.AbstractEquationSolver.KappaNu;
+
+/**
+ * Thomas algorithm in single precision for the systems of {@link AbstractEquationSolver#solve3DiagonalEquationsSystem}
+ * of one size, with an optional step of iterative refinement in double precision. The work arrays are kept between
+ * the solves of a time march, so instances are not thread-safe.
+ */
+final class SinglePrecisionThomas {
+
+    private static final float RELATIVE_TOLERANCE = 1e-6f;
+
+    private final int N;
+    private final float[] alpha;
+    private final float[] beta;
+    private final float[] inv;      // 1 / (C[i] - A[i]*Alpha[i])
+    private final float[] a;        // narrowed coefficients of a double system
+    private final float[] b;
+    private final float[] c;
+    private final float[] f;
+    private final float[] y;
+    private final float[] e;        // correction of a refined solve
+
+    SinglePrecisionThomas(int N) {
+        this.N = N;
+        alpha = new float[N + 1];
+        beta = new float[N + 1];
+        inv = new float[N];
+        a = new float[N];
+        b = new float[N];
+        c = new float[N];
+        f = new float[N];
+        y = new float[N + 1];
+        e = new float[N + 1];
+    }
+
+    /**
+     * Solves the system in single precision.
+     *
+     * @return solution Y of N+1 values
+     * @throws IllegalArgumentException if a denominator is zero, too small or not finite in single precision
+     */
+    float[] solve(float[] A, float[] B, float[] C, float[] F, float kappaLeft, float nuLeft, float kappaRight,
+                  float nuRight) {
+        factor(A, B, C, kappaLeft);
+        var Y = new float[N + 1];
+        substitute(A, F, nuLeft, kappaRight, nuRight, Y);
+        return Y;
+    }
+
+    /**
+     * Solves the double-precision system with the single-precision sweep; with {@code refine} the residual of the
+     * double system is computed in double precision and the correction, solved with the same factorization, is
+     * added to the solution.
+     *
+     * @return solution Y of N+1 values
+     * @throws IllegalArgumentException if a denominator is zero, too small or not finite in single precision
+     */
+    double[] solve(double[] A, double[] B, double[] C, double[] F, KappaNu left, KappaNu right, boolean refine) {
+        for (int i = 1; i < N; i++) {
+            a[i] = (float) A[i];
+            b[i] = (float) B[i];
+            c[i] = (float) C[i];
+            f[i] = (float) F[i];
+        }
+        float kappaRight = (float) right.kappa();
+        factor(a, b, c, (float) left.kappa());
+        substitute(a, f, (float) left.nu(), kappaRight, (float) right.nu(), y);
+        var Y = new double[N + 1];
+        for (int i = 0; i <= N; i++) {
+            Y[i] = y[i];
+        }
+        if (!refine) {
+            return Y;
+        }
+
+        // The correction solves the same system with the residual: A*e[i-1] - C*e[i] + B*e[i+1] = -(F + A*Y[i-1]
+        // - C*Y[i] + B*Y[i+1]) and the border conditions e[0] = kappa*e[1] + (nu - Y[0] + kappa*Y[1]) (same on the
+        // right)
+        for (int i = 1; i < N; i++) {
+            f[i] = (float) (F[i] + A[i] * Y[i - 1] - C[i] * Y[i] + B[i] * Y[i + 1]);
+        }
+        substitute(a, f, (float) (left.nu() - Y[0] + left.kappa() * Y[1]), kappaRight,
+                (float) (right.nu() - Y[N] + right.kappa() * Y[N - 1]), e);
+        for (int i = 0; i <= N; i++) {
+            Y[i] += e[i];
+        }
+        return Y;
+    }
+
+    /**
+     * Computes Alpha and the inverse denominators, which depend on the operator and the left kappa only.
+     */
+    private void factor(float[] A, float[] B, float[] C, float kappaLeft) {
+        alpha[1] = kappaLeft;
+        for (int i = 1; i < N; i++) {
+            float den = C[i] - A[i] * alpha[i];
+            check(B[i], den, "forward sweep, row index " + i);
+            inv[i] = 1f / den;
+            alpha[i + 1] = B[i] * inv[i];
+        }
+    }
+
+    /**
+     * Computes Beta and runs the back substitution with the factored operator.
+     */
+    private void substitute(float[] A, float[] F, float nuLeft, float kappaRight, float nuRight, float[] Y) {
+        beta[1] = nuLeft;
+        for (int i = 1; i < N; i++) {
+            beta[i + 1] = (A[i] * beta[i] + F[i]) * inv[i];
+        }
+        float num = nuRight + kappaRight * beta[N],
+                den = 1 - kappaRight * alpha[N];
+        check(num, den, "right boundary (Y[N])");
+        Y[N] = num / den;
+        for (int i = N - 1; i >= 0; i--) {
+            Y[i] = alpha[i + 1] * Y[i + 1] + beta[i + 1];
+        }
+    }
+
+    private static void check(float numerator, float denominator, String stage) {
+        if (!(Math.abs(denominator) > RELATIVE_TOLERANCE * Math.max(1f, Math.abs(numerator) + Math.abs(denominator)))
+                || !Float.isFinite(denominator)) {
+            throw new IllegalArgumentException("Tridiagonal solver (single precision, " + stage
+                    + "): denominator is zero, too small or not finite: " + denominator);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.github.andreipunko.math.pde.solver;
 
 import io.github.andreipunko.math.matrix.Matrix2D;
 import io.github.andreipunko.math.matrix.MatrixXY;
+import io.github.andreipunko.math.matrix.SliceView;
 import io.github.andreipunko.math.pde.equation.Equation;
 import io.github.andreipunko.math.space.Area;
 import io.github.andreipunko.math.space.Interval;
@@ -14,11 +15,18 @@ import static io.github.andreipunko.util.FileUtil.formatDouble;
 /**
  * Numerical PDE solution on a space-time domain: {@link #equation()}, {@link #area()}, and
  * grid values {@link #matrix()} ({@link Matrix2D} — rows are time layers, columns are spatial nodes).
+ * <p>
+ * When the solver stopped early on reaching a steady state (see {@link SteadyStateCriterion}), {@link #area()} and
+ * {@link #matrix()} cover only the computed layers and {@link #steadyStateTime()} holds the time of convergence.
+ * <p>
+ * A solve with per-layer reductions (see {@link LayerStatistics}) returns them in {@link #statistics()}.
  *
- * @param equation the partial differential equation that was solved
- * @param area     the space-time domain where the solution was found
- * @param matrix   grid values of the solution (same layout as above); must not be null
- * @param <E>      the type of equation that was solved
+ * @param equation        the partial differential equation that was solved
+ * @param area            the space-time domain where the solution was found
+ * @param matrix          grid values of the solution (same layout as above); must not be null
+ * @param steadyStateTime time when a steady state was detected, or {@link Double#NaN} if it was not
+ * @param statistics      reductions of the time layers computed during the solve, or null
+ * @param <E>             the type of equation that was solved
  * @see EquationSolver
  * @see Matrix2D
  * @see Area
@@ -26,7 +34,9 @@ import static io.github.andreipunko.util.FileUtil.formatDouble;
 public record Solution<E extends Equation>(
         E equation,
         Area area,
-        Matrix2D matrix
+        Matrix2D matrix,
+        double steadyStateTime,
+        LayerStatistics statistics
 ) {
     /**
      * Validates record components before the instance is created.
@@ -45,6 +55,47 @@ public record Solution<E extends Equation>(
         }
     }
 
+    /**
+     * Creates a solution without per-layer statistics.
+     *
+     * @param equation        the partial differential equation that was solved
+     * @param area            the space-time domain where the solution was found
+     * @param matrix          grid values of the solution
+     * @param steadyStateTime time when a steady state was detected, or {@link Double#NaN} if it was not
+     * @throws IllegalArgumentException if equation, area or matrix is null
+     */
+    public Solution(E equation, Area area, Matrix2D matrix, double steadyStateTime) {
+        this(equation, area, matrix, steadyStateTime, null);
+    }
+
+    /**
+     * Creates a solution computed over the whole time interval (no steady state detected).
+     *
+     * @param equation the partial differential equation that was solved
+     * @param area     the space-time domain where the solution was found
+     * @param matrix   grid values of the solution
+     * @throws IllegalArgumentException if equation, area or matrix is null
+     */
+    public Solution(E equation, Area area, Matrix2D matrix) {
+        this(equation, area, matrix, Double.NaN);
+    }
+
+    /**
+     * Returns this solution with given per-layer statistics.
+     */
+    Solution<E> withStatistics(LayerStatistics statistics) {
+        return new Solution<>(equation, area, matrix, steadyStateTime, statistics);
+    }
+
+    /**
+     * Returns whether the solver stopped early because a steady state was reached.
+     *
+     * @return true if {@link #steadyStateTime()} is set
+     */
+    public boolean isSteadyState() {
+        return !Double.isNaN(steadyStateTime);
+    }
+
     /**
      * Saves solution data U(x,t) for specified time moments to a file.
      * Creates a set of spatial slices of the solution at different time points.
@@ -248,4 +299,64 @@ public record Solution<E extends Equation>(
         }
         return slice;
     }
+
+    /**
+     * Returns a spatial slice of the solution at a specified time moment like {@link #gUt(double)}, but as a view:
+     * nothing is copied.
+     *
+     * @param t time moment to get the slice for
+     * @return view of the spatial slice of the solution
+     * @throws IllegalArgumentException if the time moment is outside the solution domain
+     */
+    public SliceView gUtView(double t) {
+        return gUtView(area.ti(t));
+    }
+
+    /**
+     * Returns a spatial slice of the solution at a specified time layer index like {@link #gUt(int)}, but as a view:
+     * the values are read from the row of {@link #matrix()} and the coordinates are the shared grid nodes of
+     * {@link Area#x()} ({@link Interval#nodes()}), so nothing is copied.
+     *
+     * @param it row index in {@link #matrix()} (time layer; 0 &lt;= it &lt; {@code matrix.getM()})
+     * @return view of the spatial slice of the solution
+     * @throws IllegalArgumentException if the time layer index is out of bounds
+     */
+    public SliceView gUtView(int it) {
+        int M = matrix.getM();
+        if (it < 0 || it >= M) {
+            throw new IllegalArgumentException(
+                    "time layer index it out of bounds: " + it + ", valid [0, " + (M - 1) + "]");
+        }
+        return new SliceView(area.x().nodes(), matrix.rowView(it));
+    }
+
+    /**
+     * Returns a temporal slice of the solution at a specified spatial coordinate like {@link #gUx(double)}, but as a
+     * view: nothing is copied.
+     *
+     * @param x spatial coordinate to get the slice for
+     * @return view of the temporal slice of the solution
+     * @throws IllegalArgumentException if the spatial coordinate is outside the solution domain
+     */
+    public SliceView gUxView(double x) {
+        return gUxView(area.xi(x));
+    }
+
+    /**
+     * Returns a temporal slice of the solution at a specified spatial column index like {@link #gUx(int)}, but as a
+     * view: the values are read with a stride from the column of {@link #matrix()} and the coordinates are the
+     * shared grid nodes of {@link Area#t()} ({@link Interval#nodes()}), so nothing is copied.
+     *
+     * @param ix column index in {@link #matrix()} (spatial node; 0 &lt;= ix &lt; {@code matrix.getN()})
+     * @return view of the temporal slice of the solution
+     * @throws IllegalArgumentException if the spatial column index is out of bounds
+     */
+    public SliceView gUxView(int ix) {
+        int N = matrix.getN();
+        if (ix < 0 || ix >= N) {
+            throw new IllegalArgumentException(
+                    "spatial column index ix out of bounds: " + ix + ", valid [0, " + (N - 1) + "]");
+        }
+        return new SliceView(area.t().nodes(), matrix.columnView(ix));
+    }
 }
@@ -0,0 +1,82 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+import io.github.andreipunko.math.matrix.Matrix3D;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation2D;
+import io.github.andreipunko.math.space.Area2D;
+
+/**
+ * Numerical solution of a two-dimensional PDE: {@link #equation()}, {@link #area()} and a rolling window of the
+ * last time layers in {@link #layers()}.
+ * <p>
+ * {@code layers} holds {@code layers.getL()} slots of size (xn+1)&times;(yn+1) (rows are x nodes, columns are
+ * y nodes). Time layer {@code it} is kept in slot {@code it % layers.getL()}, so only the last {@code layers.getL()}
+ * time layers, starting from {@link #firstLayer()}, are available.
+ *
+ * @param equation the equation that was solved
+ * @param area     the space-time domain where the solution was found
+ * @param layers   ring of the last time layers
+ * @see ParabolicEquation2DSolver
+ */
+public record Solution2D(
+        ParabolicEquation2D equation,
+        Area2D area,
+        Matrix3D layers
+) {
+    /**
+     * Validates record components before the instance is created.
+     *
+     * @throws IllegalArgumentException if any component is null or the layer size does not match the area
+     */
+    public Solution2D {
+        if (equation == null) {
+            throw new IllegalArgumentException("equation must not be null");
+        }
+        if (area == null) {
+            throw new IllegalArgumentException("area must not be null");
+        }
+        if (layers == null) {
+            throw new IllegalArgumentException("layers must not be null");
+        }
+        if (layers.getM() != area.xn() + 1 || layers.getN() != area.yn() + 1) {
+            throw new IllegalArgumentException("layer size " + layers.getM() + "x" + layers.getN()
+                    + " does not match area " + (area.xn() + 1) + "x" + (area.yn() + 1));
+        }
+    }
+
+    /**
+     * Returns the index of the earliest time layer still kept in the window.
+     *
+     * @return first available time layer index
+     */
+    public int firstLayer() {
+        return Math.max(0, area.tn() + 1 - layers.getL());
+    }
+
+    /**
+     * Retrieves the solution at a specified time layer index.
+     *
+     * @param it time layer index ({@link #firstLayer()} &lt;= it &lt;= tn)
+     * @return matrix of U values, rows are x nodes and columns are y nodes
+     * @throws IllegalArgumentException if the layer is outside the domain or no longer kept in the window
+     */
+    public Matrix2D gU(int it) {
+        if (it < firstLayer() || it > area.tn()) {
+            throw new IllegalArgumentException(
+                    "time layer index it out of bounds: " + it + ", valid [" + firstLayer() + ", " + area.tn() + "]");
+        }
+        return layers.getLayer(it % layers.getL());
+    }
+
+    /**
+     * Retrieves the solution at a specified time moment.
+     * Uses {@link Area2D#ti(double)} to pick the time layer (nearest grid time at or to the left of {@code t}).
+     *
+     * @param t time moment
+     * @return matrix of U values, rows are x nodes and columns are y nodes
+     * @throws IllegalArgumentException if the time moment is outside the domain or no longer kept in the window
+     */
+    public Matrix2D gU(double t) {
+        return gU(area.ti(t));
+    }
+}
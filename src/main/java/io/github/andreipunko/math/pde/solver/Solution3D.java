@@ -0,0 +1,80 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix3D;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation3D;
+import io.github.andreipunko.math.space.Area3D;
+
+import java.util.List;
+
+/**
+ * Numerical solution of a three-dimensional PDE: {@link #equation()}, {@link #area()} and a rolling window of the
+ * last time layers in {@link #layers()}.
+ * <p>
+ * Every element of {@code layers} is a (xn+1)&times;(yn+1)&times;(zn+1) {@link Matrix3D} (x index selects the
+ * layer, y the row and z the column). Time layer {@code it} is kept in slot {@code it % layers.size()}, so only
+ * the last {@code layers.size()} time layers, starting from {@link #firstLayer()}, are available.
+ *
+ * @param equation the equation that was solved
+ * @param area     the space-time domain where the solution was found
+ * @param layers   ring of the last time layers
+ * @see ParabolicEquation3DSolver
+ */
+public record Solution3D(
+        ParabolicEquation3D equation,
+        Area3D area,
+        List<Matrix3D> layers
+) {
+    /**
+     * Validates record components before the instance is created.
+     *
+     * @throws IllegalArgumentException if any component is null or empty
+     */
+    public Solution3D {
+        if (equation == null) {
+            throw new IllegalArgumentException("equation must not be null");
+        }
+        if (area == null) {
+            throw new IllegalArgumentException("area must not be null");
+        }
+        if (layers == null || layers.isEmpty()) {
+            throw new IllegalArgumentException("layers must not be null or empty");
+        }
+        layers = List.copyOf(layers);
+    }
+
+    /**
+     * Returns the index of the earliest time layer still kept in the window.
+     *
+     * @return first available time layer index
+     */
+    public int firstLayer() {
+        return Math.max(0, area.tn() + 1 - layers.size());
+    }
+
+    /**
+     * Retrieves the solution at a specified time layer index. The returned array is part of the solution storage.
+     *
+     * @param it time layer index ({@link #firstLayer()} &lt;= it &lt;= tn)
+     * @return U values indexed by (x, y, z) node indices
+     * @throws IllegalArgumentException if the layer is outside the domain or no longer kept in the window
+     */
+    public Matrix3D gU(int it) {
+        if (it < firstLayer() || it > area.tn()) {
+            throw new IllegalArgumentException(
+                    "time layer index it out of bounds: " + it + ", valid [" + firstLayer() + ", " + area.tn() + "]");
+        }
+        return layers.get(it % layers.size());
+    }
+
+    /**
+     * Retrieves the solution at a specified time moment.
+     * Uses {@link Area3D#ti(double)} to pick the time layer (nearest grid time at or to the left of {@code t}).
+     *
+     * @param t time moment
+     * @return U values indexed by (x, y, z) node indices
+     * @throws IllegalArgumentException if the time moment is outside the domain or no longer kept in the window
+     */
+    public Matrix3D gU(double t) {
+        return gU(area.ti(t));
+    }
+}
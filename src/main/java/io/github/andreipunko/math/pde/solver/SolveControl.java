@@ -0,0 +1,63 @@
+package io.github.andreipunko.math.pde.solver;
+
+import java.time.Instant;
+
+/**
+ * Settings of an asynchronous solve ({@code solveAsync} of {@link ParabolicEquationSolver} and
+ * {@link HyperbolicEquationSolver}): every {@code checkInterval} time steps the solve reports its progress, stops if
+ * its future was cancelled and checks the deadline.
+ * <p>
+ * When the deadline has passed, the solve stops and, depending on {@code deadlinePolicy}, the future either completes
+ * with a partial {@link Solution} of the layers computed so far or fails with
+ * {@link java.util.concurrent.TimeoutException}.
+ *
+ * @param checkInterval    number of time steps between checks (must be positive)
+ * @param progressListener receiver of progress reports, or null
+ * @param deadline         time after which the solve stops, or null for no deadline
+ * @param deadlinePolicy   result of a solve stopped by the deadline
+ */
+public record SolveControl(
+        int checkInterval,
+        ProgressListener progressListener,
+        Instant deadline,
+        DeadlinePolicy deadlinePolicy
+) {
+
+    /**
+     * Result of a solve stopped by the deadline.
+     */
+    public enum DeadlinePolicy {
+        /**
+         * Complete the future with the time layers computed before the deadline.
+         */
+        PARTIAL,
+        /**
+         * Complete the future exceptionally with {@link java.util.concurrent.TimeoutException}.
+         */
+        FAIL
+    }
+
+    /**
+     * Validates record components before the instance is created.
+     *
+     * @throws IllegalArgumentException if checkInterval &lt;= 0 or deadlinePolicy is null
+     */
+    public SolveControl {
+        if (checkInterval <= 0) {
+            throw new IllegalArgumentException("checkInterval must be positive, got: " + checkInterval);
+        }
+        if (deadlinePolicy == null) {
+            throw new IllegalArgumentException("deadlinePolicy must not be null");
+        }
+    }
+
+    /**
+     * Creates settings without progress reports and deadline: the solve can only be cancelled.
+     *
+     * @param checkInterval number of time steps between checks (must be positive)
+     * @throws IllegalArgumentException if checkInterval &lt;= 0
+     */
+    public SolveControl(int checkInterval) {
+        this(checkInterval, null, null, DeadlinePolicy.FAIL);
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.MatrixXY;
+import io.github.andreipunko.math.pde.border.BorderCondition;
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.space.Area;
+import io.github.andreipunko.math.transform.TrigonometricTransform;
+
+import java.util.stream.IntStream;
+
+/**
+ * Spectral solver for equations with constant coefficients and homogeneous border conditions:
+ * <p>
+ * M*∂²U/∂t² + L*∂U/∂t = K*∂²U/∂x²
+ * <p>
+ * with V = 0, F = 0 and either U = 0 (Dirichlet) or ∂U/∂x = 0 (Neumann) on both borders. This covers parabolic
+ * equations (M = 0, L &gt; 0) and hyperbolic equations (M &gt; 0, L &gt;= 0) including the initial velocity
+ * {@link HyperbolicEquation#gdU_dt0(double)}.
+ * <p>
+ * The initial conditions on the grid are expanded by the discrete sine (Dirichlet) or cosine (Neumann) transform.
+ * Every mode sin(π*k*x/l) or cos(π*k*x/l) evolves independently by the exact solution of its ordinary differential
+ * equation, so a layer at any time is found directly by the inverse transform: O(N log N) per layer without time
+ * marching. Layers are independent and are computed in parallel.
+ * <p>
+ * Coefficients and border conditions are checked on the grid at times 0 and t2 with U = U0(x); an equation outside
+ * the supported class is rejected with {@link IllegalArgumentException}.
+ *
+ * @param <E> the type of equation this solver handles
+ * @see TrigonometricTransform
+ */
+public class SpectralEquationSolver<E extends Equation> extends AbstractEquationSolver<E> {
+
+    /**
+     * Relative tolerance of the check that coefficients are constant.
+     */
+    private static final double COEFFICIENT_TOLERANCE = 1e-12;
+
+    /**
+     * Creates a spectral solver.
+     */
+    public SpectralEquationSolver() {
+    }
+
+    /**
+     * Solves the equation on the grid: every time layer is computed directly from the initial conditions.
+     *
+     * @param eqn equation to solve
+     * @param h   spatial step size (must be positive)
+     * @param tau time step size (must be positive)
+     * @return {@link Solution} with function values on the grid in {@link Solution#matrix()}
+     * @throws IllegalArgumentException if parameters are invalid, if the grid has less than 2 spatial steps, or if
+     *                                  the equation is not supported (see class description)
+     */
+    @Override
+    public Solution<E> solve(E eqn, double h, double tau) {
+        var area = buildArea(eqn, h, tau);
+        var matrix = prepare(eqn, area);
+        var spectrum = expand(eqn, area, matrix.getRow(0));
+
+        IntStream.rangeClosed(1, area.tn()).parallel()
+                .forEach(j -> matrix.setRow(j, spectrum.layer(area.tx(j))));
+        return new Solution<>(eqn, area, matrix);
+    }
+
+    /**
+     * Computes the solution at a single time moment without computing other layers.
+     *
+     * @param eqn equation to solve
+     * @param h   spatial step size (must be positive)
+     * @param t   time moment (0 &lt;= t &lt;= t2)
+     * @return MatrixXY with grid coordinates and solution values
+     * @throws IllegalArgumentException if parameters are invalid, if t is outside [0, t2], if the grid has less than
+     *                                  2 spatial steps, or if the equation is not supported (see class description)
+     */
+    public MatrixXY solveAt(E eqn, double h, double t) {
+        var area = buildArea(eqn, h, eqn == null ? 1 : eqn.getT2());
+        if (!(t >= 0 && t <= eqn.getT2())) {
+            throw new IllegalArgumentException("time t must be in [0, " + eqn.getT2() + "], got: " + t);
+        }
+        var u0 = prepare(eqn, area).getRow(0);
+        var u = t == 0 ? u0 : expand(eqn, area, u0).layer(t);
+
+        var result = new MatrixXY(u.length);
+        for (int i = 0; i < u.length; i++) {
+            result.setX(i, area.xx(i));
+            result.setY(i, u[i]);
+        }
+        return result;
+    }
+
+    private Spectrum expand(E eqn, Area area, double[] u0) {
+        int N = area.xn();
+        if (N < 2) {
+            throw new IllegalArgumentException("grid must have at least 2 spatial steps, got " + N);
+        }
+        var dirichlet = checkBorderConditions(eqn);
+        double
+                M = constant(eqn, area, u0, "M", eqn::gM),
+                L = constant(eqn, area, u0, "L", eqn::gL),
+                K = constant(eqn, area, u0, "K", eqn::gK),
+                V = constant(eqn, area, u0, "V", eqn::gV),
+                F = constant(eqn, area, u0, "F", eqn::gF);
+        if (V != 0 || F != 0) {
+            throw new IllegalArgumentException("spectral solver requires V = 0 and F = 0, got V=" + V + ", F=" + F);
+        }
+        if (K < 0 || M < 0 || L < 0 || (M == 0 && L == 0)) {
+            throw new IllegalArgumentException(
+                    "spectral solver requires K >= 0, M >= 0, L >= 0 and M + L > 0, got K=" + K + ", M=" + M + ", L=" + L);
+        }
+
+        var v0 = new double[N + 1];
+        if (eqn instanceof HyperbolicEquation hyperbolic) {
+            for (int i = 0; i <= N; i++) {
+                v0[i] = hyperbolic.gdU_dt0(area.xx(i));
+            }
+        }
+        double length = area.xx(N) - area.xx(0);
+        return new Spectrum(dirichlet, M, L, K, length,
+                transform(dirichlet, u0), transform(dirichlet, v0));
+    }
+
+    private static double[] transform(boolean dirichlet, double[] u) {
+        return dirichlet ? TrigonometricTransform.dst1(u) : TrigonometricTransform.dct1(u);
+    }
+
+    /**
+     * Returns true for homogeneous Dirichlet conditions, false for homogeneous Neumann conditions on both borders.
+     */
+    private boolean checkBorderConditions(E eqn) {
+        var left = eqn.getLeftBorderCondition();
+        var right = eqn.getRightBorderCondition();
+        if (isHomogeneousDirichlet(left, eqn.getT2()) && isHomogeneousDirichlet(right, eqn.getT2())) {
+            return true;
+        }
+        if (isHomogeneousNeumann(left, eqn.getT2()) && isHomogeneousNeumann(right, eqn.getT2())) {
+            return false;
+        }
+        throw new IllegalArgumentException("spectral solver requires homogeneous Dirichlet or homogeneous Neumann "
+                + "conditions on both borders, got " + left + " and " + right);
+    }
+
+    private static boolean isHomogeneousDirichlet(BorderCondition condition, double t2) {
+        return condition instanceof DirichletBorderCondition dirichlet
+                && dirichlet.gU(0) == 0 && dirichlet.gU(t2) == 0;
+    }
+
+    private static boolean isHomogeneousNeumann(BorderCondition condition, double t2) {
+        return condition instanceof NeumannBorderCondition neumann
+                && neumann.gdU_dx(0) == 0 && neumann.gdU_dx(t2) == 0;
+    }
+
+    private static double constant(Equation eqn, Area area, double[] u0, String name, Coefficient coefficient) {
+        double value = coefficient.get(area.xx(0), 0, u0[0]);
+        for (double t : new double[]{0, eqn.getT2()}) {
+            for (int i = 0; i <= area.xn(); i++) {
+                double v = coefficient.get(area.xx(i), t, u0[i]);
+                if (!(Math.abs(v - value) <= COEFFICIENT_TOLERANCE * Math.abs(value))) {
+                    throw new IllegalArgumentException("spectral solver requires constant " + name
+                            + ", got " + value + " and " + v + " at x=" + area.xx(i) + ", t=" + t);
+                }
+            }
+        }
+        return value;
+    }
+
+    private interface Coefficient {
+        double get(double x, double t, double U);
+    }
+
+    /**
+     * Sine or cosine coefficients of the initial displacement {@code a} and velocity {@code b}.
+     */
+    private record Spectrum(boolean dirichlet, double M, double L, double K, double length, double[] a, double[] b) {
+
+        double[] layer(double t) {
+            int N = a.length - 1;
+            var c = new double[N + 1];
+            for (int k = 0; k <= N; k++) {
+                double q = Math.PI * k / length;
+                c[k] = mode(a[k], b[k], K * q * q, t);
+            }
+            var u = transform(dirichlet, c);
+            for (int i = 0; i <= N; i++) {
+                u[i] *= 2. / N;
+            }
+            return u;
+        }
+
+        /**
+         * Solution of M*c'' + L*c' + K*λ*c = 0 with c(0) = a, c'(0) = b.
+         */
+        private double mode(double a, double b, double Klambda, double t) {
+            if (M == 0) {
+                return a * Math.exp(-Klambda / L * t);
+            }
+            double
+                    gamma = L / (2 * M),
+                    omega2 = Klambda / M,
+                    d = omega2 - gamma * gamma;
+            if (Math.abs(d) <= COEFFICIENT_TOLERANCE * Math.max(omega2, gamma * gamma)) {
+                return Math.exp(-gamma * t) * (a + (b + gamma * a) * t);
+            }
+            if (d > 0) {
+                double w = Math.sqrt(d);
+                return Math.exp(-gamma * t) * (a * Math.cos(w * t) + (b + gamma * a) / w * Math.sin(w * t));
+            }
+            double
+                    s = Math.sqrt(-d),
+                    r1 = -gamma + s,
+                    r2 = -gamma - s;
+            return ((b - r2 * a) * Math.exp(r1 * t) + (r1 * a - b) * Math.exp(r2 * t)) / (r1 - r2);
+        }
+    }
+}
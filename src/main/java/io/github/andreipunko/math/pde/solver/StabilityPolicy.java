@@ -0,0 +1,46 @@
+package io.github.andreipunko.math.pde.solver;
+
+/**
+ * Defines how explicit solvers react to a time step which exceeds the stability limit of the scheme.
+ *
+ * @see ExplicitParabolicEquationSolver
+ * @see ExplicitHyperbolicEquationSolver
+ */
+public enum StabilityPolicy {
+
+    /**
+     * Reject the time step: the solver throws {@link IllegalArgumentException}.
+     */
+    REJECT,
+
+    /**
+     * Split every time step into the smallest number of equal substeps which satisfy the stability limit.
+     * Only the layers of the original time grid are stored.
+     */
+    SUBSTEP;
+
+    /**
+     * Returns the number of equal substeps which a time step {@code tau} must be split into.
+     *
+     * @param tau    requested time step
+     * @param tauMax stability limit of the time step (may be infinite)
+     * @return 1 if {@code tau <= tauMax}, otherwise the number of substeps (for {@link #SUBSTEP})
+     * @throws IllegalArgumentException if {@code tau > tauMax} and the policy is {@link #REJECT}, or if the number
+     *                                  of substeps is too large
+     */
+    int substeps(double tau, double tauMax) {
+        if (tau <= tauMax) {
+            return 1;
+        }
+        if (this == REJECT) {
+            throw new IllegalArgumentException(
+                    "time step tau=" + tau + " exceeds the stability limit of the explicit scheme: " + tauMax);
+        }
+        double m = Math.ceil(tau / tauMax);
+        if (!(m <= Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException(
+                    "stability limit " + tauMax + " requires too many substeps of tau=" + tau);
+        }
+        return (int) m;
+    }
+}
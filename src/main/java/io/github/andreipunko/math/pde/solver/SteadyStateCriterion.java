@@ -0,0 +1,59 @@
+package io.github.andreipunko.math.pde.solver;
+
+/**
+ * Criterion of a steady state for time-marching solvers: the march stops when
+ * <p>
+ * max_i |U^{j+1}_i - U^j_i| / tau &lt;= tolerance
+ * <p>
+ * i.e. when the maximal rate of change of the solution drops to the tolerance. The condition is checked every
+ * {@code checkInterval} time steps only, so the check itself costs almost nothing.
+ *
+ * @param tolerance     maximal rate of change |∂U/∂t| considered steady (must be finite and positive)
+ * @param checkInterval number of time steps between checks (must be positive)
+ * @see ParabolicEquationSolver#ParabolicEquationSolver(double, SteadyStateCriterion)
+ * @see Solution#steadyStateTime()
+ */
+public record SteadyStateCriterion(double tolerance, int checkInterval) {
+
+    /**
+     * Validates record components before the instance is created.
+     *
+     * @throws IllegalArgumentException if tolerance is not finite or not positive, or if checkInterval &lt;= 0
+     */
+    public SteadyStateCriterion {
+        if (!Double.isFinite(tolerance) || tolerance <= 0) {
+            throw new IllegalArgumentException("tolerance must be finite and positive, got: " + tolerance);
+        }
+        if (checkInterval <= 0) {
+            throw new IllegalArgumentException("checkInterval must be positive, got: " + checkInterval);
+        }
+    }
+
+    /**
+     * Creates a criterion which is checked on every time step.
+     *
+     * @param tolerance maximal rate of change |∂U/∂t| considered steady (must be finite and positive)
+     * @throws IllegalArgumentException if tolerance is not finite or not positive
+     */
+    public SteadyStateCriterion(double tolerance) {
+        this(tolerance, 1);
+    }
+
+    /**
+     * Checks whether the change between two consecutive time layers satisfies the criterion.
+     *
+     * @param previous layer U^j
+     * @param next     layer U^{j+1}
+     * @param tau      time step
+     * @return true if the steady state is reached
+     */
+    boolean isMet(double[] previous, double[] next, double tau) {
+        double bound = tolerance * tau;
+        for (int i = 0; i < next.length; i++) {
+            if (!(Math.abs(next[i] - previous[i]) <= bound)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.MatrixXY;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.space.Interval;
+
+import static io.github.andreipunko.math.pde.solver.AbstractEquationSolver.kappaNu;
+import static io.github.andreipunko.math.pde.solver.AbstractEquationSolver.solve3DiagonalEquationsSystem;
+
+/**
+ * Solver for the steady state (long-time limit) of parabolic equations. The time derivative term is dropped and the
+ * boundary value problem
+ * <p>
+ * ∂( K(x,t2,U)*∂U/∂x )/∂x + V(x,t2,U)*∂U/∂x + F(x,t2,U) = 0
+ * <p>
+ * is solved directly with the same space discretization and border condition handling as in
+ * {@link ParabolicEquationSolver}; coefficients and border conditions are taken at {@code t = t2}.
+ * <p>
+ * Coefficients depending on U are handled by Picard iteration: every iteration evaluates the coefficients on the
+ * previous iterate and solves one tridiagonal system, starting from the initial condition
+ * {@link ParabolicEquation#gU0(double)}. The iteration stops when the maximal change of U is at most the tolerance,
+ * so a linear problem takes two solves. With Neumann conditions on both borders the problem is singular whatever
+ * the source F is, because constants solve its homogeneous part: a steady state is then not unique or does not exist,
+ * and the problem is rejected by the tridiagonal solver.
+ *
+ * @see ParabolicEquation
+ * @see SteadyStateCriterion
+ */
+public class SteadyStateSolver {
+
+    /**
+     * Default tolerance of Picard iteration.
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+    /**
+     * Default maximal number of Picard iterations.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    private final double tolerance;
+    private final int maxIterations;
+
+    /**
+     * Creates a solver with default tolerance and maximal number of iterations.
+     */
+    public SteadyStateSolver() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Creates a solver with given tolerance and maximal number of Picard iterations.
+     *
+     * @param tolerance     maximal change of U between iterations considered converged (must be finite and positive)
+     * @param maxIterations maximal number of iterations (must be positive)
+     * @throws IllegalArgumentException if tolerance is not finite or not positive, or if maxIterations &lt;= 0
+     */
+    public SteadyStateSolver(double tolerance, int maxIterations) {
+        if (!Double.isFinite(tolerance) || tolerance <= 0) {
+            throw new IllegalArgumentException("tolerance must be finite and positive, got: " + tolerance);
+        }
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("maxIterations must be positive, got: " + maxIterations);
+        }
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Finds the steady state of the parabolic equation.
+     *
+     * @param eqn parabolic equation
+     * @param h   spatial step size (must be finite and positive)
+     * @return MatrixXY with grid coordinates and steady state values
+     * @throws IllegalArgumentException if eqn is null, if h is invalid, or if a tridiagonal system is degenerate
+     * @throws IllegalStateException    if Picard iteration does not converge within the maximal number of iterations
+     */
+    public MatrixXY solve(ParabolicEquation eqn, double h) {
+        if (eqn == null) {
+            throw new IllegalArgumentException("eqn must not be null");
+        }
+        if (!Double.isFinite(h) || h <= 0) {
+            throw new IllegalArgumentException("spatial step h must be finite and positive, got: " + h);
+        }
+        var x = new Interval(eqn.getX1(), eqn.getX2(), h);
+        int N = x.n();
+        double t = eqn.getT2(),
+                h2 = h * h;
+        var left = kappaNu(eqn.getLeftBorderCondition(), h, t);
+        var right = kappaNu(eqn.getRightBorderCondition(), h, t);
+
+        var u = new double[N + 1];
+        for (int i = 0; i <= N; i++) {
+            u[i] = eqn.gU0(x.x(i));
+        }
+        var A = new double[N];
+        var B = new double[N];
+        var C = new double[N];
+        var F = new double[N];
+
+        for (int iteration = 1; iteration <= maxIterations; iteration++) {
+            for (int i = 1; i < N; i++) {
+                double
+                        xi = x.x(i),
+                        k = eqn.gK(xi, t, u[i]),
+                        v = eqn.gV(xi, t, u[i]),
+                        Alpha = (k + eqn.gK(x.x(i + 1), t, u[i + 1]) + v * h) / 2.,
+                        Beta = (k + eqn.gK(x.x(i - 1), t, u[i - 1]) - v * h) / 2.;
+
+                A[i] = Beta;
+                B[i] = Alpha;
+                C[i] = Alpha + Beta;
+                F[i] = h2 * eqn.gF(xi, t, u[i]);
+            }
+            var next = solve3DiagonalEquationsSystem(A, B, C, F, left, right);
+
+            double change = 0;
+            for (int i = 0; i <= N; i++) {
+                change = Math.max(change, Math.abs(next[i] - u[i]));
+            }
+            u = next;
+            if (change <= tolerance) {
+                var result = new MatrixXY(N + 1);
+                for (int i = 0; i <= N; i++) {
+                    result.setX(i, x.x(i));
+                    result.setY(i, u[i]);
+                }
+                return result;
+            }
+        }
+        throw new IllegalStateException("steady state iteration did not converge in " + maxIterations + " iterations");
+    }
+}
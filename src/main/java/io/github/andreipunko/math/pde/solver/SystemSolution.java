@@ -0,0 +1,72 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+import io.github.andreipunko.math.matrix.Matrix3D;
+import io.github.andreipunko.math.pde.equation.ParabolicSystemEquation;
+import io.github.andreipunko.math.space.Area;
+
+/**
+ * Numerical solution of a system of PDEs: {@link #equation()}, {@link #area()} and grid values of every component
+ * in {@link #components()}.
+ * <p>
+ * Layer {@code c} of {@code components} holds component {@code c} with the same layout as {@link Solution#matrix()}:
+ * rows are time layers, columns are spatial nodes.
+ *
+ * @param equation   the system that was solved
+ * @param area       the space-time domain where the solution was found
+ * @param components grid values of the components
+ * @see ParabolicSystemEquationSolver
+ */
+public record SystemSolution(
+        ParabolicSystemEquation equation,
+        Area area,
+        Matrix3D components
+) {
+    /**
+     * Validates record components before the instance is created.
+     *
+     * @throws IllegalArgumentException if any component is null or the size of the components does not match the
+     *                                  equation and the area
+     */
+    public SystemSolution {
+        if (equation == null) {
+            throw new IllegalArgumentException("equation must not be null");
+        }
+        if (area == null) {
+            throw new IllegalArgumentException("area must not be null");
+        }
+        if (components == null) {
+            throw new IllegalArgumentException("components must not be null");
+        }
+        if (components.getL() != equation.getM() || components.getM() != area.tn() + 1
+                || components.getN() != area.xn() + 1) {
+            throw new IllegalArgumentException("components size " + components.getL() + "x" + components.getM() + "x"
+                    + components.getN() + " does not match " + equation.getM() + "x" + (area.tn() + 1) + "x"
+                    + (area.xn() + 1));
+        }
+    }
+
+    /**
+     * Returns grid values of a component.
+     *
+     * @param c component index (0 &lt;= c &lt; m)
+     * @return copy of the component values, rows are time layers and columns are spatial nodes
+     * @throws IllegalArgumentException if c is out of bounds
+     */
+    public Matrix2D component(int c) {
+        return components.getLayer(c);
+    }
+
+    /**
+     * Returns the value of a component at a grid node.
+     *
+     * @param c  component index (0 &lt;= c &lt; m)
+     * @param it time layer index (0 &lt;= it &lt;= tn)
+     * @param i  spatial node index (0 &lt;= i &lt;= xn)
+     * @return value U_c(x_i, t_it)
+     * @throws IllegalArgumentException if any index is out of bounds
+     */
+    public double gU(int c, int it, int i) {
+        return components.get(c, it, i);
+    }
+}
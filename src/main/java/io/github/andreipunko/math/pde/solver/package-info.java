@@ -8,5 +8,9 @@
  * chosen using the problem physics or standard discretization theory. Poor choices can yield inaccurate results or
  * poorly conditioned tridiagonal systems; the latter may trigger
  * {@link IllegalArgumentException} from {@link AbstractEquationSolver#solve3DiagonalEquationsSystem}.
+ * <p>
+ * The explicit solvers ({@link ExplicitParabolicEquationSolver}, {@link ExplicitHyperbolicEquationSolver}) are the
+ * exception: they compute the stability limit of {@code tau} from the equation coefficients and reject a larger step
+ * or split it into substeps (see {@link StabilityPolicy}).
  */
 package io.github.andreipunko.math.pde.solver;
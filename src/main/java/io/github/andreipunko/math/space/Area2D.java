@@ -0,0 +1,101 @@
+package io.github.andreipunko.math.space;
+
+/**
+ * Represents a space-time domain with two spatial dimensions for partial differential equations.
+ * Like {@link Area}, it combines uniformly discretized intervals: two spatial ones and a temporal one.
+ *
+ * @param x first spatial interval
+ * @param y second spatial interval
+ * @param t temporal interval
+ * @see Area
+ * @see Interval
+ */
+public record Area2D(Interval x, Interval y, Interval t) {
+    /**
+     * Validates that all intervals are non-null before the instance is created.
+     *
+     * @throws IllegalArgumentException if x, y or t is null
+     */
+    public Area2D {
+        if (x == null) {
+            throw new IllegalArgumentException("spatial interval x must not be null");
+        }
+        if (y == null) {
+            throw new IllegalArgumentException("spatial interval y must not be null");
+        }
+        if (t == null) {
+            throw new IllegalArgumentException("temporal interval t must not be null");
+        }
+    }
+
+    /**
+     * Returns the number of subdivisions along x.
+     *
+     * @return number of x steps
+     */
+    public int xn() {
+        return x.n();
+    }
+
+    /**
+     * Returns the number of subdivisions along y.
+     *
+     * @return number of y steps
+     */
+    public int yn() {
+        return y.n();
+    }
+
+    /**
+     * Returns the number of time steps.
+     *
+     * @return number of time steps
+     */
+    public int tn() {
+        return t.n();
+    }
+
+    /**
+     * Returns the x coordinate at the specified index.
+     *
+     * @param i x index (0 &lt;= i &lt;= xn)
+     * @return x coordinate
+     * @throws IllegalArgumentException if i &lt; 0 or i &gt; xn
+     */
+    public double xx(int i) {
+        return x.x(i);
+    }
+
+    /**
+     * Returns the y coordinate at the specified index.
+     *
+     * @param j y index (0 &lt;= j &lt;= yn)
+     * @return y coordinate
+     * @throws IllegalArgumentException if j &lt; 0 or j &gt; yn
+     */
+    public double yy(int j) {
+        return y.x(j);
+    }
+
+    /**
+     * Returns the time value at the specified temporal index.
+     *
+     * @param i temporal index (0 &lt;= i &lt;= tn)
+     * @return time value at index i
+     * @throws IllegalArgumentException if i &lt; 0 or i &gt; tn
+     */
+    public double tx(int i) {
+        return t.x(i);
+    }
+
+    /**
+     * Returns the temporal index closest to the specified time value (at or to the left).
+     *
+     * @param time time value
+     * @return index of the closest time point
+     * @throws IllegalArgumentException if time is outside the temporal interval
+     */
+    public int ti(double time) {
+        return t.i(time);
+    }
+}
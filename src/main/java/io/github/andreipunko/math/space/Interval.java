@@ -1,5 +1,6 @@
 package io.github.andreipunko.math.space;
 
+import io.github.andreipunko.math.matrix.VectorView;
 import lombok.ToString;
 
 /**
@@ -27,6 +28,8 @@ public class Interval {
     private double right;
     private double h;
     private int n;
+    @ToString.Exclude
+    private volatile VectorView nodes;  // cached grid nodes, reset by reborn
 
     /**
      * Creates a default interval [0,1] with a single step.
@@ -129,6 +132,7 @@ public class Interval {
         this.right = right;
         this.h = h;
         this.n = (int) ((right - left) / h);
+        this.nodes = null;
     }
 
     /**
@@ -154,6 +158,7 @@ public class Interval {
         this.right = right;
         this.n = n;
         this.h = (right - left) / (double) n;
+        this.nodes = null;
     }
 
     /**
@@ -172,6 +177,25 @@ public class Interval {
         return left + i * h;
     }
 
+    /**
+     * Returns all grid nodes x(0), …, x(n) as a read-only view. The nodes are computed once and shared by all
+     * callers until the interval is changed by {@code reborn}; their values are equal to {@link #x(int)}.
+     *
+     * @return view of the n + 1 grid nodes
+     */
+    public VectorView nodes() {
+        var result = nodes;
+        if (result == null) {
+            var values = new double[n + 1];
+            for (int i = 0; i <= n; i++) {
+                values[i] = left + i * h;
+            }
+            result = VectorView.of(values);
+            nodes = result;
+        }
+        return result;
+    }
+
     /**
      * Returns the index of the point closest to the specified coordinate.
      * If the coordinate is exactly at a grid point, returns its index.
@@ -0,0 +1,165 @@
+package io.github.andreipunko.math.transform;
+
+/**
+ * Discrete Fourier transform of complex data of arbitrary length:
+ * <p>
+ * Y[k] = Σ_{j=0}^{n-1} y[j]*exp(-2πi*j*k/n), 0 &lt;= k &lt; n
+ * <p>
+ * Lengths which are powers of two use the iterative radix-2 Cooley-Tukey algorithm. Other lengths are reduced to
+ * a power-of-two convolution by the Bluestein (chirp-z) algorithm, so every length takes O(n log n) operations.
+ * The complex data is kept in two separate arrays of real and imaginary parts.
+ *
+ * @see TrigonometricTransform
+ */
+public class FastFourierTransform {
+
+    /**
+     * Not used; static helpers only.
+     */
+    private FastFourierTransform() {
+    }
+
+    /**
+     * Computes the forward transform in place.
+     *
+     * @param re real parts of the data, replaced with real parts of the transform
+     * @param im imaginary parts of the data, replaced with imaginary parts of the transform
+     * @throws IllegalArgumentException if an array is null or the arrays have different lengths
+     */
+    public static void transform(double[] re, double[] im) {
+        if (re == null || im == null) {
+            throw new IllegalArgumentException("arrays re and im must not be null");
+        }
+        if (re.length != im.length) {
+            throw new IllegalArgumentException(
+                    "arrays re and im must have the same length; got " + re.length + ", " + im.length);
+        }
+        int n = re.length;
+        if (n <= 1) {
+            return;
+        }
+        if (Integer.bitCount(n) == 1) {
+            radix2(re, im);
+        } else {
+            bluestein(re, im);
+        }
+    }
+
+    /**
+     * Computes the inverse transform in place (including the 1/n normalization).
+     *
+     * @param re real parts of the transform, replaced with real parts of the data
+     * @param im imaginary parts of the transform, replaced with imaginary parts of the data
+     * @throws IllegalArgumentException if an array is null or the arrays have different lengths
+     */
+    public static void inverseTransform(double[] re, double[] im) {
+        // IDFT(Y) = conj(DFT(conj(Y))) / n
+        transform(re, negate(im));
+        int n = re.length;
+        for (int i = 0; i < n; i++) {
+            re[i] /= n;
+            im[i] = -im[i] / n;
+        }
+    }
+
+    private static double[] negate(double[] a) {
+        if (a != null) {
+            for (int i = 0; i < a.length; i++) {
+                a[i] = -a[i];
+            }
+        }
+        return a;
+    }
+
+    private static void radix2(double[] re, double[] im) {
+        int n = re.length;
+        int bits = Integer.numberOfTrailingZeros(n);
+
+        // Bit-reversal permutation
+        for (int i = 0; i < n; i++) {
+            int j = Integer.reverse(i) >>> (32 - bits);
+            if (j > i) {
+                double t = re[i];
+                re[i] = re[j];
+                re[j] = t;
+                t = im[i];
+                im[i] = im[j];
+                im[j] = t;
+            }
+        }
+
+        // Butterflies; twiddle factors are computed directly to avoid accumulation of rounding errors
+        var cos = new double[n / 2];
+        var sin = new double[n / 2];
+        for (int i = 0; i < n / 2; i++) {
+            cos[i] = Math.cos(2 * Math.PI * i / n);
+            sin[i] = Math.sin(2 * Math.PI * i / n);
+        }
+        for (int size = 2; size <= n; size *= 2) {
+            int half = size / 2;
+            int step = n / size;
+            for (int start = 0; start < n; start += size) {
+                for (int k = 0; k < half; k++) {
+                    int a = start + k,
+                            b = a + half;
+                    double
+                            wr = cos[k * step],
+                            wi = -sin[k * step],
+                            tr = re[b] * wr - im[b] * wi,
+                            ti = re[b] * wi + im[b] * wr;
+                    re[b] = re[a] - tr;
+                    im[b] = im[a] - ti;
+                    re[a] += tr;
+                    im[a] += ti;
+                }
+            }
+        }
+    }
+
+    private static void bluestein(double[] re, double[] im) {
+        int n = re.length;
+        int m = Integer.highestOneBit(2 * n - 1) << 1;
+        if (m <= 0) {
+            throw new IllegalArgumentException("transform length too large: " + n);
+        }
+
+        // Chirp w[k] = exp(-πi*k²/n); k² is reduced modulo 2n to keep the angle small
+        var cos = new double[n];
+        var sin = new double[n];
+        for (int k = 0; k < n; k++) {
+            long k2 = (long) k * k % (2L * n);
+            double angle = Math.PI * k2 / n;
+            cos[k] = Math.cos(angle);
+            sin[k] = Math.sin(angle);
+        }
+
+        var ar = new double[m];
+        var ai = new double[m];
+        for (int k = 0; k < n; k++) {
+            ar[k] = re[k] * cos[k] + im[k] * sin[k];
+            ai[k] = -re[k] * sin[k] + im[k] * cos[k];
+        }
+        var br = new double[m];
+        var bi = new double[m];
+        br[0] = cos[0];
+        bi[0] = sin[0];
+        for (int k = 1; k < n; k++) {
+            br[k] = br[m - k] = cos[k];
+            bi[k] = bi[m - k] = sin[k];
+        }
+
+        radix2(ar, ai);
+        radix2(br, bi);
+        for (int i = 0; i < m; i++) {
+            double r = ar[i] * br[i] - ai[i] * bi[i];
+            ai[i] = ar[i] * bi[i] + ai[i] * br[i];
+            ar[i] = r;
+        }
+        inverseTransform(ar, ai);
+
+        for (int k = 0; k < n; k++) {
+            re[k] = ar[k] * cos[k] + ai[k] * sin[k];
+            im[k] = -ar[k] * sin[k] + ai[k] * cos[k];
+        }
+    }
+}
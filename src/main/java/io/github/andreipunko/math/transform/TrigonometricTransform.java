@@ -0,0 +1,80 @@
+package io.github.andreipunko.math.transform;
+
+/**
+ * Discrete sine and cosine transforms of type I computed with {@link FastFourierTransform} in O(n log n).
+ * <p>
+ * They expand grid functions on a uniform grid x[j] = j*h, j = 0..n, by the eigenfunctions of the second
+ * derivative with homogeneous Dirichlet (sine) or Neumann (cosine) conditions at both ends. Both transforms are
+ * their own inverses up to the factor 2/n.
+ */
+public class TrigonometricTransform {
+
+    /**
+     * Not used; static helpers only.
+     */
+    private TrigonometricTransform() {
+    }
+
+    /**
+     * Computes the discrete sine transform of type I:
+     * <p>
+     * X[k] = Σ_{j=1}^{n-1} x[j]*sin(π*j*k/n), 1 &lt;= k &lt;= n-1
+     * <p>
+     * The end elements x[0] and x[n] are ignored, X[0] and X[n] are zero.
+     *
+     * @param x values at nodes 0..n (n &gt;= 2)
+     * @return transform coefficients indexed by k = 0..n
+     * @throws IllegalArgumentException if x is null or has less than 3 elements
+     */
+    public static double[] dst1(double[] x) {
+        int n = checkLength(x);
+        var re = new double[2 * n];
+        var im = new double[2 * n];
+        for (int j = 1; j < n; j++) {
+            re[j] = x[j];
+            re[2 * n - j] = -x[j];
+        }
+        FastFourierTransform.transform(re, im);
+
+        var result = new double[n + 1];
+        for (int k = 1; k < n; k++) {
+            result[k] = -im[k] / 2;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the discrete cosine transform of type I:
+     * <p>
+     * X[k] = x[0]/2 + (-1)^k*x[n]/2 + Σ_{j=1}^{n-1} x[j]*cos(π*j*k/n), 0 &lt;= k &lt;= n
+     *
+     * @param x values at nodes 0..n (n &gt;= 2)
+     * @return transform coefficients indexed by k = 0..n
+     * @throws IllegalArgumentException if x is null or has less than 3 elements
+     */
+    public static double[] dct1(double[] x) {
+        int n = checkLength(x);
+        var re = new double[2 * n];
+        var im = new double[2 * n];
+        re[0] = x[0];
+        re[n] = x[n];
+        for (int j = 1; j < n; j++) {
+            re[j] = re[2 * n - j] = x[j];
+        }
+        FastFourierTransform.transform(re, im);
+
+        var result = new double[n + 1];
+        for (int k = 0; k <= n; k++) {
+            result[k] = re[k] / 2;
+        }
+        return result;
+    }
+
+    private static int checkLength(double[] x) {
+        if (x == null || x.length < 3) {
+            throw new IllegalArgumentException(
+                    "transform needs at least 3 nodes, got " + (x == null ? "null" : x.length));
+        }
+        return x.length - 1;
+    }
+}
@@ -36,6 +36,25 @@ class Matrix2DTest {
         assertThat(m.getRow(1)).isEqualTo(new double[]{78, 79, 90});
     }
 
+    @Test
+    void copyWithRows() {
+        var m = new Matrix2D(2, 3);
+        m.setRow(0, new double[]{7, 3, -3});
+        m.setRow(1, new double[]{78, 79, 90});
+
+        var copy = m.copyWithRows(4);
+        copy.set(0, 0, 1);
+
+        assertThat(copy.getM()).isEqualTo(4);
+        assertThat(copy.getN()).isEqualTo(3);
+        assertThat(copy.getRow(0)).isEqualTo(new double[]{1, 3, -3});
+        assertThat(copy.getRow(1)).isEqualTo(new double[]{78, 79, 90});
+        assertThat(copy.getRow(3)).isEqualTo(new double[]{0, 0, 0});
+        assertThat(m.getM()).isEqualTo(2);
+        assertThat(m.get(0, 0)).isEqualTo(7);
+        assertThrows(IllegalArgumentException.class, () -> m.copyWithRows(1));
+    }
+
     @Test
     void getWithInvalidParams() {
         var m = new Matrix2D(2, 3);
@@ -229,4 +248,57 @@ class Matrix2DTest {
         assertThrows(IllegalArgumentException.class, () -> m.setRow(2, new double[3]));  // wrong index (too big)
         assertThrows(IllegalArgumentException.class, () -> m.setRow(2, new double[2]));  // wrong index (too big), wrong array size
     }
+
+    @Test
+    void floatStorage() {
+        var m = new Matrix2D(2, 3, Matrix2D.Storage.FLOAT);
+        m.setRow(0, new double[]{0.1, -3, 1e-3});
+        m.set(1, 2, Math.PI);
+
+        assertThat(m.getStorage()).isEqualTo(Matrix2D.Storage.FLOAT);
+        assertThat(m.getRow(0)).isEqualTo(new double[]{(float) 0.1, -3, (float) 1e-3});
+        assertThat(m.get(1, 2)).isEqualTo((double) (float) Math.PI);
+        assertThat(m.min()).isEqualTo(-3.0);
+        assertThat(m.max()).isEqualTo((double) (float) Math.PI);
+        assertThat(new Matrix2D(2, 3).getStorage()).isEqualTo(Matrix2D.Storage.DOUBLE);
+        assertThat(Matrix2D.Storage.FLOAT.getBytes()).isEqualTo(4);
+        assertThrows(IllegalArgumentException.class, () -> new Matrix2D(2, 3, null));
+    }
+
+    @Test
+    void floatStorageRowAndColumnOperations() {
+        var m = new Matrix2D(2, 3, Matrix2D.Storage.FLOAT);
+        m.setRow(0, new double[]{1, 2, 3});
+        m.setRow(1, new double[]{4, 5, 6});
+
+        m.swapRows(0, 1);
+        m.swapCols(0, 2);
+        var copy = m.copyWithRows(3);
+
+        assertThat(copy.getStorage()).isEqualTo(Matrix2D.Storage.FLOAT);
+        assertThat(copy.getRow(0)).isEqualTo(new double[]{6, 5, 4});
+        assertThat(copy.getRow(1)).isEqualTo(new double[]{3, 2, 1});
+        assertThat(copy.getRow(2)).isEqualTo(new double[]{0, 0, 0});
+        m.fill(0.1);
+        assertThat(m.get(1, 1)).isEqualTo((double) (float) 0.1);
+    }
+
+    @Test
+    void rowAndColumnViews() {
+        for (var storage : Matrix2D.Storage.values()) {
+            var m = new Matrix2D(2, 3, storage);
+            m.setRow(0, new double[]{1, 2, 3});
+            m.setRow(1, new double[]{4, 5, 6});
+
+            var row = m.rowView(1);
+            var column = m.columnView(2);
+            m.set(1, 2, 7);
+
+            assertThat(row.toArray()).isEqualTo(new double[]{4, 5, 7});
+            assertThat(column.toArray()).isEqualTo(new double[]{3, 7});
+            assertThat(column.stride()).isEqualTo(3);
+            assertThrows(IllegalArgumentException.class, () -> m.rowView(2));
+            assertThrows(IllegalArgumentException.class, () -> m.columnView(-1));
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package io.github.andreipunko.math.matrix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Matrix3DTest {
+
+    @Test
+    void constructor() {
+        var m = new Matrix3D(2, 3, 4);
+
+        assertThat(m.getL()).isEqualTo(2);
+        assertThat(m.getM()).isEqualTo(3);
+        assertThat(m.getN()).isEqualTo(4);
+    }
+
+    @Test
+    void constructorWithInvalidParams() {
+        assertThrows(IllegalArgumentException.class, () -> new Matrix3D(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix3D(1, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix3D(1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix3D(100_000, 100_000, 1));
+    }
+
+    @Test
+    void setNGet() {
+        var m = new Matrix3D(2, 3, 4);
+
+        m.set(1, 2, 3, 7.5);
+        m.set(0, 0, 0, -1);
+
+        assertThat(m.get(1, 2, 3)).isEqualTo(7.5);
+        assertThat(m.get(0, 0, 0)).isEqualTo(-1);
+        assertThat(m.get(1, 0, 0)).isZero();
+    }
+
+    @Test
+    void setLayerNGetLayer() {
+        var m = new Matrix3D(2, 2, 3);
+        m.setLayer(1, new double[]{1, 2, 3, 4, 5, 6});
+
+        var layer = m.getLayer(1);
+
+        assertThat(layer.getM()).isEqualTo(2);
+        assertThat(layer.getN()).isEqualTo(3);
+        assertThat(layer.getRow(0)).isEqualTo(new double[]{1, 2, 3});
+        assertThat(layer.getRow(1)).isEqualTo(new double[]{4, 5, 6});
+        assertThat(m.get(1, 1, 0)).isEqualTo(4);
+        assertThat(m.getLayer(0).getRow(1)).isEqualTo(new double[]{0, 0, 0});
+    }
+
+    @Test
+    void setAll() {
+        var m = new Matrix3D(2, 1, 2);
+        m.setAll(new double[]{1, 2, 3, 4});
+
+        assertThat(m.get(0, 0, 1)).isEqualTo(2);
+        assertThat(m.get(1, 0, 0)).isEqualTo(3);
+        assertThrows(IllegalArgumentException.class, () -> m.setAll(new double[3]));
+    }
+
+    @Test
+    void accessWithInvalidParams() {
+        var m = new Matrix3D(2, 2, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> m.get(2, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.get(0, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.set(0, 0, 3, 1));
+        assertThrows(IllegalArgumentException.class, () -> m.getLayer(-1));
+        assertThrows(IllegalArgumentException.class, () -> m.setLayer(2, new double[6]));
+        assertThrows(IllegalArgumentException.class, () -> m.setLayer(0, new double[5]));
+        assertThrows(IllegalArgumentException.class, () -> m.setLayer(0, null));
+    }
+}
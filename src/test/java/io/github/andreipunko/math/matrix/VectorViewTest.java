@@ -0,0 +1,50 @@
+package io.github.andreipunko.math.matrix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VectorViewTest {
+
+    @Test
+    void ofArray() {
+        var values = new double[]{3, -1, 2};
+
+        var view = VectorView.of(values);
+        values[2] = 5;
+
+        assertThat(view.size()).isEqualTo(3);
+        assertThat(view.stride()).isEqualTo(1);
+        assertThat(view.get(2)).isEqualTo(5);
+        assertThat(view.min()).isEqualTo(-1);
+        assertThat(view.max()).isEqualTo(5);
+        assertThat(view.toArray()).isEqualTo(new double[]{3, -1, 5});
+    }
+
+    @Test
+    void strided() {
+        // Column 1 of a 3x3 matrix stored as floats
+        var view = VectorView.of(new float[]{1, 2, 3, 4, 5, 6, 7, 8, 0.1f}, 1, 3, 3);
+        var dest = new double[5];
+
+        view.copyTo(dest, 1);
+
+        assertThat(dest).isEqualTo(new double[]{0, 2, 5, 8, 0});
+        assertThat(view.get(1)).isEqualTo(5);
+        assertThat(view.toArray()).isEqualTo(new double[]{2, 5, 8});
+        assertThat(VectorView.of(new float[]{0.1f}, 0, 1, 1).get(0)).isEqualTo((double) 0.1f);
+    }
+
+    @Test
+    void wrongParams() {
+        var view = VectorView.of(new double[]{1, 2});
+
+        assertThrows(IllegalArgumentException.class, () -> VectorView.of(null));
+        assertThrows(IllegalArgumentException.class, () -> VectorView.of(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> view.get(2));
+        assertThrows(IllegalArgumentException.class, () -> view.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> view.copyTo(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> view.copyTo(new double[2], 1));
+    }
+}
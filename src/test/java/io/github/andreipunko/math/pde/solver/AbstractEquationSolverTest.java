@@ -3,6 +3,7 @@ package io.github.andreipunko.math.pde.solver;
 import io.github.andreipunko.math.pde.border.BorderCondition;
 import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
 import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.border.PeriodicBorderCondition;
 import io.github.andreipunko.math.pde.border.RobinBorderCondition;
 import io.github.andreipunko.math.pde.equation.ParabolicEquation;
 import io.github.andreipunko.math.pde.solver.AbstractEquationSolver.KappaNu;
@@ -10,6 +11,7 @@ import io.github.andreipunko.math.space.Area;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AbstractEquationSolverTest {
@@ -104,6 +106,59 @@ class AbstractEquationSolverTest {
                         new KappaNu(0, 0), new KappaNu(0, 0)));
     }
 
+    /**
+     * <pre>
+     * Cyclic system 3*y[i] - y[i-1] - y[i+1] = f[i] with f chosen for the solution y[i] = i*i, indices modulo N
+     * </pre>
+     */
+    @Test
+    void solveCyclic3DiagonalEquationsSystem() {
+        final int N = 7;
+        double[] A = new double[N];
+        double[] B = new double[N];
+        double[] C = new double[N];
+        double[] F = new double[N];
+        for (int i = 0; i < N; i++) {
+            A[i] = 1;
+            B[i] = 1;
+            C[i] = 3;
+            F[i] = 3 * i * i - (double) ((i + N - 1) % N) * ((i + N - 1) % N) - (double) ((i + 1) % N) * ((i + 1) % N);
+        }
+
+        var result = AbstractEquationSolver.solveCyclic3DiagonalEquationsSystem(A, B, C, F);
+
+        assertThat(result).hasSize(N + 1);
+        for (int i = 0; i < N; i++) {
+            assertThat(result[i]).isCloseTo(i * i, within(1e-10));
+        }
+        assertThat(result[N]).isEqualTo(result[0]);
+    }
+
+    @Test
+    void solveCyclic3DiagonalEquationsSystem_rejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () ->
+                AbstractEquationSolver.solveCyclic3DiagonalEquationsSystem(new double[2], new double[2], new double[2],
+                        new double[2]));
+        assertThrows(IllegalArgumentException.class, () ->
+                AbstractEquationSolver.solveCyclic3DiagonalEquationsSystem(new double[3], new double[3], new double[4],
+                        new double[3]));
+        assertThrows(IllegalArgumentException.class, () ->
+                AbstractEquationSolver.solveCyclic3DiagonalEquationsSystem(null, new double[3], new double[3],
+                        new double[3]));
+    }
+
+    @Test
+    void isPeriodic_requiresPeriodicConditionOnBothBoundaries() {
+        var periodic = new PeriodicBorderCondition();
+
+        assertThat(PROBE.isPeriodic(new ParabolicEquation(0, 1, 1, periodic, periodic))).isTrue();
+        assertThat(PROBE.isPeriodic(new ParabolicEquation(0, 1, 1,
+                new DirichletBorderCondition(), new DirichletBorderCondition()))).isFalse();
+        assertThrows(IllegalArgumentException.class, () ->
+                PROBE.isPeriodic(new ParabolicEquation(0, 1, 1, periodic, new DirichletBorderCondition())));
+        assertThrows(IllegalArgumentException.class, () -> PROBE.calcKappaNu(periodic, 0.1, 0.0));
+    }
+
     @Test
     void calcKappaNu_rejectsUnknownBorderConditionImplementation() {
         BorderCondition foreign = new BorderCondition() {
@@ -193,4 +248,25 @@ class AbstractEquationSolverTest {
         assertThat(area.xn()).isEqualTo(4);
         assertThat(area.tn()).isEqualTo(4);
     }
+
+    @Test
+    void buildArea_periodicRequiresStepDividingPeriod() {
+        var periodic = new PeriodicBorderCondition();
+
+        // Period 0.9 and 0.2 instead of 1 and 0.3
+        assertThrows(IllegalArgumentException.class,
+                () -> PROBE.buildArea(new ParabolicEquation(0, 1, 1, periodic, periodic), 0.3, 0.1));
+        assertThrows(IllegalArgumentException.class,
+                () -> PROBE.buildArea(new ParabolicEquation(0, 0.3, 1, periodic, periodic), 0.12, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquationSolver()
+                .solve(new ParabolicEquation(0, 1, 1, periodic, periodic), 0.3, 0.1));
+
+        // 0.3 / 0.1 is slightly less than 3 in floating point: the last node must still be x2
+        var area = PROBE.buildArea(new ParabolicEquation(0, 0.3, 1, periodic, periodic), 0.1, 0.1);
+        assertThat(area.xn()).isEqualTo(3);
+        assertThat(area.xx(area.xn())).isEqualTo(0.3);
+        // Without periodicity the grid may end before x2
+        var dirichlet = new DirichletBorderCondition();
+        assertThat(PROBE.buildArea(new ParabolicEquation(0, 1, 1, dirichlet, dirichlet), 0.3, 0.1).xn()).isEqualTo(3);
+    }
 }
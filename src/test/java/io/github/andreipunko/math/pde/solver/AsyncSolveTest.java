@@ -0,0 +1,179 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.pde.solver.SolveControl.DeadlinePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncSolveTest {
+
+    @Test
+    void solveAsyncMatchesBlockingSolveAndReportsProgress() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var eqn = buildParabolicEquation(1, 0);
+            var progress = new ArrayList<Integer>();
+            var control = new SolveControl(10, (step, total) -> progress.add(step), null, DeadlinePolicy.FAIL);
+
+            var solution = new ParabolicEquationSolver().solveAsync(eqn, 0.05, 0.01, control, executor)
+                    .get(10, TimeUnit.SECONDS);
+
+            var expected = new ParabolicEquationSolver().solve(eqn, 0.05, 0.01);
+            assertThat(solution.area().tn()).isEqualTo(100);
+            assertThat(solution.matrix().getRow(100)).isEqualTo(expected.matrix().getRow(100));
+            assertThat(progress).isEqualTo(List.of(10, 20, 30, 40, 50, 60, 70, 80, 90, 100));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deadlineReturnsPartialSolution() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var eqn = buildParabolicEquation(1, 5);
+            var control = new SolveControl(5, null, Instant.now().plusMillis(200), DeadlinePolicy.PARTIAL);
+
+            var solution = new ParabolicEquationSolver().solveAsync(eqn, 0.05, 0.01, control, executor)
+                    .get(10, TimeUnit.SECONDS);
+
+            int tn = solution.area().tn();
+            assertThat(tn).isBetween(5, 95);
+            assertThat(tn % 5).isEqualTo(0);
+            assertThat(solution.area().tRight()).isEqualTo(solution.area().tx(tn));
+            assertThat(solution.matrix().getM()).isEqualTo(tn + 1);
+            assertThat(solution.isSteadyState()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deadlineFailsFast() {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var eqn = buildParabolicEquation(1, 5);
+            var control = new SolveControl(5, null, Instant.now().plusMillis(200), DeadlinePolicy.FAIL);
+
+            var future = new ParabolicEquationSolver().solveAsync(eqn, 0.05, 0.01, control, executor);
+
+            var ex = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertThat(ex.getCause()).isInstanceOf(TimeoutException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void hyperbolicSolveAsyncMatchesBlockingSolve() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var eqn = buildHyperbolicEquation();
+            var control = new SolveControl(3, null, Instant.now().plusSeconds(60), DeadlinePolicy.FAIL);
+
+            var solution = new HyperbolicEquationSolver().solveAsync(eqn, 0.05, 0.01, control, executor)
+                    .get(10, TimeUnit.SECONDS);
+
+            var expected = new HyperbolicEquationSolver().solve(eqn, 0.05, 0.01);
+            int tn = expected.area().tn();
+            assertThat(solution.area().tn()).isEqualTo(tn);
+            assertThat(solution.matrix().getRow(tn)).isEqualTo(expected.matrix().getRow(tn));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancellationStopsSolve() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var started = new CountDownLatch(1);
+            var lastStep = new int[]{-1};
+            var eqn = buildParabolicEquation(1, 5);
+            var control = new SolveControl(1, (step, total) -> {
+                lastStep[0] = step;
+                started.countDown();
+            }, null, DeadlinePolicy.FAIL);
+
+            var future = new ParabolicEquationSolver().solveAsync(eqn, 0.05, 0.01, control, executor);
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            future.cancel(true);
+
+            // The single-thread executor runs the next task only after the cancelled solve stops
+            executor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+            assertThat(future.isCancelled()).isTrue();
+            assertThat(lastStep[0]).isLessThan(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidArguments() {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var eqn = buildParabolicEquation(1, 0);
+            var solver = new ParabolicEquationSolver();
+
+            assertThrows(IllegalArgumentException.class, () -> new SolveControl(0));
+            assertThrows(IllegalArgumentException.class, () -> new SolveControl(1, null, null, null));
+            assertThrows(IllegalArgumentException.class, () -> solver.solveAsync(eqn, 0.05, 0.01, null, executor));
+            var control = new SolveControl(1);
+            assertThrows(IllegalArgumentException.class, () -> solver.solveAsync(eqn, 0.05, 0.01, control, null));
+            assertThrows(IllegalArgumentException.class, () -> solver.solveAsync(eqn, -1, 0.01, control, executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Heat equation on [0, 1] with sin(PI*x) initial profile; the source term sleeps {@code delayMillis} once per time
+     * layer to make the solve slow.
+     */
+    private static ParabolicEquation buildParabolicEquation(double t2, long delayMillis) {
+        var bc = new DirichletBorderCondition();
+        return new ParabolicEquation(0, 1, t2, bc, bc) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+
+            @Override
+            public double gF(double x, double t, double U) {
+                if (delayMillis > 0 && Math.abs(x - 0.5) < 1e-9) {
+                    try {
+                        Thread.sleep(delayMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return 0;
+            }
+        };
+    }
+
+    private static HyperbolicEquation buildHyperbolicEquation() {
+        var bc = new DirichletBorderCondition();
+        return new HyperbolicEquation(0, 1, 0.1, bc, bc) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+    }
+}
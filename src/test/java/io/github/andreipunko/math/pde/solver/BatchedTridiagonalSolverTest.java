@@ -0,0 +1,169 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.solver.AbstractEquationSolver.KappaNu;
+import io.github.andreipunko.math.pde.solver.BatchedTridiagonalSolver.Layout;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchedTridiagonalSolverTest {
+
+    private static final int N = 30;
+    private static final int SYSTEMS = 11;
+
+    @Test
+    void interleavedBatchMatchesSingleSolves() {
+        var batch = new Batch(new Random(1));
+        var layout = Layout.interleaved(SYSTEMS);
+        var Y = new double[(N + 1) * SYSTEMS];
+
+        new BatchedTridiagonalSolver(SYSTEMS, N).solve(batch.A(layout), batch.B(layout), batch.C(layout),
+                batch.F(layout), batch.left, batch.right, Y, layout);
+
+        batch.assertSolution(Y, layout);
+    }
+
+    @Test
+    void sequentialAndPaddedLayoutsMatchSingleSolves() {
+        var batch = new Batch(new Random(2));
+        for (var layout : new Layout[]{Layout.sequential(N), new Layout(SYSTEMS + 3, 1), new Layout(2, 2 * N + 5)}) {
+            var Y = new double[N * layout.rowStride() + (SYSTEMS - 1) * layout.systemStride() + 1];
+
+            new BatchedTridiagonalSolver(SYSTEMS, N).solve(batch.A(layout), batch.B(layout), batch.C(layout),
+                    batch.F(layout), batch.left, batch.right, Y, layout);
+
+            batch.assertSolution(Y, layout);
+        }
+    }
+
+    @Test
+    void parallelChunksMatchSingleSolves() {
+        var batch = new Batch(new Random(3));
+        var layout = Layout.interleaved(SYSTEMS);
+        var executor = Executors.newFixedThreadPool(3);
+        try {
+            var solver = new BatchedTridiagonalSolver(SYSTEMS, N, executor, 4);
+            for (int repeat = 0; repeat < 3; repeat++) {
+                var Y = new double[(N + 1) * SYSTEMS];
+                solver.solve(batch.A(layout), batch.B(layout), batch.C(layout), batch.F(layout), batch.left,
+                        batch.right, Y, layout);
+                batch.assertSolution(Y, layout);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void degenerateSystemIsReported() {
+        var batch = new Batch(new Random(4));
+        var layout = Layout.interleaved(SYSTEMS);
+        var A = batch.A(layout);
+        var C = batch.C(layout);
+        // Row 1 of system 5: C - A*kappa = 0
+        A[SYSTEMS + 5] = 1;
+        C[SYSTEMS + 5] = batch.left[5].kappa();
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            for (var solver : new BatchedTridiagonalSolver[]{new BatchedTridiagonalSolver(SYSTEMS, N),
+                    new BatchedTridiagonalSolver(SYSTEMS, N, executor, 3)}) {
+                var e = assertThrows(IllegalArgumentException.class, () -> solver.solve(A, batch.B(layout), C,
+                        batch.F(layout), batch.left, batch.right, new double[(N + 1) * SYSTEMS], layout));
+                assertThat(e.getMessage()).contains("system 5", "row index 1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        var batch = new Batch(new Random(5));
+        var layout = Layout.interleaved(SYSTEMS);
+        var solver = new BatchedTridiagonalSolver(SYSTEMS, N);
+        var A = batch.A(layout);
+        var Y = new double[(N + 1) * SYSTEMS];
+
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(null, A, A, A, batch.left, batch.right, Y,
+                layout));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(A, A, A, A, new KappaNu[1], batch.right, Y,
+                layout));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(A, A, A, A, batch.left, batch.right,
+                new double[Y.length - 1], layout));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(A, A, A, A, batch.left, batch.right, Y,
+                new Layout(2, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new Layout(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BatchedTridiagonalSolver(0, N));
+        assertThrows(IllegalArgumentException.class, () -> new BatchedTridiagonalSolver(SYSTEMS, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BatchedTridiagonalSolver(SYSTEMS, N, null, 0));
+    }
+
+    /**
+     * Random diagonally dominant systems kept as separate arrays of N elements, like the single-system solver takes.
+     */
+    private static class Batch {
+
+        final double[][] a = new double[SYSTEMS][N];
+        final double[][] b = new double[SYSTEMS][N];
+        final double[][] c = new double[SYSTEMS][N];
+        final double[][] f = new double[SYSTEMS][N];
+        final KappaNu[] left = new KappaNu[SYSTEMS];
+        final KappaNu[] right = new KappaNu[SYSTEMS];
+
+        Batch(Random random) {
+            for (int s = 0; s < SYSTEMS; s++) {
+                for (int i = 0; i < N; i++) {
+                    a[s][i] = random.nextDouble();
+                    b[s][i] = random.nextDouble();
+                    c[s][i] = 2 + random.nextDouble();
+                    f[s][i] = 10 * random.nextDouble() - 5;
+                }
+                left[s] = new KappaNu(s % 3 == 0 ? 0 : 1, s);
+                right[s] = new KappaNu(s % 2 == 0 ? 0 : 0.5, -s);
+            }
+        }
+
+        double[] A(Layout layout) {
+            return store(a, layout);
+        }
+
+        double[] B(Layout layout) {
+            return store(b, layout);
+        }
+
+        double[] C(Layout layout) {
+            return store(c, layout);
+        }
+
+        double[] F(Layout layout) {
+            return store(f, layout);
+        }
+
+        private static double[] store(double[][] values, Layout layout) {
+            var result = new double[N * layout.rowStride() + (SYSTEMS - 1) * layout.systemStride() + 1];
+            Arrays.fill(result, Double.NaN);  // unused elements must not be read
+            for (int s = 0; s < SYSTEMS; s++) {
+                for (int i = 1; i < N; i++) {
+                    result[i * layout.rowStride() + s * layout.systemStride()] = values[s][i];
+                }
+            }
+            return result;
+        }
+
+        void assertSolution(double[] Y, Layout layout) {
+            for (int s = 0; s < SYSTEMS; s++) {
+                var expected = AbstractEquationSolver.solve3DiagonalEquationsSystem(a[s], b[s], c[s], f[s], left[s],
+                        right[s]);
+                for (int i = 0; i <= N; i++) {
+                    assertThat(Y[i * layout.rowStride() + s * layout.systemStride()])
+                            .as("system " + s + ", row " + i).isEqualTo(expected[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.solver.AbstractEquationSolver.KappaNu;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BlockTridiagonalSolverTest {
+
+    private static final int N = 20;
+
+    @Test
+    void solveSatisfiesEquationsForAllBlockSizes() {
+        for (int m = 1; m <= 6; m++) {
+            var random = new Random(m);
+            int mm = m * m;
+            var A = random(random, N * mm, 1);
+            var B = random(random, N * mm, 1);
+            var C = random(random, N * mm, 1);
+            var F = random(random, N * m, 10);
+            // Diagonal dominance keeps the blocks well conditioned
+            for (int i = 0; i < N; i++) {
+                for (int r = 0; r < m; r++) {
+                    C[i * mm + r * m + r] += 4 * m;
+                }
+            }
+            var left = new KappaNu[m];
+            var right = new KappaNu[m];
+            for (int c = 0; c < m; c++) {
+                left[c] = new KappaNu(c % 2, c + 1);
+                right[c] = new KappaNu(0.5, -c);
+            }
+            var Y = new double[(N + 1) * m];
+
+            new BlockTridiagonalSolver(m).solve(A, B, C, F, left, right, Y);
+
+            for (int i = 1; i < N; i++) {
+                for (int r = 0; r < m; r++) {
+                    double residual = F[i * m + r];
+                    for (int c = 0; c < m; c++) {
+                        int rc = i * mm + r * m + c;
+                        residual += A[rc] * Y[(i - 1) * m + c] - C[rc] * Y[i * m + c] + B[rc] * Y[(i + 1) * m + c];
+                    }
+                    assertThat(residual).as("m=" + m + ", i=" + i + ", r=" + r).isCloseTo(0, within(1e-10));
+                }
+            }
+            for (int c = 0; c < m; c++) {
+                assertThat(Y[c]).isCloseTo(left[c].kappa() * Y[m + c] + left[c].nu(), within(1e-10));
+                assertThat(Y[N * m + c]).isCloseTo(right[c].kappa() * Y[(N - 1) * m + c] + right[c].nu(), within(1e-10));
+            }
+        }
+    }
+
+    @Test
+    void scalarCaseMatchesThomasAlgorithm() {
+        var random = new Random(42);
+        var A = random(random, N, 1);
+        var B = random(random, N, 1);
+        var C = random(random, N, 1);
+        var F = random(random, N, 1);
+        for (int i = 0; i < N; i++) {
+            C[i] += 4;
+        }
+        var left = new KappaNu(1, 0.5);
+        var right = new KappaNu(0, 2);
+        var Y = new double[N + 1];
+
+        new BlockTridiagonalSolver(1).solve(A, B, C, F, new KappaNu[]{left}, new KappaNu[]{right}, Y);
+
+        var expected = AbstractEquationSolver.solve3DiagonalEquationsSystem(A, B, C, F, left, right);
+        for (int i = 0; i <= N; i++) {
+            assertThat(Y[i]).isCloseTo(expected[i], within(1e-12));
+        }
+    }
+
+    @Test
+    void solveReusesSolverForSystemsOfDifferentLength() {
+        var solver = new BlockTridiagonalSolver(2);
+        var kn = new KappaNu[]{new KappaNu(0, 1), new KappaNu(0, 1)};
+        for (int n : new int[]{10, 3, 25}) {
+            var A = new double[n * 4];
+            var B = new double[n * 4];
+            var C = new double[n * 4];
+            for (int i = 0; i < n; i++) {
+                A[i * 4] = A[i * 4 + 3] = 1;
+                B[i * 4] = B[i * 4 + 3] = 1;
+                C[i * 4] = C[i * 4 + 3] = 2;
+            }
+            var Y = new double[(n + 1) * 2];
+
+            solver.solve(A, B, C, new double[n * 2], kn, kn, Y);
+
+            for (double y : Y) {
+                assertThat(y).isCloseTo(1, within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void solveWithSingularBlock() {
+        var kn = new KappaNu[]{new KappaNu(0, 0), new KappaNu(0, 0)};
+        var C = new double[]{0, 0, 0, 0, 1, 2, 2, 4};
+
+        var ex = assertThrows(IllegalArgumentException.class, () ->
+                new BlockTridiagonalSolver(2).solve(new double[8], new double[8], C, new double[4], kn, kn,
+                        new double[6]));
+
+        assertThat(ex.getMessage()).contains("singular");
+    }
+
+    @Test
+    void solveWithInconsistentSizes() {
+        var kn = new KappaNu[]{new KappaNu(0, 0), new KappaNu(0, 0)};
+
+        assertThrows(IllegalArgumentException.class, () ->
+                new BlockTridiagonalSolver(2).solve(new double[8], new double[8], new double[8], new double[4], kn, kn,
+                        new double[5]));
+        assertThrows(IllegalArgumentException.class, () ->
+                new BlockTridiagonalSolver(2).solve(new double[8], new double[8], new double[8], new double[4],
+                        new KappaNu[1], kn, new double[6]));
+        assertThrows(IllegalArgumentException.class, () -> new BlockTridiagonalSolver(0));
+    }
+
+    private static double[] random(Random random, int size, double scale) {
+        var arr = new double[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = scale * (2 * random.nextDouble() - 1);
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingEquationSolverTest {
+
+    private static final long MB = 1 << 20;
+
+    private final double h = 0.05;
+    private final double tau = 0.01;
+
+    @Test
+    void secondSolveIsServedFromMemory() {
+        var cache = new CachingEquationSolver<>(new ParabolicEquationSolver(), "parabolic-0.5", MB);
+
+        var first = cache.solve(new KeyedEquation(1), h, tau);
+        var eqn = new KeyedEquation(1);
+        var second = cache.solve(eqn, h, tau);
+
+        assertThat(cache.getMisses()).isEqualTo(1L);
+        assertThat(cache.getMemoryHits()).isEqualTo(1L);
+        assertThat(second.matrix()).isSameAs(first.matrix());
+        assertThat(second.equation()).isSameAs(eqn);
+        var expected = new ParabolicEquationSolver().solve(eqn, h, tau);
+        assertThat(second.matrix().getRow(50)).isEqualTo(expected.matrix().getRow(50));
+        assertThat(cache.getMemoryUsed()).isEqualTo(8L * 101 * 21 + 256);
+    }
+
+    @Test
+    void keyCoversEquationAndSteps() {
+        var cache = new CachingEquationSolver<>(new ParabolicEquationSolver(), "parabolic-0.5", MB);
+
+        cache.solve(new KeyedEquation(1), h, tau);
+        cache.solve(new KeyedEquation(2), h, tau);
+        cache.solve(new KeyedEquation(1), h / 2, tau);
+        cache.solve(new KeyedEquation(1), h, tau / 2);
+
+        assertThat(cache.getMisses()).isEqualTo(4L);
+        assertThat(cache.getMemoryHits()).isEqualTo(0L);
+    }
+
+    @Test
+    void equationsWithoutKeyAreNotCached() {
+        var cache = new CachingEquationSolver<>(new ParabolicEquationSolver(), "parabolic-0.5", MB);
+        var eqn = new UnkeyedEquation();
+
+        var first = cache.solve(eqn, h, tau);
+        var second = cache.solve(eqn, h, tau);
+
+        assertThat(second.matrix()).isNotSameAs(first.matrix());
+        assertThat(cache.getMisses()).isEqualTo(0L);
+        assertThat(cache.getMemoryUsed()).isEqualTo(0L);
+    }
+
+    @Test
+    void memoryTierEvictsLeastRecentlyUsed() {
+        long entry = 8L * 101 * 21 + 256;
+        var cache = new CachingEquationSolver<>(new ParabolicEquationSolver(), "parabolic-0.5", 2 * entry);
+
+        cache.solve(new KeyedEquation(1), h, tau);
+        cache.solve(new KeyedEquation(2), h, tau);
+        cache.solve(new KeyedEquation(1), h, tau);     // 1 becomes the most recently used
+        cache.solve(new KeyedEquation(3), h, tau);     // evicts 2
+        cache.solve(new KeyedEquation(1), h, tau);
+        cache.solve(new KeyedEquation(2), h, tau);
+
+        assertThat(cache.getMemoryHits()).isEqualTo(2L);
+        assertThat(cache.getMisses()).isEqualTo(4L);
+        assertThat(cache.getMemoryUsed()).isEqualTo(2 * entry);
+    }
+
+    @Test
+    void diskTierSurvivesRestart(@TempDir Path dir) {
+        var solver = new ParabolicEquationSolver();
+        var cache = new CachingEquationSolver<>(solver, "parabolic-0.5", MB, dir, MB);
+        var computed = cache.solve(new KeyedEquation(1), h, tau);
+        assertThat(cache.getDiskUsed()).isGreaterThan(8L * 101 * 21);
+
+        var restarted = new CachingEquationSolver<>(solver, "parabolic-0.5", MB, dir, MB);
+        var loaded = restarted.solve(new KeyedEquation(1), h, tau);
+        var again = restarted.solve(new KeyedEquation(1), h, tau);
+
+        assertThat(restarted.getDiskHits()).isEqualTo(1L);
+        assertThat(restarted.getMemoryHits()).isEqualTo(1L);
+        assertThat(restarted.getMisses()).isEqualTo(0L);
+        assertThat(again.matrix()).isSameAs(loaded.matrix());
+        assertThat(loaded.area().xn()).isEqualTo(computed.area().xn());
+        assertThat(loaded.area().tn()).isEqualTo(computed.area().tn());
+        assertThat(loaded.area().x().h()).isEqualTo(computed.area().x().h());
+        assertThat(loaded.area().t().h()).isEqualTo(computed.area().t().h());
+        for (int j = 0; j <= computed.area().tn(); j++) {
+            assertThat(loaded.matrix().getRow(j)).isEqualTo(computed.matrix().getRow(j));
+        }
+        assertThat(Double.isNaN(loaded.steadyStateTime())).isTrue();
+    }
+
+    @Test
+    void solverKeysDoNotMixInSharedDirectory(@TempDir Path dir) {
+        new CachingEquationSolver<>(new ParabolicEquationSolver(), "parabolic-0.5", MB, dir, MB)
+                .solve(new KeyedEquation(1), h, tau);
+
+        var implicit = new CachingEquationSolver<>(new ParabolicEquationSolver(1), "parabolic-1", MB, dir, MB);
+        var solution = implicit.solve(new KeyedEquation(1), h, tau);
+
+        assertThat(implicit.getDiskHits()).isEqualTo(0L);
+        assertThat(implicit.getMisses()).isEqualTo(1L);
+        var expected = new ParabolicEquationSolver(1).solve(new KeyedEquation(1), h, tau);
+        assertThat(solution.matrix().getRow(100)).isEqualTo(expected.matrix().getRow(100));
+    }
+
+    @Test
+    void diskTierEvictsByBytes(@TempDir Path dir) throws IOException {
+        long file = 8L * 101 * 21 + 200;
+        long size = file + file / 2;
+        var cache = new CachingEquationSolver<>(new ParabolicEquationSolver(), "parabolic-0.5", MB, dir, size);
+
+        cache.solve(new KeyedEquation(1), h, tau);
+        cache.solve(new KeyedEquation(2), h, tau);
+
+        try (var files = Files.list(dir)) {
+            assertThat(files.count()).isEqualTo(1L);
+        }
+        assertThat(cache.getDiskUsed()).isLessThan(size);
+    }
+
+    @Test
+    void damagedFileIsMiss(@TempDir Path dir) throws IOException {
+        var solver = new ParabolicEquationSolver();
+        new CachingEquationSolver<>(solver, "parabolic-0.5", MB, dir, MB).solve(new KeyedEquation(1), h, tau);
+        try (var files = Files.list(dir)) {
+            var file = files.findFirst().orElseThrow();
+            Files.write(file, new byte[]{1, 2, 3});
+        }
+
+        var restarted = new CachingEquationSolver<>(solver, "parabolic-0.5", MB, dir, MB);
+        var solution = restarted.solve(new KeyedEquation(1), h, tau);
+
+        assertThat(restarted.getDiskHits()).isEqualTo(0L);
+        assertThat(restarted.getMisses()).isEqualTo(1L);
+        assertThat(solution.area().tn()).isEqualTo(100);
+    }
+
+    @Test
+    void concurrentSolvesOfSameKeyAreCollapsed() throws Exception {
+        var calls = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        EquationSolver<ParabolicEquation> slow = (eqn, h1, tau1) -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ParabolicEquationSolver().solve(eqn, h1, tau1);
+        };
+        var cache = new CachingEquationSolver<>(slow, "slow", MB);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<Solution<ParabolicEquation>>>();
+            futures.add(executor.submit(() -> cache.solve(new KeyedEquation(1), h, tau)));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> cache.solve(new KeyedEquation(1), h, tau)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            var first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (var future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS).matrix()).isSameAs(first.matrix());
+            }
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(cache.getMisses()).isEqualTo(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failureIsPropagatedToWaitingCallers() {
+        var cache = new CachingEquationSolver<ParabolicEquation>((eqn, h1, tau1) -> {
+            throw new IllegalArgumentException("degenerate");
+        }, "failing", MB);
+
+        var e = assertThrows(IllegalArgumentException.class, () -> cache.solve(new KeyedEquation(1), h, tau));
+        assertThat(e.getMessage()).isEqualTo("degenerate");
+        assertThat(cache.getMemoryUsed()).isEqualTo(0L);
+    }
+
+    @Test
+    void errorIsPropagatedToWaitingCallers() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var cache = new CachingEquationSolver<ParabolicEquation>((eqn, h1, tau1) -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new OutOfMemoryError("grid");
+        }, "failing", MB);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var first = executor.submit(() -> cache.solve(new KeyedEquation(1), h, tau));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            var waiting = executor.submit(() -> cache.solve(new KeyedEquation(1), h, tau));
+            Thread.sleep(100);
+            release.countDown();
+
+            for (var future : List.of(first, waiting)) {
+                var e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+                assertThat(e.getCause()).isInstanceOf(OutOfMemoryError.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments(@TempDir Path dir) {
+        var solver = new ParabolicEquationSolver();
+        assertThrows(IllegalArgumentException.class, () -> new CachingEquationSolver<>(null, "key", MB));
+        assertThrows(IllegalArgumentException.class, () -> new CachingEquationSolver<>(solver, null, MB));
+        assertThrows(IllegalArgumentException.class, () -> new CachingEquationSolver<>(solver, "key", 0));
+        assertThrows(IllegalArgumentException.class, () -> new CachingEquationSolver<>(solver, "key", MB, dir, 0));
+        var cache = new CachingEquationSolver<>(solver, "key", MB);
+        assertThrows(IllegalArgumentException.class, () -> cache.solve(null, h, tau));
+    }
+
+    /**
+     * Diffusion of a sine profile with amplitude {@code a}, keyed by its parameters.
+     */
+    private static class KeyedEquation extends ParabolicEquation {
+
+        private final double a;
+
+        KeyedEquation(double a) {
+            super(0, 1, 1, new DirichletBorderCondition(), new DirichletBorderCondition());
+            this.a = a;
+        }
+
+        @Override
+        public double gU0(double x) {
+            return a * sin(PI * x);
+        }
+
+        @Override
+        public String contentKey() {
+            return "sine-diffusion a=" + a;
+        }
+    }
+
+    private static class UnkeyedEquation extends ParabolicEquation {
+
+        UnkeyedEquation() {
+            super(0, 1, 1, new DirichletBorderCondition(), new DirichletBorderCondition());
+        }
+    }
+}
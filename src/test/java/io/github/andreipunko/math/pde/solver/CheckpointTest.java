@@ -0,0 +1,173 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for checkpointing: a solve is interrupted by an exception thrown from the equation at {@code CRASH_TIME},
+ * then resumed from the last checkpoint and compared with an uninterrupted solve.
+ */
+class CheckpointTest {
+
+    private static final double CRASH_TIME = 0.3;
+
+    private final double h = 0.02;
+    private final double tau = 0.01;
+
+    @Test
+    void resumeParabolicSolve(@TempDir Path temp) throws IOException {
+        var checkpointing = new Checkpointing(temp.resolve("parabolic.bin"), 7);
+        var solver = new ParabolicEquationSolver();
+        var eqn = new CrashingParabolicEquation();
+
+        var full = solver.solve(eqn, h, tau);
+        eqn.crash = true;
+        assertThrows(IllegalStateException.class, () -> solver.solve(eqn, h, tau, checkpointing));
+        eqn.crash = false;
+        var resumed = solver.resume(eqn, checkpointing);
+
+        // Last checkpoint before the crash at layer 30 was written at layer 28
+        assertResumedFrom(resumed, full, 28);
+    }
+
+    @Test
+    void resumeHyperbolicSolve(@TempDir Path temp) throws IOException {
+        var checkpointing = new Checkpointing(temp.resolve("hyperbolic.bin"), 10);
+        var solver = new HyperbolicEquationSolver(0.25);
+        var eqn = new CrashingHyperbolicEquation();
+
+        var full = solver.solve(eqn, h, tau);
+        eqn.crash = true;
+        assertThrows(IllegalStateException.class, () -> solver.solve(eqn, h, tau, checkpointing));
+        eqn.crash = false;
+        var resumed = solver.resume(eqn, checkpointing);
+
+        // Checkpoint at layer 30 holds layers 29 and 30
+        assertResumedFrom(resumed, full, 29);
+    }
+
+    @Test
+    void solveWithCheckpointsMatchesPlainSolve(@TempDir Path temp) {
+        var checkpointing = new Checkpointing(temp.resolve("plain.bin"), 5);
+        var solver = new ParabolicEquationSolver();
+        var eqn = new CrashingParabolicEquation();
+
+        var plain = solver.solve(eqn, h, tau);
+        var checkpointed = solver.solve(eqn, h, tau, checkpointing);
+
+        assertThat(Files.exists(checkpointing.file())).isTrue();
+        assertThat(Files.exists(temp.resolve("plain.bin.tmp"))).isFalse();
+        for (int j = 0; j <= plain.area().tn(); j++) {
+            assertThat(checkpointed.matrix().getRow(j)).isEqualTo(plain.matrix().getRow(j));
+        }
+    }
+
+    @Test
+    void resumeRejectsForeignCheckpoint(@TempDir Path temp) {
+        var checkpointing = new Checkpointing(temp.resolve("foreign.bin"), 5);
+        var eqn = new CrashingParabolicEquation();
+        new ParabolicEquationSolver().solve(eqn, h, tau, checkpointing);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParabolicEquationSolver(ParabolicEquationSolver.FULLY_IMPLICIT).resume(eqn, checkpointing));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HyperbolicEquationSolver().resume(new CrashingHyperbolicEquation(), checkpointing));
+        assertThrows(IOException.class, () -> new ParabolicEquationSolver()
+                .resume(eqn, new Checkpointing(temp.resolve("missing.bin"), 5)));
+    }
+
+    @Test
+    void resumeRejectsCorruptedCheckpoint(@TempDir Path temp) throws IOException {
+        var checkpointing = new Checkpointing(temp.resolve("corrupted.bin"), 5);
+        var eqn = new CrashingParabolicEquation();
+        new ParabolicEquationSolver().solve(eqn, h, tau, checkpointing);
+        var valid = Files.readAllBytes(checkpointing.file());
+        // Magic, version, scheme name "parabolic", six doubles and the step come before the layer count
+        int countOffset = 4 + 4 + 2 + "parabolic".length() + 6 * Double.BYTES + 4;
+
+        // Sizes which would exhaust the heap or fail the allocation if trusted, and a truncated file
+        for (var header : new int[][]{{1, Integer.MAX_VALUE}, {1 << 20, 51}, {-1, 51}, {2, 51}, {1, -1}}) {
+            var bytes = valid.clone();
+            ByteBuffer.wrap(bytes).putInt(countOffset, header[0]).putInt(countOffset + 4, header[1]);
+            Files.write(checkpointing.file(), bytes);
+            assertThrows(IOException.class, () -> new ParabolicEquationSolver().resume(eqn, checkpointing));
+        }
+        Files.write(checkpointing.file(), Arrays.copyOf(valid, valid.length - 8));
+        assertThrows(IOException.class, () -> new ParabolicEquationSolver().resume(eqn, checkpointing));
+    }
+
+    @Test
+    void checkpointingRejectsInvalidArguments(@TempDir Path temp) {
+        assertThrows(IllegalArgumentException.class, () -> new Checkpointing(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Checkpointing(temp.resolve("a.bin"), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParabolicEquationSolver().solve(new CrashingParabolicEquation(), h, tau, null));
+    }
+
+    private static void assertResumedFrom(Solution<? extends Equation> resumed, Solution<? extends Equation> full,
+                                          int first) {
+        assertThat(resumed.area().tn()).isEqualTo(full.area().tn() - first);
+        assertThat(resumed.area().tx(0)).isCloseTo(full.area().tx(first), within(1e-12));
+        for (int j = 0; j <= resumed.area().tn(); j++) {
+            assertThat(resumed.matrix().getRow(j)).isEqualTo(full.matrix().getRow(first + j));
+        }
+    }
+
+    private static class CrashingParabolicEquation extends ParabolicEquation {
+        private boolean crash;
+
+        CrashingParabolicEquation() {
+            super(0, 1, 0.5, new DirichletBorderCondition(), new DirichletBorderCondition());
+        }
+
+        @Override
+        public double gK(double x, double t, double U) {
+            if (crash && t > CRASH_TIME - 1e-9) {
+                throw new IllegalStateException("simulated crash");
+            }
+            return 1 + U * U;
+        }
+
+        @Override
+        public double gU0(double x) {
+            return sin(PI * x);
+        }
+    }
+
+    private static class CrashingHyperbolicEquation extends HyperbolicEquation {
+        private boolean crash;
+
+        CrashingHyperbolicEquation() {
+            super(0, 1, 0.5, new DirichletBorderCondition(), new DirichletBorderCondition());
+        }
+
+        @Override
+        public double gK(double x, double t, double U) {
+            if (crash && t > CRASH_TIME - 1e-9) {
+                throw new IllegalStateException("simulated crash");
+            }
+            return 1;
+        }
+
+        @Override
+        public double gU0(double x) {
+            return sin(PI * x);
+        }
+    }
+}
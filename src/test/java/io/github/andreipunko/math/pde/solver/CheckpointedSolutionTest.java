@@ -0,0 +1,117 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CheckpointedSolutionTest {
+
+    private final double h = 0.01;
+    private final double tau = 0.001;
+
+    @Test
+    void parabolicLayersMatchFullSolve() {
+        var solver = new ParabolicEquationSolver();
+        var expected = solver.solve(parabolicEquation(), h, tau);
+
+        var actual = solver.solveCheckpointed(parabolicEquation(), h, tau);
+
+        // 101 layers: checkpoints at 0, 11, .., 99
+        assertThat(actual.interval()).isEqualTo(11);
+        assertThat(actual.storedLayers()).isEqualTo(10);
+        assertLayersMatch(actual, expected);
+    }
+
+    @Test
+    void hyperbolicLayersMatchFullSolve() {
+        var solver = new HyperbolicEquationSolver();
+        var expected = solver.solve(hyperbolicEquation(), h, tau);
+
+        var actual = solver.solveCheckpointed(hyperbolicEquation(), h, tau, 7, 2);
+
+        // 201 layers: checkpoints of two layers at 0, 7, .., 196
+        assertThat(actual.storedLayers()).isEqualTo(2 * 29);
+        assertLayersMatch(actual, expected);
+        assertThat(actual.gUx(0.5).y(123)).isEqualTo(expected.gUx(0.5).y(123));
+        assertThat(actual.gUt(0.1).y(50)).isEqualTo(expected.gUt(0.1).y(50));
+    }
+
+    @Test
+    void recentSegmentsAreCached() {
+        var solution = new ParabolicEquationSolver().solveCheckpointed(parabolicEquation(), h, tau, 10, 2);
+
+        solution.getRow(15);
+        solution.getRow(19);
+        solution.getRow(25);
+        assertThat(solution.recomputations()).isEqualTo(2);
+
+        solution.getRow(11);
+        solution.get(21, 3);
+        assertThat(solution.recomputations()).isEqualTo(2);
+
+        // Segment 1 was used before segment 2, so it is evicted by segment 3
+        solution.getRow(35);
+        solution.getRow(12);
+        assertThat(solution.recomputations()).isEqualTo(4);
+
+        // Checkpoints are never recomputed
+        solution.getRow(40);
+        assertThat(solution.recomputations()).isEqualTo(4);
+    }
+
+    @Test
+    void steadyStateEndsSolution() {
+        var solver = new ParabolicEquationSolver(0.5, new SteadyStateCriterion(0.1, 1));
+        var eqn = new ParabolicEquation(0, 1, 3, new DirichletBorderCondition(), new NeumannBorderCondition()) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x / 2);
+            }
+        };
+        var expected = solver.solve(eqn, h, 0.01);
+
+        var actual = solver.solveCheckpointed(eqn, h, 0.01, 8, 1);
+
+        assertThat(expected.isSteadyState()).isTrue();
+        assertThat(actual.area().tn()).isEqualTo(expected.area().tn());
+        assertLayersMatch(actual, expected);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        var solver = new ParabolicEquationSolver();
+
+        assertThrows(IllegalArgumentException.class, () -> solver.solveCheckpointed(parabolicEquation(), h, tau, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solveCheckpointed(parabolicEquation(), h, tau, 1, 0));
+
+        var solution = solver.solveCheckpointed(parabolicEquation(), h, tau);
+        assertThrows(IllegalArgumentException.class, () -> solution.getRow(-1));
+        assertThrows(IllegalArgumentException.class, () -> solution.getRow(solution.area().tn() + 1));
+        assertThrows(IllegalArgumentException.class, () -> solution.get(0, solution.area().xn() + 1));
+        assertThrows(IllegalArgumentException.class, () -> solution.gUx(-1));
+    }
+
+    private static void assertLayersMatch(CheckpointedSolution<? extends Equation> actual,
+                                          Solution<? extends Equation> expected) {
+        // Backwards: segments are recomputed in the reverse order of the solve
+        for (int j = expected.area().tn(); j >= 0; j--) {
+            assertThat(actual.getRow(j)).isEqualTo(expected.matrix().getRow(j));
+        }
+    }
+
+    private static ParabolicEquation parabolicEquation() {
+        return NonlinearEquations.parabolic(0.1, x -> sin(PI * x));
+    }
+
+    private static HyperbolicEquation hyperbolicEquation() {
+        return NonlinearEquations.hyperbolic(0.2, x -> sin(PI * x) / 3);
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <pre>
+ * Test for ExplicitHyperbolicEquationSolver on wave equation Utt = c^2*Uxx in [0,1]:
+ * U=0 on both borders, U(x,0) = sin(PI*x), Ut(x,0) = 0, U(x,t) = sin(PI*x)*cos(PI*c*t)
+ * Courant condition of the explicit scheme: tau &lt;= h/c
+ * </pre>
+ */
+class ExplicitHyperbolicEquationSolverTest {
+
+    private final double C = 2;
+    private final double TIME = 0.5;
+    private final double h = 0.005;
+
+    @Test
+    void maxTimeStep() {
+        var tauMax = new ExplicitHyperbolicEquationSolver().maxTimeStep(buildEquation(), h);
+
+        assertThat(tauMax).isCloseTo(h / C, within(1e-15));
+    }
+
+    @Test
+    void solveWithinCourantBound() {
+        var solution = new ExplicitHyperbolicEquationSolver().solve(buildEquation(), h, 0.5 * h / C);
+
+        assertThat(maxError(solution)).isLessThan(2e-3);
+    }
+
+    @Test
+    void solveMatchesWeightedSchemeWithZeroSigma() {
+        var eqn = buildEquation();
+        var tau = 0.5 * h / C;
+
+        var explicit = new ExplicitHyperbolicEquationSolver().solve(eqn, h, tau);
+        var weighted = new HyperbolicEquationSolver(0).solve(eqn, h, tau);
+
+        var last = explicit.area().tn();
+        for (int i = 0; i <= explicit.area().xn(); i++) {
+            assertThat(explicit.matrix().get(last, i)).isCloseTo(weighted.matrix().get(last, i), within(1e-10));
+        }
+    }
+
+    @Test
+    void solveRejectsUnstableTimeStep() {
+        var solver = new ExplicitHyperbolicEquationSolver();
+
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(buildEquation(), h, 2 * h / C));
+    }
+
+    @Test
+    void solveWithSubsteps() {
+        var solver = new ExplicitHyperbolicEquationSolver(StabilityPolicy.SUBSTEP);
+
+        var solution = solver.solve(buildEquation(), h, 0.01);   // 4 times above the Courant limit
+
+        assertThat(solution.area().tn()).isEqualTo(50);
+        assertThat(maxError(solution)).isLessThan(2e-3);
+    }
+
+    @Test
+    void constructorRejectsNullPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> new ExplicitHyperbolicEquationSolver(null));
+        assertThat(new ExplicitHyperbolicEquationSolver().getStabilityPolicy()).isEqualTo(StabilityPolicy.REJECT);
+    }
+
+    private double maxError(Solution<HyperbolicEquation> solution) {
+        var area = solution.area();
+        var t = area.tx(area.tn());
+        var result = 0d;
+        for (int i = 0; i <= area.xn(); i++) {
+            var x = area.xx(i);
+            result = Math.max(result, Math.abs(solution.matrix().get(area.tn(), i) - sin(PI * x) * cos(PI * C * t)));
+        }
+        return result;
+    }
+
+    private HyperbolicEquation buildEquation() {
+        return new HyperbolicEquation(0, 1, TIME, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return C * C;
+            }
+
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+    }
+}
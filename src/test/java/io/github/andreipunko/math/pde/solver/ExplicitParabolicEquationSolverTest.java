@@ -0,0 +1,126 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.exp;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <pre>
+ * Test for ExplicitParabolicEquationSolver on heat equation Ut = D*Uxx in [0,1]:
+ * - Dirichlet: U=0 on both borders, U(x,0) = sin(PI*x), U(x,t) = sin(PI*x)*exp(-PI^2*D*t)
+ * - Neumann: dU/dx=0 on both borders, U(x,0) = cos(PI*x), U(x,t) = cos(PI*x)*exp(-PI^2*D*t)
+ * Stability limit of the explicit scheme: tau &lt;= h^2/(2*D)
+ * </pre>
+ */
+class ExplicitParabolicEquationSolverTest {
+
+    private final double D = 0.5;
+    private final double TIME = 0.2;
+    private final double h = 0.01;
+
+    @Test
+    void maxTimeStep() {
+        var tauMax = new ExplicitParabolicEquationSolver().maxTimeStep(buildDirichletEquation(), h);
+
+        assertThat(tauMax).isCloseTo(h * h / (2 * D), within(1e-15));
+    }
+
+    @Test
+    void solveWithStableTimeStep() {
+        var tau = 0.9 * h * h / (2 * D);
+        var solution = new ExplicitParabolicEquationSolver().solve(buildDirichletEquation(), h, tau);
+
+        var t = solution.area().tx(solution.area().tn());
+        assertThat(maxError(solution, x -> sin(PI * x) * exp(-PI * PI * D * t))).isLessThan(1e-4);
+    }
+
+    @Test
+    void solveMatchesWeightedSchemeWithZeroSigma() {
+        var eqn = buildDirichletEquation();
+        var tau = 0.5 * h * h / (2 * D);
+
+        var explicit = new ExplicitParabolicEquationSolver().solve(eqn, h, tau);
+        var weighted = new ParabolicEquationSolver(0).solve(eqn, h, tau);
+
+        var last = explicit.area().tn();
+        for (int i = 0; i <= explicit.area().xn(); i++) {
+            assertThat(explicit.matrix().get(last, i)).isCloseTo(weighted.matrix().get(last, i), within(1e-12));
+        }
+    }
+
+    @Test
+    void solveRejectsUnstableTimeStep() {
+        var solver = new ExplicitParabolicEquationSolver(StabilityPolicy.REJECT);
+
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(buildDirichletEquation(), h, 1e-3));
+    }
+
+    @Test
+    void solveWithSubsteps() {
+        var solver = new ExplicitParabolicEquationSolver(StabilityPolicy.SUBSTEP);
+        var tau = 0.01;    // 100 times above the stability limit
+
+        var solution = solver.solve(buildNeumannEquation(), h, tau);
+
+        assertThat(solution.area().tn()).isEqualTo(20);
+        var t = solution.area().tx(solution.area().tn());
+        // First-order approximation of Neumann condition limits accuracy near the borders
+        assertThat(maxError(solution, x -> cos(PI * x) * exp(-PI * PI * D * t))).isLessThan(1e-2);
+    }
+
+    @Test
+    void constructorRejectsNullPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> new ExplicitParabolicEquationSolver(null));
+        assertThat(new ExplicitParabolicEquationSolver().getStabilityPolicy()).isEqualTo(StabilityPolicy.REJECT);
+    }
+
+    private static double maxError(Solution<ParabolicEquation> solution, Analytic analytic) {
+        var area = solution.area();
+        var result = 0d;
+        for (int i = 0; i <= area.xn(); i++) {
+            result = Math.max(result, Math.abs(solution.matrix().get(area.tn(), i) - analytic.u(area.xx(i))));
+        }
+        return result;
+    }
+
+    private ParabolicEquation buildDirichletEquation() {
+        return new ParabolicEquation(0, 1, TIME, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return D;
+            }
+
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+    }
+
+    private ParabolicEquation buildNeumannEquation() {
+        return new ParabolicEquation(0, 1, TIME, new NeumannBorderCondition(), new NeumannBorderCondition()) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return D;
+            }
+
+            @Override
+            public double gU0(double x) {
+                return cos(PI * x);
+            }
+        };
+    }
+
+    private interface Analytic {
+        double u(double x);
+    }
+}
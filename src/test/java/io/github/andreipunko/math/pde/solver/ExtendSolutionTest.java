@@ -0,0 +1,83 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for continuation of a solution to a later end time: the extended solution must match a solution found
+ * on the longer time interval from the start.
+ */
+class ExtendSolutionTest {
+
+    private final double h = 0.02;
+    private final double tau = 0.01;
+
+    @Test
+    void extendParabolicSolution() {
+        var solver = new ParabolicEquationSolver();
+        var shortRun = solver.solve(parabolicEquation(0.25), h, tau);
+
+        var extended = solver.extend(shortRun, 0.5);
+        var longRun = solver.solve(parabolicEquation(0.5), h, tau);
+
+        assertThat(shortRun.area().tn()).isEqualTo(25);
+        assertThat(shortRun.matrix().getM()).isEqualTo(26);
+        assertSameLayers(extended, longRun);
+    }
+
+    @Test
+    void extendHyperbolicSolutionTwice() {
+        var solver = new HyperbolicEquationSolver();
+        var shortRun = solver.solve(hyperbolicEquation(0.2), h, tau);
+
+        var extended = solver.extend(solver.extend(shortRun, 0.35), 0.5);
+        var longRun = solver.solve(hyperbolicEquation(0.5), h, tau);
+
+        assertSameLayers(extended, longRun);
+    }
+
+    @Test
+    void extendRejectsInvalidArguments() {
+        var solver = new ParabolicEquationSolver();
+        var solution = solver.solve(parabolicEquation(0.25), h, tau);
+
+        assertThrows(IllegalArgumentException.class, () -> solver.extend(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> solver.extend(solution, 0.25));
+        assertThrows(IllegalArgumentException.class, () -> solver.extend(solution, 0.255));
+        assertThrows(IllegalArgumentException.class, () -> solver.extend(solution, Double.POSITIVE_INFINITY));
+    }
+
+    private static void assertSameLayers(Solution<? extends Equation> actual, Solution<? extends Equation> expected) {
+        assertThat(actual.area().tn()).isEqualTo(expected.area().tn());
+        for (int j = 0; j <= expected.area().tn(); j++) {
+            assertThat(actual.area().tx(j)).isEqualTo(expected.area().tx(j));
+            assertThat(actual.matrix().getRow(j)).isEqualTo(expected.matrix().getRow(j));
+        }
+    }
+
+    private static ParabolicEquation parabolicEquation(double t2) {
+        return NonlinearEquations.parabolic(t2, x -> sin(PI * x));
+    }
+
+    private static HyperbolicEquation hyperbolicEquation(double t2) {
+        return new HyperbolicEquation(0, 1, t2, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+
+            @Override
+            public double gF(double x, double t, double U) {
+                return t;
+            }
+        };
+    }
+}
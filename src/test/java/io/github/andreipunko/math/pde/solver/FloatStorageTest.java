@@ -0,0 +1,104 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for solutions stored as floats: the layers must be computed in double precision, so every stored value is the
+ * rounded value of the solution stored as doubles (equations are nonlinear, so a march reading rounded layers back
+ * would diverge).
+ */
+class FloatStorageTest {
+
+    private final double h = 0.02;
+    private final double tau = 0.01;
+
+    @Test
+    void parabolicSolutionIsRoundedOnStore() {
+        var expected = new ParabolicEquationSolver().solve(parabolicEquation(), h, tau);
+        var solver = new ParabolicEquationSolver(ParabolicEquationSolver.CRANK_NICOLSON, null, Matrix2D.Storage.FLOAT);
+
+        var actual = solver.solve(parabolicEquation(), h, tau);
+
+        assertThat(solver.getStorage()).isEqualTo(Matrix2D.Storage.FLOAT);
+        assertRounded(actual, expected);
+    }
+
+    @Test
+    void hyperbolicSolutionIsRoundedOnStore() {
+        var expected = new HyperbolicEquationSolver().solve(hyperbolicEquation(), h, tau);
+        var solver = new HyperbolicEquationSolver(HyperbolicEquationSolver.DEFAULT_SIGMA, Matrix2D.Storage.FLOAT);
+
+        var actual = solver.solve(hyperbolicEquation(), h, tau);
+
+        assertRounded(actual, expected);
+    }
+
+    @Test
+    void steadyStateSolutionKeepsStorage() {
+        var criterion = new SteadyStateCriterion(0.1, 1);
+        var expected = new ParabolicEquationSolver(0.5, criterion).solve(parabolicEquation(), h, tau);
+
+        var actual = new ParabolicEquationSolver(0.5, criterion, Matrix2D.Storage.FLOAT)
+                .solve(parabolicEquation(), h, tau);
+
+        assertThat(actual.isSteadyState()).isTrue();
+        assertRounded(actual, expected);
+    }
+
+    @Test
+    void resumedSolutionContinuesFromDoubleLayers(@TempDir Path temp) throws IOException {
+        var checkpointing = new Checkpointing(temp.resolve("hyperbolic.bin"), 10);
+        var solver = new HyperbolicEquationSolver(0.5, Matrix2D.Storage.FLOAT);
+        var expected = new HyperbolicEquationSolver().solve(hyperbolicEquation(), h, tau);
+
+        solver.solve(hyperbolicEquation(), h, tau, checkpointing);
+        var resumed = solver.resume(hyperbolicEquation(), checkpointing);
+
+        // Last checkpoint at layer 40 holds layers 39 and 40
+        assertThat(resumed.matrix().getStorage()).isEqualTo(Matrix2D.Storage.FLOAT);
+        for (int j = 0; j <= resumed.area().tn(); j++) {
+            var row = expected.matrix().getRow(j + 39);
+            for (int i = 0; i < row.length; i++) {
+                assertThat(resumed.matrix().get(j, i)).isEqualTo((double) (float) row[i]);
+            }
+        }
+    }
+
+    @Test
+    void rejectsNullStorage() {
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquationSolver(0.5, null, null));
+        assertThrows(IllegalArgumentException.class, () -> new HyperbolicEquationSolver(0.5, null));
+    }
+
+    private static void assertRounded(Solution<? extends Equation> actual, Solution<? extends Equation> expected) {
+        assertThat(actual.matrix().getStorage()).isEqualTo(Matrix2D.Storage.FLOAT);
+        assertThat(actual.area().tn()).isEqualTo(expected.area().tn());
+        for (int j = 0; j <= expected.area().tn(); j++) {
+            var row = expected.matrix().getRow(j);
+            for (int i = 0; i < row.length; i++) {
+                assertThat(actual.matrix().get(j, i)).isEqualTo((double) (float) row[i]);
+            }
+        }
+    }
+
+    private static ParabolicEquation parabolicEquation() {
+        return NonlinearEquations.parabolic(0.5, x -> sin(PI * x) / 3);
+    }
+
+    private static HyperbolicEquation hyperbolicEquation() {
+        return NonlinearEquations.hyperbolic(0.45, x -> sin(PI * x) / 3);
+    }
+}
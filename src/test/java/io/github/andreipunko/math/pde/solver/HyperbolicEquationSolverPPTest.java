@@ -0,0 +1,59 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.PeriodicBorderCondition;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * <pre>
+ * Test for HyperbolicEquationSolver with periodic border conditions.
+ *
+ * Solution of wave equation on a ring of unit length: Utt = c^2*Uxx
+ * - initial displacement U(x,0) = sin(2*PI*x), initial velocity Ut(x,0) = 2*PI*c*cos(2*PI*x)
+ * - analytic solution U = sin(2*PI*(x + c*t)): the wave travels around the ring without change of shape
+ * </pre>
+ */
+class HyperbolicEquationSolverPPTest {
+
+    private final double C_coeff = 0.5;
+    private final double TIME = 2;
+
+    private final double h = 1 / 256.;
+    private final double tau = 1 / 512.;
+
+    @Test
+    void solve() {
+        var periodic = new PeriodicBorderCondition();
+        var eqn = new HyperbolicEquation(0, 1, TIME, periodic, periodic) {
+            @Override
+            public double gU0(double x) {
+                return sin(2 * PI * x);
+            }
+
+            @Override
+            public double gdU_dt0(double x) {
+                return 2 * PI * C_coeff * cos(2 * PI * x);
+            }
+
+            @Override
+            public double gK(double x, double t, double U) {
+                return C_coeff * C_coeff;
+            }
+        };
+
+        var solution = new HyperbolicEquationSolver(0.25).solve(eqn, h, tau);
+
+        var area = solution.area();
+        for (int i = 0; i <= area.xn(); i++) {
+            var x = area.xx(i);
+            assertThat(solution.matrix().get(area.tn(), i))
+                    .isCloseTo(sin(2 * PI * (x + C_coeff * TIME)), within(1e-2));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.pde.solver.LayerRingBuffer.WaitStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LayerRingBufferTest {
+
+    @Test
+    void publishAndConsumeOnOneThread() {
+        var ring = new LayerRingBuffer(4, 3, WaitStrategy.BLOCKING);
+
+        for (int step = 0; step < 10; step++) {
+            assertThat(ring.offer(step, step * 0.5, new double[]{step, step + 1, step + 2})).isTrue();
+            long seq = ring.next();
+            assertThat(seq).isEqualTo(step);
+            assertThat(ring.step(seq)).isEqualTo(step);
+            assertThat(ring.time(seq)).isEqualTo(step * 0.5);
+            assertThat(ring.slot(seq)).isEqualTo(new double[]{step, step + 1, step + 2});
+            ring.release(seq);
+        }
+        assertThat(ring.poll()).isEqualTo(-1);
+
+        ring.close();
+        assertThat(ring.isClosed()).isTrue();
+        assertThat(ring.next()).isEqualTo(-1);
+        assertThrows(IllegalStateException.class, ring::claim);
+    }
+
+    @Test
+    void droppingStrategyDropsLayersWhenFull() {
+        var ring = new LayerRingBuffer(2, 1, WaitStrategy.DROPPING);
+
+        assertThat(ring.offer(0, 0, new double[]{0})).isTrue();
+        assertThat(ring.offer(1, 1, new double[]{1})).isTrue();
+        assertThat(ring.offer(2, 2, new double[]{2})).isFalse();
+        assertThat(ring.dropped()).isEqualTo(1);
+
+        ring.release(ring.next());
+        assertThat(ring.offer(3, 3, new double[]{3})).isTrue();
+        ring.close();
+
+        var received = new ArrayList<Integer>();
+        for (long seq = ring.next(); seq >= 0; seq = ring.next()) {
+            received.add(ring.step(seq));
+            ring.release(seq);
+        }
+        assertThat(received).isEqualTo(List.of(1, 3));
+    }
+
+    @Test
+    void abandonedRingReleasesWaitingProducer() throws InterruptedException {
+        var ring = new LayerRingBuffer(2, 1, WaitStrategy.BLOCKING);
+        assertThat(ring.offer(0, 0, new double[]{0})).isTrue();
+        assertThat(ring.offer(1, 1, new double[]{1})).isTrue();
+
+        var offered = new AtomicReference<Boolean>();
+        var producer = new Thread(() -> offered.set(ring.offer(2, 2, new double[]{2})));
+        producer.start();
+        ring.abandon();
+        producer.join(10_000);
+
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(offered.get()).isFalse();
+        assertThat(ring.isAbandoned()).isTrue();
+        assertThat(ring.claim()).isEqualTo(-1);
+        assertThat(ring.dropped()).isZero();
+    }
+
+    @Test
+    void transferBetweenThreadsKeepsOrderAndValues() throws InterruptedException {
+        for (var strategy : new WaitStrategy[]{WaitStrategy.BLOCKING, WaitStrategy.SPINNING}) {
+            var ring = new LayerRingBuffer(8, 16, strategy);
+            final int count = 20_000;
+            var failure = new AtomicReference<String>();
+            var consumer = new Thread(() -> {
+                int expected = 0;
+                for (long seq = ring.next(); seq >= 0; seq = ring.next()) {
+                    var slot = ring.slot(seq);
+                    if (ring.step(seq) != expected || slot[0] != expected || slot[15] != -expected) {
+                        failure.compareAndSet(null, "unexpected layer " + ring.step(seq) + " instead of " + expected);
+                    }
+                    ring.release(seq);
+                    expected++;
+                }
+                if (expected != count) {
+                    failure.compareAndSet(null, "received " + expected + " layers instead of " + count);
+                }
+            });
+            consumer.start();
+
+            for (int step = 0; step < count; step++) {
+                long seq = ring.claim();
+                var slot = ring.slot(seq);
+                slot[0] = step;
+                slot[15] = -step;
+                ring.publish(seq, step, step);
+            }
+            ring.close();
+            consumer.join(10_000);
+
+            assertThat(consumer.isAlive()).isFalse();
+            assertThat(failure.get()).isNull();
+        }
+    }
+
+    @Test
+    void parabolicSolverPublishesAllLayers() throws InterruptedException {
+        var bc = new DirichletBorderCondition();
+        var eqn = new ParabolicEquation(0, 1, 0.1, bc, bc) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+        double h = 0.05, tau = 0.001;
+        var ring = new LayerRingBuffer(4, 21, WaitStrategy.BLOCKING);
+        var layers = new ArrayList<double[]>();
+        var consumer = new Thread(() -> {
+            for (long seq = ring.next(); seq >= 0; seq = ring.next()) {
+                layers.add(ring.slot(seq).clone());
+                ring.release(seq);
+            }
+        });
+        consumer.start();
+
+        new ParabolicEquationSolver().solveStreaming(eqn, h, tau, ring);
+        consumer.join(10_000);
+
+        var solution = new ParabolicEquationSolver().solve(eqn, h, tau);
+        assertThat(layers).hasSize(solution.area().tn() + 1);
+        for (int j = 0; j < layers.size(); j++) {
+            assertThat(layers.get(j)).isEqualTo(solution.matrix().getRow(j));
+        }
+    }
+
+    @Test
+    void hyperbolicSolverPublishesAllLayers() throws InterruptedException {
+        var bc = new DirichletBorderCondition();
+        var eqn = new HyperbolicEquation(0, 1, 0.1, bc, bc) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+        var ring = new LayerRingBuffer(2, 21, WaitStrategy.SPINNING);
+        var steps = new ArrayList<Integer>();
+        var consumer = new Thread(() -> {
+            for (long seq = ring.next(); seq >= 0; seq = ring.next()) {
+                steps.add(ring.step(seq));
+                ring.release(seq);
+            }
+        });
+        consumer.start();
+
+        new HyperbolicEquationSolver().solveStreaming(eqn, 0.05, 0.01, ring);
+        consumer.join(10_000);
+
+        var solution = new HyperbolicEquationSolver().solve(eqn, 0.05, 0.01);
+        assertThat(steps).hasSize(solution.area().tn() + 1);
+        assertThat(steps.get(steps.size() - 1)).isEqualTo(solution.area().tn());
+    }
+
+    @Test
+    void abandonedRingStopsTheSolve() throws InterruptedException {
+        var bc = new DirichletBorderCondition();
+        // 10^6 time steps: the solve would take much longer than the test waits for
+        var eqn = new ParabolicEquation(0, 1, 1000, bc, bc) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+        var ring = new LayerRingBuffer(4, 21, WaitStrategy.BLOCKING);
+        var solver = new Thread(() -> new ParabolicEquationSolver().solveStreaming(eqn, 0.05, 0.001, ring));
+        solver.start();
+
+        for (int k = 0; k < 3; k++) {
+            ring.release(ring.next());
+        }
+        ring.abandon();
+        solver.join(10_000);
+
+        assertThat(solver.isAlive()).isFalse();
+        assertThat(ring.isClosed()).isTrue();
+    }
+
+    @Test
+    void invalidArguments() {
+        var bc = new DirichletBorderCondition();
+        var eqn = new ParabolicEquation(0, 1, 0.1, bc, bc);
+        var ring = new LayerRingBuffer(4, 5, WaitStrategy.BLOCKING);
+
+        assertThrows(IllegalArgumentException.class, () -> new LayerRingBuffer(3, 5, WaitStrategy.BLOCKING));
+        assertThrows(IllegalArgumentException.class, () -> new LayerRingBuffer(4, 0, WaitStrategy.BLOCKING));
+        assertThrows(IllegalArgumentException.class, () -> new LayerRingBuffer(4, 5, null));
+        assertThrows(IllegalArgumentException.class, () -> ring.offer(0, 0, new double[4]));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParabolicEquationSolver().solveStreaming(eqn, 0.05, 0.01, ring));
+        assertThat(ring.isClosed()).isTrue();
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.space.Area;
+import io.github.andreipunko.math.space.Interval;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import static io.github.andreipunko.math.pde.solver.LayerStatistics.Reduction.INTEGRAL;
+import static io.github.andreipunko.math.pde.solver.LayerStatistics.Reduction.L1_NORM;
+import static io.github.andreipunko.math.pde.solver.LayerStatistics.Reduction.L2_NORM;
+import static io.github.andreipunko.math.pde.solver.LayerStatistics.Reduction.LEFT_GRADIENT;
+import static io.github.andreipunko.math.pde.solver.LayerStatistics.Reduction.MAX;
+import static io.github.andreipunko.math.pde.solver.LayerStatistics.Reduction.MIN;
+import static io.github.andreipunko.math.pde.solver.LayerStatistics.Reduction.RIGHT_GRADIENT;
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LayerStatisticsTest {
+
+    private static final Set<LayerStatistics.Reduction> ALL = EnumSet.allOf(LayerStatistics.Reduction.class);
+
+    private final double h = 0.01;
+    private final double tau = 0.001;
+
+    @Test
+    void reductionsOfKnownLayer() {
+        // U = x^2 - 1/2 on nodes 0, 0.5, 1: the one-sided differences of second order are exact for U'
+        var eqn = new ParabolicEquation(0, 1, 0.01, new DirichletBorderCondition(), new DirichletBorderCondition());
+        var area = new Area(new Interval(0, 1, 2), new Interval(0, 0.01, 1));
+        var matrix = new Matrix2D(2, 3);
+        matrix.setRow(0, new double[]{-0.5, -0.25, 0.5});
+        matrix.setRow(1, new double[]{1, 1, 1});
+
+        var statistics = LayerStatistics.of(new Solution<>(eqn, area, matrix), ALL);
+
+        assertThat(statistics.size()).isEqualTo(2);
+        assertThat(statistics.times()).isEqualTo(new double[]{0, 0.01});
+        assertThat(statistics.get(MIN, 0)).isEqualTo(-0.5);
+        assertThat(statistics.get(MAX, 0)).isEqualTo(0.5);
+        assertThat(statistics.get(INTEGRAL, 0)).isEqualTo(-0.125);
+        assertThat(statistics.get(L1_NORM, 0)).isEqualTo(0.375);
+        assertThat(statistics.get(L2_NORM, 0)).isEqualTo(Math.sqrt(0.5 * 0.3125));
+        assertThat(statistics.get(LEFT_GRADIENT, 0)).isEqualTo(0.0);
+        assertThat(statistics.get(RIGHT_GRADIENT, 0)).isEqualTo(2.0);
+        assertThat(statistics.get(INTEGRAL, 1)).isEqualTo(1.0);
+        assertThat(statistics.get(RIGHT_GRADIENT, 1)).isEqualTo(0.0);
+    }
+
+    @Test
+    void streamedStatisticsMatchSecondPass() {
+        var solver = new ParabolicEquationSolver();
+
+        var solution = solver.solveWithStatistics(diffusion(), h, tau, ALL);
+        var streamed = solver.statistics(diffusion(), h, tau, ALL);
+
+        var expected = LayerStatistics.of(solution, ALL);
+        for (var statistics : new LayerStatistics[]{solution.statistics(), streamed}) {
+            assertThat(statistics.firstStep()).isEqualTo(0);
+            assertThat(statistics.size()).isEqualTo(solution.area().tn() + 1);
+            assertThat(statistics.times()).isEqualTo(expected.times());
+            for (var reduction : ALL) {
+                assertThat(statistics.get(reduction)).isEqualTo(expected.get(reduction));
+            }
+        }
+    }
+
+    @Test
+    void massChangesByBoundaryFluxes() {
+        // For U_t = U_xx: d/dt ∫U dx = U_x(1) - U_x(0)
+        var eqn = new ParabolicEquation(0, 1, 0.1, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+
+        var statistics = new ParabolicEquationSolver()
+                .statistics(eqn, h, tau, EnumSet.of(INTEGRAL, MAX, LEFT_GRADIENT, RIGHT_GRADIENT));
+
+        var mass = statistics.get(INTEGRAL);
+        var left = statistics.get(LEFT_GRADIENT);
+        var right = statistics.get(RIGHT_GRADIENT);
+        for (int j = 10; j < statistics.size() - 1; j += 10) {
+            double rate = (mass[j + 1] - mass[j - 1]) / (2 * tau),
+                    flux = right[j] - left[j];
+            assertThat(Math.abs(rate - flux)).isLessThan(1e-2 * Math.abs(flux));
+        }
+        var max = statistics.get(MAX);
+        assertThat(max[max.length - 1]).isLessThan(max[0]);
+    }
+
+    @Test
+    void steadyStateEndsSeries() {
+        var solver = new ParabolicEquationSolver(0.5, new SteadyStateCriterion(0.1, 1));
+        var eqn = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+
+        var solution = solver.solve(eqn, h, 0.01);
+        var statistics = solver.statistics(eqn, h, 0.01, EnumSet.of(MAX));
+
+        assertThat(solution.isSteadyState()).isTrue();
+        assertThat(statistics.size()).isEqualTo(solution.area().tn() + 1);
+        assertThat(statistics.times()[statistics.size() - 1]).isEqualTo(solution.steadyStateTime());
+    }
+
+    @Test
+    void hyperbolicStatisticsMatchSecondPass() {
+        var eqn = new HyperbolicEquation(0, 1, 0.5, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+        var solver = new HyperbolicEquationSolver();
+
+        var solution = solver.solveWithStatistics(eqn, h, tau, EnumSet.of(L2_NORM, MIN));
+        var streamed = solver.statistics(eqn, h, tau, EnumSet.of(L2_NORM, MIN));
+
+        var expected = LayerStatistics.of(solution, EnumSet.of(L2_NORM, MIN));
+        assertThat(solution.statistics().get(L2_NORM)).isEqualTo(expected.get(L2_NORM));
+        assertThat(streamed.get(L2_NORM)).isEqualTo(expected.get(L2_NORM));
+        assertThat(streamed.get(MIN)).isEqualTo(expected.get(MIN));
+    }
+
+    @Test
+    void plainSolveHasNoStatistics() {
+        assertThat(new ParabolicEquationSolver().solve(diffusion(), h, tau).statistics() == null).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        var solver = new ParabolicEquationSolver();
+        var withNull = new HashSet<LayerStatistics.Reduction>();
+        withNull.add(null);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> solver.statistics(diffusion(), h, tau, EnumSet.noneOf(LayerStatistics.Reduction.class)));
+        assertThrows(IllegalArgumentException.class, () -> solver.statistics(diffusion(), h, tau, null));
+        assertThrows(IllegalArgumentException.class, () -> solver.statistics(diffusion(), h, tau, withNull));
+        assertThrows(IllegalArgumentException.class, () -> LayerStatistics.of(null, ALL));
+
+        var statistics = solver.statistics(diffusion(), h, tau, EnumSet.of(MAX));
+        assertThrows(IllegalArgumentException.class, () -> statistics.get(MIN));
+        assertThrows(IllegalArgumentException.class, () -> statistics.get(MAX, statistics.size()));
+    }
+
+    private static ParabolicEquation diffusion() {
+        return NonlinearEquations.parabolic(0.1, new NeumannBorderCondition(), x -> sin(PI * x / 2));
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.border.PeriodicBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MixedPrecisionTest {
+
+    private final double h = 0.01;
+    private final double tau = 0.001;
+
+    @Test
+    void doublePrecisionIsDefaultSolve() {
+        var solver = new ParabolicEquationSolver();
+        var expected = solver.solve(equation(), h, tau);
+
+        var actual = solver.solveWithPrecision(equation(), h, tau, ComputePrecision.DOUBLE);
+
+        for (int j = 0; j <= expected.area().tn(); j++) {
+            assertThat(actual.matrix().getRow(j)).isEqualTo(expected.matrix().getRow(j));
+        }
+    }
+
+    @Test
+    void floatSolveIsCloseToDoubleSolve() {
+        var diagnostics = new ParabolicEquationSolver().diagnose(equation(), h, tau, ComputePrecision.FLOAT);
+
+        assertThat(diagnostics.precision()).isEqualTo(ComputePrecision.FLOAT);
+        assertThat(diagnostics.maxError()).isGreaterThan(0.0);
+        assertThat(diagnostics.relativeError()).isLessThan(1e-4);
+        assertThat(diagnostics.rmsError()).isLessThanOrEqualTo(diagnostics.maxError());
+        assertThat(diagnostics.worstStep()).isGreaterThan(0);
+    }
+
+    @Test
+    void refinementRecoversAccuracy() {
+        var solver = new ParabolicEquationSolver();
+
+        var single = solver.diagnose(equation(), h, tau, ComputePrecision.FLOAT);
+        var refined = solver.diagnose(equation(), h, tau, ComputePrecision.FLOAT_REFINED);
+
+        assertThat(refined.relativeError()).isLessThan(1e-9);
+        assertThat(refined.maxError()).isLessThan(single.maxError() / 100);
+    }
+
+    @Test
+    void refinedSolveHonorsBorderConditions() {
+        var eqn = new ParabolicEquation(0, 1, 0.1, new DirichletBorderCondition(), new NeumannBorderCondition()) {
+            @Override
+            public double gU0(double x) {
+                return 1 - x * x;
+            }
+
+            @Override
+            public double gF(double x, double t, double U) {
+                return 1;
+            }
+        };
+        var solver = new ParabolicEquationSolver(ParabolicEquationSolver.FULLY_IMPLICIT);
+
+        var diagnostics = solver.diagnose(eqn, h, tau, ComputePrecision.FLOAT_REFINED);
+        var solution = solver.solveWithPrecision(eqn, h, tau, ComputePrecision.FLOAT_REFINED);
+
+        assertThat(diagnostics.relativeError()).isLessThan(1e-9);
+        var last = solution.matrix().getRow(solution.area().tn());
+        assertThat(last[0]).isEqualTo(0.0);
+        assertThat(Math.abs(last[last.length - 1] - last[last.length - 2])).isLessThan(1e-12);
+    }
+
+    @Test
+    void steadyStateStopsMixedMarch() {
+        var solver = new ParabolicEquationSolver(0.5, new SteadyStateCriterion(0.1, 1));
+        var expected = solver.solve(equation(1), h, 0.01);
+
+        var actual = solver.solveWithPrecision(equation(1), h, 0.01, ComputePrecision.FLOAT_REFINED);
+
+        assertThat(expected.isSteadyState()).isTrue();
+        assertThat(actual.isSteadyState()).isTrue();
+        assertThat(actual.area().tn()).isEqualTo(expected.area().tn());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        var solver = new ParabolicEquationSolver();
+        var periodic = new ParabolicEquation(0, 1, 0.1, new PeriodicBorderCondition(), new PeriodicBorderCondition());
+
+        assertThrows(IllegalArgumentException.class, () -> solver.solveWithPrecision(equation(), h, tau, null));
+        assertThrows(IllegalArgumentException.class, () -> solver.diagnose(equation(), h, tau, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> solver.solveWithPrecision(periodic, h, tau, ComputePrecision.FLOAT));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrecisionDiagnostics(ComputePrecision.FLOAT, Double.NaN, 0, 0, 0, 0, 0, 0));
+    }
+
+    private static ParabolicEquation equation() {
+        return equation(0.1);
+    }
+
+    private static ParabolicEquation equation(double t2) {
+        return NonlinearEquations.parabolic(t2, x -> sin(PI * x));
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.BorderCondition;
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Nonlinear test equations on [0, 1] with K = 1 + U^2, shared by the solver tests; the tests choose the end time
+ * and the initial condition.
+ */
+final class NonlinearEquations {
+
+    private NonlinearEquations() {
+    }
+
+    /**
+     * Parabolic equation with homogeneous Dirichlet conditions on both borders.
+     */
+    static ParabolicEquation parabolic(double t2, DoubleUnaryOperator u0) {
+        return parabolic(t2, new DirichletBorderCondition(), u0);
+    }
+
+    /**
+     * Parabolic equation with a homogeneous Dirichlet condition on the left border.
+     */
+    static ParabolicEquation parabolic(double t2, BorderCondition right, DoubleUnaryOperator u0) {
+        return new ParabolicEquation(0, 1, t2, new DirichletBorderCondition(), right) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return 1 + U * U;
+            }
+
+            @Override
+            public double gU0(double x) {
+                return u0.applyAsDouble(x);
+            }
+        };
+    }
+
+    /**
+     * Hyperbolic equation with homogeneous Dirichlet conditions on both borders.
+     */
+    static HyperbolicEquation hyperbolic(double t2, DoubleUnaryOperator u0) {
+        return new HyperbolicEquation(0, 1, t2, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return 1 + U * U;
+            }
+
+            @Override
+            public double gU0(double x) {
+                return u0.applyAsDouble(x);
+            }
+        };
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.BorderCondition;
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.border.PeriodicBorderCondition;
+import io.github.andreipunko.math.pde.border.RobinBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParabolicEnsembleSolverTest {
+
+    private final double h = 0.02;
+    private final double tau = 0.005;
+
+    @Test
+    void membersMatchIndividualSolves() {
+        var members = new ArrayList<ParabolicEquation>();
+        for (int m = 0; m < 5; m++) {
+            members.add(new Member(1 + m, 0.5 * m, dirichlet(0.1 * m), robin(2, 0.2 * m)));
+        }
+
+        for (var sigma : new double[]{0.5, 1}) {
+            var solutions = new ParabolicEnsembleSolver(sigma).solve(members, h, tau);
+
+            assertThat(solutions.size()).isEqualTo(5);
+            for (int m = 0; m < members.size(); m++) {
+                var expected = new ParabolicEquationSolver(sigma).solve(members.get(m), h, tau);
+                var actual = solutions.get(m);
+                assertThat(actual.equation()).isSameAs(members.get(m));
+                assertThat(actual.area().tn()).isEqualTo(expected.area().tn());
+                for (int j = 0; j <= expected.area().tn(); j += 20) {
+                    for (int i = 0; i <= expected.area().xn(); i++) {
+                        assertThat(actual.matrix().get(j, i)).isCloseTo(expected.matrix().get(j, i), within(1e-12));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void statisticsMatchMembers() {
+        var members = new ArrayList<ParabolicEquation>();
+        for (int m = 0; m < 7; m++) {
+            members.add(new Member(sin(m), m % 3, neumann(0.1 * m), dirichlet(0)));
+        }
+        var solver = new ParabolicEnsembleSolver();
+
+        var statistics = solver.solveStatistics(members, h, tau);
+        var solutions = solver.solve(members, h, tau);
+
+        assertThat(statistics.members()).isEqualTo(7);
+        var area = statistics.area();
+        for (int j = 0; j <= area.tn(); j += 25) {
+            for (int i = 0; i <= area.xn(); i += 5) {
+                double sum = 0, sq = 0;
+                for (var solution : solutions) {
+                    sum += solution.matrix().get(j, i);
+                }
+                double mean = sum / 7;
+                for (var solution : solutions) {
+                    sq += Math.pow(solution.matrix().get(j, i) - mean, 2);
+                }
+                assertThat(statistics.mean().get(j, i)).isCloseTo(mean, within(1e-12));
+                assertThat(statistics.variance().get(j, i)).isCloseTo(sq / 6, within(1e-12));
+                assertThat(statistics.standardDeviation(j, i)).isCloseTo(Math.sqrt(sq / 6), within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void singleMemberHasZeroVariance() {
+        var statistics = new ParabolicEnsembleSolver()
+                .solveStatistics(List.of(new Member(1, 0, dirichlet(0), dirichlet(0))), h, tau);
+
+        assertThat(statistics.variance().max()).isEqualTo(0.0);
+        assertThat(statistics.mean().get(0, 25)).isCloseTo(1, within(1e-12));
+    }
+
+    @Test
+    void rejectsIncompatibleMembers() {
+        var solver = new ParabolicEnsembleSolver();
+        var member = new Member(1, 0, dirichlet(0), dirichlet(0));
+
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(null, h, tau));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(List.of(), h, tau));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(Arrays.asList(member, null), h, tau));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(List.of(member), 0, tau));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(List.of(member), h, Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> solver.solve(List.of(member, new Member(1, 0, dirichlet(0), neumann(0))), h, tau));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(List.of(member,
+                new ParabolicEquation(0, 2, 1, dirichlet(0), dirichlet(0))), h, tau));
+        var periodic = new ParabolicEquation(0, 1, 1, new PeriodicBorderCondition(), new PeriodicBorderCondition());
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(List.of(periodic), h, tau));
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEnsembleSolver(1.5));
+    }
+
+    private static BorderCondition dirichlet(double value) {
+        return new DirichletBorderCondition() {
+            @Override
+            public double gU(double t) {
+                return value;
+            }
+        };
+    }
+
+    private static BorderCondition neumann(double value) {
+        return new NeumannBorderCondition() {
+            @Override
+            public double gdU_dx(double t) {
+                return value;
+            }
+        };
+    }
+
+    private static BorderCondition robin(double h, double theta) {
+        return new RobinBorderCondition() {
+            @Override
+            public double gH() {
+                return h;
+            }
+
+            @Override
+            public double gTheta(double t) {
+                return theta;
+            }
+        };
+    }
+
+    /**
+     * Diffusion with variable conductivity and drift, the amplitude of the initial profile and a source term.
+     */
+    private static class Member extends ParabolicEquation {
+
+        private final double amplitude;
+        private final double source;
+
+        Member(double amplitude, double source, BorderCondition left, BorderCondition right) {
+            super(0, 1, 0.5, left, right);
+            this.amplitude = amplitude;
+            this.source = source;
+        }
+
+        @Override
+        public double gU0(double x) {
+            return amplitude * sin(PI * x);
+        }
+
+        @Override
+        public double gK(double x, double t, double U) {
+            return 1 + x * (1 + t);
+        }
+
+        @Override
+        public double gV(double x, double t, double U) {
+            return 0.3;
+        }
+
+        @Override
+        public double gL(double x, double t, double U) {
+            return 2 - x;
+        }
+
+        @Override
+        public double gF(double x, double t, double U) {
+            return source * x - 0.1 * U;
+        }
+    }
+}
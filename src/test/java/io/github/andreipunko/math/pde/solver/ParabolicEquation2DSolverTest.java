@@ -0,0 +1,177 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation2D;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.exp;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <pre>
+ * Test for ParabolicEquation2DSolver on heat equation Ut = D*(Uxx + Uyy) in the unit square:
+ * - Dirichlet: U=0 on all edges, U(x,y,0) = sin(PI*x)*sin(PI*y),
+ *   analytic solution U = sin(PI*x)*sin(PI*y)*exp(-2*PI^2*D*t)
+ * - Neumann: dU/dn=0 on all edges, U(x,y,0) = cos(PI*x)*cos(PI*y),
+ *   analytic solution U = cos(PI*x)*cos(PI*y)*exp(-2*PI^2*D*t)
+ * </pre>
+ */
+class ParabolicEquation2DSolverTest {
+
+    private final double D = 0.1;
+    private final double TIME = 0.5;
+    private final double h = 0.02;
+    private final double tau = 0.005;
+
+    @Test
+    void solveWithDirichletConditions() {
+        var eqn = new ParabolicEquation2D(0, 1, 0, 1, TIME,
+                new DirichletBorderCondition(), new DirichletBorderCondition(),
+                new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gK(double x, double y, double t, double U) {
+                return D;
+            }
+
+            @Override
+            public double gU0(double x, double y) {
+                return sin(PI * x) * sin(PI * y);
+            }
+        };
+
+        var solution = new ParabolicEquation2DSolver().solve(eqn, h, h, tau);
+
+        var decay = exp(-2 * PI * PI * D * TIME);
+        assertThat(maxError(solution, (x, y) -> sin(PI * x) * sin(PI * y) * decay)).isLessThan(1e-3);
+    }
+
+    @Test
+    void solveWithNeumannConditions() {
+        var eqn = new ParabolicEquation2D(0, 1, 0, 1, TIME,
+                new NeumannBorderCondition(), new NeumannBorderCondition(),
+                new NeumannBorderCondition(), new NeumannBorderCondition()) {
+            @Override
+            public double gK(double x, double y, double t, double U) {
+                return D;
+            }
+
+            @Override
+            public double gU0(double x, double y) {
+                return cos(PI * x) * cos(PI * y);
+            }
+        };
+
+        var solution = new ParabolicEquation2DSolver().solve(eqn, h, h, tau);
+
+        var decay = exp(-2 * PI * PI * D * TIME);
+        // First-order approximation of Neumann condition limits accuracy near the edges
+        assertThat(maxError(solution, (x, y) -> cos(PI * x) * cos(PI * y) * decay)).isLessThan(3e-2);
+    }
+
+    @Test
+    void solveWithSourceAndNonZeroBorders() {
+        // U = 1 + x^2 + y^2 is a steady solution of Ut = Uxx + Uyy - 4; its normal derivative is constant along
+        // each edge: 0 at x=0 and y=0, 2 at x=1 and y=1 (border conditions use the derivative along the inward
+        // normal on the far edges, so -2 is prescribed there)
+        var eqn = new ParabolicEquation2D(0, 1, 0, 1, 0.1,
+                new NeumannBorderCondition(), new NeumannBorderCondition() {
+            @Override
+            public double gdU_dx(double t) {
+                return -2;
+            }
+        }, new NeumannBorderCondition(), new NeumannBorderCondition() {
+            @Override
+            public double gdU_dx(double t) {
+                return -2;
+            }
+        }) {
+            @Override
+            public double gU0(double x, double y) {
+                return 1 + x * x + y * y;
+            }
+
+            @Override
+            public double gF(double x, double y, double t, double U) {
+                return -4;
+            }
+        };
+
+        var solution = new ParabolicEquation2DSolver().solve(eqn, 0.05, 0.05, 0.01);
+
+        assertThat(maxError(solution, (x, y) -> 1 + x * x + y * y)).isLessThan(0.1);
+    }
+
+    @Test
+    void solveKeepsOnlyTimeWindow() {
+        var eqn = new ParabolicEquation2D(0, 1, 0, 1, 0.1,
+                new DirichletBorderCondition(), new DirichletBorderCondition(),
+                new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gU0(double x, double y) {
+                return sin(PI * x) * sin(PI * y);
+            }
+        };
+
+        var full = new ParabolicEquation2DSolver().solve(eqn, 0.1, 0.1, 0.01);
+        var windowed = new ParabolicEquation2DSolver(3).solve(eqn, 0.1, 0.1, 0.01);
+
+        assertThat(full.layers().getL()).isEqualTo(11);
+        assertThat(windowed.layers().getL()).isEqualTo(3);
+        assertThat(windowed.firstLayer()).isEqualTo(8);
+        for (int it = 8; it <= 10; it++) {
+            for (int i = 0; i <= 10; i++) {
+                assertThat(windowed.gU(it).getRow(i)).isEqualTo(full.gU(it).getRow(i));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> windowed.gU(7));
+        assertThrows(IllegalArgumentException.class, () -> windowed.gU(11));
+        assertThat(windowed.gU(0.1).get(5, 5)).isEqualTo(full.gU(10).get(5, 5));
+    }
+
+    @Test
+    void solveRejectsInvalidArguments() {
+        var solver = new ParabolicEquation2DSolver();
+        var eqn = new ParabolicEquation2D(0, 1, 0, 1, 1,
+                new DirichletBorderCondition(), new DirichletBorderCondition(),
+                new DirichletBorderCondition(), new DirichletBorderCondition());
+
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquation2DSolver(0));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(null, 0.1, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, 0, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, 0.1, Double.NaN, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, 0.1, 0.1, -1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, 0.6, 0.1, 0.1));
+    }
+
+    @Test
+    void equationRejectsInvalidDomain() {
+        var bc = new DirichletBorderCondition();
+
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquation2D(0, 1, 0, 1, 1, bc, bc, bc, null));
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquation2D(1, 1, 0, 1, 1, bc, bc, bc, bc));
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquation2D(0, 1, 1, 0, 1, bc, bc, bc, bc));
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquation2D(0, 1, 0, 1, 0, bc, bc, bc, bc));
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquation2D(0, Double.NaN, 0, 1, 1, bc, bc, bc, bc));
+    }
+
+    private static double maxError(Solution2D solution, Analytic analytic) {
+        var area = solution.area();
+        var u = solution.gU(area.tn());
+        var result = 0d;
+        for (int i = 0; i <= area.xn(); i++) {
+            for (int j = 0; j <= area.yn(); j++) {
+                result = Math.max(result, Math.abs(u.get(i, j) - analytic.u(area.xx(i), area.yy(j))));
+            }
+        }
+        return result;
+    }
+
+    private interface Analytic {
+        double u(double x, double y);
+    }
+}
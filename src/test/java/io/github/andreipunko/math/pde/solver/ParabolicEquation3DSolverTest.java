@@ -0,0 +1,156 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation3D;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.exp;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <pre>
+ * Test for ParabolicEquation3DSolver on heat equation Ut = D*(Uxx + Uyy + Uzz) in the unit cube:
+ * - Dirichlet: U=0 on all faces, U(x,y,z,0) = sin(PI*x)*sin(PI*y)*sin(PI*z),
+ *   analytic solution U = sin(PI*x)*sin(PI*y)*sin(PI*z)*exp(-3*PI^2*D*t)
+ * - Neumann: steady solution U = 1 + x^2 + y^2 + z^2 of Ut = Uxx + Uyy + Uzz - 6
+ * </pre>
+ */
+class ParabolicEquation3DSolverTest {
+
+    private final double D = 0.1;
+    private final double TIME = 0.2;
+    private final double h = 0.05;
+    private final double tau = 0.005;
+
+    @Test
+    void solveWithDirichletConditions() {
+        var bc = new DirichletBorderCondition();
+        var eqn = new ParabolicEquation3D(0, 1, 0, 1, 0, 1, TIME, bc, bc, bc, bc, bc, bc) {
+            @Override
+            public double gK(double x, double y, double z, double t, double U) {
+                return D;
+            }
+
+            @Override
+            public double gU0(double x, double y, double z) {
+                return sin(PI * x) * sin(PI * y) * sin(PI * z);
+            }
+        };
+
+        var solution = new ParabolicEquation3DSolver().solve(eqn, h, h, h, tau);
+
+        var decay = exp(-3 * PI * PI * D * TIME);
+        assertThat(maxError(solution, (x, y, z) -> sin(PI * x) * sin(PI * y) * sin(PI * z) * decay))
+                .isLessThan(2e-3);
+    }
+
+    @Test
+    void solveWithSourceAndNonZeroBorders() {
+        // Normal derivative of U = 1 + x^2 + y^2 + z^2 is 0 on the near faces and 2 on the far ones, which is
+        // prescribed as -2 (derivative along the inward normal)
+        var near = new NeumannBorderCondition();
+        var far = new NeumannBorderCondition() {
+            @Override
+            public double gdU_dx(double t) {
+                return -2;
+            }
+        };
+        var eqn = new ParabolicEquation3D(0, 1, 0, 1, 0, 1, 0.1, near, far, near, far, near, far) {
+            @Override
+            public double gU0(double x, double y, double z) {
+                return 1 + x * x + y * y + z * z;
+            }
+
+            @Override
+            public double gF(double x, double y, double z, double t, double U) {
+                return -6;
+            }
+        };
+
+        var solution = new ParabolicEquation3DSolver().solve(eqn, 0.1, 0.1, 0.1, 0.01);
+
+        assertThat(maxError(solution, (x, y, z) -> 1 + x * x + y * y + z * z)).isLessThan(0.15);
+    }
+
+    @Test
+    void solveKeepsOnlyTimeWindow() {
+        var bc = new DirichletBorderCondition();
+        var eqn = new ParabolicEquation3D(0, 1, 0, 1, 0, 1, 0.1, bc, bc, bc, bc, bc, bc) {
+            @Override
+            public double gU0(double x, double y, double z) {
+                return sin(PI * x) * sin(PI * y) * sin(PI * z);
+            }
+        };
+
+        var last = new ParabolicEquation3DSolver().solve(eqn, 0.1, 0.1, 0.1, 0.01);
+        var windowed = new ParabolicEquation3DSolver(3).solve(eqn, 0.1, 0.1, 0.1, 0.01);
+
+        assertThat(last.layers()).hasSize(1);
+        assertThat(last.firstLayer()).isEqualTo(10);
+        assertThat(windowed.layers()).hasSize(3);
+        assertThat(windowed.firstLayer()).isEqualTo(8);
+        for (int i = 0; i <= 10; i++) {
+            for (int j = 0; j <= 10; j++) {
+                for (int k = 0; k <= 10; k++) {
+                    assertThat(windowed.gU(10).get(i, j, k)).isEqualTo(last.gU(10).get(i, j, k));
+                }
+            }
+        }
+        assertThat(windowed.gU(8).get(5, 5, 5)).isGreaterThan(windowed.gU(10).get(5, 5, 5));
+        assertThrows(IllegalArgumentException.class, () -> windowed.gU(7));
+        assertThrows(IllegalArgumentException.class, () -> last.gU(9));
+        assertThat(last.gU(0.1).get(5, 5, 5)).isEqualTo(last.gU(10).get(5, 5, 5));
+    }
+
+    @Test
+    void solveRejectsInvalidArguments() {
+        var solver = new ParabolicEquation3DSolver();
+        var bc = new DirichletBorderCondition();
+        var eqn = new ParabolicEquation3D(0, 1, 0, 1, 0, 1, 1, bc, bc, bc, bc, bc, bc);
+
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquation3DSolver(0));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(null, 0.1, 0.1, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, 0, 0.1, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, 0.1, Double.NaN, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, 0.1, 0.1, -1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, 0.1, 0.1, 0.1, 0));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, 0.1, 0.1, 0.6, 0.1));
+    }
+
+    @Test
+    void equationRejectsInvalidDomain() {
+        var bc = new DirichletBorderCondition();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParabolicEquation3D(0, 1, 0, 1, 0, 1, 1, bc, bc, bc, bc, bc, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParabolicEquation3D(0, 1, 0, 1, 1, 1, 1, bc, bc, bc, bc, bc, bc));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParabolicEquation3D(0, 1, 0, 1, 0, 1, -1, bc, bc, bc, bc, bc, bc));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParabolicEquation3D(0, 1, 0, 1, 0, Double.POSITIVE_INFINITY, 1, bc, bc, bc, bc, bc, bc));
+    }
+
+    private static double maxError(Solution3D solution, Analytic analytic) {
+        var area = solution.area();
+        var u = solution.gU(area.tn());
+        var result = 0d;
+        for (int i = 0; i <= area.xn(); i++) {
+            for (int j = 0; j <= area.yn(); j++) {
+                for (int k = 0; k <= area.zn(); k++) {
+                    result = Math.max(result,
+                            Math.abs(u.get(i, j, k) - analytic.u(area.xx(i), area.yy(j), area.zz(k))));
+                }
+            }
+        }
+        return result;
+    }
+
+    private interface Analytic {
+        double u(double x, double y, double z);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.PeriodicBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.exp;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * <pre>
+ * Test for ParabolicEquationSolver with periodic border conditions.
+ *
+ * Solution of advection-diffusion equation on a ring of unit length: Ut = D*Uxx + V*Ux
+ * - initial profile U(x,0) = 1 + sin(2*PI*x)
+ * - analytic solution U = 1 + exp(-4*PI^2*D*t)*sin(2*PI*(x + V*t)): the wave travels around the ring and decays
+ * </pre>
+ */
+class ParabolicEquationSolverPPTest {
+
+    private final double D = 0.01;
+    private final double V = 0.5;
+    private final double TIME = 1;
+
+    private final double h = 1 / 128.;
+    private final double tau = 1 / 512.;
+
+    @Test
+    void solve() {
+        var periodic = new PeriodicBorderCondition();
+        var eqn = new ParabolicEquation(0, 1, TIME, periodic, periodic) {
+            @Override
+            public double gU0(double x) {
+                return 1 + sin(2 * PI * x);
+            }
+
+            @Override
+            public double gK(double x, double t, double U) {
+                return D;
+            }
+
+            @Override
+            public double gV(double x, double t, double U) {
+                return V;
+            }
+        };
+
+        var solution = new ParabolicEquationSolver().solve(eqn, h, tau);
+
+        var area = solution.area();
+        var decay = exp(-4 * PI * PI * D * TIME);
+        for (int i = 0; i <= area.xn(); i++) {
+            var x = area.xx(i);
+            assertThat(solution.matrix().get(area.tn(), i))
+                    .isCloseTo(1 + decay * sin(2 * PI * (x + V * TIME)), within(2e-3));
+        }
+        assertThat(solution.matrix().get(area.tn(), area.xn())).isEqualTo(solution.matrix().get(area.tn(), 0));
+    }
+
+    @Test
+    void solveConservesMass() {
+        var periodic = new PeriodicBorderCondition();
+        var eqn = new ParabolicEquation(0, 1, TIME, periodic, periodic) {
+            @Override
+            public double gU0(double x) {
+                return x < 0.5 ? 1 : 0;
+            }
+        };
+
+        var solution = new ParabolicEquationSolver().solve(eqn, h, tau);
+
+        var area = solution.area();
+        for (int j = 0; j <= area.tn(); j += 64) {
+            double mass = 0;
+            for (int i = 0; i < area.xn(); i++) {
+                mass += solution.matrix().get(j, i) * h;
+            }
+            assertThat(mass).isCloseTo(0.5, within(1e-10));
+        }
+    }
+}
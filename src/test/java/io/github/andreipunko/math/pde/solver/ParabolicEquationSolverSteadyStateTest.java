@@ -0,0 +1,86 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <pre>
+ * Test for steady state detection in ParabolicEquationSolver on heat equation Ut = Uxx:
+ * U(x,0) = 0, U(0,t) = 1, U(1,t) = 0; steady state U = 1 - x is reached at t ~ 1 while t2 = 100
+ * </pre>
+ */
+class ParabolicEquationSolverSteadyStateTest {
+
+    private final double h = 0.05;
+    private final double tau = 0.01;
+
+    @Test
+    void solveStopsAtSteadyState() {
+        var eqn = buildEquation(100);
+
+        var solution = new ParabolicEquationSolver(ParabolicEquationSolver.CRANK_NICOLSON,
+                new SteadyStateCriterion(1e-6, 10)).solve(eqn, h, tau);
+
+        assertThat(solution.isSteadyState()).isTrue();
+        assertThat(solution.steadyStateTime()).isBetween(1.0, 5.0);
+        var last = solution.area().tn();
+        assertThat(last % 10).isEqualTo(0);
+        assertThat(solution.matrix().getM()).isEqualTo(last + 1);
+        assertThat(solution.area().tRight()).isEqualTo(solution.steadyStateTime());
+        assertThat(solution.area().tx(last)).isCloseTo(last * tau, within(1e-9));
+        for (int i = 0; i <= solution.area().xn(); i++) {
+            assertThat(solution.matrix().get(last, i)).isCloseTo(1 - solution.area().xx(i), within(1e-5));
+        }
+    }
+
+    @Test
+    void solveKeepsLayersOfFullRun() {
+        var eqn = buildEquation(100);
+
+        var full = new ParabolicEquationSolver().solve(eqn, h, tau);
+        var stopped = new ParabolicEquationSolver(ParabolicEquationSolver.CRANK_NICOLSON,
+                new SteadyStateCriterion(1e-4)).solve(eqn, h, tau);
+
+        assertThat(full.isSteadyState()).isFalse();
+        assertThat(full.steadyStateTime()).isNaN();
+        assertThat(full.area().tn()).isEqualTo(10000);
+        assertThat(stopped.area().tn()).isLessThan(full.area().tn());
+        for (int j = 0; j <= stopped.area().tn(); j++) {
+            assertThat(stopped.matrix().getRow(j)).isEqualTo(full.matrix().getRow(j));
+        }
+    }
+
+    @Test
+    void solveWithoutSteadyStateMarchesToEnd() {
+        var eqn = buildEquation(0.5);
+
+        var solution = new ParabolicEquationSolver(ParabolicEquationSolver.CRANK_NICOLSON,
+                new SteadyStateCriterion(1e-6)).solve(eqn, h, tau);
+
+        assertThat(solution.isSteadyState()).isFalse();
+        assertThat(solution.area().tn()).isEqualTo(50);
+    }
+
+    @Test
+    void criterionRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SteadyStateCriterion(0));
+        assertThrows(IllegalArgumentException.class, () -> new SteadyStateCriterion(Double.NaN, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SteadyStateCriterion(1e-6, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquationSolver(0.5, null));
+        assertThat(new ParabolicEquationSolver().getSteadyStateCriterion()).isNull();
+    }
+
+    private ParabolicEquation buildEquation(double t2) {
+        return new ParabolicEquation(0, 1, t2, new DirichletBorderCondition() {
+            @Override
+            public double gU(double t) {
+                return 1;
+            }
+        }, new DirichletBorderCondition());
+    }
+}
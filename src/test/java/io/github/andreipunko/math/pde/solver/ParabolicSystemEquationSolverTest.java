@@ -0,0 +1,151 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicSystemEquation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.exp;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <pre>
+ * Test for ParabolicSystemEquationSolver:
+ * - coupled diffusion U_t = K*U_xx with K = [[1, 0.5], [0.5, 1]], U = 0 at both ends, U(x,0) = (sin(PI*x), 0);
+ *   eigenvectors (1,1) and (1,-1) of K decay independently with rates 1.5*PI^2 and 0.5*PI^2:
+ *   U = sin(PI*x)/2 * [(1,1)*exp(-1.5*PI^2*t) + (1,-1)*exp(-0.5*PI^2*t)]
+ * - a single-component system gives the same result as ParabolicEquationSolver
+ * </pre>
+ */
+class ParabolicSystemEquationSolverTest {
+
+    private final double TIME = 0.1;
+    private final double h = 0.01;
+    private final double tau = 0.001;
+
+    @Test
+    void solveCoupledDiffusion() {
+        var bc = new DirichletBorderCondition();
+        var eqn = new ParabolicSystemEquation(0, 1, TIME, List.of(bc, bc), List.of(bc, bc)) {
+            @Override
+            public double gU0(double x, int c) {
+                return c == 0 ? sin(PI * x) : 0;
+            }
+
+            @Override
+            public void gK(double x, double t, double[] U, double[] K) {
+                K[0] = 1;
+                K[1] = 0.5;
+                K[2] = 0.5;
+                K[3] = 1;
+            }
+        };
+
+        var solution = new ParabolicSystemEquationSolver().solve(eqn, h, tau);
+
+        var area = solution.area();
+        var fast = exp(-1.5 * PI * PI * TIME);
+        var slow = exp(-0.5 * PI * PI * TIME);
+        for (int i = 0; i <= area.xn(); i++) {
+            var s = sin(PI * area.xx(i)) / 2;
+            assertThat(solution.gU(0, area.tn(), i)).isCloseTo(s * (fast + slow), within(1e-4));
+            assertThat(solution.gU(1, area.tn(), i)).isCloseTo(s * (fast - slow), within(1e-4));
+        }
+    }
+
+    @Test
+    void singleComponentMatchesScalarSolver() {
+        var left = new DirichletBorderCondition() {
+            @Override
+            public double gU(double t) {
+                return 1;
+            }
+        };
+        var right = new NeumannBorderCondition();
+        var system = new ParabolicSystemEquation(0, 1, TIME, List.of(left), List.of(right)) {
+            @Override
+            public double gU0(double x, int c) {
+                return x * x;
+            }
+
+            @Override
+            public void gK(double x, double t, double[] U, double[] K) {
+                K[0] = 1 + U[0] * U[0];
+            }
+
+            @Override
+            public void gV(double x, double t, double[] U, double[] V) {
+                V[0] = 0.3;
+            }
+
+            @Override
+            public void gL(double x, double t, double[] U, double[] L) {
+                L[0] = 2 + x;
+            }
+
+            @Override
+            public void gF(double x, double t, double[] U, double[] F) {
+                F[0] = sin(x + t);
+            }
+        };
+        var scalar = new ParabolicEquation(0, 1, TIME, left, right) {
+            @Override
+            public double gU0(double x) {
+                return x * x;
+            }
+
+            @Override
+            public double gK(double x, double t, double U) {
+                return 1 + U * U;
+            }
+
+            @Override
+            public double gV(double x, double t, double U) {
+                return 0.3;
+            }
+
+            @Override
+            public double gL(double x, double t, double U) {
+                return 2 + x;
+            }
+
+            @Override
+            public double gF(double x, double t, double U) {
+                return sin(x + t);
+            }
+        };
+
+        var solution = new ParabolicSystemEquationSolver(ParabolicEquationSolver.FULLY_IMPLICIT).solve(system, h, tau);
+        var expected = new ParabolicEquationSolver(ParabolicEquationSolver.FULLY_IMPLICIT).solve(scalar, h, tau);
+
+        var area = solution.area();
+        for (int j = 0; j <= area.tn(); j++) {
+            for (int i = 0; i <= area.xn(); i++) {
+                assertThat(solution.gU(0, j, i)).isCloseTo(expected.matrix().get(j, i), within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void invalidArguments() {
+        var bc = new DirichletBorderCondition();
+        var eqn = new ParabolicSystemEquation(0, 1, TIME, List.of(bc), List.of(bc));
+        var solver = new ParabolicSystemEquationSolver();
+
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicSystemEquationSolver(1.5));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(null, h, tau));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, 0, tau));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(eqn, h, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () ->
+                new ParabolicSystemEquation(0, 1, TIME, List.of(bc, bc), List.of(bc)));
+        assertThrows(IllegalArgumentException.class, () ->
+                new ParabolicSystemEquation(0, 1, TIME, List.of(), List.of()));
+    }
+}
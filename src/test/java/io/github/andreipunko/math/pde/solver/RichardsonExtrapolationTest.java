@@ -0,0 +1,96 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.pde.solver.RichardsonExtrapolation.TimeRefinement;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.exp;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <pre>
+ * Richardson extrapolation for diffusion equation Ut = Uxx on [0,1] with U=0 on both borders
+ * and initial profile sin(PI*x); analytic solution: U(x,t) = sin(PI*x)*exp(-PI^2*t)
+ * </pre>
+ */
+class RichardsonExtrapolationTest {
+
+    private final double TIME = 0.2;
+    private final double h = 0.05;
+    private final double tau = 0.01;
+
+    @Test
+    void solve() {
+        var equation = buildParabolicEquation();
+        var solver = new ParabolicEquationSolver();
+
+        var coarse = solver.solve(equation, h, tau);
+        var result = new RichardsonExtrapolation<>(solver, TimeRefinement.HALF).solve(equation, h, tau);
+
+        var coarseError = maxError(coarse);
+        var extrapolatedError = maxError(result.solution());
+        assertThat(result.solution().area().xn()).isEqualTo(coarse.area().xn());
+        assertThat(result.solution().area().tn()).isEqualTo(coarse.area().tn());
+        assertThat(extrapolatedError).isLessThan(coarseError / 20);
+        // Error estimate of the fine solution: about a quarter of the coarse error
+        assertThat(result.errorEstimate()).isBetween(coarseError / 8, coarseError / 2);
+    }
+
+    @Test
+    void solveWithCustomExecutor() {
+        var equation = buildParabolicEquation();
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var result = new RichardsonExtrapolation<>(new ParabolicEquationSolver(), TimeRefinement.QUARTER, executor)
+                    .solve(equation, h, tau);
+
+            assertThat(result.solution().matrix().getM()).isEqualTo(21);
+            assertThat(maxError(result.solution())).isLessThan(1e-4);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void solvePropagatesSolverException() {
+        var extrapolation = new RichardsonExtrapolation<>(new ParabolicEquationSolver(), TimeRefinement.HALF);
+
+        assertThrows(IllegalArgumentException.class, () -> extrapolation.solve(buildParabolicEquation(), -h, tau));
+    }
+
+    @Test
+    void constructorRejectsNullArguments() {
+        var solver = new ParabolicEquationSolver();
+
+        assertThrows(IllegalArgumentException.class, () -> new RichardsonExtrapolation<>(null, TimeRefinement.HALF));
+        assertThrows(IllegalArgumentException.class, () -> new RichardsonExtrapolation<>(solver, null));
+        assertThrows(IllegalArgumentException.class, () -> new RichardsonExtrapolation<>(solver, TimeRefinement.HALF, null));
+    }
+
+    private double maxError(Solution<ParabolicEquation> solution) {
+        var area = solution.area();
+        var result = 0d;
+        for (int j = 0; j <= area.tn(); j++) {
+            for (int i = 0; i <= area.xn(); i++) {
+                var analytic = sin(PI * area.xx(i)) * exp(-PI * PI * area.tx(j));
+                result = Math.max(result, Math.abs(solution.matrix().get(j, i) - analytic));
+            }
+        }
+        return result;
+    }
+
+    private ParabolicEquation buildParabolicEquation() {
+        return new ParabolicEquation(0, 1, TIME, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+    }
+}
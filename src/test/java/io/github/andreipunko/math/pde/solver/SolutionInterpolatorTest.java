@@ -0,0 +1,200 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.matrix.Matrix2D;
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import io.github.andreipunko.math.space.Area;
+import io.github.andreipunko.math.space.Interval;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.function.DoubleBinaryOperator;
+
+import static io.github.andreipunko.math.pde.solver.SolutionInterpolator.Method.BICUBIC;
+import static io.github.andreipunko.math.pde.solver.SolutionInterpolator.Method.BILINEAR;
+import static io.github.andreipunko.math.pde.solver.SolutionInterpolator.Method.MONOTONE_CUBIC;
+import static java.lang.Math.PI;
+import static java.lang.Math.exp;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SolutionInterpolatorTest {
+
+    @Test
+    void nodeValuesAreKept() {
+        var solution = solution(40, 50, (x, t) -> sin(PI * x) * exp(-t));
+
+        for (var method : SolutionInterpolator.Method.values()) {
+            var interpolator = new SolutionInterpolator(solution, method);
+            for (int j = 0; j <= 50; j += 7) {
+                for (int i = 0; i <= 40; i += 3) {
+                    assertThat(Math.abs(interpolator.value(solution.area().xx(i), solution.area().tx(j))
+                            - solution.matrix().get(j, i))).isLessThan(1e-14);
+                }
+            }
+        }
+    }
+
+    @Test
+    void bilinearIsExactForBilinearFunction() {
+        DoubleBinaryOperator f = (x, t) -> 1 + 2 * x - 3 * t + 4 * x * t;
+        var interpolator = new SolutionInterpolator(solution(10, 10, f), BILINEAR);
+
+        assertThat(Math.abs(interpolator.value(0.123, 0.789) - f.applyAsDouble(0.123, 0.789))).isLessThan(1e-14);
+        assertThat(Math.abs(interpolator.value(1, 1) - f.applyAsDouble(1, 1))).isLessThan(1e-14);
+    }
+
+    @Test
+    void bicubicIsExactForBiquadraticFunction() {
+        // Central and second-order one-sided differences are exact for quadratics
+        DoubleBinaryOperator f = (x, t) -> (1 + x - 2 * x * x) * (2 - t + 3 * t * t);
+        var interpolator = new SolutionInterpolator(solution(20, 20, f), BICUBIC);
+
+        for (double x = 0.001; x < 1; x += 0.037) {
+            for (double t = 0.002; t < 1; t += 0.041) {
+                assertThat(Math.abs(interpolator.value(x, t) - f.applyAsDouble(x, t))).isLessThan(1e-12);
+            }
+        }
+    }
+
+    @Test
+    void cubicMethodsAreMoreAccurateThanBilinear() {
+        DoubleBinaryOperator f = (x, t) -> sin(PI * x) * exp(-2 * t);
+        var solution = solution(20, 20, f);
+        var random = new Random(1);
+        var x = new double[10_000];
+        var t = new double[10_000];
+        for (int k = 0; k < x.length; k++) {
+            x[k] = random.nextDouble();
+            t[k] = random.nextDouble();
+        }
+
+        double bilinear = maxError(new SolutionInterpolator(solution, BILINEAR), f, x, t),
+                bicubic = maxError(new SolutionInterpolator(solution, BICUBIC), f, x, t),
+                monotone = maxError(new SolutionInterpolator(solution, MONOTONE_CUBIC), f, x, t);
+
+        assertThat(bilinear).isLessThan(1e-2);
+        assertThat(bicubic).isLessThan(bilinear / 5);
+        assertThat(monotone).isLessThan(bilinear);
+    }
+
+    @Test
+    void monotoneCubicDoesNotOvershootFront() {
+        // Step between x = 0.45 and x = 0.5 moving in t
+        var solution = solution(20, 20, (x, t) -> x < 0.475 + 0.1 * t ? 0 : 1);
+        var monotone = new SolutionInterpolator(solution, MONOTONE_CUBIC);
+        var bicubic = new SolutionInterpolator(solution, BICUBIC);
+
+        double bicubicMin = 0, bicubicMax = 1;
+        for (double x = 0; x <= 1; x += 0.001) {
+            // On a time layer the monotone cubic stays within the data
+            double value = monotone.value(x, 0.5);
+            assertThat(value).isGreaterThanOrEqualTo(0.0);
+            assertThat(value).isLessThanOrEqualTo(1.0);
+            bicubicMin = Math.min(bicubicMin, bicubic.value(x, 0.5));
+            bicubicMax = Math.max(bicubicMax, bicubic.value(x, 0.5));
+        }
+        assertThat(bicubicMin < 0 || bicubicMax > 1).isTrue();
+    }
+
+    @Test
+    void parallelBatchMatchesPointQueries() throws Exception {
+        var eqn = new ParabolicEquation(0, 1, 0.5, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+        var solution = new ParabolicEquationSolver().solve(eqn, 0.01, 0.005);
+        var random = new Random(2);
+        var x = new double[50_000];
+        var t = new double[50_000];
+        for (int k = 0; k < x.length; k++) {
+            x[k] = random.nextDouble();
+            t[k] = 0.5 * random.nextDouble();
+        }
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            for (var method : SolutionInterpolator.Method.values()) {
+                var parallel = new SolutionInterpolator(solution, method, executor, 1_000);
+                var serial = new SolutionInterpolator(solution, method);
+
+                var values = parallel.values(x, t);
+
+                for (int k = 0; k < x.length; k += 97) {
+                    assertThat(values[k]).isEqualTo(serial.value(x[k], t[k]));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        var solution = solution(4, 4, (x, t) -> x);
+        var interpolator = new SolutionInterpolator(solution, BICUBIC);
+
+        assertThrows(IllegalArgumentException.class, () -> new SolutionInterpolator(null, BICUBIC));
+        assertThrows(IllegalArgumentException.class, () -> new SolutionInterpolator(solution, null));
+        assertThrows(IllegalArgumentException.class, () -> new SolutionInterpolator(solution, BICUBIC, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> interpolator.value(1.01, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> interpolator.value(0.5, -0.01));
+        assertThrows(IllegalArgumentException.class, () -> interpolator.value(Double.NaN, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> interpolator.values(new double[2], new double[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> interpolator.values(new double[]{0.5, 2}, new double[]{0.5, 0.5}));
+    }
+
+    @Test
+    void rejectsPointsPastLastGridNode() {
+        // (0.3 - 0) / 0.1 rounds down to n = 2, so the last node in x is 0.2 while the interval ends at 0.3
+        var area = new Area(new Interval(0, 0.3, 0.1), new Interval(0, 1, 4));
+        assertThat(area.xn()).isEqualTo(2);
+        var matrix = new Matrix2D(area.tn() + 1, area.xn() + 1);
+        for (int j = 0; j <= area.tn(); j++) {
+            for (int i = 0; i <= area.xn(); i++) {
+                matrix.set(j, i, area.xx(i) + area.tx(j));
+            }
+        }
+        var eqn = new ParabolicEquation(0, 0.3, 1, new DirichletBorderCondition(), new DirichletBorderCondition());
+        var solution = new Solution<>(eqn, area, matrix);
+
+        for (var method : SolutionInterpolator.Method.values()) {
+            var interpolator = new SolutionInterpolator(solution, method);
+            double xLast = area.xx(area.xn());
+            assertThat(interpolator.value(xLast, 0.5)).isCloseTo(xLast + 0.5, within(1e-12));
+            assertThrows(IllegalArgumentException.class, () -> interpolator.value(0.25, 0.5));
+            assertThrows(IllegalArgumentException.class, () -> interpolator.value(0.3, 0.5));
+            assertThrows(IllegalArgumentException.class,
+                    () -> interpolator.values(new double[]{0.1, 0.25}, new double[]{0.5, 0.5}));
+        }
+    }
+
+    private static double maxError(SolutionInterpolator interpolator, DoubleBinaryOperator f, double[] x, double[] t) {
+        var values = interpolator.values(x, t);
+        double max = 0;
+        for (int k = 0; k < x.length; k++) {
+            max = Math.max(max, Math.abs(values[k] - f.applyAsDouble(x[k], t[k])));
+        }
+        return max;
+    }
+
+    /**
+     * Solution with the values of f on the grid of N x M cells of [0, 1] x [0, 1].
+     */
+    private static Solution<ParabolicEquation> solution(int N, int M, DoubleBinaryOperator f) {
+        var area = new Area(new Interval(0, 1, N), new Interval(0, 1, M));
+        var matrix = new Matrix2D(M + 1, N + 1);
+        for (int j = 0; j <= M; j++) {
+            for (int i = 0; i <= N; i++) {
+                matrix.set(j, i, f.applyAsDouble(area.xx(i), area.tx(j)));
+            }
+        }
+        var eqn = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition(), new DirichletBorderCondition());
+        return new Solution<>(eqn, area, matrix);
+    }
+}
@@ -146,6 +146,39 @@ class SolutionTest {
         assertThrows(IllegalArgumentException.class, () -> solution.gUx(solution.matrix().getN()));
     }
 
+    @Test
+    void gUtView() {
+        var solution = buildSolution();
+
+        var result = solution.gUtView(5.0);
+
+        checkUtAssertions(result.toMatrixXY());
+        assertThat(result.x()).isSameAs(solution.gUtView(0).x());
+        solution.matrix().set(2, 1, -1);
+        assertThat(result.y(1)).isEqualTo(-1);
+    }
+
+    @Test
+    void gUxView() {
+        var solution = buildSolution();
+
+        var result = solution.gUxView(1);
+
+        checkUxAssertions(result.toMatrixXY());
+        assertThat(result.y().stride()).isEqualTo(solution.matrix().getN());
+        assertThat(result.x()).isSameAs(solution.gUxView(10.0).x());
+    }
+
+    @Test
+    void viewsWithWrongParam() {
+        var solution = buildSolution();
+
+        assertThrows(IllegalArgumentException.class, () -> solution.gUtView(-1));
+        assertThrows(IllegalArgumentException.class, () -> solution.gUtView(6.5));
+        assertThrows(IllegalArgumentException.class, () -> solution.gUxView(solution.matrix().getN()));
+        assertThrows(IllegalArgumentException.class, () -> solution.gUxView(9.0));
+    }
+
     /**
      * <pre>
      * Build solution for
@@ -0,0 +1,195 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.border.RobinBorderCondition;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiFunction;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.exp;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <pre>
+ * Test for SpectralEquationSolver on problems with known solutions in [0,1]:
+ * - Ut = D*Uxx, U=0 on borders:      U = sin(PI*x)*exp(-PI^2*D*t) + sin(3*PI*x)*exp(-9*PI^2*D*t)
+ * - Ut = D*Uxx, dU/dx=0 on borders:  U = 1 + cos(2*PI*x)*exp(-4*PI^2*D*t)
+ * - Utt = c^2*Uxx, U=0 on borders:   U = sin(PI*x)*cos(PI*c*t) + sin(2*PI*x)*sin(2*PI*c*t)/(2*PI*c)
+ * - Utt + 2*g*Ut = c^2*Uxx:          U = exp(-g*t)*sin(PI*x)*(cos(w*t) + g/w*sin(w*t)), w^2 = (PI*c)^2 - g^2
+ * </pre>
+ */
+class SpectralEquationSolverTest {
+
+    private final double D = 0.1;
+    private final double C = 2;
+
+    @Test
+    void solveParabolicWithDirichletConditions() {
+        var eqn = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return D;
+            }
+
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x) + sin(3 * PI * x);
+            }
+        };
+
+        var solution = new SpectralEquationSolver<ParabolicEquation>().solve(eqn, 0.01, 0.1);
+
+        assertThat(maxError(solution, (x, t) -> sin(PI * x) * exp(-PI * PI * D * t)
+                + sin(3 * PI * x) * exp(-9 * PI * PI * D * t))).isLessThan(1e-12);
+    }
+
+    @Test
+    void solveParabolicWithNeumannConditions() {
+        var eqn = new ParabolicEquation(0, 1, 1, new NeumannBorderCondition(), new NeumannBorderCondition()) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return D;
+            }
+
+            @Override
+            public double gU0(double x) {
+                return 1 + cos(2 * PI * x);
+            }
+        };
+
+        var solution = new SpectralEquationSolver<ParabolicEquation>().solve(eqn, 1 / 64., 0.1);
+
+        assertThat(maxError(solution, (x, t) -> 1 + cos(2 * PI * x) * exp(-4 * PI * PI * D * t))).isLessThan(1e-12);
+    }
+
+    @Test
+    void solveParabolicMatchesFiniteDifferences() {
+        var eqn = new ParabolicEquation(0, 1, 0.5, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return D;
+            }
+
+            @Override
+            public double gU0(double x) {
+                return x * (1 - x);
+            }
+        };
+
+        var spectral = new SpectralEquationSolver<ParabolicEquation>().solveAt(eqn, 0.01, 0.5);
+        var implicit = new ParabolicEquationSolver().solve(eqn, 0.01, 0.001).gUt(0.5);
+
+        for (int i = 0; i < spectral.getN(); i++) {
+            assertThat(spectral.y(i)).isCloseTo(implicit.y(i), within(1e-4));
+        }
+    }
+
+    @Test
+    void solveWaveEquationWithInitialVelocity() {
+        var eqn = new HyperbolicEquation(0, 1, 2, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return C * C;
+            }
+
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+
+            @Override
+            public double gdU_dt0(double x) {
+                return sin(2 * PI * x);
+            }
+        };
+
+        var solution = new SpectralEquationSolver<HyperbolicEquation>().solve(eqn, 0.01, 0.05);
+
+        assertThat(maxError(solution, (x, t) -> sin(PI * x) * cos(PI * C * t)
+                + sin(2 * PI * x) * sin(2 * PI * C * t) / (2 * PI * C))).isLessThan(1e-12);
+    }
+
+    @Test
+    void solveDampedWaveEquation() {
+        double g = 0.5;
+        var eqn = new HyperbolicEquation(0, 1, 2, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return C * C;
+            }
+
+            @Override
+            public double gL(double x, double t, double U) {
+                return 2 * g;
+            }
+
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+        double w = Math.sqrt(PI * C * PI * C - g * g);
+
+        var u = new SpectralEquationSolver<HyperbolicEquation>().solveAt(eqn, 0.02, 1.5);
+
+        for (int i = 0; i < u.getN(); i++) {
+            var expected = exp(-g * 1.5) * sin(PI * u.x(i)) * (cos(w * 1.5) + g / w * sin(w * 1.5));
+            assertThat(u.y(i)).isCloseTo(expected, within(1e-12));
+        }
+    }
+
+    @Test
+    void solveRejectsUnsupportedEquations() {
+        var solver = new SpectralEquationSolver<ParabolicEquation>();
+        var variableK = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return 1 + x;
+            }
+        };
+        var convection = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gV(double x, double t, double U) {
+                return 1;
+            }
+        };
+        var mixed = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition(), new NeumannBorderCondition());
+        var robin = new ParabolicEquation(0, 1, 1, new RobinBorderCondition(), new RobinBorderCondition());
+        var nonHomogeneous = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition() {
+            @Override
+            public double gU(double t) {
+                return 1;
+            }
+        }, new DirichletBorderCondition());
+
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(variableK, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(convection, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(mixed, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(robin, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(nonHomogeneous, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(null, 0.1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solveAt(mixed, 0.1, 2));
+        assertThrows(IllegalArgumentException.class, () -> solver.solveAt(variableK, 0.6, 0.5));
+    }
+
+    private static double maxError(Solution<? extends Equation> solution, BiFunction<Double, Double, Double> analytic) {
+        var area = solution.area();
+        var result = 0d;
+        for (int j = 0; j <= area.tn(); j++) {
+            for (int i = 0; i <= area.xn(); i++) {
+                result = Math.max(result,
+                        Math.abs(solution.matrix().get(j, i) - analytic.apply(area.xx(i), area.tx(j))));
+            }
+        }
+        return result;
+    }
+}
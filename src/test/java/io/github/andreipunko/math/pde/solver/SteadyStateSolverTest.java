@@ -0,0 +1,108 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.border.NeumannBorderCondition;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.sqrt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <pre>
+ * Test for SteadyStateSolver on boundary value problems in [0,1] with known solutions:
+ * - Uxx + 2 = 0, U(0) = 0, U(1) = 1:               U = 2x - x^2
+ * - ((1 + U)*Ux)x = 0, U(0) = 0, U(1) = 1:         U = sqrt(1 + 3x) - 1
+ * - Uxx - 2 = 0, dU/dx(0) = 0, U(1) = 1:            U = x^2
+ * </pre>
+ */
+class SteadyStateSolverTest {
+
+    private final double h = 0.01;
+
+    @Test
+    void solveLinearProblem() {
+        var eqn = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition(), dirichlet(1)) {
+            @Override
+            public double gF(double x, double t, double U) {
+                return 2;
+            }
+        };
+
+        var u = new SteadyStateSolver().solve(eqn, h);
+
+        assertThat(u.getN()).isEqualTo(101);
+        for (int i = 0; i < u.getN(); i++) {
+            var x = u.x(i);
+            assertThat(u.y(i)).isCloseTo(2 * x - x * x, within(1e-10));
+        }
+    }
+
+    @Test
+    void solveNonlinearProblem() {
+        var eqn = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition(), dirichlet(1)) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return 1 + U;
+            }
+        };
+
+        var u = new SteadyStateSolver().solve(eqn, h);
+
+        for (int i = 0; i < u.getN(); i++) {
+            assertThat(u.y(i)).isCloseTo(sqrt(1 + 3 * u.x(i)) - 1, within(1e-4));
+        }
+    }
+
+    @Test
+    void solveMatchesLongTransientRun() {
+        var eqn = new ParabolicEquation(0, 1, 5, new NeumannBorderCondition(), dirichlet(1)) {
+            @Override
+            public double gF(double x, double t, double U) {
+                return -2;
+            }
+        };
+
+        var steady = new SteadyStateSolver().solve(eqn, 0.05);
+        var marched = new ParabolicEquationSolver().solve(eqn, 0.05, 0.01).gUt(5.0);
+
+        for (int i = 0; i < steady.getN(); i++) {
+            assertThat(steady.y(i)).isCloseTo(marched.y(i), within(1e-6));
+            // First-order approximation of Neumann condition
+            assertThat(steady.y(i)).isCloseTo(steady.x(i) * steady.x(i), within(0.06));
+        }
+    }
+
+    @Test
+    void solveThrowsWhenIterationDoesNotConverge() {
+        var eqn = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition(), dirichlet(1)) {
+            @Override
+            public double gK(double x, double t, double U) {
+                return 1 + U * U;
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> new SteadyStateSolver(1e-12, 2).solve(eqn, h));
+    }
+
+    @Test
+    void solverRejectsInvalidArguments() {
+        var eqn = new ParabolicEquation(0, 1, 1, new DirichletBorderCondition(), new DirichletBorderCondition());
+
+        assertThrows(IllegalArgumentException.class, () -> new SteadyStateSolver(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new SteadyStateSolver(1e-6, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SteadyStateSolver().solve(null, h));
+        assertThrows(IllegalArgumentException.class, () -> new SteadyStateSolver().solve(eqn, -h));
+    }
+
+    private static DirichletBorderCondition dirichlet(double value) {
+        return new DirichletBorderCondition() {
+            @Override
+            public double gU(double t) {
+                return value;
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.andreipunko.math.pde.solver;
+
+import io.github.andreipunko.math.pde.border.DirichletBorderCondition;
+import io.github.andreipunko.math.pde.equation.Equation;
+import io.github.andreipunko.math.pde.equation.HyperbolicEquation;
+import io.github.andreipunko.math.pde.equation.ParabolicEquation;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiFunction;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.exp;
+import static java.lang.Math.sin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <pre>
+ * Tests for the weight (sigma) of parabolic and hyperbolic schemes on problems with known solutions:
+ * - Ut = Uxx,  U(x,0) = sin(PI*x):             U(x,t) = sin(PI*x)*exp(-PI^2*t)
+ * - Utt = Uxx, U(x,0) = sin(PI*x), Ut(x,0) = 0: U(x,t) = sin(PI*x)*cos(PI*t)
+ * with U=0 on both borders of [0,1]
+ * </pre>
+ */
+class WeightedSchemeTest {
+
+    private final double h = 0.005;
+
+    @Test
+    void parabolicDefaultIsCrankNicolson() {
+        var eqn = buildParabolicEquation();
+
+        var byDefault = new ParabolicEquationSolver().solve(eqn, 0.05, 0.01);
+        var crankNicolson = new ParabolicEquationSolver(ParabolicEquationSolver.CRANK_NICOLSON).solve(eqn, 0.05, 0.01);
+
+        assertThat(new ParabolicEquationSolver().getSigma()).isEqualTo(0.5);
+        for (int j = 0; j < byDefault.matrix().getM(); j++) {
+            assertThat(byDefault.matrix().getRow(j)).isEqualTo(crankNicolson.matrix().getRow(j));
+        }
+    }
+
+    @Test
+    void parabolicCrankNicolsonIsSecondOrderInTime() {
+        var solver = new ParabolicEquationSolver(ParabolicEquationSolver.CRANK_NICOLSON);
+
+        var ratio = parabolicError(solver, 0.02) / parabolicError(solver, 0.01);
+
+        assertThat(ratio).isBetween(3.5, 4.5);
+    }
+
+    @Test
+    void parabolicFullyImplicitIsFirstOrderInTime() {
+        var solver = new ParabolicEquationSolver(ParabolicEquationSolver.FULLY_IMPLICIT);
+
+        var ratio = parabolicError(solver, 0.02) / parabolicError(solver, 0.01);
+
+        assertThat(ratio).isBetween(1.8, 2.2);
+        assertThat(parabolicError(solver, 0.01))
+                .isGreaterThan(parabolicError(new ParabolicEquationSolver(), 0.01));
+    }
+
+    @Test
+    void parabolicExplicitWithSmallTimeStep() {
+        var solver = new ParabolicEquationSolver(0);
+
+        // Stability bound of explicit scheme: tau <= h^2/2
+        assertThat(parabolicError(solver, 0.4 * h * h)).isLessThan(1e-4);
+    }
+
+    @Test
+    void hyperbolicDefaultSigma() {
+        var eqn = buildHyperbolicEquation();
+
+        var byDefault = new HyperbolicEquationSolver().solve(eqn, 0.05, 0.01);
+        var withHalf = new HyperbolicEquationSolver(HyperbolicEquationSolver.DEFAULT_SIGMA).solve(eqn, 0.05, 0.01);
+
+        assertThat(new HyperbolicEquationSolver().getSigma()).isEqualTo(0.5);
+        for (int j = 0; j < byDefault.matrix().getM(); j++) {
+            assertThat(byDefault.matrix().getRow(j)).isEqualTo(withHalf.matrix().getRow(j));
+        }
+    }
+
+    @Test
+    void hyperbolicQuarterWeightIsMoreAccurateThanHalf() {
+        var tau = 0.01;
+        var quarter = hyperbolicError(new HyperbolicEquationSolver(0.25), tau);
+        var half = hyperbolicError(new HyperbolicEquationSolver(0.5), tau);
+
+        assertThat(quarter).isLessThan(half);
+        assertThat(quarter).isLessThan(2e-3);
+    }
+
+    @Test
+    void hyperbolicExplicitWithinCourantBound() {
+        assertThat(hyperbolicError(new HyperbolicEquationSolver(0), 0.5 * h)).isLessThan(2e-3);
+    }
+
+    @Test
+    void constructorsRejectInvalidSigma() {
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquationSolver(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquationSolver(1.1));
+        assertThrows(IllegalArgumentException.class, () -> new ParabolicEquationSolver(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new HyperbolicEquationSolver(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> new HyperbolicEquationSolver(Double.POSITIVE_INFINITY));
+    }
+
+    private double parabolicError(ParabolicEquationSolver solver, double tau) {
+        var solution = solver.solve(buildParabolicEquation(), h, tau);
+        return maxErrorOnLastLayer(solution, (x, t) -> sin(PI * x) * exp(-PI * PI * t));
+    }
+
+    private double hyperbolicError(HyperbolicEquationSolver solver, double tau) {
+        var solution = solver.solve(buildHyperbolicEquation(), h, tau);
+        return maxErrorOnLastLayer(solution, (x, t) -> sin(PI * x) * cos(PI * t));
+    }
+
+    private static double maxErrorOnLastLayer(Solution<? extends Equation> solution,
+                                              BiFunction<Double, Double, Double> analytic) {
+        var area = solution.area();
+        var t = area.tx(area.tn());
+        var result = 0d;
+        for (int i = 0; i <= area.xn(); i++) {
+            result = Math.max(result,
+                    Math.abs(solution.matrix().get(area.tn(), i) - analytic.apply(area.xx(i), t)));
+        }
+        return result;
+    }
+
+    private ParabolicEquation buildParabolicEquation() {
+        return new ParabolicEquation(0, 1, 0.2, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+    }
+
+    private HyperbolicEquation buildHyperbolicEquation() {
+        return new HyperbolicEquation(0, 1, 0.5, new DirichletBorderCondition(), new DirichletBorderCondition()) {
+            @Override
+            public double gU0(double x) {
+                return sin(PI * x);
+            }
+        };
+    }
+}
@@ -125,4 +125,16 @@ class IntervalTest {
         assertThrows(IllegalArgumentException.class, () -> interval.i(1.9));
         assertThrows(IllegalArgumentException.class, () -> interval.i(12.3));
     }
+
+    @Test
+    void nodes() {
+        var interval = new Interval(2.0, 12.0, 5);
+
+        var nodes = interval.nodes();
+
+        assertThat(nodes.toArray()).isEqualTo(new double[]{2, 4, 6, 8, 10, 12});
+        assertThat(interval.nodes()).isSameAs(nodes);
+        interval.reborn(2);
+        assertThat(interval.nodes().toArray()).isEqualTo(new double[]{2, 7, 12});
+    }
 }
@@ -0,0 +1,73 @@
+package io.github.andreipunko.math.transform;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FastFourierTransformTest {
+
+    @Test
+    void transformOfPowerOfTwoLength() {
+        checkAgainstDirectSum(64);
+    }
+
+    @Test
+    void transformOfArbitraryLength() {
+        checkAgainstDirectSum(1);
+        checkAgainstDirectSum(3);
+        checkAgainstDirectSum(12);
+        checkAgainstDirectSum(97);
+        checkAgainstDirectSum(200);
+    }
+
+    @Test
+    void inverseTransform() {
+        var random = new Random(7);
+        for (int n : new int[]{16, 30}) {
+            var re = random.doubles(n).toArray();
+            var im = random.doubles(n).toArray();
+            var re2 = re.clone();
+            var im2 = im.clone();
+
+            FastFourierTransform.transform(re2, im2);
+            FastFourierTransform.inverseTransform(re2, im2);
+
+            for (int i = 0; i < n; i++) {
+                assertThat(re2[i]).isCloseTo(re[i], within(1e-12));
+                assertThat(im2[i]).isCloseTo(im[i], within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void transformRejectsInvalidArrays() {
+        assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.transform(null, new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.transform(new double[2], new double[3]));
+    }
+
+    private static void checkAgainstDirectSum(int n) {
+        var random = new Random(n);
+        var re = random.doubles(n, -1, 1).toArray();
+        var im = random.doubles(n, -1, 1).toArray();
+        var expectedRe = new double[n];
+        var expectedIm = new double[n];
+        for (int k = 0; k < n; k++) {
+            for (int j = 0; j < n; j++) {
+                double angle = -2 * Math.PI * ((long) j * k % n) / n;
+                expectedRe[k] += re[j] * Math.cos(angle) - im[j] * Math.sin(angle);
+                expectedIm[k] += re[j] * Math.sin(angle) + im[j] * Math.cos(angle);
+            }
+        }
+
+        FastFourierTransform.transform(re, im);
+
+        for (int k = 0; k < n; k++) {
+            assertThat(re[k]).isCloseTo(expectedRe[k], within(1e-10));
+            assertThat(im[k]).isCloseTo(expectedIm[k], within(1e-10));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.andreipunko.math.transform;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TrigonometricTransformTest {
+
+    @Test
+    void dst1() {
+        for (int n : new int[]{2, 8, 15}) {
+            var x = new Random(n).doubles(n + 1).toArray();
+
+            var result = TrigonometricTransform.dst1(x);
+
+            assertThat(result[0]).isEqualTo(0);
+            assertThat(result[n]).isEqualTo(0);
+            for (int k = 1; k < n; k++) {
+                double expected = 0;
+                for (int j = 1; j < n; j++) {
+                    expected += x[j] * Math.sin(Math.PI * j * k / n);
+                }
+                assertThat(result[k]).isCloseTo(expected, within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void dct1() {
+        for (int n : new int[]{2, 8, 15}) {
+            var x = new Random(n).doubles(n + 1).toArray();
+
+            var result = TrigonometricTransform.dct1(x);
+
+            for (int k = 0; k <= n; k++) {
+                double expected = x[0] / 2 + (k % 2 == 0 ? 1 : -1) * x[n] / 2;
+                for (int j = 1; j < n; j++) {
+                    expected += x[j] * Math.cos(Math.PI * j * k / n);
+                }
+                assertThat(result[k]).isCloseTo(expected, within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void transformsAreSelfInverse() {
+        int n = 20;
+        var x = new Random(1).doubles(n + 1).toArray();
+        x[0] = x[n] = 0;
+
+        var sine = TrigonometricTransform.dst1(TrigonometricTransform.dst1(x));
+        var cosine = TrigonometricTransform.dct1(TrigonometricTransform.dct1(x));
+
+        for (int j = 0; j <= n; j++) {
+            assertThat(sine[j] * 2 / n).isCloseTo(x[j], within(1e-12));
+            assertThat(cosine[j] * 2 / n).isCloseTo(x[j], within(1e-12));
+        }
+    }
+
+    @Test
+    void transformsRejectShortArrays() {
+        assertThrows(IllegalArgumentException.class, () -> TrigonometricTransform.dst1(null));
+        assertThrows(IllegalArgumentException.class, () -> TrigonometricTransform.dct1(new double[2]));
+    }
+}